@@ -0,0 +1,316 @@
+package io.luminar.ledger.api.codec;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.luminar.ledger.application.transaction.command.CompactPostingCommand;
+import io.luminar.ledger.application.transaction.command.PostTransactionCommand;
+import io.luminar.ledger.domain.common.DomainException;
+import io.luminar.ledger.domain.ledger.MoneyMicros;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Objects;
+import java.util.UUID;
+
+public final class PostingRequestDecoder {
+	private static final char[] DEBIT = "DEBIT".toCharArray();
+	private static final char[] CREDIT = "CREDIT".toCharArray();
+	private static final int UUID_LENGTH = 36;
+	private static final int MAX_LEGS = 0xFFFF;
+	private static final long[] POWERS_OF_TEN = { 1L, 10L, 100L, 1_000L, 10_000L, 100_000L };
+
+	private PostingRequestDecoder() {
+	}
+
+	public static CompactPostingCommand decode(JsonParser parser) throws IOException {
+		Objects.requireNonNull(parser, "parser is required");
+		if (parser.nextToken() != JsonToken.START_OBJECT) {
+			throw invalid("Posting request must be a JSON object");
+		}
+		CompactPostingCommand.Builder builder = CompactPostingCommand.builder(4);
+		String referenceKey = null;
+		boolean entries = false;
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.currentName();
+			JsonToken value = parser.nextToken();
+			switch (field) {
+				case "referenceKey" -> referenceKey = value == JsonToken.VALUE_NULL ? null : text(parser, field);
+				case "entries" -> entries = readEntries(parser, builder);
+				case "fxConversions" -> readConversions(parser, builder);
+				default -> parser.skipChildren();
+			}
+		}
+		if (parser.nextToken() != null) {
+			throw invalid("Posting request has trailing content");
+		}
+		if (referenceKey == null || referenceKey.isBlank()) {
+			throw invalid("referenceKey must not be blank");
+		}
+		if (!entries) {
+			throw invalid("entries must not be null");
+		}
+		if (builder.legCount() < 2) {
+			throw invalid("entries must contain at least 2 legs");
+		}
+		return builder.referenceKey(referenceKey).build();
+	}
+
+	private static boolean readEntries(JsonParser parser, CompactPostingCommand.Builder builder) throws IOException {
+		if (parser.currentToken() == JsonToken.VALUE_NULL) {
+			return false;
+		}
+		if (parser.currentToken() != JsonToken.START_ARRAY) {
+			throw invalid("entries must be an array");
+		}
+		while (parser.nextToken() != JsonToken.END_ARRAY) {
+			if (builder.legCount() == MAX_LEGS) {
+				throw invalid("entries must contain at most " + MAX_LEGS + " legs");
+			}
+			readEntry(parser, builder);
+		}
+		return true;
+	}
+
+	private static void readEntry(JsonParser parser, CompactPostingCommand.Builder builder) throws IOException {
+		int leg = builder.legCount();
+		if (parser.currentToken() != JsonToken.START_OBJECT) {
+			throw invalid("entries[" + leg + "] must be an object");
+		}
+		boolean account = false;
+		long accountHigh = 0L;
+		long accountLow = 0L;
+		int type = -1;
+		long amount = 0L;
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.currentName();
+			JsonToken value = parser.nextToken();
+			if (value == JsonToken.VALUE_NULL) {
+				continue;
+			}
+			switch (field) {
+				case "accountId" -> {
+					requireUuid(parser, leg);
+					accountHigh = hexBits(parser, 0, 18);
+					accountLow = hexBits(parser, 19, 36);
+					account = true;
+				}
+				case "type" -> type = entryType(parser, leg);
+				case "amount" -> amount = micros(parser, leg);
+				default -> parser.skipChildren();
+			}
+		}
+		if (!account) {
+			throw invalid(leg, "accountId", "must not be null");
+		}
+		if (type < 0) {
+			throw invalid(leg, "type", "must not be null");
+		}
+		if (amount == 0L) {
+			throw invalid(leg, "amount", "must not be null");
+		}
+		builder.leg(accountHigh, accountLow, type == 0, amount);
+	}
+
+	private static void readConversions(JsonParser parser, CompactPostingCommand.Builder builder) throws IOException {
+		if (parser.currentToken() == JsonToken.VALUE_NULL) {
+			return;
+		}
+		if (parser.currentToken() != JsonToken.START_ARRAY) {
+			throw invalid("fxConversions must be an array");
+		}
+		int index = 0;
+		while (parser.nextToken() != JsonToken.END_ARRAY) {
+			String path = "fxConversions[" + index++ + "]";
+			if (parser.currentToken() != JsonToken.START_OBJECT) {
+				throw invalid(path + " must be an object");
+			}
+			String soldCurrency = null;
+			BigDecimal soldAmount = null;
+			String boughtCurrency = null;
+			BigDecimal boughtAmount = null;
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String field = parser.currentName();
+				JsonToken value = parser.nextToken();
+				if (value == JsonToken.VALUE_NULL) {
+					continue;
+				}
+				switch (field) {
+					case "soldCurrency" -> soldCurrency = currency(parser, path + ".soldCurrency");
+					case "soldAmount" -> soldAmount = decimal(parser, path + ".soldAmount");
+					case "boughtCurrency" -> boughtCurrency = currency(parser, path + ".boughtCurrency");
+					case "boughtAmount" -> boughtAmount = decimal(parser, path + ".boughtAmount");
+					default -> parser.skipChildren();
+				}
+			}
+			builder.fxConversion(new PostTransactionCommand.FxConversion(
+					required(soldCurrency, path + ".soldCurrency"),
+					required(soldAmount, path + ".soldAmount"),
+					required(boughtCurrency, path + ".boughtCurrency"),
+					required(boughtAmount, path + ".boughtAmount")));
+		}
+	}
+
+	private static void requireUuid(JsonParser parser, int leg) throws IOException {
+		if (parser.currentToken() != JsonToken.VALUE_STRING || parser.getTextLength() != UUID_LENGTH) {
+			throw invalid(leg, "accountId", "must be a UUID");
+		}
+		char[] chars = parser.getTextCharacters();
+		int offset = parser.getTextOffset();
+		for (int i = 0; i < UUID_LENGTH; i++) {
+			char c = chars[offset + i];
+			boolean dash = i == 8 || i == 13 || i == 18 || i == 23;
+			if (dash ? c != '-' : Character.digit(c, 16) < 0) {
+				throw invalid(leg, "accountId", "must be a UUID");
+			}
+		}
+	}
+
+	private static long hexBits(JsonParser parser, int from, int to) throws IOException {
+		char[] chars = parser.getTextCharacters();
+		int offset = parser.getTextOffset();
+		long bits = 0L;
+		for (int i = from; i < to; i++) {
+			char c = chars[offset + i];
+			if (c != '-') {
+				bits = (bits << 4) | Character.digit(c, 16);
+			}
+		}
+		return bits;
+	}
+
+	private static int entryType(JsonParser parser, int leg) throws IOException {
+		if (parser.currentToken() == JsonToken.VALUE_STRING) {
+			if (matches(parser, DEBIT)) {
+				return 0;
+			}
+			if (matches(parser, CREDIT)) {
+				return 1;
+			}
+		}
+		throw invalid(leg, "type", "must be DEBIT or CREDIT");
+	}
+
+	private static boolean matches(JsonParser parser, char[] expected) throws IOException {
+		if (parser.getTextLength() != expected.length) {
+			return false;
+		}
+		char[] chars = parser.getTextCharacters();
+		int offset = parser.getTextOffset();
+		for (int i = 0; i < expected.length; i++) {
+			if (chars[offset + i] != expected[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static long micros(JsonParser parser, int leg) throws IOException {
+		JsonToken token = parser.currentToken();
+		if (token != JsonToken.VALUE_NUMBER_INT && token != JsonToken.VALUE_NUMBER_FLOAT
+				&& token != JsonToken.VALUE_STRING) {
+			throw invalid(leg, "amount", "must be a number");
+		}
+		char[] chars = parser.getTextCharacters();
+		int start = parser.getTextOffset();
+		int end = start + parser.getTextLength();
+		while (start < end && chars[start] == ' ') {
+			start++;
+		}
+		while (end > start && chars[end - 1] == ' ') {
+			end--;
+		}
+		if (start < end && chars[start] == '+') {
+			start++;
+		}
+		if (start < end && chars[start] == '-') {
+			throw invalid(leg, "amount", "must be greater than 0");
+		}
+
+		long micros = 0L;
+		int fractionDigits = -1;
+		boolean digits = false;
+		try {
+			for (int i = start; i < end; i++) {
+				char c = chars[i];
+				if (c == '.' && fractionDigits < 0) {
+					fractionDigits = 0;
+					continue;
+				}
+				if (c == 'e' || c == 'E') {
+					return MoneyMicros.fromBigDecimal(decimal(parser, "entries[" + leg + "].amount"));
+				}
+				if (c < '0' || c > '9') {
+					throw invalid(leg, "amount", "must be a number");
+				}
+				digits = true;
+				if (fractionDigits < 0) {
+					micros = Math.addExact(Math.multiplyExact(micros, 10L), (c - '0') * MoneyMicros.UNIT);
+				} else if (++fractionDigits <= MoneyMicros.SCALE) {
+					micros = Math.addExact(micros, (c - '0') * POWERS_OF_TEN[MoneyMicros.SCALE - fractionDigits]);
+				} else if (c != '0') {
+					throw new DomainException("Money.amount must have at most " + MoneyMicros.SCALE
+							+ " decimal places");
+				}
+			}
+		} catch (ArithmeticException e) {
+			throw new DomainException("Money.amount is out of range", e);
+		}
+		if (!digits) {
+			throw invalid(leg, "amount", "must be a number");
+		}
+		if (micros == 0L) {
+			throw invalid(leg, "amount", "must be greater than 0");
+		}
+		return micros;
+	}
+
+	private static BigDecimal decimal(JsonParser parser, String path) throws IOException {
+		BigDecimal amount;
+		try {
+			amount = parser.currentToken() == JsonToken.VALUE_STRING
+					? new BigDecimal(parser.getText().trim())
+					: parser.getDecimalValue();
+		} catch (NumberFormatException e) {
+			throw invalid(path + " must be a number");
+		}
+		if (amount.signum() <= 0) {
+			throw invalid(path + " must be greater than 0");
+		}
+		return amount;
+	}
+
+	private static String currency(JsonParser parser, String path) throws IOException {
+		String currency = text(parser, path);
+		if (currency.length() != 3 || !currency.chars().allMatch(c -> (c >= 'A' && c <= 'Z')
+				|| (c >= 'a' && c <= 'z'))) {
+			throw invalid(path + " must be a 3-letter currency code");
+		}
+		return currency;
+	}
+
+	private static String text(JsonParser parser, String path) throws IOException {
+		requireString(parser, path);
+		return parser.getText();
+	}
+
+	private static void requireString(JsonParser parser, String path) {
+		if (parser.currentToken() != JsonToken.VALUE_STRING) {
+			throw invalid(path + " must be a string");
+		}
+	}
+
+	private static <T> T required(T value, String path) {
+		if (value == null) {
+			throw invalid(path + " must not be null");
+		}
+		return value;
+	}
+
+	private static IllegalArgumentException invalid(int leg, String field, String problem) {
+		return invalid("entries[" + leg + "]." + field + " " + problem);
+	}
+
+	private static IllegalArgumentException invalid(String message) {
+		return new IllegalArgumentException(message);
+	}
+}
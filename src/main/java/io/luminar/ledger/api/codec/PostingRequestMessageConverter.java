@@ -0,0 +1,52 @@
+package io.luminar.ledger.api.codec;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.luminar.ledger.application.transaction.command.CompactPostingCommand;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Objects;
+
+@Component
+public class PostingRequestMessageConverter extends AbstractHttpMessageConverter<CompactPostingCommand> {
+	private final ObjectMapper objectMapper;
+
+	public PostingRequestMessageConverter(ObjectMapper objectMapper) {
+		super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+		this.objectMapper = Objects.requireNonNull(objectMapper, "objectMapper is required");
+	}
+
+	@Override
+	protected boolean supports(Class<?> clazz) {
+		return CompactPostingCommand.class == clazz;
+	}
+
+	@Override
+	protected boolean canWrite(MediaType mediaType) {
+		return false;
+	}
+
+	@Override
+	protected CompactPostingCommand readInternal(Class<? extends CompactPostingCommand> clazz,
+			HttpInputMessage inputMessage) throws IOException {
+		try (JsonParser parser = objectMapper.getFactory().createParser(inputMessage.getBody())) {
+			return PostingRequestDecoder.decode(parser);
+		} catch (IllegalArgumentException | JsonProcessingException e) {
+			throw new HttpMessageNotReadableException("Invalid posting request: " + e.getMessage(), e,
+					inputMessage);
+		}
+	}
+
+	@Override
+	protected void writeInternal(CompactPostingCommand command, HttpOutputMessage outputMessage) {
+		throw new HttpMessageNotWritableException("CompactPostingCommand is a request-only representation");
+	}
+}
@@ -4,17 +4,30 @@ import io.luminar.ledger.api.dto.response.AccountBalanceResponse;
 import io.luminar.ledger.api.dto.response.AccountListResponse;
 import io.luminar.ledger.api.dto.response.AccountSummary;
 import io.luminar.ledger.api.dto.response.CURRENCY;
-import io.luminar.ledger.domain.account.Account;
-import io.luminar.ledger.infrastructure.mapper.AccountPersistenceMapper;
+import io.luminar.ledger.api.query.AccountBalanceAsOfQuery;
+import io.luminar.ledger.api.query.AccountListQuery;
+import io.luminar.ledger.domain.account.AccountStatus;
+import io.luminar.ledger.domain.account.AccountType;
+import io.luminar.ledger.domain.account.Currency;
 import io.luminar.ledger.infrastructure.persistence.account.AccountBalanceEntity;
 import io.luminar.ledger.infrastructure.persistence.account.AccountBalanceJpaRepository;
 import io.luminar.ledger.infrastructure.persistence.account.AccountEntity;
 import io.luminar.ledger.infrastructure.persistence.account.AccountJpaRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
@@ -22,29 +35,88 @@ import java.util.UUID;
 @RestController
 @RequestMapping("/api/v1/accounts")
 public class AccountQueryController {
+	private static final int DEFAULT_LIMIT = 100;
+	private static final int MAX_LIMIT = 1000;
+	private static final int STREAM_CHUNK_SIZE = 500;
+
 	private final AccountJpaRepository accountJpaRepository;
 	private final AccountBalanceJpaRepository accountBalanceJpaRepository;
+	private final AccountListQuery accountListQuery;
+	private final AccountBalanceAsOfQuery accountBalanceAsOfQuery;
+	private final ObjectMapper objectMapper;
 
 	public AccountQueryController(AccountJpaRepository accountJpaRepository,
-			AccountBalanceJpaRepository accountBalanceJpaRepository) {
+			AccountBalanceJpaRepository accountBalanceJpaRepository,
+			AccountListQuery accountListQuery,
+			AccountBalanceAsOfQuery accountBalanceAsOfQuery,
+			ObjectMapper objectMapper) {
 		this.accountJpaRepository = Objects.requireNonNull(accountJpaRepository);
 		this.accountBalanceJpaRepository = Objects.requireNonNull(accountBalanceJpaRepository);
+		this.accountListQuery = Objects.requireNonNull(accountListQuery);
+		this.accountBalanceAsOfQuery = Objects.requireNonNull(accountBalanceAsOfQuery);
+		this.objectMapper = Objects.requireNonNull(objectMapper);
 	}
 
 	@GetMapping
-	public AccountListResponse list() {
-		List<AccountSummary> accounts = accountJpaRepository.findAll().stream()
-				.map(AccountQueryController::toSummary)
-				.toList();
+	public AccountListResponse list(
+			@RequestParam(required = false) AccountType type,
+			@RequestParam(required = false) AccountStatus status,
+			@RequestParam(required = false) String currency,
+			@RequestParam(required = false) UUID after,
+			@RequestParam(required = false) Integer limit) {
+		int effectiveLimit = normalizeLimit(limit);
+		List<AccountSummary> page = accountListQuery.findPage(type, status, normalizeCurrency(currency), after,
+				effectiveLimit + 1);
+		if (page.size() <= effectiveLimit) {
+			return new AccountListResponse(page, null);
+		}
+
+		List<AccountSummary> accounts = page.subList(0, effectiveLimit);
+		return new AccountListResponse(accounts, accounts.getLast().getAccountId());
+	}
+
+	@GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> stream(
+			@RequestParam(required = false) AccountType type,
+			@RequestParam(required = false) AccountStatus status,
+			@RequestParam(required = false) String currency,
+			@RequestParam(required = false) UUID after) {
+		String effectiveCurrency = normalizeCurrency(currency);
+		StreamingResponseBody body = out -> {
+			UUID cursor = after;
+			List<AccountSummary> chunk;
+			do {
+				chunk = accountListQuery.findPage(type, status, effectiveCurrency, cursor, STREAM_CHUNK_SIZE);
+				for (AccountSummary summary : chunk) {
+					writeLine(out, summary);
+				}
+				out.flush();
+				if (!chunk.isEmpty()) {
+					cursor = chunk.getLast().getAccountId();
+				}
+			} while (chunk.size() == STREAM_CHUNK_SIZE);
+		};
 
-		return new AccountListResponse(accounts);
+		return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_NDJSON)
+				.body(body);
 	}
 
 	@GetMapping("/{accountId}/balance")
-	public AccountBalanceResponse getBalance(@PathVariable UUID accountId) {
+	@Transactional(readOnly = true)
+	public AccountBalanceResponse getBalance(
+			@PathVariable UUID accountId,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant asOf) {
 		Objects.requireNonNull(accountId, "accountId is required");
 
 		AccountEntity accountEntity = accountJpaRepository.findById(accountId).orElseThrow();
+		if (asOf != null) {
+			return new AccountBalanceResponse(
+					accountId,
+					CURRENCY.fromCode(accountEntity.getCurrency()),
+					accountBalanceAsOfQuery.balanceAsOf(accountId, asOf),
+					asOf);
+		}
 		AccountBalanceEntity balanceEntity = accountBalanceJpaRepository.findById(accountId).orElseThrow();
 
 		return new AccountBalanceResponse(
@@ -54,15 +126,22 @@ public class AccountQueryController {
 				balanceEntity.getUpdatedAt());
 	}
 
-	private static AccountSummary toSummary(AccountEntity entity) {
-		Account account = Objects.requireNonNull(AccountPersistenceMapper.toDomain(entity),
-				"AccountPersistenceMapper.toDomain returned null");
-		return new AccountSummary(
-				account.id().value(),
-				account.code(),
-				account.name(),
-				account.type(),
-				account.currency().code(),
-				account.status());
+	private void writeLine(OutputStream out, AccountSummary summary) throws IOException {
+		out.write(objectMapper.writeValueAsBytes(summary));
+		out.write('\n');
+	}
+
+	private static String normalizeCurrency(String currency) {
+		if (currency == null || currency.isBlank()) {
+			return null;
+		}
+		return new Currency(currency).code();
+	}
+
+	private static int normalizeLimit(Integer limit) {
+		if (limit == null || limit <= 0) {
+			return DEFAULT_LIMIT;
+		}
+		return Math.min(limit, MAX_LIMIT);
 	}
 }
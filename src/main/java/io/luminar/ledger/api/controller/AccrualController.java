@@ -0,0 +1,77 @@
+package io.luminar.ledger.api.controller;
+
+import io.luminar.ledger.api.dto.request.AccrualRuleRequest;
+import io.luminar.ledger.api.dto.request.AccrualRunRequest;
+import io.luminar.ledger.api.dto.response.AccrualRunResponse;
+import io.luminar.ledger.application.accrual.AccrualRunService;
+import io.luminar.ledger.application.accrual.command.RunAccrualCommand;
+import io.luminar.ledger.domain.accrual.AccrualRule;
+import io.luminar.ledger.domain.account.AccountId;
+import io.luminar.ledger.domain.account.AccountType;
+import io.luminar.ledger.domain.account.Currency;
+import io.luminar.ledger.domain.ledger.EntryType;
+import io.luminar.ledger.infrastructure.persistence.accrual.AccrualRunRepository;
+import jakarta.validation.Valid;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Objects;
+
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+
+@RestController
+@RequestMapping("/api/v1/accruals/runs")
+public class AccrualController {
+	private static final int DEFAULT_DAY_COUNT_BASIS = 365;
+
+	private final AccrualRunService accrualRunService;
+
+	public AccrualController(AccrualRunService accrualRunService) {
+		this.accrualRunService = Objects.requireNonNull(accrualRunService);
+	}
+
+	@PostMapping
+	public AccrualRunResponse run(@Valid @RequestBody AccrualRunRequest request) {
+		return toResponse(accrualRunService.run(new RunAccrualCommand(
+				request.runKey(),
+				request.days(),
+				request.rules().stream().map(AccrualController::toRule).toList())));
+	}
+
+	@GetMapping("/{runKey}")
+	public AccrualRunResponse get(@PathVariable String runKey) {
+		return accrualRunService.find(runKey)
+				.map(AccrualController::toResponse)
+				.orElseThrow(() -> new ResponseStatusException(NOT_FOUND,
+						"No accrual run found for runKey: " + runKey));
+	}
+
+	private static AccrualRule toRule(AccrualRuleRequest rule) {
+		return new AccrualRule(
+				AccountType.valueOf(rule.accountType().name()),
+				new Currency(rule.currency()),
+				rule.annualRate(),
+				rule.dayCountBasis() == null ? DEFAULT_DAY_COUNT_BASIS : rule.dayCountBasis(),
+				EntryType.valueOf(rule.entryType().name()),
+				new AccountId(rule.counterpartyAccountId()),
+				rule.minimumBalance());
+	}
+
+	private static AccrualRunResponse toResponse(AccrualRunRepository.Summary summary) {
+		return new AccrualRunResponse(
+				summary.runKey(),
+				summary.status().name(),
+				summary.days(),
+				summary.chunkCount(),
+				summary.completedChunks(),
+				summary.postedCount(),
+				summary.rejectedCount(),
+				summary.startedAt(),
+				summary.completedAt());
+	}
+}
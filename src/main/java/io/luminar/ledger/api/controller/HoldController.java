@@ -0,0 +1,78 @@
+package io.luminar.ledger.api.controller;
+
+import io.luminar.ledger.api.dto.request.CaptureHoldRequest;
+import io.luminar.ledger.api.dto.request.ReserveHoldRequest;
+import io.luminar.ledger.api.dto.response.HoldResponse;
+import io.luminar.ledger.application.hold.HoldApplicationService;
+import io.luminar.ledger.application.hold.command.CaptureHoldCommand;
+import io.luminar.ledger.application.hold.command.ReserveHoldCommand;
+import io.luminar.ledger.domain.hold.Hold;
+import jakarta.validation.Valid;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.UUID;
+
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+
+@RestController
+@RequestMapping("/api/v1/holds")
+public class HoldController {
+	private final HoldApplicationService holdApplicationService;
+
+	public HoldController(HoldApplicationService holdApplicationService) {
+		this.holdApplicationService = Objects.requireNonNull(holdApplicationService);
+	}
+
+	@PostMapping
+	public HoldResponse reserve(@Valid @RequestBody ReserveHoldRequest request) {
+		return toResponse(holdApplicationService.reserve(new ReserveHoldCommand(
+				request.referenceKey(),
+				request.accountId(),
+				request.amount(),
+				request.expiresInSeconds() == null ? null : Duration.ofSeconds(request.expiresInSeconds()))));
+	}
+
+	@GetMapping("/{holdId}")
+	public HoldResponse get(@PathVariable UUID holdId) {
+		return holdApplicationService.find(holdId)
+				.map(HoldController::toResponse)
+				.orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "No hold found for id: " + holdId));
+	}
+
+	@PostMapping("/{holdId}/capture")
+	public HoldResponse capture(@PathVariable UUID holdId, @Valid @RequestBody CaptureHoldRequest request) {
+		return toResponse(holdApplicationService.capture(new CaptureHoldCommand(
+				holdId,
+				request.referenceKey(),
+				request.counterpartyAccountId(),
+				request.amount())));
+	}
+
+	@PostMapping("/{holdId}/void")
+	public HoldResponse voidHold(@PathVariable UUID holdId) {
+		return toResponse(holdApplicationService.voidHold(holdId));
+	}
+
+	private static HoldResponse toResponse(Hold hold) {
+		return new HoldResponse(
+				hold.id(),
+				hold.accountId().value(),
+				hold.referenceKey().value(),
+				hold.amount(),
+				hold.status().name(),
+				hold.expiresAt(),
+				hold.capturedAmount(),
+				hold.captureReferenceKey(),
+				hold.transactionId(),
+				hold.createdAt(),
+				hold.updatedAt());
+	}
+}
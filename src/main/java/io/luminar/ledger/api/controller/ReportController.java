@@ -0,0 +1,36 @@
+package io.luminar.ledger.api.controller;
+
+import io.luminar.ledger.api.dto.response.TrialBalanceResponse;
+import io.luminar.ledger.api.query.TrialBalanceQuery;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+
+@RestController
+@RequestMapping("/api/v1/reports")
+public class ReportController {
+	private final TrialBalanceQuery trialBalanceQuery;
+
+	public ReportController(TrialBalanceQuery trialBalanceQuery) {
+		this.trialBalanceQuery = Objects.requireNonNull(trialBalanceQuery,
+				"ReportController.trialBalanceQuery is required");
+	}
+
+	@GetMapping("/trial-balance")
+	public TrialBalanceResponse trialBalance(
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+		if (from != null && to != null && from.isAfter(to)) {
+			throw new ResponseStatusException(BAD_REQUEST, "from must not be after to");
+		}
+		return trialBalanceQuery.trialBalance(from, to);
+	}
+}
@@ -0,0 +1,66 @@
+package io.luminar.ledger.api.controller;
+
+import io.luminar.ledger.api.dto.request.SchedulePostingRequest;
+import io.luminar.ledger.api.dto.response.ScheduledPostingResponse;
+import io.luminar.ledger.application.schedule.ScheduledPostingService;
+import io.luminar.ledger.infrastructure.persistence.schedule.ScheduledPostingRepository;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.Objects;
+
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+
+@RestController
+@RequestMapping("/api/v1/scheduled-postings")
+public class ScheduledPostingController {
+	private final ScheduledPostingService scheduledPostingService;
+
+	public ScheduledPostingController(ScheduledPostingService scheduledPostingService) {
+		this.scheduledPostingService = Objects.requireNonNull(scheduledPostingService);
+	}
+
+	@PostMapping
+	public ResponseEntity<ScheduledPostingResponse> schedule(@Valid @RequestBody SchedulePostingRequest request) {
+		ScheduledPostingRepository.ScheduledPosting posting = scheduledPostingService.schedule(
+				request.posting().toCommand(), request.dueAt());
+		return ResponseEntity
+				.status(HttpStatus.ACCEPTED)
+				.location(UriComponentsBuilder.fromPath("/api/v1/scheduled-postings/{referenceKey}")
+						.buildAndExpand(posting.referenceKey())
+						.encode()
+						.toUri())
+				.body(toResponse(posting));
+	}
+
+	@GetMapping("/{referenceKey}")
+	public ScheduledPostingResponse get(@PathVariable String referenceKey) {
+		return scheduledPostingService.find(referenceKey)
+				.map(ScheduledPostingController::toResponse)
+				.orElseThrow(() -> new ResponseStatusException(NOT_FOUND,
+						"No scheduled posting found for referenceKey: " + referenceKey));
+	}
+
+	private static ScheduledPostingResponse toResponse(ScheduledPostingRepository.ScheduledPosting posting) {
+		return new ScheduledPostingResponse(
+				posting.id(),
+				posting.referenceKey(),
+				posting.dueAt(),
+				posting.status().name(),
+				posting.attempts(),
+				posting.transactionId(),
+				posting.errorCode(),
+				posting.errorMessage(),
+				posting.createdAt(),
+				posting.updatedAt());
+	}
+}
@@ -1,32 +1,44 @@
 package io.luminar.ledger.api.controller;
 
-import io.luminar.ledger.api.dto.request.PostTransactionRequest;
+import io.luminar.ledger.api.dto.response.AsyncPostingResponse;
 import io.luminar.ledger.api.dto.response.PostTransactionResponse;
+import io.luminar.ledger.application.transaction.AsyncPostingService;
+import io.luminar.ledger.application.transaction.AsyncPostingStatus;
 import io.luminar.ledger.application.transaction.TransactionApplicationService;
-import io.luminar.ledger.application.transaction.command.PostTransactionCommand;
+import io.luminar.ledger.application.transaction.command.CompactPostingCommand;
 import io.luminar.ledger.service.PostedTransaction;
-import jakarta.validation.Valid;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.util.UriComponentsBuilder;
 
-import java.util.List;
 import java.util.Objects;
 
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+
 @RestController
 @RequestMapping("/api/v1/transactions")
 public class TransactionController {
 	private final TransactionApplicationService transactionApplicationService;
+	private final ObjectProvider<AsyncPostingService> asyncPostingService;
 
-	public TransactionController(TransactionApplicationService transactionApplicationService) {
+	public TransactionController(TransactionApplicationService transactionApplicationService,
+			ObjectProvider<AsyncPostingService> asyncPostingService) {
 		this.transactionApplicationService = Objects.requireNonNull(transactionApplicationService);
+		this.asyncPostingService = Objects.requireNonNull(asyncPostingService);
 	}
 
 	@PostMapping
-	public PostTransactionResponse post(@Valid @RequestBody PostTransactionRequest request) {
+	public PostTransactionResponse post(@RequestBody CompactPostingCommand request) {
 		PostedTransaction posted = Objects.requireNonNull(
-				transactionApplicationService.post(toCommand(request)),
+				transactionApplicationService.post(request),
 				"TransactionApplicationService.post returned null");
 		return new PostTransactionResponse(
 				posted.transactionId(),
@@ -34,14 +46,44 @@ public class TransactionController {
 				posted.postedAt());
 	}
 
-	private static PostTransactionCommand toCommand(PostTransactionRequest request) {
-		List<PostTransactionCommand.Entry> entries = request.entries().stream()
-				.map(e -> new PostTransactionCommand.Entry(
-						e.accountId(),
-						PostTransactionCommand.EntryType.valueOf(e.type().name()),
-						e.amount()))
-				.toList();
+	@PostMapping("/async")
+	public ResponseEntity<AsyncPostingResponse> postAsync(@RequestBody CompactPostingCommand request) {
+		AsyncPostingStatus status = Objects.requireNonNull(asyncPostingService().accept(request),
+				"AsyncPostingService.accept returned null");
+		return ResponseEntity
+				.status(status.state() == AsyncPostingStatus.State.ACCEPTED ? HttpStatus.ACCEPTED : HttpStatus.OK)
+				.location(UriComponentsBuilder.fromPath("/api/v1/transactions/async/{referenceKey}")
+						.buildAndExpand(status.referenceKey())
+						.encode()
+						.toUri())
+				.body(toResponse(status));
+	}
+
+	@GetMapping("/async/{referenceKey}")
+	public AsyncPostingResponse asyncStatus(@PathVariable String referenceKey) {
+		return asyncPostingService().status(referenceKey)
+				.map(TransactionController::toResponse)
+				.orElseThrow(() -> new ResponseStatusException(NOT_FOUND,
+						"No async posting found for referenceKey: " + referenceKey));
+	}
+
+	private AsyncPostingService asyncPostingService() {
+		AsyncPostingService service = asyncPostingService.getIfAvailable();
+		if (service == null) {
+			throw new ResponseStatusException(NOT_FOUND, "Async posting is not enabled");
+		}
+		return service;
+	}
 
-		return new PostTransactionCommand(request.referenceKey(), entries);
+	private static AsyncPostingResponse toResponse(AsyncPostingStatus status) {
+		return new AsyncPostingResponse(
+				status.referenceKey(),
+				status.state().name(),
+				status.journalPosition(),
+				status.appliedPosition(),
+				status.transactionId(),
+				status.postedAt(),
+				status.errorCode(),
+				status.errorMessage());
 	}
 }
@@ -0,0 +1,21 @@
+package io.luminar.ledger.api.dto.request;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record AccrualRuleRequest(
+		@NotNull CreateAccountRequest.AccountType accountType,
+		@NotBlank @Pattern(regexp = "(?i)[A-Z]{3}") String currency,
+		@NotNull @DecimalMin(value = "0", inclusive = false) BigDecimal annualRate,
+		@Positive Integer dayCountBasis,
+		@NotNull TransactionEntryRequest.Type entryType,
+		@NotNull UUID counterpartyAccountId,
+		@DecimalMin(value = "0") BigDecimal minimumBalance
+) {
+}
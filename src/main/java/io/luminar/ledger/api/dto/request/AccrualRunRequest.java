@@ -0,0 +1,16 @@
+package io.luminar.ledger.api.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record AccrualRunRequest(
+		@NotBlank @Size(max = 64) String runKey,
+		@NotNull @Positive Integer days,
+		@NotNull @Size(min = 1) @Valid List<AccrualRuleRequest> rules
+) {
+}
@@ -0,0 +1,15 @@
+package io.luminar.ledger.api.dto.request;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record CaptureHoldRequest(
+		@NotBlank String referenceKey,
+		@NotNull UUID counterpartyAccountId,
+		@DecimalMin(value = "0", inclusive = false) BigDecimal amount
+) {
+}
@@ -0,0 +1,16 @@
+package io.luminar.ledger.api.dto.request;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+
+import java.math.BigDecimal;
+
+public record FxConversionRequest(
+		@NotBlank @Pattern(regexp = "(?i)[A-Z]{3}") String soldCurrency,
+		@NotNull @DecimalMin(value = "0", inclusive = false) BigDecimal soldAmount,
+		@NotBlank @Pattern(regexp = "(?i)[A-Z]{3}") String boughtCurrency,
+		@NotNull @DecimalMin(value = "0", inclusive = false) BigDecimal boughtAmount
+) {
+}
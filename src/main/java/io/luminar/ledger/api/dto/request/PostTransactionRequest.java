@@ -1,5 +1,6 @@
 package io.luminar.ledger.api.dto.request;
 
+import io.luminar.ledger.application.transaction.command.PostTransactionCommand;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -9,6 +10,26 @@ import java.util.List;
 
 public record PostTransactionRequest(
 		@NotBlank String referenceKey,
-		@NotNull @Size(min = 2) @Valid List<TransactionEntryRequest> entries
+		@NotNull @Size(min = 2) @Valid List<TransactionEntryRequest> entries,
+		@Valid List<FxConversionRequest> fxConversions
 ) {
+	public PostTransactionCommand toCommand() {
+		List<PostTransactionCommand.Entry> commandEntries = entries.stream()
+				.map(e -> new PostTransactionCommand.Entry(
+						e.accountId(),
+						PostTransactionCommand.EntryType.valueOf(e.type().name()),
+						e.amount()))
+				.toList();
+		List<PostTransactionCommand.FxConversion> commandConversions = fxConversions == null
+				? List.of()
+				: fxConversions.stream()
+						.map(c -> new PostTransactionCommand.FxConversion(
+								c.soldCurrency(),
+								c.soldAmount(),
+								c.boughtCurrency(),
+								c.boughtAmount()))
+						.toList();
+
+		return new PostTransactionCommand(referenceKey, commandEntries, commandConversions);
+	}
 }
@@ -0,0 +1,17 @@
+package io.luminar.ledger.api.dto.request;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record ReserveHoldRequest(
+		@NotBlank String referenceKey,
+		@NotNull UUID accountId,
+		@NotNull @DecimalMin(value = "0", inclusive = false) BigDecimal amount,
+		@Positive Long expiresInSeconds
+) {
+}
@@ -0,0 +1,12 @@
+package io.luminar.ledger.api.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.Instant;
+
+public record SchedulePostingRequest(
+		@NotNull Instant dueAt,
+		@NotNull @Valid PostTransactionRequest posting
+) {
+}
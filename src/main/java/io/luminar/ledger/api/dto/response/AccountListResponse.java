@@ -2,15 +2,22 @@ package io.luminar.ledger.api.dto.response;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.UUID;
 
 public final class AccountListResponse {
 	private final List<AccountSummary> accounts;
+	private final UUID nextCursor;
 
-	public AccountListResponse(List<AccountSummary> accounts) {
+	public AccountListResponse(List<AccountSummary> accounts, UUID nextCursor) {
 		this.accounts = List.copyOf(Objects.requireNonNull(accounts, "AccountListResponse.accounts is required"));
+		this.nextCursor = nextCursor;
 	}
 
 	public List<AccountSummary> getAccounts() {
 		return accounts;
 	}
+
+	public UUID getNextCursor() {
+		return nextCursor;
+	}
 }
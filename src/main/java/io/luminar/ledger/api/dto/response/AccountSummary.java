@@ -3,6 +3,7 @@ package io.luminar.ledger.api.dto.response;
 import io.luminar.ledger.domain.account.AccountStatus;
 import io.luminar.ledger.domain.account.AccountType;
 
+import java.math.BigDecimal;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -13,15 +14,17 @@ public final class AccountSummary {
 	private final AccountType type;
 	private final String currency;
 	private final AccountStatus status;
+	private final BigDecimal balance;
 
 	public AccountSummary(UUID accountId, String code, String name, AccountType type, String currency,
-			AccountStatus status) {
+			AccountStatus status, BigDecimal balance) {
 		this.accountId = Objects.requireNonNull(accountId, "AccountSummary.accountId is required");
 		this.code = Objects.requireNonNull(code, "AccountSummary.code is required");
 		this.name = Objects.requireNonNull(name, "AccountSummary.name is required");
 		this.type = Objects.requireNonNull(type, "AccountSummary.type is required");
 		this.currency = Objects.requireNonNull(currency, "AccountSummary.currency is required");
 		this.status = Objects.requireNonNull(status, "AccountSummary.status is required");
+		this.balance = Objects.requireNonNull(balance, "AccountSummary.balance is required");
 	}
 
 	public UUID getAccountId() {
@@ -47,4 +50,8 @@ public final class AccountSummary {
 	public AccountStatus getStatus() {
 		return status;
 	}
+
+	public BigDecimal getBalance() {
+		return balance;
+	}
 }
@@ -0,0 +1,16 @@
+package io.luminar.ledger.api.dto.response;
+
+import java.time.Instant;
+
+public record AccrualRunResponse(
+		String runKey,
+		String status,
+		int days,
+		int chunkCount,
+		int completedChunks,
+		long postedCount,
+		long rejectedCount,
+		Instant startedAt,
+		Instant completedAt
+) {
+}
@@ -0,0 +1,16 @@
+package io.luminar.ledger.api.dto.response;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record AsyncPostingResponse(
+		String referenceKey,
+		String status,
+		Long journalPosition,
+		Long appliedPosition,
+		UUID transactionId,
+		Instant postedAt,
+		String errorCode,
+		String errorMessage
+) {
+}
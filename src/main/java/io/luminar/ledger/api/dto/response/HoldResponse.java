@@ -0,0 +1,20 @@
+package io.luminar.ledger.api.dto.response;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+public record HoldResponse(
+		UUID holdId,
+		UUID accountId,
+		String referenceKey,
+		BigDecimal amount,
+		String status,
+		Instant expiresAt,
+		BigDecimal capturedAmount,
+		String captureReferenceKey,
+		UUID transactionId,
+		Instant createdAt,
+		Instant updatedAt
+) {
+}
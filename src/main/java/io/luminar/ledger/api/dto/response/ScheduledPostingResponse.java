@@ -0,0 +1,18 @@
+package io.luminar.ledger.api.dto.response;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record ScheduledPostingResponse(
+		UUID id,
+		String referenceKey,
+		Instant dueAt,
+		String status,
+		int attempts,
+		UUID transactionId,
+		String errorCode,
+		String errorMessage,
+		Instant createdAt,
+		Instant updatedAt
+) {
+}
@@ -0,0 +1,32 @@
+package io.luminar.ledger.api.dto.response;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+public final class TrialBalanceCurrencyTotal {
+	private final String currency;
+	private final BigDecimal debitTotal;
+	private final BigDecimal creditTotal;
+
+	public TrialBalanceCurrencyTotal(String currency, BigDecimal debitTotal, BigDecimal creditTotal) {
+		this.currency = Objects.requireNonNull(currency, "TrialBalanceCurrencyTotal.currency is required");
+		this.debitTotal = Objects.requireNonNull(debitTotal, "TrialBalanceCurrencyTotal.debitTotal is required");
+		this.creditTotal = Objects.requireNonNull(creditTotal, "TrialBalanceCurrencyTotal.creditTotal is required");
+	}
+
+	public String getCurrency() {
+		return currency;
+	}
+
+	public BigDecimal getDebitTotal() {
+		return debitTotal;
+	}
+
+	public BigDecimal getCreditTotal() {
+		return creditTotal;
+	}
+
+	public boolean isBalanced() {
+		return debitTotal.compareTo(creditTotal) == 0;
+	}
+}
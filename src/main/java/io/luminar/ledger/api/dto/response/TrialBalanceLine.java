@@ -0,0 +1,47 @@
+package io.luminar.ledger.api.dto.response;
+
+import io.luminar.ledger.domain.account.AccountType;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+public final class TrialBalanceLine {
+	private final AccountType accountType;
+	private final String currency;
+	private final BigDecimal debitTotal;
+	private final BigDecimal creditTotal;
+	private final long entryCount;
+
+	public TrialBalanceLine(AccountType accountType, String currency, BigDecimal debitTotal, BigDecimal creditTotal,
+			long entryCount) {
+		this.accountType = Objects.requireNonNull(accountType, "TrialBalanceLine.accountType is required");
+		this.currency = Objects.requireNonNull(currency, "TrialBalanceLine.currency is required");
+		this.debitTotal = Objects.requireNonNull(debitTotal, "TrialBalanceLine.debitTotal is required");
+		this.creditTotal = Objects.requireNonNull(creditTotal, "TrialBalanceLine.creditTotal is required");
+		this.entryCount = entryCount;
+	}
+
+	public AccountType getAccountType() {
+		return accountType;
+	}
+
+	public String getCurrency() {
+		return currency;
+	}
+
+	public BigDecimal getDebitTotal() {
+		return debitTotal;
+	}
+
+	public BigDecimal getCreditTotal() {
+		return creditTotal;
+	}
+
+	public BigDecimal getNet() {
+		return creditTotal.subtract(debitTotal);
+	}
+
+	public long getEntryCount() {
+		return entryCount;
+	}
+}
@@ -0,0 +1,46 @@
+package io.luminar.ledger.api.dto.response;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+
+public final class TrialBalanceResponse {
+	private final LocalDate from;
+	private final LocalDate to;
+	private final long projectedThroughSequence;
+	private final List<TrialBalanceLine> lines;
+	private final List<TrialBalanceCurrencyTotal> totals;
+
+	public TrialBalanceResponse(LocalDate from, LocalDate to, long projectedThroughSequence,
+			List<TrialBalanceLine> lines, List<TrialBalanceCurrencyTotal> totals) {
+		this.from = from;
+		this.to = to;
+		this.projectedThroughSequence = projectedThroughSequence;
+		this.lines = List.copyOf(Objects.requireNonNull(lines, "TrialBalanceResponse.lines is required"));
+		this.totals = List.copyOf(Objects.requireNonNull(totals, "TrialBalanceResponse.totals is required"));
+	}
+
+	public LocalDate getFrom() {
+		return from;
+	}
+
+	public LocalDate getTo() {
+		return to;
+	}
+
+	public long getProjectedThroughSequence() {
+		return projectedThroughSequence;
+	}
+
+	public List<TrialBalanceLine> getLines() {
+		return lines;
+	}
+
+	public List<TrialBalanceCurrencyTotal> getTotals() {
+		return totals;
+	}
+
+	public boolean isBalanced() {
+		return totals.stream().allMatch(TrialBalanceCurrencyTotal::isBalanced);
+	}
+}
@@ -0,0 +1,36 @@
+package io.luminar.ledger.api.query;
+
+import io.luminar.ledger.infrastructure.projection.BalanceSnapshotRepository;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+@Repository
+public class AccountBalanceAsOfQuery {
+	private final BalanceSnapshotRepository balanceSnapshotRepository;
+
+	public AccountBalanceAsOfQuery(BalanceSnapshotRepository balanceSnapshotRepository) {
+		this.balanceSnapshotRepository = Objects.requireNonNull(balanceSnapshotRepository,
+				"AccountBalanceAsOfQuery.balanceSnapshotRepository is required");
+	}
+
+	@Transactional(readOnly = true)
+	public BigDecimal balanceAsOf(UUID accountId, Instant asOf) {
+		Objects.requireNonNull(accountId, "accountId is required");
+		Objects.requireNonNull(asOf, "asOf is required");
+
+		BalanceSnapshotRepository.Snapshot snapshot = balanceSnapshotRepository.findLatestAtOrBefore(accountId, asOf);
+		if (snapshot == null) {
+			return balanceSnapshotRepository.sumEntries(accountId, null, asOf).amount();
+		}
+
+		return snapshot.balance()
+				.add(balanceSnapshotRepository.sumEntries(accountId, snapshot.asOf(), asOf).amount())
+				.add(balanceSnapshotRepository.sumLateEntries(accountId, snapshot.sequence(), null, snapshot.asOf())
+						.amount());
+	}
+}
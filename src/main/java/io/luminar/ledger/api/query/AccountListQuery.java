@@ -0,0 +1,82 @@
+package io.luminar.ledger.api.query;
+
+import io.luminar.ledger.api.dto.response.AccountSummary;
+import io.luminar.ledger.domain.account.AccountStatus;
+import io.luminar.ledger.domain.account.AccountType;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+@Repository
+public class AccountListQuery {
+	private final EntityManager entityManager;
+
+	public AccountListQuery(EntityManager entityManager) {
+		this.entityManager = Objects.requireNonNull(entityManager, "AccountListQuery.entityManager is required");
+	}
+
+	@Transactional(readOnly = true)
+	public List<AccountSummary> findPage(AccountType type, AccountStatus status, String currency, UUID after,
+			int limit) {
+		int safeLimit = Math.max(1, limit);
+
+		StringBuilder sql = new StringBuilder();
+		sql.append("select a.id, a.code, a.name, a.type::text, a.currency, a.status::text, b.balance ");
+		sql.append("from accounts a ");
+		sql.append("join account_balances b on b.account_id = a.id ");
+		sql.append("where true ");
+
+		if (type != null) {
+			sql.append("and a.type = cast(:type as account_type) ");
+		}
+		if (status != null) {
+			sql.append("and a.status = cast(:status as account_status) ");
+		}
+		if (currency != null) {
+			sql.append("and a.currency = :currency ");
+		}
+		if (after != null) {
+			sql.append("and a.id > :after ");
+		}
+
+		sql.append("order by a.id asc");
+
+		var query = entityManager.createNativeQuery(sql.toString())
+				.setMaxResults(safeLimit);
+		if (type != null) {
+			query.setParameter("type", type.name());
+		}
+		if (status != null) {
+			query.setParameter("status", status.name());
+		}
+		if (currency != null) {
+			query.setParameter("currency", currency);
+		}
+		if (after != null) {
+			query.setParameter("after", after);
+		}
+
+		@SuppressWarnings("unchecked")
+		List<Object[]> rows = (List<Object[]>) query.getResultList();
+		List<AccountSummary> result = new ArrayList<>(rows.size());
+
+		for (Object[] row : rows) {
+			result.add(new AccountSummary(
+					(UUID) row[0],
+					(String) row[1],
+					(String) row[2],
+					AccountType.valueOf((String) row[3]),
+					(String) row[4],
+					AccountStatus.valueOf((String) row[5]),
+					(BigDecimal) row[6]));
+		}
+
+		return result;
+	}
+}
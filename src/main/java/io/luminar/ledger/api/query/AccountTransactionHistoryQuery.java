@@ -1,24 +1,45 @@
 package io.luminar.ledger.api.query;
 
 import io.luminar.ledger.api.dto.response.TransactionHistoryItem;
-import jakarta.persistence.EntityManager;
+import io.luminar.ledger.infrastructure.persistence.statement.NamedStatement;
+import io.luminar.ledger.infrastructure.persistence.statement.NamedStatements;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
+import javax.sql.DataSource;
+import java.sql.Timestamp;
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
 @Repository
 public class AccountTransactionHistoryQuery {
-	private final EntityManager entityManager;
+	private static final String SELECT =
+			"select p.transaction_id, p.reference_key, p.direction::text, p.amount, p.occurred_at " +
+					"from transaction_history_projection p " +
+					"where p.account_id = ? ";
+	private static final String ORDER_AND_PAGE =
+			"order by p.occurred_at asc, p.sequence_number asc, p.transaction_id asc, p.direction asc " +
+					"limit ? offset ?";
+	private static final NamedStatement FIND_ALL = new NamedStatement("history.find",
+			SELECT + ORDER_AND_PAGE);
+	private static final NamedStatement FIND_FROM = new NamedStatement("history.find-from",
+			SELECT + "and p.occurred_at >= ? " + ORDER_AND_PAGE);
+	private static final NamedStatement FIND_TO = new NamedStatement("history.find-to",
+			SELECT + "and p.occurred_at <= ? " + ORDER_AND_PAGE);
+	private static final NamedStatement FIND_BETWEEN = new NamedStatement("history.find-between",
+			SELECT + "and p.occurred_at >= ? and p.occurred_at <= ? " + ORDER_AND_PAGE);
 
-	public AccountTransactionHistoryQuery(EntityManager entityManager) {
-		this.entityManager = Objects.requireNonNull(entityManager,
-				"AccountTransactionHistoryQuery.entityManager is required");
+	private final JdbcTemplate jdbcTemplate;
+	private final NamedStatements namedStatements;
+
+	public AccountTransactionHistoryQuery(DataSource dataSource, NamedStatements namedStatements) {
+		this.jdbcTemplate = new JdbcTemplate(Objects.requireNonNull(dataSource,
+				"AccountTransactionHistoryQuery.dataSource is required"));
+		this.namedStatements = Objects.requireNonNull(namedStatements,
+				"AccountTransactionHistoryQuery.namedStatements is required");
 	}
 
 	@Transactional(readOnly = true)
@@ -28,62 +49,26 @@ public class AccountTransactionHistoryQuery {
 		int safeSize = Math.max(1, size);
 		int offset = Math.multiplyExact(safePage, safeSize);
 
-		StringBuilder sql = new StringBuilder();
-		sql.append("select p.transaction_id, p.reference_key, p.direction::text, p.amount, p.occurred_at ");
-		sql.append("from transaction_history_projection p ");
-		sql.append("where p.account_id = :accountId ");
-
-		if (from != null) {
-			sql.append("and p.occurred_at >= :from ");
-		}
-		if (to != null) {
-			sql.append("and p.occurred_at <= :to ");
-		}
-
-		sql.append("order by p.occurred_at asc, p.sequence_number asc, p.transaction_id asc, p.direction asc");
-
-		var query = entityManager.createNativeQuery(sql.toString())
-				.setParameter("accountId", accountId)
-				.setFirstResult(offset)
-				.setMaxResults(safeSize);
-		if (from != null) {
-			query.setParameter("from", from);
-		}
-		if (to != null) {
-			query.setParameter("to", to);
-		}
-
-		@SuppressWarnings("unchecked")
-		List<Object[]> rows = (List<Object[]>) query.getResultList();
-		List<TransactionHistoryItem> result = new ArrayList<>(rows.size());
-
-		for (Object[] row : rows) {
-			UUID transactionId = (UUID) row[0];
-			String referenceKey = (String) row[1];
-			String entryType = (String) row[2];
-			BigDecimal amount = (BigDecimal) row[3];
-			Instant postedAt;
-			Object postedAtRaw = row[4];
-			if (postedAtRaw instanceof java.sql.Timestamp ts) {
-				postedAt = ts.toInstant();
-			} else if (postedAtRaw instanceof java.time.OffsetDateTime odt) {
-				postedAt = odt.toInstant();
-			} else if (postedAtRaw instanceof Instant i) {
-				postedAt = i;
-			} else {
-				throw new IllegalStateException("Unexpected occurred_at type from DB: " +
-						(postedAtRaw == null ? "null" : postedAtRaw.getClass().getName()));
+		NamedStatement statement = from == null
+				? (to == null ? FIND_ALL : FIND_TO)
+				: (to == null ? FIND_FROM : FIND_BETWEEN);
+		return jdbcTemplate.query(namedStatements.creator(statement, ps -> {
+			int index = 1;
+			ps.setObject(index++, accountId);
+			if (from != null) {
+				ps.setTimestamp(index++, Timestamp.from(from));
 			}
-
-			result.add(new TransactionHistoryItem(
-					transactionId,
-					referenceKey,
-					toDtoEntryType(entryType),
-					amount,
-					postedAt));
-		}
-
-		return result;
+			if (to != null) {
+				ps.setTimestamp(index++, Timestamp.from(to));
+			}
+			ps.setInt(index++, safeSize);
+			ps.setInt(index, offset);
+		}), (rs, rowNum) -> new TransactionHistoryItem(
+				rs.getObject(1, UUID.class),
+				rs.getString(2),
+				toDtoEntryType(rs.getString(3)),
+				rs.getBigDecimal(4),
+				rs.getTimestamp(5).toInstant()));
 	}
 
 	private static TransactionHistoryItem.EntryType toDtoEntryType(String type) {
@@ -0,0 +1,89 @@
+package io.luminar.ledger.api.query;
+
+import io.luminar.ledger.api.dto.response.TrialBalanceCurrencyTotal;
+import io.luminar.ledger.api.dto.response.TrialBalanceLine;
+import io.luminar.ledger.api.dto.response.TrialBalanceResponse;
+import io.luminar.ledger.domain.account.AccountType;
+import io.luminar.ledger.infrastructure.projection.LedgerEventProjector;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+@Repository
+public class TrialBalanceQuery {
+	private final EntityManager entityManager;
+
+	public TrialBalanceQuery(EntityManager entityManager) {
+		this.entityManager = Objects.requireNonNull(entityManager, "TrialBalanceQuery.entityManager is required");
+	}
+
+	@Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+	public TrialBalanceResponse trialBalance(LocalDate from, LocalDate to) {
+		StringBuilder sql = new StringBuilder();
+		sql.append("select t.account_type::text, t.currency, sum(t.debit_total), sum(t.credit_total), sum(t.entry_count) ");
+		sql.append("from trial_balance_daily t ");
+		sql.append("where true ");
+		if (from != null) {
+			sql.append("and t.business_date >= :from ");
+		}
+		if (to != null) {
+			sql.append("and t.business_date <= :to ");
+		}
+		sql.append("group by t.account_type, t.currency ");
+		sql.append("order by t.currency asc, t.account_type asc");
+
+		var query = entityManager.createNativeQuery(sql.toString());
+		if (from != null) {
+			query.setParameter("from", from);
+		}
+		if (to != null) {
+			query.setParameter("to", to);
+		}
+
+		@SuppressWarnings("unchecked")
+		List<Object[]> rows = (List<Object[]>) query.getResultList();
+		List<TrialBalanceLine> lines = new ArrayList<>(rows.size());
+		Map<String, BigDecimal[]> byCurrency = new TreeMap<>();
+		for (Object[] row : rows) {
+			String currency = ((String) row[1]).trim();
+			BigDecimal debit = (BigDecimal) row[2];
+			BigDecimal credit = (BigDecimal) row[3];
+			lines.add(new TrialBalanceLine(
+					AccountType.valueOf((String) row[0]),
+					currency,
+					debit,
+					credit,
+					((Number) row[4]).longValue()));
+
+			BigDecimal[] totals = byCurrency.computeIfAbsent(currency,
+					c -> new BigDecimal[] { BigDecimal.ZERO, BigDecimal.ZERO });
+			totals[0] = totals[0].add(debit);
+			totals[1] = totals[1].add(credit);
+		}
+
+		List<TrialBalanceCurrencyTotal> totals = new ArrayList<>(byCurrency.size());
+		for (Map.Entry<String, BigDecimal[]> entry : byCurrency.entrySet()) {
+			totals.add(new TrialBalanceCurrencyTotal(entry.getKey(), entry.getValue()[0], entry.getValue()[1]));
+		}
+
+		return new TrialBalanceResponse(from, to, projectedThroughSequence(), lines, totals);
+	}
+
+	private long projectedThroughSequence() {
+		@SuppressWarnings("unchecked")
+		List<Number> rows = (List<Number>) entityManager.createNativeQuery(
+				"select last_sequence_number from projection_checkpoints where projection_type = :projectionType")
+				.setParameter("projectionType", LedgerEventProjector.TRANSACTION_HISTORY_PROJECTION_TYPE)
+				.getResultList();
+		return rows.isEmpty() ? 0L : rows.getFirst().longValue();
+	}
+}
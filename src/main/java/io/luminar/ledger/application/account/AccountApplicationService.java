@@ -4,6 +4,7 @@ import io.luminar.ledger.application.account.command.CloseAccountCommand;
 import io.luminar.ledger.application.account.command.CreateAccountCommand;
 import io.luminar.ledger.application.account.command.FreezeAccountCommand;
 import io.luminar.ledger.application.account.command.UnfreezeAccountCommand;
+import io.luminar.ledger.application.sharding.ShardedAccountService;
 import io.luminar.ledger.domain.account.Account;
 import io.luminar.ledger.domain.account.AccountId;
 import io.luminar.ledger.domain.account.Currency;
@@ -12,6 +13,7 @@ import io.luminar.ledger.infrastructure.persistence.account.AccountBalanceEntity
 import io.luminar.ledger.infrastructure.persistence.account.AccountBalanceJpaRepository;
 import io.luminar.ledger.infrastructure.persistence.account.AccountEntity;
 import io.luminar.ledger.infrastructure.persistence.account.AccountJpaRepository;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -30,16 +32,26 @@ public class AccountApplicationService {
 
 	private final AccountJpaRepository accountJpaRepository;
 	private final AccountBalanceJpaRepository accountBalanceJpaRepository;
+	private final AccountMetadataCache accountMetadataCache;
+	private final ObjectProvider<ShardedAccountService> shardedAccountService;
 
 	public AccountApplicationService(AccountJpaRepository accountJpaRepository,
-			AccountBalanceJpaRepository accountBalanceJpaRepository) {
+			AccountBalanceJpaRepository accountBalanceJpaRepository,
+			AccountMetadataCache accountMetadataCache,
+			ObjectProvider<ShardedAccountService> shardedAccountService) {
 		this.accountJpaRepository = Objects.requireNonNull(accountJpaRepository);
 		this.accountBalanceJpaRepository = Objects.requireNonNull(accountBalanceJpaRepository);
+		this.accountMetadataCache = Objects.requireNonNull(accountMetadataCache);
+		this.shardedAccountService = Objects.requireNonNull(shardedAccountService);
 	}
 
 	@Transactional
 	public UUID create(CreateAccountCommand command) {
 		Objects.requireNonNull(command, "CreateAccountCommand is required");
+		ShardedAccountService sharded = shardedAccountService.getIfAvailable();
+		if (sharded != null) {
+			return sharded.create(command);
+		}
 
 		accountJpaRepository.findByCode(command.code()).ifPresent(existing -> {
 			throw new ResponseStatusException(CONFLICT, "Account code already exists: " + command.code());
@@ -74,6 +86,7 @@ public class AccountApplicationService {
 		Account current = AccountPersistenceMapper.toDomain(entity);
 		Account updated = current.freeze(command.reason());
 		applyLifecycle(entity, updated);
+		accountMetadataCache.invalidate(entity.getId());
 	}
 
 	@Transactional
@@ -84,6 +97,7 @@ public class AccountApplicationService {
 		Account current = AccountPersistenceMapper.toDomain(entity);
 		Account updated = current.unfreeze(command.reason());
 		applyLifecycle(entity, updated);
+		accountMetadataCache.invalidate(entity.getId());
 	}
 
 	@Transactional
@@ -94,6 +108,7 @@ public class AccountApplicationService {
 		Account current = AccountPersistenceMapper.toDomain(entity);
 		Account updated = current.close(command.reason());
 		applyLifecycle(entity, updated);
+		accountMetadataCache.invalidate(entity.getId());
 	}
 
 	private static void applyLifecycle(AccountEntity entity, Account updated) {
@@ -0,0 +1,136 @@
+package io.luminar.ledger.application.account;
+
+import io.luminar.ledger.domain.account.AccountMetadata;
+import io.luminar.ledger.infrastructure.jfr.CacheLookupEvent;
+import io.luminar.ledger.infrastructure.jfr.PostingAttemptEvent;
+import io.luminar.ledger.infrastructure.persistence.account.AccountMetadataRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+@Service
+public class AccountMetadataCache {
+	public static final String INVALIDATION_CHANNEL = "account-metadata::invalidate";
+
+	private static final String CACHE_NAME = "account-metadata";
+
+	private static final Logger log = LoggerFactory.getLogger(AccountMetadataCache.class);
+
+	private final AccountMetadataRepository accountMetadataRepository;
+	private final StringRedisTemplate stringRedisTemplate;
+	private final boolean broadcastEnabled;
+	private final int maxEntries;
+	private final ConcurrentHashMap<UUID, AccountMetadata> entries = new ConcurrentHashMap<>();
+	private final List<Consumer<UUID>> evictionListeners = new CopyOnWriteArrayList<>();
+
+	public AccountMetadataCache(
+			AccountMetadataRepository accountMetadataRepository,
+			StringRedisTemplate stringRedisTemplate,
+			@Value("${ledger.cache.account-metadata.broadcast.enabled:false}") boolean broadcastEnabled,
+			@Value("${ledger.cache.account-metadata.max-entries:100000}") int maxEntries) {
+		this.accountMetadataRepository = Objects.requireNonNull(accountMetadataRepository,
+				"AccountMetadataCache.accountMetadataRepository is required");
+		this.stringRedisTemplate = Objects.requireNonNull(stringRedisTemplate,
+				"AccountMetadataCache.stringRedisTemplate is required");
+		this.broadcastEnabled = broadcastEnabled;
+		this.maxEntries = Math.max(1, maxEntries);
+	}
+
+	public Map<UUID, AccountMetadata> lockForPosting(Collection<UUID> accountIds) {
+		boolean timed = PostingAttemptEvent.inProgress();
+		long lockStart = timed ? System.nanoTime() : 0L;
+		Map<UUID, Long> versions = accountMetadataRepository.lockForPosting(accountIds);
+		if (timed) {
+			PostingAttemptEvent.addLockWait(System.nanoTime() - lockStart);
+		}
+
+		CacheLookupEvent lookup = new CacheLookupEvent();
+		lookup.begin();
+		Map<UUID, AccountMetadata> result = new HashMap<>(versions.size());
+		List<UUID> stale = new ArrayList<>();
+		for (Map.Entry<UUID, Long> version : versions.entrySet()) {
+			AccountMetadata cached = entries.get(version.getKey());
+			if (cached != null && cached.version() == version.getValue()) {
+				result.put(version.getKey(), cached);
+			} else {
+				stale.add(version.getKey());
+			}
+		}
+		lookup.finish(CACHE_NAME, versions.size(), versions.size() - stale.size(), false);
+		if (stale.isEmpty()) {
+			return result;
+		}
+
+		if (entries.size() + stale.size() > maxEntries) {
+			entries.clear();
+		}
+		for (AccountMetadata loaded : accountMetadataRepository.findByIds(stale)) {
+			UUID id = loaded.id().value();
+			entries.merge(id, loaded, (current, candidate) -> current.version() >= candidate.version()
+					? current
+					: candidate);
+			result.put(id, loaded);
+		}
+		return result;
+	}
+
+	public void invalidate(UUID accountId) {
+		Objects.requireNonNull(accountId, "accountId is required");
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			evictAndBroadcast(accountId);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				evictAndBroadcast(accountId);
+			}
+		});
+	}
+
+	public void evict(UUID accountId) {
+		entries.remove(Objects.requireNonNull(accountId, "accountId is required"));
+		for (Consumer<UUID> listener : evictionListeners) {
+			listener.accept(accountId);
+		}
+	}
+
+	public void addEvictionListener(Consumer<UUID> listener) {
+		evictionListeners.add(Objects.requireNonNull(listener, "listener is required"));
+	}
+
+	public void removeEvictionListener(Consumer<UUID> listener) {
+		evictionListeners.remove(listener);
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	private void evictAndBroadcast(UUID accountId) {
+		evict(accountId);
+		if (!broadcastEnabled) {
+			return;
+		}
+		try {
+			stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, accountId.toString());
+		} catch (Exception e) {
+			log.warn("Account metadata invalidation broadcast failed. accountId={}", accountId, e);
+		}
+	}
+}
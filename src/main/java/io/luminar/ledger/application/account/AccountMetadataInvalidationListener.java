@@ -0,0 +1,47 @@
+package io.luminar.ledger.application.account;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.UUID;
+
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "ledger.cache.account-metadata.broadcast.enabled", havingValue = "true")
+public class AccountMetadataInvalidationListener implements MessageListener {
+	private static final Logger log = LoggerFactory.getLogger(AccountMetadataInvalidationListener.class);
+
+	private final AccountMetadataCache accountMetadataCache;
+
+	public AccountMetadataInvalidationListener(AccountMetadataCache accountMetadataCache) {
+		this.accountMetadataCache = Objects.requireNonNull(accountMetadataCache,
+				"AccountMetadataInvalidationListener.accountMetadataCache is required");
+	}
+
+	@Bean
+	RedisMessageListenerContainer accountMetadataInvalidationContainer(RedisConnectionFactory connectionFactory) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		container.addMessageListener(this, new ChannelTopic(AccountMetadataCache.INVALIDATION_CHANNEL));
+		return container;
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		try {
+			accountMetadataCache.evict(UUID.fromString(body));
+		} catch (IllegalArgumentException e) {
+			log.warn("Ignoring malformed account metadata invalidation. body={}", body);
+		}
+	}
+}
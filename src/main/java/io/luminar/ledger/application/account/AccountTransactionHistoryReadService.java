@@ -2,6 +2,7 @@ package io.luminar.ledger.application.account;
 
 import io.luminar.ledger.api.dto.response.TransactionHistoryItem;
 import io.luminar.ledger.api.query.AccountTransactionHistoryQuery;
+import io.luminar.ledger.infrastructure.jfr.CacheLookupEvent;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
@@ -22,6 +23,7 @@ import java.util.UUID;
 @Service
 public class AccountTransactionHistoryReadService {
 	private static final Logger log = LoggerFactory.getLogger(AccountTransactionHistoryReadService.class);
+	private static final String CACHE_NAME = "transaction-history";
 	private static final TypeReference<List<TransactionHistoryItem>> TRANSACTION_HISTORY_ITEM_LIST = new TypeReference<>() {
 	};
 	private static final String ORDER_BY = "p.occurred_at asc, p.sequence_number asc, p.transaction_id asc, p.direction asc";
@@ -67,13 +69,19 @@ public class AccountTransactionHistoryReadService {
 
 	private List<TransactionHistoryItem> tryGet(String cacheKey) {
 		String key = Objects.requireNonNull(cacheKey, "cacheKey is required");
+		CacheLookupEvent lookup = new CacheLookupEvent();
+		lookup.begin();
 		try {
 			String json = stringRedisTemplate.opsForValue().get(key);
 			if (json == null || json.isBlank()) {
+				lookup.finish(CACHE_NAME, 1, 0, false);
 				return null;
 			}
-			return objectMapper.readValue(json, TRANSACTION_HISTORY_ITEM_LIST);
+			List<TransactionHistoryItem> cached = objectMapper.readValue(json, TRANSACTION_HISTORY_ITEM_LIST);
+			lookup.finish(CACHE_NAME, 1, 1, false);
+			return cached;
 		} catch (Exception e) {
+			lookup.finish(CACHE_NAME, 1, 0, true);
 			log.warn("Transaction history cache read failed. Falling back to DB. key={}", key, e);
 			return null;
 		}
@@ -0,0 +1,259 @@
+package io.luminar.ledger.application.accrual;
+
+import io.luminar.ledger.application.accrual.command.RunAccrualCommand;
+import io.luminar.ledger.application.transaction.SerializationRetry;
+import io.luminar.ledger.application.transaction.command.PostTransactionCommand;
+import io.luminar.ledger.domain.accrual.AccrualRule;
+import io.luminar.ledger.domain.account.AccountType;
+import io.luminar.ledger.domain.common.DomainException;
+import io.luminar.ledger.domain.ledger.EntryType;
+import io.luminar.ledger.domain.ledger.MoneyMicros;
+import io.luminar.ledger.infrastructure.persistence.accrual.AccrualRunRepository;
+import io.luminar.ledger.service.LedgerPostingService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Supplier;
+
+@Service
+public class AccrualRunService {
+	private static final Logger log = LoggerFactory.getLogger(AccrualRunService.class);
+
+	private final AccrualRunRepository repository;
+	private final LedgerPostingService ledgerPostingService;
+	private final TransactionTemplate planTemplate;
+	private final TransactionTemplate postingTemplate;
+	private final ForkJoinPool pool;
+	private final int chunkSize;
+	private final Counter posted;
+	private final Counter rejected;
+	private final Timer chunkTimer;
+
+	public AccrualRunService(
+			AccrualRunRepository repository,
+			LedgerPostingService ledgerPostingService,
+			PlatformTransactionManager transactionManager,
+			MeterRegistry meterRegistry,
+			@Value("${ledger.accrual.parallelism:4}") int parallelism,
+			@Value("${ledger.accrual.chunk-size:1000}") int chunkSize) {
+		this.repository = Objects.requireNonNull(repository, "repository is required");
+		this.ledgerPostingService = Objects.requireNonNull(ledgerPostingService,
+				"ledgerPostingService is required");
+		Objects.requireNonNull(transactionManager, "transactionManager is required");
+		this.planTemplate = new TransactionTemplate(transactionManager);
+		this.postingTemplate = new TransactionTemplate(transactionManager);
+		this.postingTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_SERIALIZABLE);
+		this.pool = new ForkJoinPool(Math.max(1, parallelism));
+		this.chunkSize = Math.max(1, chunkSize);
+
+		Objects.requireNonNull(meterRegistry, "meterRegistry is required");
+		this.posted = meterRegistry.counter("ledger.accrual.posted");
+		this.rejected = meterRegistry.counter("ledger.accrual.rejected");
+		this.chunkTimer = meterRegistry.timer("ledger.accrual.chunk");
+	}
+
+	@PreDestroy
+	public void close() {
+		pool.shutdownNow();
+	}
+
+	public AccrualRunRepository.Summary run(RunAccrualCommand command) {
+		Objects.requireNonNull(command, "RunAccrualCommand is required");
+		AccrualRunRepository.AccrualRun run = start(command);
+		if (run.status() == AccrualRunRepository.Status.RUNNING) {
+			List<AccrualRunRepository.Chunk> open = repository.openChunks(run.id());
+			if (!open.isEmpty()) {
+				pool.invoke(new ChunkTask(new RunContext(run), open, 0, open.size()));
+			}
+			if (repository.completeRun(run.id())) {
+				log.info("Accrual run completed. runKey={}", run.runKey());
+			}
+		}
+		return repository.findSummary(run.runKey())
+				.orElseThrow(() -> new IllegalStateException("Accrual run disappeared: " + run.runKey()));
+	}
+
+	@Transactional(readOnly = true)
+	public Optional<AccrualRunRepository.Summary> find(String runKey) {
+		return repository.findSummary(Objects.requireNonNull(runKey, "runKey is required").trim());
+	}
+
+	private AccrualRunRepository.AccrualRun start(RunAccrualCommand command) {
+		Optional<AccrualRunRepository.AccrualRun> existing = repository.findRun(command.runKey());
+		if (existing.isPresent()) {
+			return existing.get();
+		}
+		AccrualRunRepository.AccrualRun run = new AccrualRunRepository.AccrualRun(UUID.randomUUID(),
+				command.runKey(), command.days(), command.rules(), AccrualRunRepository.Status.RUNNING);
+		return Objects.requireNonNull(planTemplate.execute(status -> {
+			if (!repository.insertRun(run)) {
+				return repository.findRun(command.runKey())
+						.orElseThrow(() -> new IllegalStateException(
+								"Accrual run already exists but could not be loaded: " + command.runKey()));
+			}
+			int chunks = repository.planChunks(run.id(), chunkSize);
+			log.info("Accrual run planned. runKey={} chunks={}", run.runKey(), chunks);
+			return run;
+		}));
+	}
+
+	private void processChunk(RunContext context, AccrualRunRepository.Chunk chunk) {
+		List<PostTransactionCommand> commands = new ArrayList<>();
+		for (AccrualRunRepository.Candidate candidate : repository.scanChunk(chunk, context.accountTypes(),
+				context.counterpartyIds())) {
+			PostTransactionCommand command = context.accrue(candidate);
+			if (command != null) {
+				commands.add(command);
+			}
+		}
+
+		chunkTimer.record(() -> {
+			try {
+				boolean completed = withRetry(context.run().runKey(), () -> postingTemplate.execute(status -> {
+					if (!repository.lockOpenChunk(chunk)) {
+						return false;
+					}
+					if (!commands.isEmpty()) {
+						ledgerPostingService.postBatch(commands);
+					}
+					repository.completeChunk(chunk, commands.size(), 0);
+					return true;
+				}));
+				if (completed) {
+					posted.increment(commands.size());
+				}
+			} catch (DomainException | DataIntegrityViolationException e) {
+				postIndividually(context, chunk, commands);
+			}
+		});
+	}
+
+	private void postIndividually(RunContext context, AccrualRunRepository.Chunk chunk,
+			List<PostTransactionCommand> commands) {
+		int postedCount = 0;
+		int rejectedCount = 0;
+		for (PostTransactionCommand command : commands) {
+			try {
+				withRetry(command.referenceKey(), () -> postingTemplate.execute(
+						status -> ledgerPostingService.postBatch(List.of(command))));
+				postedCount++;
+			} catch (DomainException | DataIntegrityViolationException e) {
+				rejectedCount++;
+				log.warn("Accrual posting rejected. runKey={} referenceKey={} reason={}", context.run().runKey(),
+						command.referenceKey(), e.getMessage());
+			}
+		}
+
+		int postedTotal = postedCount;
+		int rejectedTotal = rejectedCount;
+		withRetry(context.run().runKey(), () -> postingTemplate.execute(status -> {
+			if (repository.lockOpenChunk(chunk)) {
+				repository.completeChunk(chunk, postedTotal, rejectedTotal);
+			}
+			return Boolean.TRUE;
+		}));
+		posted.increment(postedCount);
+		rejected.increment(rejectedCount);
+	}
+
+	private static <T> T withRetry(String key, Supplier<T> operation) {
+		RuntimeException last = null;
+		for (int attempt = 1; attempt <= SerializationRetry.MAX_ATTEMPTS; attempt++) {
+			try {
+				return Objects.requireNonNull(operation.get(), "Accrual operation returned null");
+			} catch (RuntimeException e) {
+				last = e;
+				if (!SerializationRetry.isSerializationFailure(e) || attempt == SerializationRetry.MAX_ATTEMPTS) {
+					throw e;
+				}
+				SerializationRetry.backoff(key, attempt);
+			}
+		}
+		throw last;
+	}
+
+	private record RunContext(AccrualRunRepository.AccrualRun run, Set<AccountType> accountTypes,
+			List<UUID> counterpartyIds) {
+		RunContext(AccrualRunRepository.AccrualRun run) {
+			this(run, accountTypes(run.rules()), run.rules().stream()
+					.map(rule -> rule.counterpartyAccountId().value())
+					.distinct()
+					.toList());
+		}
+
+		PostTransactionCommand accrue(AccrualRunRepository.Candidate candidate) {
+			for (AccrualRule rule : run.rules()) {
+				if (!rule.appliesTo(candidate.type(), candidate.currency())) {
+					continue;
+				}
+				long micros = rule.accrueMicros(candidate.balanceMicros(), run.days());
+				if (micros <= 0) {
+					return null;
+				}
+				PostTransactionCommand.EntryType accountSide = rule.entryType() == EntryType.CREDIT
+						? PostTransactionCommand.EntryType.CREDIT
+						: PostTransactionCommand.EntryType.DEBIT;
+				PostTransactionCommand.EntryType counterpartySide =
+						accountSide == PostTransactionCommand.EntryType.CREDIT
+								? PostTransactionCommand.EntryType.DEBIT
+								: PostTransactionCommand.EntryType.CREDIT;
+				return new PostTransactionCommand("accrual:" + run.runKey() + ":" + candidate.accountId(), List.of(
+						new PostTransactionCommand.Entry(candidate.accountId(), accountSide,
+								MoneyMicros.toBigDecimal(micros)),
+						new PostTransactionCommand.Entry(rule.counterpartyAccountId().value(), counterpartySide,
+								MoneyMicros.toBigDecimal(micros))));
+			}
+			return null;
+		}
+
+		private static Set<AccountType> accountTypes(List<AccrualRule> rules) {
+			Set<AccountType> types = EnumSet.noneOf(AccountType.class);
+			rules.forEach(rule -> types.add(rule.accountType()));
+			return types;
+		}
+	}
+
+	private final class ChunkTask extends RecursiveAction {
+		private final RunContext context;
+		private final List<AccrualRunRepository.Chunk> chunks;
+		private final int from;
+		private final int to;
+
+		private ChunkTask(RunContext context, List<AccrualRunRepository.Chunk> chunks, int from, int to) {
+			this.context = context;
+			this.chunks = chunks;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from == 1) {
+				processChunk(context, chunks.get(from));
+				return;
+			}
+			int middle = (from + to) >>> 1;
+			invokeAll(new ChunkTask(context, chunks, from, middle), new ChunkTask(context, chunks, middle, to));
+		}
+	}
+}
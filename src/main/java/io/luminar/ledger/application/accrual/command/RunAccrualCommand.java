@@ -0,0 +1,46 @@
+package io.luminar.ledger.application.accrual.command;
+
+import io.luminar.ledger.domain.accrual.AccrualRule;
+
+import java.util.List;
+import java.util.Objects;
+
+public final class RunAccrualCommand {
+	public static final int MAX_RUN_KEY_LENGTH = 64;
+
+	private final String runKey;
+	private final int days;
+	private final List<AccrualRule> rules;
+
+	public RunAccrualCommand(String runKey, int days, List<AccrualRule> rules) {
+		if (runKey == null || runKey.trim().isEmpty()) {
+			throw new IllegalArgumentException("RunAccrualCommand.runKey is required");
+		}
+		if (runKey.trim().length() > MAX_RUN_KEY_LENGTH) {
+			throw new IllegalArgumentException(
+					"RunAccrualCommand.runKey must be at most " + MAX_RUN_KEY_LENGTH + " characters");
+		}
+		if (days <= 0) {
+			throw new IllegalArgumentException("RunAccrualCommand.days must be positive");
+		}
+		Objects.requireNonNull(rules, "RunAccrualCommand.rules is required");
+		if (rules.isEmpty()) {
+			throw new IllegalArgumentException("RunAccrualCommand.rules must not be empty");
+		}
+		this.runKey = runKey.trim();
+		this.days = days;
+		this.rules = List.copyOf(rules);
+	}
+
+	public String runKey() {
+		return runKey;
+	}
+
+	public int days() {
+		return days;
+	}
+
+	public List<AccrualRule> rules() {
+		return rules;
+	}
+}
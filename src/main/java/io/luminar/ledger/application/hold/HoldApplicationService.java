@@ -0,0 +1,66 @@
+package io.luminar.ledger.application.hold;
+
+import io.luminar.ledger.application.hold.command.CaptureHoldCommand;
+import io.luminar.ledger.application.hold.command.ReserveHoldCommand;
+import io.luminar.ledger.application.transaction.SerializationRetry;
+import io.luminar.ledger.domain.hold.Hold;
+import io.luminar.ledger.infrastructure.persistence.hold.AccountHoldRepository;
+import io.luminar.ledger.service.HoldService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+@Service
+public class HoldApplicationService {
+	private final HoldService holdService;
+	private final AccountHoldRepository accountHoldRepository;
+
+	public HoldApplicationService(HoldService holdService, AccountHoldRepository accountHoldRepository) {
+		this.holdService = Objects.requireNonNull(holdService);
+		this.accountHoldRepository = Objects.requireNonNull(accountHoldRepository);
+	}
+
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public Hold reserve(ReserveHoldCommand command) {
+		Objects.requireNonNull(command, "ReserveHoldCommand is required");
+		return withRetry(command.referenceKey(), () -> holdService.reserve(command));
+	}
+
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public Hold capture(CaptureHoldCommand command) {
+		Objects.requireNonNull(command, "CaptureHoldCommand is required");
+		return withRetry(command.referenceKey(), () -> holdService.capture(command));
+	}
+
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public Hold voidHold(UUID holdId) {
+		Objects.requireNonNull(holdId, "holdId is required");
+		return withRetry(holdId.toString(), () -> holdService.voidHold(holdId));
+	}
+
+	@Transactional(readOnly = true)
+	public Optional<Hold> find(UUID holdId) {
+		return accountHoldRepository.findById(Objects.requireNonNull(holdId, "holdId is required"));
+	}
+
+	private static Hold withRetry(String key, Supplier<Hold> operation) {
+		RuntimeException last = null;
+		for (int attempt = 1; attempt <= SerializationRetry.MAX_ATTEMPTS; attempt++) {
+			try {
+				return Objects.requireNonNull(operation.get(), "HoldService returned null");
+			} catch (RuntimeException e) {
+				last = e;
+				if (!SerializationRetry.isSerializationFailure(e) || attempt == SerializationRetry.MAX_ATTEMPTS) {
+					throw e;
+				}
+				SerializationRetry.backoff(key, attempt);
+			}
+		}
+		throw Objects.requireNonNull(last, "Retry loop ended unexpectedly without exception");
+	}
+}
@@ -0,0 +1,39 @@
+package io.luminar.ledger.application.hold.command;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+import java.util.UUID;
+
+public final class CaptureHoldCommand {
+	private final UUID holdId;
+	private final String referenceKey;
+	private final UUID counterpartyAccountId;
+	private final BigDecimal amount;
+
+	public CaptureHoldCommand(UUID holdId, String referenceKey, UUID counterpartyAccountId, BigDecimal amount) {
+		if (referenceKey == null || referenceKey.trim().isEmpty()) {
+			throw new IllegalArgumentException("CaptureHoldCommand.referenceKey is required");
+		}
+		this.holdId = Objects.requireNonNull(holdId, "CaptureHoldCommand.holdId is required");
+		this.referenceKey = referenceKey.trim();
+		this.counterpartyAccountId = Objects.requireNonNull(counterpartyAccountId,
+				"CaptureHoldCommand.counterpartyAccountId is required");
+		this.amount = amount;
+	}
+
+	public UUID holdId() {
+		return holdId;
+	}
+
+	public String referenceKey() {
+		return referenceKey;
+	}
+
+	public UUID counterpartyAccountId() {
+		return counterpartyAccountId;
+	}
+
+	public BigDecimal amount() {
+		return amount;
+	}
+}
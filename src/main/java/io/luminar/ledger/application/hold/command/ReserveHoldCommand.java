@@ -0,0 +1,42 @@
+package io.luminar.ledger.application.hold.command;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.UUID;
+
+public final class ReserveHoldCommand {
+	private final String referenceKey;
+	private final UUID accountId;
+	private final BigDecimal amount;
+	private final Duration expiresIn;
+
+	public ReserveHoldCommand(String referenceKey, UUID accountId, BigDecimal amount, Duration expiresIn) {
+		if (referenceKey == null || referenceKey.trim().isEmpty()) {
+			throw new IllegalArgumentException("ReserveHoldCommand.referenceKey is required");
+		}
+		if (expiresIn != null && (expiresIn.isZero() || expiresIn.isNegative())) {
+			throw new IllegalArgumentException("ReserveHoldCommand.expiresIn must be positive");
+		}
+		this.referenceKey = referenceKey.trim();
+		this.accountId = Objects.requireNonNull(accountId, "ReserveHoldCommand.accountId is required");
+		this.amount = Objects.requireNonNull(amount, "ReserveHoldCommand.amount is required");
+		this.expiresIn = expiresIn;
+	}
+
+	public String referenceKey() {
+		return referenceKey;
+	}
+
+	public UUID accountId() {
+		return accountId;
+	}
+
+	public BigDecimal amount() {
+		return amount;
+	}
+
+	public Duration expiresIn() {
+		return expiresIn;
+	}
+}
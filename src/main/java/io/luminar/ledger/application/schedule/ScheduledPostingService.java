@@ -0,0 +1,52 @@
+package io.luminar.ledger.application.schedule;
+
+import io.luminar.ledger.application.transaction.command.PostTransactionCommand;
+import io.luminar.ledger.infrastructure.journal.PostingCommandCodec;
+import io.luminar.ledger.infrastructure.persistence.schedule.ScheduledPostingRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+public class ScheduledPostingService {
+	private final ScheduledPostingRepository repository;
+
+	public ScheduledPostingService(ScheduledPostingRepository repository) {
+		this.repository = Objects.requireNonNull(repository, "repository is required");
+	}
+
+	public ScheduledPostingRepository.ScheduledPosting schedule(PostTransactionCommand command, Instant dueAt) {
+		Objects.requireNonNull(command, "PostTransactionCommand is required");
+		Objects.requireNonNull(dueAt, "dueAt is required");
+		byte[] payload = PostingCommandCodec.encode(command);
+
+		Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+		ScheduledPostingRepository.ScheduledPosting posting = new ScheduledPostingRepository.ScheduledPosting(
+				UUID.randomUUID(),
+				command.referenceKey(),
+				dueAt.truncatedTo(ChronoUnit.MICROS),
+				ScheduledPostingRepository.Status.PENDING,
+				0,
+				null,
+				null,
+				null,
+				now,
+				now);
+		if (!repository.insert(posting, payload)) {
+			return repository.find(command.referenceKey())
+					.orElseThrow(() -> new IllegalStateException(
+							"Scheduled posting already exists but could not be loaded: " + command.referenceKey()));
+		}
+		return posting;
+	}
+
+	@Transactional(readOnly = true)
+	public Optional<ScheduledPostingRepository.ScheduledPosting> find(String referenceKey) {
+		return repository.find(Objects.requireNonNull(referenceKey, "referenceKey is required").trim());
+	}
+}
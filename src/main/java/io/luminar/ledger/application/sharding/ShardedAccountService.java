@@ -0,0 +1,58 @@
+package io.luminar.ledger.application.sharding;
+
+import io.luminar.ledger.application.account.command.CreateAccountCommand;
+import io.luminar.ledger.domain.account.Account;
+import io.luminar.ledger.domain.account.AccountId;
+import io.luminar.ledger.domain.account.Currency;
+import io.luminar.ledger.infrastructure.sharding.ShardRouter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.springframework.http.HttpStatus.CONFLICT;
+
+@Service
+@ConditionalOnProperty(name = "ledger.sharding.enabled", havingValue = "true")
+public class ShardedAccountService {
+	private final ShardRouter shardRouter;
+
+	public ShardedAccountService(ShardRouter shardRouter) {
+		this.shardRouter = Objects.requireNonNull(shardRouter, "shardRouter is required");
+	}
+
+	public UUID create(CreateAccountCommand command) {
+		Objects.requireNonNull(command, "CreateAccountCommand is required");
+		ShardRouter.Shard shard = shardRouter.shard(codeShard(command.code()));
+		UUID accountId;
+		do {
+			accountId = UUID.randomUUID();
+		} while (ShardRouter.shardOf(accountId, shardRouter.size()) != shard.index());
+
+		Account account = Account.open(
+				new AccountId(accountId),
+				command.code(),
+				command.name(),
+				command.type(),
+				new Currency(command.currency()));
+		if (!shard.ledger().insertAccount(account)) {
+			throw new ResponseStatusException(CONFLICT, "Account code already exists: " + command.code());
+		}
+		return accountId;
+	}
+
+	public Optional<BigDecimal> balanceOf(UUID accountId) {
+		Objects.requireNonNull(accountId, "accountId is required");
+		return shardRouter.shardFor(accountId).ledger().findBalance(accountId);
+	}
+
+	private int codeShard(String code) {
+		return ShardRouter.shardOf(UUID.nameUUIDFromBytes(Objects.requireNonNull(code, "code is required").trim()
+				.getBytes(StandardCharsets.UTF_8)), shardRouter.size());
+	}
+}
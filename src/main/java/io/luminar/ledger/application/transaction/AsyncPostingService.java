@@ -0,0 +1,254 @@
+package io.luminar.ledger.application.transaction;
+
+import io.luminar.ledger.application.transaction.command.CompactPostingCommand;
+import io.luminar.ledger.application.transaction.command.PostTransactionCommand;
+import io.luminar.ledger.application.transaction.idempotency.GlobalIdempotencyCache;
+import io.luminar.ledger.application.transaction.idempotency.IdempotencyInProgressException;
+import io.luminar.ledger.domain.common.DomainException;
+import io.luminar.ledger.infrastructure.journal.AsyncPostingRejectionRepository;
+import io.luminar.ledger.infrastructure.journal.CommandJournal;
+import io.luminar.ledger.infrastructure.journal.PostingCommandCodec;
+import io.luminar.ledger.infrastructure.persistence.ledger.TransactionJpaRepository;
+import io.luminar.ledger.service.LedgerPostingService;
+import io.luminar.ledger.service.PostedTransaction;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Service
+@ConditionalOnProperty(name = "ledger.async-posting.enabled", havingValue = "true")
+public class AsyncPostingService {
+	private static final Logger log = LoggerFactory.getLogger(AsyncPostingService.class);
+	private static final String REJECTED_CODE = "POSTING_REJECTED";
+	private static final int RECOVERY_READ_SIZE = 1024;
+
+	private final LedgerPostingService ledgerPostingService;
+	private final GlobalIdempotencyCache globalIdempotencyCache;
+	private final AsyncPostingRejectionRepository rejectionRepository;
+	private final TransactionJpaRepository transactionJpaRepository;
+	private final CommandJournal journal;
+	private final Map<String, Long> pending;
+	private final Object appendLock;
+	private final AtomicBoolean running;
+	private final boolean applierEnabled;
+	private final int batchSize;
+	private final int maxBatchesPerTick;
+	private final Counter accepted;
+	private final Counter applied;
+	private final Counter rejected;
+	private final Timer applyTimer;
+
+	public AsyncPostingService(
+			LedgerPostingService ledgerPostingService,
+			GlobalIdempotencyCache globalIdempotencyCache,
+			AsyncPostingRejectionRepository rejectionRepository,
+			TransactionJpaRepository transactionJpaRepository,
+			MeterRegistry meterRegistry,
+			@Value("${ledger.async-posting.directory:ledger-journal}") String directory,
+			@Value("${ledger.async-posting.segment-bytes:67108864}") int segmentBytes,
+			@Value("${ledger.async-posting.group-commit-delay-micros:100}") long groupCommitDelayMicros,
+			@Value("${ledger.async-posting.applier-enabled:true}") boolean applierEnabled,
+			@Value("${ledger.async-posting.batch-size:500}") int batchSize,
+			@Value("${ledger.async-posting.max-batches-per-tick:20}") int maxBatchesPerTick) {
+		this.ledgerPostingService = Objects.requireNonNull(ledgerPostingService,
+				"ledgerPostingService is required");
+		this.globalIdempotencyCache = Objects.requireNonNull(globalIdempotencyCache,
+				"globalIdempotencyCache is required");
+		this.rejectionRepository = Objects.requireNonNull(rejectionRepository, "rejectionRepository is required");
+		this.transactionJpaRepository = Objects.requireNonNull(transactionJpaRepository,
+				"transactionJpaRepository is required");
+		this.pending = new ConcurrentHashMap<>();
+		this.appendLock = new Object();
+		this.running = new AtomicBoolean(false);
+		this.applierEnabled = applierEnabled;
+		this.batchSize = Math.max(1, batchSize);
+		this.maxBatchesPerTick = Math.max(1, maxBatchesPerTick);
+		this.journal = CommandJournal.open(
+				Path.of(Objects.requireNonNull(directory, "ledger.async-posting.directory is required")),
+				segmentBytes,
+				TimeUnit.MICROSECONDS.toNanos(groupCommitDelayMicros));
+		recoverPending();
+
+		Objects.requireNonNull(meterRegistry, "meterRegistry is required");
+		this.accepted = meterRegistry.counter("ledger.async.accepted");
+		this.applied = meterRegistry.counter("ledger.async.applied");
+		this.rejected = meterRegistry.counter("ledger.async.rejected");
+		this.applyTimer = meterRegistry.timer("ledger.async.apply.batch");
+		Gauge.builder("ledger.async.pending", pending, Map::size).register(meterRegistry);
+		Gauge.builder("ledger.async.journal.lag.bytes", journal,
+				j -> j.durablePosition() - j.appliedPosition()).register(meterRegistry);
+		FunctionCounter.builder("ledger.async.journal.fsyncs", journal, CommandJournal::fsyncCount)
+				.register(meterRegistry);
+	}
+
+	@PreDestroy
+	public void close() {
+		journal.close();
+	}
+
+	public AsyncPostingStatus accept(PostTransactionCommand command) {
+		Objects.requireNonNull(command, "PostTransactionCommand is required");
+		return accept(command.referenceKey(), PostingCommandCodec.encode(command));
+	}
+
+	public AsyncPostingStatus accept(CompactPostingCommand command) {
+		Objects.requireNonNull(command, "CompactPostingCommand is required");
+		return accept(command.referenceKey(), PostingCommandCodec.encode(command));
+	}
+
+	private AsyncPostingStatus accept(String referenceKey, byte[] payload) {
+		PostedTransaction replay = globalIdempotencyCache.acquireOrReplayCompleted(referenceKey);
+		if (replay != null) {
+			return AsyncPostingStatus.posted(replay);
+		}
+
+		long position;
+		synchronized (appendLock) {
+			if (pending.containsKey(referenceKey)) {
+				throw new IdempotencyInProgressException(referenceKey);
+			}
+			try {
+				position = journal.append(payload);
+			} catch (RuntimeException e) {
+				globalIdempotencyCache.markFailed(referenceKey);
+				throw e;
+			}
+			pending.put(referenceKey, position);
+		}
+		journal.awaitDurable(position);
+		accepted.increment();
+		return AsyncPostingStatus.accepted(referenceKey, position, journal.appliedPosition());
+	}
+
+	public Optional<AsyncPostingStatus> status(String referenceKey) {
+		String ref = Objects.requireNonNull(referenceKey, "referenceKey is required").trim();
+		Long position = pending.get(ref);
+		if (position != null) {
+			return Optional.of(AsyncPostingStatus.accepted(ref, position, journal.appliedPosition()));
+		}
+		Optional<AsyncPostingStatus> posted = transactionJpaRepository.findByReferenceKey(ref)
+				.map(t -> AsyncPostingStatus.posted(new PostedTransaction(t.getId(), t.getReferenceKey(),
+						t.getCreatedAt())));
+		if (posted.isPresent()) {
+			return posted;
+		}
+		return rejectionRepository.find(ref).map(AsyncPostingStatus::rejected);
+	}
+
+	@Scheduled(fixedDelayString = "${ledger.async-posting.fixed-delay-ms:50}")
+	public void tick() {
+		if (!applierEnabled || !running.compareAndSet(false, true)) {
+			return;
+		}
+
+		try {
+			for (int i = 0; i < maxBatchesPerTick; i++) {
+				if (applyOnce() < batchSize) {
+					break;
+				}
+			}
+		} catch (RuntimeException e) {
+			log.error("Async posting journal apply failed. Batch will be retried.", e);
+		} finally {
+			running.set(false);
+		}
+	}
+
+	public synchronized int applyOnce() {
+		List<CommandJournal.Entry> entries = journal.read(journal.appliedPosition(), batchSize);
+		if (entries.isEmpty()) {
+			return 0;
+		}
+
+		List<PostTransactionCommand> commands = new ArrayList<>(entries.size());
+		for (CommandJournal.Entry entry : entries) {
+			commands.add(PostingCommandCodec.decode(entry.payload()));
+		}
+
+		applyTimer.record(() -> {
+			try {
+				List<PostedTransaction> posted = ledgerPostingService.postBatch(commands);
+				for (PostedTransaction transaction : posted) {
+					globalIdempotencyCache.markCompleted(transaction);
+				}
+				applied.increment(posted.size());
+			} catch (DomainException | DataIntegrityViolationException e) {
+				applyIndividually(entries, commands);
+			}
+		});
+
+		journal.markApplied(entries.getLast().nextPosition());
+		synchronized (appendLock) {
+			for (int i = 0; i < entries.size(); i++) {
+				pending.remove(commands.get(i).referenceKey(), entries.get(i).position());
+			}
+		}
+		return entries.size();
+	}
+
+	public long appliedPosition() {
+		return journal.appliedPosition();
+	}
+
+	private void applyIndividually(List<CommandJournal.Entry> entries, List<PostTransactionCommand> commands) {
+		for (int i = 0; i < commands.size(); i++) {
+			PostTransactionCommand command = commands.get(i);
+			try {
+				globalIdempotencyCache.markCompleted(Objects.requireNonNull(ledgerPostingService.post(command),
+						"LedgerPostingService.post returned null"));
+				applied.increment();
+			} catch (DomainException | DataIntegrityViolationException e) {
+				reject(entries.get(i), command, e);
+			}
+		}
+	}
+
+	private void reject(CommandJournal.Entry entry, PostTransactionCommand command, RuntimeException cause) {
+		String code = cause instanceof DomainException domain && domain.code() != null
+				? domain.code()
+				: REJECTED_CODE;
+		String message = Objects.requireNonNullElse(cause.getMessage(), cause.getClass().getSimpleName());
+		rejectionRepository.record(new AsyncPostingRejectionRepository.Rejection(command.referenceKey(),
+				entry.position(), code, message, Instant.now().truncatedTo(ChronoUnit.MICROS)));
+		globalIdempotencyCache.markFailed(command.referenceKey());
+		rejected.increment();
+		log.warn("Async posting rejected. referenceKey={} journalPosition={} reason={}", command.referenceKey(),
+				entry.position(), message);
+	}
+
+	private void recoverPending() {
+		long position = journal.appliedPosition();
+		while (true) {
+			List<CommandJournal.Entry> entries = journal.read(position, RECOVERY_READ_SIZE);
+			if (entries.isEmpty()) {
+				return;
+			}
+			for (CommandJournal.Entry entry : entries) {
+				pending.put(PostingCommandCodec.referenceKey(entry.payload()), entry.position());
+			}
+			position = entries.getLast().nextPosition();
+		}
+	}
+}
@@ -0,0 +1,45 @@
+package io.luminar.ledger.application.transaction;
+
+import io.luminar.ledger.infrastructure.journal.AsyncPostingRejectionRepository;
+import io.luminar.ledger.service.PostedTransaction;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+public record AsyncPostingStatus(
+		String referenceKey,
+		State state,
+		Long journalPosition,
+		Long appliedPosition,
+		UUID transactionId,
+		Instant postedAt,
+		String errorCode,
+		String errorMessage
+) {
+	public AsyncPostingStatus {
+		Objects.requireNonNull(referenceKey, "AsyncPostingStatus.referenceKey is required");
+		Objects.requireNonNull(state, "AsyncPostingStatus.state is required");
+	}
+
+	static AsyncPostingStatus accepted(String referenceKey, long journalPosition, long appliedPosition) {
+		return new AsyncPostingStatus(referenceKey, State.ACCEPTED, journalPosition, appliedPosition, null, null,
+				null, null);
+	}
+
+	static AsyncPostingStatus posted(PostedTransaction posted) {
+		return new AsyncPostingStatus(posted.referenceKey(), State.POSTED, null, null, posted.transactionId(),
+				posted.postedAt(), null, null);
+	}
+
+	static AsyncPostingStatus rejected(AsyncPostingRejectionRepository.Rejection rejection) {
+		return new AsyncPostingStatus(rejection.referenceKey(), State.REJECTED, rejection.journalPosition(), null,
+				null, null, rejection.errorCode(), rejection.errorMessage());
+	}
+
+	public enum State {
+		ACCEPTED,
+		POSTED,
+		REJECTED
+	}
+}
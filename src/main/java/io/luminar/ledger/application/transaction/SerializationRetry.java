@@ -0,0 +1,40 @@
+package io.luminar.ledger.application.transaction;
+
+import java.sql.SQLException;
+import java.util.Objects;
+import java.util.concurrent.locks.LockSupport;
+
+public final class SerializationRetry {
+	public static final int MAX_ATTEMPTS = 40;
+
+	private static final String SERIALIZATION_FAILURE_SQLSTATE = "40001";
+
+	private SerializationRetry() {
+	}
+
+	public static boolean isSerializationFailure(Throwable t) {
+		Throwable current = t;
+		int depth = 0;
+		while (current != null && depth < 50) {
+			if (current instanceof SQLException sqlEx) {
+				String state = sqlEx.getSQLState();
+				if (SERIALIZATION_FAILURE_SQLSTATE.equals(state)) {
+					return true;
+				}
+			}
+			current = current.getCause();
+			depth++;
+		}
+		return false;
+	}
+
+	public static void backoff(String key, int attempt) {
+		Objects.requireNonNull(key, "key is required");
+		int seed = 31 * key.hashCode() + attempt;
+		long jitterMs = Math.floorMod(seed, 11);
+		long exp = 1L << Math.min(7, Math.max(0, attempt - 1));
+		long baseMs = Math.min(200L, 5L * exp);
+		long sleepMs = Math.min(250L, baseMs + jitterMs);
+		LockSupport.parkNanos(sleepMs * 1_000_000L);
+	}
+}
@@ -1,10 +1,14 @@
 package io.luminar.ledger.application.transaction;
 
+import io.luminar.ledger.application.transaction.command.CompactPostingCommand;
 import io.luminar.ledger.application.transaction.command.PostTransactionCommand;
 import io.luminar.ledger.application.transaction.idempotency.GlobalIdempotencyCache;
+import io.luminar.ledger.infrastructure.jfr.PostingAttemptEvent;
 import io.luminar.ledger.service.PostedTransaction;
 import io.luminar.ledger.service.LedgerPostingService;
+import io.luminar.ledger.service.ShardedPostingService;
 import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,21 +17,21 @@ import javax.sql.DataSource;
 import java.sql.SQLException;
 import java.util.Objects;
 import java.util.concurrent.Semaphore;
-import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
 
 @Service
 public class TransactionApplicationService {
-	private static final int MAX_ATTEMPTS = 40;
-	private static final String SERIALIZATION_FAILURE_SQLSTATE = "40001";
-
 	private final LedgerPostingService ledgerPostingService;
+	private final ObjectProvider<ShardedPostingService> shardedPostingService;
 	private final GlobalIdempotencyCache globalIdempotencyCache;
 	private final Semaphore postingConcurrency;
 
 	public TransactionApplicationService(LedgerPostingService ledgerPostingService,
+			ObjectProvider<ShardedPostingService> shardedPostingService,
 			GlobalIdempotencyCache globalIdempotencyCache,
 			DataSource dataSource) {
 		this.ledgerPostingService = Objects.requireNonNull(ledgerPostingService);
+		this.shardedPostingService = Objects.requireNonNull(shardedPostingService);
 		this.globalIdempotencyCache = Objects.requireNonNull(globalIdempotencyCache);
 		this.postingConcurrency = new Semaphore(resolvePostingPermits(dataSource), true);
 	}
@@ -35,7 +39,21 @@ public class TransactionApplicationService {
 	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public PostedTransaction post(PostTransactionCommand command) {
 		Objects.requireNonNull(command, "PostTransactionCommand is required");
-		String referenceKey = command.referenceKey();
+		return post(command.referenceKey(), command.entries().size(), sharded -> sharded != null
+				? sharded.post(command)
+				: ledgerPostingService.post(command));
+	}
+
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public PostedTransaction post(CompactPostingCommand command) {
+		Objects.requireNonNull(command, "CompactPostingCommand is required");
+		return post(command.referenceKey(), command.legCount(), sharded -> sharded != null
+				? sharded.post(command.toCommand())
+				: ledgerPostingService.post(command));
+	}
+
+	private PostedTransaction post(String referenceKey, int legCount,
+			Function<ShardedPostingService, PostedTransaction> posting) {
 		acquirePostingPermit();
 		try {
 			PostedTransaction replay = globalIdempotencyCache.acquireOrReplayCompleted(referenceKey);
@@ -43,21 +61,31 @@ public class TransactionApplicationService {
 				return replay;
 			}
 
+			ShardedPostingService sharded = shardedPostingService.getIfAvailable();
 			RuntimeException last = null;
-			for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+			for (int attempt = 1; attempt <= SerializationRetry.MAX_ATTEMPTS; attempt++) {
+				PostingAttemptEvent event = PostingAttemptEvent.start(referenceKey, legCount, attempt);
+				String outcome = PostingAttemptEvent.FAILED;
 				try {
-					PostedTransaction posted = Objects.requireNonNull(ledgerPostingService.post(command),
-							"LedgerPostingService.post returned null");
+					PostedTransaction posted = Objects.requireNonNull(posting.apply(sharded),
+							"Posting service returned null");
+					outcome = PostingAttemptEvent.POSTED;
 					globalIdempotencyCache.markCompleted(posted);
 					return posted;
 				} catch (RuntimeException e) {
 					last = e;
-					if (!isSerializationFailure(e) || attempt == MAX_ATTEMPTS) {
+					boolean serializationFailure = SerializationRetry.isSerializationFailure(e);
+					if (serializationFailure) {
+						outcome = PostingAttemptEvent.SERIALIZATION_FAILURE;
+					}
+					if (!serializationFailure || attempt == SerializationRetry.MAX_ATTEMPTS) {
 						globalIdempotencyCache.markFailed(referenceKey);
 						throw e;
 					}
-					backoff(referenceKey, attempt);
+				} finally {
+					event.finish(outcome);
 				}
+				SerializationRetry.backoff(referenceKey, attempt);
 			}
 
 			throw Objects.requireNonNull(last, "Retry loop ended unexpectedly without exception");
@@ -77,36 +105,14 @@ public class TransactionApplicationService {
 
 	private static int resolvePostingPermits(DataSource dataSource) {
 		Objects.requireNonNull(dataSource, "dataSource is required");
-		if (dataSource instanceof HikariDataSource hikari) {
-			int maxPool = hikari.getMaximumPoolSize();
-			return Math.max(1, Math.min(16, maxPool / 4));
-		}
-		return 16;
-	}
-
-	private static boolean isSerializationFailure(Throwable t) {
-		Throwable current = t;
-		int depth = 0;
-		while (current != null && depth < 50) {
-			if (current instanceof SQLException sqlEx) {
-				String state = sqlEx.getSQLState();
-				if (SERIALIZATION_FAILURE_SQLSTATE.equals(state)) {
-					return true;
-				}
+		try {
+			if (dataSource.isWrapperFor(HikariDataSource.class)) {
+				int maxPool = dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+				return Math.max(1, Math.min(16, maxPool / 4));
 			}
-			current = current.getCause();
-			depth++;
+		} catch (SQLException e) {
+			return 16;
 		}
-		return false;
-	}
-
-	private static void backoff(String referenceKey, int attempt) {
-		Objects.requireNonNull(referenceKey, "referenceKey is required");
-		int seed = 31 * referenceKey.hashCode() + attempt;
-		long jitterMs = Math.floorMod(seed, 11);
-		long exp = 1L << Math.min(7, Math.max(0, attempt - 1));
-		long baseMs = Math.min(200L, 5L * exp);
-		long sleepMs = Math.min(250L, baseMs + jitterMs);
-		LockSupport.parkNanos(sleepMs * 1_000_000L);
+		return 16;
 	}
 }
@@ -0,0 +1,144 @@
+package io.luminar.ledger.application.transaction.command;
+
+import io.luminar.ledger.domain.ledger.MoneyMicros;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+public final class CompactPostingCommand {
+	private final String referenceKey;
+	private final int legCount;
+	private final long[] accountHigh;
+	private final long[] accountLow;
+	private final long[] amountMicros;
+	private final boolean[] debit;
+	private final List<PostTransactionCommand.FxConversion> fxConversions;
+
+	private CompactPostingCommand(String referenceKey, int legCount, long[] accountHigh, long[] accountLow,
+			long[] amountMicros, boolean[] debit, List<PostTransactionCommand.FxConversion> fxConversions) {
+		if (referenceKey == null || referenceKey.trim().isEmpty()) {
+			throw new IllegalArgumentException("CompactPostingCommand.referenceKey is required");
+		}
+		if (legCount < 2) {
+			throw new IllegalArgumentException("CompactPostingCommand requires at least 2 legs");
+		}
+		this.referenceKey = referenceKey.trim();
+		this.legCount = legCount;
+		this.accountHigh = accountHigh;
+		this.accountLow = accountLow;
+		this.amountMicros = amountMicros;
+		this.debit = debit;
+		this.fxConversions = List.copyOf(Objects.requireNonNull(fxConversions,
+				"CompactPostingCommand.fxConversions is required"));
+	}
+
+	public static Builder builder(int expectedLegs) {
+		return new Builder(expectedLegs);
+	}
+
+	public String referenceKey() {
+		return referenceKey;
+	}
+
+	public int legCount() {
+		return legCount;
+	}
+
+	public long accountHigh(int leg) {
+		return accountHigh[Objects.checkIndex(leg, legCount)];
+	}
+
+	public long accountLow(int leg) {
+		return accountLow[Objects.checkIndex(leg, legCount)];
+	}
+
+	public UUID accountId(int leg) {
+		return new UUID(accountHigh(leg), accountLow(leg));
+	}
+
+	public long amountMicros(int leg) {
+		return amountMicros[Objects.checkIndex(leg, legCount)];
+	}
+
+	public boolean isDebit(int leg) {
+		return debit[Objects.checkIndex(leg, legCount)];
+	}
+
+	public List<PostTransactionCommand.FxConversion> fxConversions() {
+		return fxConversions;
+	}
+
+	public PostTransactionCommand toCommand() {
+		List<PostTransactionCommand.Entry> entries = new ArrayList<>(legCount);
+		for (int i = 0; i < legCount; i++) {
+			entries.add(new PostTransactionCommand.Entry(
+					accountId(i),
+					debit[i] ? PostTransactionCommand.EntryType.DEBIT : PostTransactionCommand.EntryType.CREDIT,
+					MoneyMicros.toBigDecimal(amountMicros[i])));
+		}
+		return new PostTransactionCommand(referenceKey, entries, fxConversions);
+	}
+
+	public static final class Builder {
+		private String referenceKey;
+		private int legCount;
+		private long[] accountHigh;
+		private long[] accountLow;
+		private long[] amountMicros;
+		private boolean[] debit;
+		private List<PostTransactionCommand.FxConversion> fxConversions = List.of();
+
+		private Builder(int expectedLegs) {
+			int capacity = Math.max(2, expectedLegs);
+			this.accountHigh = new long[capacity];
+			this.accountLow = new long[capacity];
+			this.amountMicros = new long[capacity];
+			this.debit = new boolean[capacity];
+		}
+
+		public Builder referenceKey(String referenceKey) {
+			this.referenceKey = referenceKey;
+			return this;
+		}
+
+		public Builder leg(long accountHigh, long accountLow, boolean debit, long amountMicros) {
+			if (amountMicros <= 0) {
+				throw new IllegalArgumentException("CompactPostingCommand leg amount must be positive");
+			}
+			if (legCount == this.accountHigh.length) {
+				int capacity = legCount * 2;
+				this.accountHigh = Arrays.copyOf(this.accountHigh, capacity);
+				this.accountLow = Arrays.copyOf(this.accountLow, capacity);
+				this.amountMicros = Arrays.copyOf(this.amountMicros, capacity);
+				this.debit = Arrays.copyOf(this.debit, capacity);
+			}
+			this.accountHigh[legCount] = accountHigh;
+			this.accountLow[legCount] = accountLow;
+			this.amountMicros[legCount] = amountMicros;
+			this.debit[legCount] = debit;
+			legCount++;
+			return this;
+		}
+
+		public int legCount() {
+			return legCount;
+		}
+
+		public Builder fxConversion(PostTransactionCommand.FxConversion conversion) {
+			Objects.requireNonNull(conversion, "conversion is required");
+			if (fxConversions.isEmpty()) {
+				fxConversions = new ArrayList<>(2);
+			}
+			fxConversions.add(conversion);
+			return this;
+		}
+
+		public CompactPostingCommand build() {
+			return new CompactPostingCommand(referenceKey, legCount, accountHigh, accountLow, amountMicros, debit,
+					fxConversions);
+		}
+	}
+}
@@ -8,17 +8,26 @@ import java.util.UUID;
 public final class PostTransactionCommand {
 	private final String referenceKey;
 	private final List<Entry> entries;
+	private final List<FxConversion> fxConversions;
 
 	public PostTransactionCommand(String referenceKey, List<Entry> entries) {
+		this(referenceKey, entries, List.of());
+	}
+
+	public PostTransactionCommand(String referenceKey, List<Entry> entries, List<FxConversion> fxConversions) {
 		if (referenceKey == null || referenceKey.trim().isEmpty()) {
 			throw new IllegalArgumentException("PostTransactionCommand.referenceKey is required");
 		}
 		if (entries == null || entries.isEmpty()) {
 			throw new IllegalArgumentException("PostTransactionCommand.entries is required");
 		}
+		if (fxConversions == null) {
+			throw new IllegalArgumentException("PostTransactionCommand.fxConversions is required");
+		}
 
 		this.referenceKey = referenceKey.trim();
 		this.entries = List.copyOf(entries);
+		this.fxConversions = List.copyOf(fxConversions);
 	}
 
 	public String referenceKey() {
@@ -29,6 +38,10 @@ public final class PostTransactionCommand {
 		return entries;
 	}
 
+	public List<FxConversion> fxConversions() {
+		return fxConversions;
+	}
+
 	public enum EntryType {
 		DEBIT,
 		CREDIT
@@ -41,4 +54,14 @@ public final class PostTransactionCommand {
 			Objects.requireNonNull(amount, "PostTransactionCommand.Entry.amount is required");
 		}
 	}
+
+	public record FxConversion(String soldCurrency, BigDecimal soldAmount, String boughtCurrency,
+			BigDecimal boughtAmount) {
+		public FxConversion {
+			Objects.requireNonNull(soldCurrency, "PostTransactionCommand.FxConversion.soldCurrency is required");
+			Objects.requireNonNull(soldAmount, "PostTransactionCommand.FxConversion.soldAmount is required");
+			Objects.requireNonNull(boughtCurrency, "PostTransactionCommand.FxConversion.boughtCurrency is required");
+			Objects.requireNonNull(boughtAmount, "PostTransactionCommand.FxConversion.boughtAmount is required");
+		}
+	}
 }
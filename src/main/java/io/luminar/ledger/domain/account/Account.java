@@ -84,12 +84,7 @@ public final class Account {
 	}
 
 	public void assertPostingAllowed() {
-		switch (status) {
-			case ACTIVE -> {
-			}
-			case FROZEN -> throw new AccountFrozenException("Account is FROZEN: " + id.value());
-			case CLOSED -> throw new AccountClosedException("Account is CLOSED: " + id.value());
-		}
+		AccountPolicy.assertPostingAllowed(id, status);
 	}
 
 	public Account freeze(String reason) {
@@ -0,0 +1,24 @@
+package io.luminar.ledger.domain.account;
+
+import io.luminar.ledger.domain.common.DomainException;
+
+public record AccountMetadata(AccountId id, AccountType type, Currency currency, AccountStatus status, long version) {
+	public AccountMetadata {
+		if (id == null) {
+			throw new DomainException("AccountMetadata.id is required");
+		}
+		if (type == null) {
+			throw new DomainException("AccountMetadata.type is required");
+		}
+		if (currency == null) {
+			throw new DomainException("AccountMetadata.currency is required");
+		}
+		if (status == null) {
+			throw new DomainException("AccountMetadata.status is required");
+		}
+	}
+
+	public void assertPostingAllowed() {
+		AccountPolicy.assertPostingAllowed(id, status);
+	}
+}
@@ -8,6 +8,15 @@ public final class AccountPolicy {
 	private AccountPolicy() {
 	}
 
+	public static void assertPostingAllowed(AccountId id, AccountStatus status) {
+		switch (status) {
+			case ACTIVE -> {
+			}
+			case FROZEN -> throw new AccountFrozenException("Account is FROZEN: " + id.value());
+			case CLOSED -> throw new AccountClosedException("Account is CLOSED: " + id.value());
+		}
+	}
+
 	static void validate(AccountId id, String code, String name, AccountType type, Currency currency,
 			AccountStatus status, Instant frozenAt, Instant closedAt, Instant statusChangedAt, String statusReason) {
 		if (id == null) {
@@ -0,0 +1,64 @@
+package io.luminar.ledger.domain.accrual;
+
+import io.luminar.ledger.domain.account.AccountId;
+import io.luminar.ledger.domain.account.AccountType;
+import io.luminar.ledger.domain.account.Currency;
+import io.luminar.ledger.domain.common.DomainException;
+import io.luminar.ledger.domain.ledger.EntryType;
+import io.luminar.ledger.domain.ledger.MoneyMicros;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public record AccrualRule(
+		AccountType accountType,
+		Currency currency,
+		BigDecimal annualRate,
+		int dayCountBasis,
+		EntryType entryType,
+		AccountId counterpartyAccountId,
+		BigDecimal minimumBalance
+) {
+	public AccrualRule {
+		if (accountType == null) {
+			throw new DomainException("AccrualRule.accountType is required");
+		}
+		if (currency == null) {
+			throw new DomainException("AccrualRule.currency is required");
+		}
+		if (annualRate == null || annualRate.signum() <= 0) {
+			throw new DomainException("AccrualRule.annualRate must be positive");
+		}
+		if (dayCountBasis <= 0) {
+			throw new DomainException("AccrualRule.dayCountBasis must be positive");
+		}
+		if (entryType == null) {
+			throw new DomainException("AccrualRule.entryType is required");
+		}
+		if (counterpartyAccountId == null) {
+			throw new DomainException("AccrualRule.counterpartyAccountId is required");
+		}
+		minimumBalance = minimumBalance == null ? BigDecimal.ZERO : minimumBalance;
+		if (minimumBalance.signum() < 0) {
+			throw new DomainException("AccrualRule.minimumBalance must not be negative");
+		}
+	}
+
+	public boolean appliesTo(AccountType type, Currency accountCurrency) {
+		return accountType == type && currency.equals(accountCurrency);
+	}
+
+	public long accrueMicros(long balanceMicros, int days) {
+		if (days <= 0) {
+			throw new DomainException("Accrual days must be positive");
+		}
+		BigDecimal balance = MoneyMicros.toBigDecimal(balanceMicros);
+		if (balance.signum() <= 0 || balance.compareTo(minimumBalance) < 0) {
+			return 0L;
+		}
+		return MoneyMicros.fromBigDecimal(balance
+				.multiply(annualRate)
+				.multiply(BigDecimal.valueOf(days))
+				.divide(BigDecimal.valueOf(dayCountBasis), MoneyMicros.SCALE, RoundingMode.HALF_EVEN));
+	}
+}
@@ -0,0 +1,72 @@
+package io.luminar.ledger.domain.hold;
+
+import io.luminar.ledger.domain.account.AccountId;
+import io.luminar.ledger.domain.common.DomainException;
+import io.luminar.ledger.domain.common.ReferenceKey;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+public record Hold(
+		UUID id,
+		AccountId accountId,
+		ReferenceKey referenceKey,
+		BigDecimal amount,
+		HoldStatus status,
+		Instant expiresAt,
+		BigDecimal capturedAmount,
+		String captureReferenceKey,
+		UUID transactionId,
+		Instant createdAt,
+		Instant updatedAt
+) {
+	public Hold {
+		if (id == null) {
+			throw new DomainException("Hold.id is required");
+		}
+		if (accountId == null) {
+			throw new DomainException("Hold.accountId is required");
+		}
+		if (referenceKey == null) {
+			throw new DomainException("Hold.referenceKey is required");
+		}
+		if (amount == null || amount.signum() <= 0) {
+			throw new DomainException("Hold.amount must be positive");
+		}
+		if (status == null) {
+			throw new DomainException("Hold.status is required");
+		}
+		if (expiresAt == null) {
+			throw new DomainException("Hold.expiresAt is required");
+		}
+	}
+
+	public boolean isActiveAt(Instant now) {
+		return status == HoldStatus.ACTIVE && expiresAt.isAfter(now);
+	}
+
+	public boolean isCapturedBy(String referenceKey) {
+		return status == HoldStatus.CAPTURED && captureReferenceKey != null
+				&& captureReferenceKey.equals(referenceKey);
+	}
+
+	public void assertCapturable(Instant now, BigDecimal captureAmount) {
+		assertActive(now);
+		if (captureAmount == null || captureAmount.signum() <= 0) {
+			throw new DomainException("Capture amount must be positive");
+		}
+		if (captureAmount.compareTo(amount) > 0) {
+			throw new DomainException("Capture amount exceeds held amount for hold: " + id);
+		}
+	}
+
+	public void assertActive(Instant now) {
+		if (status != HoldStatus.ACTIVE) {
+			throw new DomainException("Hold is not active: " + id + " (" + status + ")");
+		}
+		if (!expiresAt.isAfter(now)) {
+			throw new DomainException("Hold has expired: " + id);
+		}
+	}
+}
@@ -0,0 +1,8 @@
+package io.luminar.ledger.domain.hold;
+
+public enum HoldStatus {
+	ACTIVE,
+	CAPTURED,
+	VOIDED,
+	EXPIRED
+}
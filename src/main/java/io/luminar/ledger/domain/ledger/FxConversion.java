@@ -0,0 +1,41 @@
+package io.luminar.ledger.domain.ledger;
+
+import io.luminar.ledger.domain.common.DomainException;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+public final class FxConversion {
+	private final Money sold;
+	private final Money bought;
+
+	public FxConversion(Money sold, Money bought) {
+		if (sold == null) {
+			throw new DomainException("FxConversion.sold is required");
+		}
+		if (bought == null) {
+			throw new DomainException("FxConversion.bought is required");
+		}
+		if (sold.currency().equals(bought.currency())) {
+			throw new DomainException("FxConversion must convert between different currencies");
+		}
+		if (sold.micros() <= 0 || bought.micros() <= 0) {
+			throw new DomainException("FxConversion amounts must be positive");
+		}
+
+		this.sold = sold;
+		this.bought = bought;
+	}
+
+	public Money sold() {
+		return sold;
+	}
+
+	public Money bought() {
+		return bought;
+	}
+
+	public BigDecimal rate() {
+		return bought.amount().divide(sold.amount(), MathContext.DECIMAL64);
+	}
+}
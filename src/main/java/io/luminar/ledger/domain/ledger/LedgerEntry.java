@@ -3,8 +3,6 @@ package io.luminar.ledger.domain.ledger;
 import io.luminar.ledger.domain.account.AccountId;
 import io.luminar.ledger.domain.common.DomainException;
 
-import java.math.BigDecimal;
-
 public final class LedgerEntry {
 	private final AccountId accountId;
 	private final EntryType type;
@@ -20,7 +18,7 @@ public final class LedgerEntry {
 		if (amount == null) {
 			throw new DomainException("LedgerEntry.amount is required");
 		}
-		if (amount.amount().compareTo(BigDecimal.ZERO) <= 0) {
+		if (amount.micros() <= 0) {
 			throw new DomainException("LedgerEntry.amount must be positive");
 		}
 
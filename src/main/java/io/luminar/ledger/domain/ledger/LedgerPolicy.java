@@ -1,15 +1,18 @@
 package io.luminar.ledger.domain.ledger;
 
+import io.luminar.ledger.domain.account.Currency;
 import io.luminar.ledger.domain.common.DomainException;
 
-import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 public final class LedgerPolicy {
 	private LedgerPolicy() {
 	}
 
-	static void validateTransaction(List<LedgerEntry> entries) {
+	static void validateTransaction(List<LedgerEntry> entries, List<FxConversion> fxConversions) {
 		if (entries == null) {
 			throw new DomainException("LedgerTransaction.entries is required");
 		}
@@ -19,31 +22,73 @@ public final class LedgerPolicy {
 		if (entries.size() < 2) {
 			throw new DomainException("LedgerTransaction must have at least 2 entries");
 		}
-
-		LedgerEntry first = entries.getFirst();
-		if (first == null) {
-			throw new DomainException("LedgerTransaction.entries must not contain null");
+		if (fxConversions == null) {
+			throw new DomainException("LedgerTransaction.fxConversions is required");
 		}
 
-		BigDecimal debitTotal = BigDecimal.ZERO;
-		BigDecimal creditTotal = BigDecimal.ZERO;
-		var currency = first.amount().currency();
-
+		Map<Currency, long[]> totals = new LinkedHashMap<>(2);
 		for (LedgerEntry entry : entries) {
 			if (entry == null) {
 				throw new DomainException("LedgerTransaction.entries must not contain null");
 			}
-			if (!currency.equals(entry.amount().currency())) {
-				throw new DomainException("LedgerTransaction must be single-currency");
-			}
 
+			long[] total = totals.computeIfAbsent(entry.amount().currency(), currency -> new long[2]);
 			switch (entry.type()) {
-				case DEBIT -> debitTotal = debitTotal.add(entry.amount().amount());
-				case CREDIT -> creditTotal = creditTotal.add(entry.amount().amount());
+				case DEBIT -> total[0] = MoneyMicros.add(total[0], entry.amount().micros());
+				case CREDIT -> total[1] = MoneyMicros.add(total[1], entry.amount().micros());
+			}
+		}
+
+		boolean multiCurrency = totals.size() > 1;
+		for (Map.Entry<Currency, long[]> total : totals.entrySet()) {
+			if (total.getValue()[0] != total.getValue()[1]) {
+				throw new DomainException(multiCurrency
+						? "LedgerTransaction is not balanced in currency: " + total.getKey().code()
+						: "LedgerTransaction is not balanced");
+			}
+		}
+
+		validateFxConversions(totals, fxConversions);
+	}
+
+	private static void validateFxConversions(Map<Currency, long[]> totals, List<FxConversion> fxConversions) {
+		if (totals.size() == 1) {
+			if (!fxConversions.isEmpty()) {
+				throw new DomainException("FX conversions require a multi-currency transaction");
 			}
+			return;
+		}
+		if (fxConversions.isEmpty()) {
+			throw new DomainException("Multi-currency transaction requires FX conversion legs");
 		}
-		if (debitTotal.compareTo(creditTotal) != 0) {
-			throw new DomainException("LedgerTransaction is not balanced");
+
+		Map<Currency, long[]> converted = new HashMap<>(totals.size());
+		for (FxConversion conversion : fxConversions) {
+			if (conversion == null) {
+				throw new DomainException("LedgerTransaction.fxConversions must not contain null");
+			}
+			Currency sold = conversion.sold().currency();
+			Currency bought = conversion.bought().currency();
+			if (!totals.containsKey(sold) || !totals.containsKey(bought)) {
+				throw new DomainException("FX conversion currency is not posted by the transaction: "
+						+ (totals.containsKey(sold) ? bought.code() : sold.code()));
+			}
+			long[] soldTotal = converted.computeIfAbsent(sold, currency -> new long[2]);
+			soldTotal[0] = MoneyMicros.add(soldTotal[0], conversion.sold().micros());
+			long[] boughtTotal = converted.computeIfAbsent(bought, currency -> new long[2]);
+			boughtTotal[1] = MoneyMicros.add(boughtTotal[1], conversion.bought().micros());
+		}
+		for (Map.Entry<Currency, long[]> total : totals.entrySet()) {
+			long[] conversions = converted.get(total.getKey());
+			if (conversions == null) {
+				throw new DomainException("Multi-currency transaction has no FX conversion for currency: "
+						+ total.getKey().code());
+			}
+			long posted = total.getValue()[0];
+			if (conversions[0] > posted || conversions[1] > posted) {
+				throw new DomainException("FX conversion amounts exceed posted amount in currency: "
+						+ total.getKey().code());
+			}
 		}
 	}
 }
@@ -12,8 +12,14 @@ public final class LedgerTransaction {
 	private final Instant occurredAt;
 	private final ReferenceKey referenceKey;
 	private final List<LedgerEntry> entries;
+	private final List<FxConversion> fxConversions;
 
 	public LedgerTransaction(UUID id, Instant occurredAt, ReferenceKey referenceKey, List<LedgerEntry> entries) {
+		this(id, occurredAt, referenceKey, entries, List.of());
+	}
+
+	public LedgerTransaction(UUID id, Instant occurredAt, ReferenceKey referenceKey, List<LedgerEntry> entries,
+			List<FxConversion> fxConversions) {
 		if (id == null) {
 			throw new DomainException("LedgerTransaction.id is required");
 		}
@@ -26,14 +32,19 @@ public final class LedgerTransaction {
 		if (entries == null) {
 			throw new DomainException("LedgerTransaction.entries is required");
 		}
+		if (fxConversions == null) {
+			throw new DomainException("LedgerTransaction.fxConversions is required");
+		}
 
 		List<LedgerEntry> snapshot = List.copyOf(entries);
-		LedgerPolicy.validateTransaction(snapshot);
+		List<FxConversion> conversions = List.copyOf(fxConversions);
+		LedgerPolicy.validateTransaction(snapshot, conversions);
 
 		this.id = id;
 		this.occurredAt = occurredAt;
 		this.referenceKey = referenceKey;
 		this.entries = snapshot;
+		this.fxConversions = conversions;
 	}
 
 	public UUID id() {
@@ -51,4 +62,8 @@ public final class LedgerTransaction {
 	public List<LedgerEntry> entries() {
 		return entries;
 	}
+
+	public List<FxConversion> fxConversions() {
+		return fxConversions;
+	}
 }
@@ -4,48 +4,52 @@ import io.luminar.ledger.domain.account.Currency;
 import io.luminar.ledger.domain.common.DomainException;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.Objects;
 
 public final class Money {
 	private final Currency currency;
-	private final BigDecimal amount;
+	private final long micros;
 
 	public Money(Currency currency, BigDecimal amount) {
+		this(currency, MoneyMicros.fromBigDecimal(amount));
+	}
+
+	private Money(Currency currency, long micros) {
 		if (currency == null) {
 			throw new DomainException("Money.currency is required");
 		}
-		if (amount == null) {
-			throw new DomainException("Money.amount is required");
-		}
-
-		BigDecimal normalized = amount.stripTrailingZeros();
-		if (normalized.scale() < 0) {
-			normalized = normalized.setScale(0, RoundingMode.UNNECESSARY);
-		}
-		if (normalized.signum() < 0) {
+		if (micros < 0) {
 			throw new DomainException("Money.amount must be non-negative");
 		}
 
 		this.currency = currency;
-		this.amount = normalized;
+		this.micros = micros;
+	}
+
+	public static Money ofMicros(Currency currency, long micros) {
+		return new Money(currency, micros);
 	}
 
 	public static Money zero(Currency currency) {
-		return new Money(currency, BigDecimal.ZERO);
+		return new Money(currency, 0L);
 	}
 
 	public Currency currency() {
 		return currency;
 	}
 
+	public long micros() {
+		return micros;
+	}
+
 	public BigDecimal amount() {
-		return amount;
+		BigDecimal normalized = MoneyMicros.toBigDecimal(micros).stripTrailingZeros();
+		return normalized.scale() < 0 ? normalized.setScale(0) : normalized;
 	}
 
 	public Money plus(Money other) {
 		requireSameCurrency(other);
-		return new Money(currency, amount.add(other.amount));
+		return new Money(currency, MoneyMicros.add(micros, other.micros));
 	}
 
 	private void requireSameCurrency(Money other) {
@@ -65,11 +69,11 @@ public final class Money {
 		if (!(o instanceof Money money)) {
 			return false;
 		}
-		return Objects.equals(currency, money.currency) && amount.compareTo(money.amount) == 0;
+		return Objects.equals(currency, money.currency) && micros == money.micros;
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(currency, amount.stripTrailingZeros());
+		return Objects.hash(currency, micros);
 	}
 }
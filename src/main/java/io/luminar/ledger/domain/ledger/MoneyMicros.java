@@ -0,0 +1,77 @@
+package io.luminar.ledger.domain.ledger;
+
+import io.luminar.ledger.domain.common.DomainException;
+
+import java.math.BigDecimal;
+
+public final class MoneyMicros {
+	public static final int SCALE = 6;
+	public static final long UNIT = 1_000_000L;
+
+	private static final long[] POWERS_OF_TEN = { 1L, 10L, 100L, 1_000L, 10_000L, 100_000L };
+
+	private MoneyMicros() {
+	}
+
+	public static long fromBigDecimal(BigDecimal amount) {
+		if (amount == null) {
+			throw new DomainException("Money.amount is required");
+		}
+		if (amount.scale() > SCALE && amount.stripTrailingZeros().scale() > SCALE) {
+			throw new DomainException("Money.amount must have at most " + SCALE + " decimal places");
+		}
+		try {
+			return amount.movePointRight(SCALE).longValueExact();
+		} catch (ArithmeticException e) {
+			throw new DomainException("Money.amount is out of range", e);
+		}
+	}
+
+	public static BigDecimal toBigDecimal(long micros) {
+		return BigDecimal.valueOf(micros, SCALE);
+	}
+
+	public static long add(long a, long b) {
+		long result = a + b;
+		if (((a ^ result) & (b ^ result)) < 0) {
+			throw new DomainException("Money amount overflow");
+		}
+		return result;
+	}
+
+	public static long negate(long micros) {
+		if (micros == Long.MIN_VALUE) {
+			throw new DomainException("Money amount overflow");
+		}
+		return -micros;
+	}
+
+	public static String toPlainString(long micros) {
+		return appendPlain(new StringBuilder(24), micros).toString();
+	}
+
+	public static StringBuilder appendPlain(StringBuilder out, long micros) {
+		if (micros < 0) {
+			out.append('-');
+			if (micros == Long.MIN_VALUE) {
+				return out.append(toBigDecimal(micros).negate().stripTrailingZeros().toPlainString());
+			}
+			micros = -micros;
+		}
+		out.append(micros / UNIT);
+		long fraction = micros % UNIT;
+		if (fraction == 0) {
+			return out;
+		}
+		out.append('.');
+		int digits = SCALE;
+		while (fraction % 10 == 0) {
+			fraction /= 10;
+			digits--;
+		}
+		for (long threshold = POWERS_OF_TEN[digits - 1]; fraction < threshold; threshold /= 10) {
+			out.append('0');
+		}
+		return out.append(fraction);
+	}
+}
@@ -0,0 +1,21 @@
+package io.luminar.ledger.infrastructure.archive;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+
+public record ArchiveManifest(String period, Instant createdAt, List<Segment> segments) {
+	public record Segment(String table, String key, long rowCount, long byteSize, String sha256) {
+		public Segment {
+			Objects.requireNonNull(table, "ArchiveManifest.Segment.table is required");
+			Objects.requireNonNull(key, "ArchiveManifest.Segment.key is required");
+			Objects.requireNonNull(sha256, "ArchiveManifest.Segment.sha256 is required");
+		}
+	}
+
+	public ArchiveManifest {
+		Objects.requireNonNull(period, "ArchiveManifest.period is required");
+		Objects.requireNonNull(createdAt, "ArchiveManifest.createdAt is required");
+		segments = List.copyOf(Objects.requireNonNull(segments, "ArchiveManifest.segments is required"));
+	}
+}
@@ -0,0 +1,13 @@
+package io.luminar.ledger.infrastructure.archive;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+public interface ArchiveStorage {
+	void put(String key, Path content) throws IOException;
+
+	InputStream open(String key) throws IOException;
+
+	boolean exists(String key) throws IOException;
+}
@@ -0,0 +1,47 @@
+package io.luminar.ledger.infrastructure.archive;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+public record ArchivedEntry(
+		UUID id,
+		UUID transactionId,
+		UUID accountId,
+		String entryType,
+		BigDecimal amount,
+		Instant createdAt) {
+	public static final List<SegmentColumn> COLUMNS = List.of(
+			new SegmentColumn("id", SegmentColumn.Type.UUID),
+			new SegmentColumn("transaction_id", SegmentColumn.Type.UUID),
+			new SegmentColumn("account_id", SegmentColumn.Type.UUID),
+			new SegmentColumn("entry_type", SegmentColumn.Type.TEXT),
+			new SegmentColumn("amount", SegmentColumn.Type.DECIMAL),
+			new SegmentColumn("created_at", SegmentColumn.Type.TIMESTAMP));
+
+	public ArchivedEntry {
+		Objects.requireNonNull(id, "ArchivedEntry.id is required");
+		Objects.requireNonNull(transactionId, "ArchivedEntry.transactionId is required");
+		Objects.requireNonNull(accountId, "ArchivedEntry.accountId is required");
+		Objects.requireNonNull(entryType, "ArchivedEntry.entryType is required");
+		Objects.requireNonNull(amount, "ArchivedEntry.amount is required");
+		Objects.requireNonNull(createdAt, "ArchivedEntry.createdAt is required");
+	}
+
+	public Object[] toSegmentRow() {
+		return new Object[]{id, transactionId, accountId, entryType, amount, createdAt};
+	}
+
+	public static ArchivedEntry fromSegmentRow(Object[] row) {
+		Objects.requireNonNull(row, "row is required");
+		return new ArchivedEntry(
+				(UUID) row[0],
+				(UUID) row[1],
+				(UUID) row[2],
+				(String) row[3],
+				(BigDecimal) row[4],
+				(Instant) row[5]);
+	}
+}
@@ -0,0 +1,61 @@
+package io.luminar.ledger.infrastructure.archive;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+public record ArchivedLedgerEvent(
+		UUID eventId,
+		String aggregateType,
+		UUID aggregateId,
+		long sequenceNumber,
+		String eventType,
+		String referenceId,
+		String correlationId,
+		String payloadJson,
+		Instant occurredAt,
+		long globalSequence) {
+	public static final List<SegmentColumn> COLUMNS = List.of(
+			new SegmentColumn("event_id", SegmentColumn.Type.UUID),
+			new SegmentColumn("aggregate_type", SegmentColumn.Type.TEXT),
+			new SegmentColumn("aggregate_id", SegmentColumn.Type.UUID),
+			new SegmentColumn("sequence_number", SegmentColumn.Type.INT64),
+			new SegmentColumn("event_type", SegmentColumn.Type.TEXT),
+			new SegmentColumn("reference_id", SegmentColumn.Type.TEXT),
+			new SegmentColumn("correlation_id", SegmentColumn.Type.TEXT),
+			new SegmentColumn("payload", SegmentColumn.Type.TEXT),
+			new SegmentColumn("occurred_at", SegmentColumn.Type.TIMESTAMP),
+			new SegmentColumn("global_sequence", SegmentColumn.Type.INT64));
+
+	public ArchivedLedgerEvent {
+		Objects.requireNonNull(eventId, "ArchivedLedgerEvent.eventId is required");
+		Objects.requireNonNull(aggregateType, "ArchivedLedgerEvent.aggregateType is required");
+		Objects.requireNonNull(aggregateId, "ArchivedLedgerEvent.aggregateId is required");
+		Objects.requireNonNull(eventType, "ArchivedLedgerEvent.eventType is required");
+		Objects.requireNonNull(referenceId, "ArchivedLedgerEvent.referenceId is required");
+		Objects.requireNonNull(correlationId, "ArchivedLedgerEvent.correlationId is required");
+		Objects.requireNonNull(payloadJson, "ArchivedLedgerEvent.payloadJson is required");
+		Objects.requireNonNull(occurredAt, "ArchivedLedgerEvent.occurredAt is required");
+	}
+
+	public Object[] toSegmentRow() {
+		return new Object[]{eventId, aggregateType, aggregateId, sequenceNumber, eventType, referenceId, correlationId,
+				payloadJson, occurredAt, globalSequence};
+	}
+
+	public static ArchivedLedgerEvent fromSegmentRow(Object[] row) {
+		Objects.requireNonNull(row, "row is required");
+		return new ArchivedLedgerEvent(
+				(UUID) row[0],
+				(String) row[1],
+				(UUID) row[2],
+				(Long) row[3],
+				(String) row[4],
+				(String) row[5],
+				(String) row[6],
+				(String) row[7],
+				(Instant) row[8],
+				(Long) row[9]);
+	}
+}
@@ -0,0 +1,131 @@
+package io.luminar.ledger.infrastructure.archive;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+public final class ColumnarSegmentReader implements Closeable {
+	private static final int BUFFER_SIZE = 64 * 1024;
+	private static final SegmentColumn.Type[] TYPES = SegmentColumn.Type.values();
+
+	private final DataInputStream in;
+	private final String table;
+	private final List<SegmentColumn> columns;
+	private Object[][] block;
+	private int blockRows;
+	private int position;
+	private boolean exhausted;
+
+	public ColumnarSegmentReader(InputStream in) throws IOException {
+		Objects.requireNonNull(in, "in is required");
+		this.in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(in, BUFFER_SIZE), BUFFER_SIZE));
+
+		if (this.in.readInt() != ColumnarSegmentWriter.MAGIC) {
+			throw new IOException("Not a ledger archive segment");
+		}
+		int version = this.in.readInt();
+		if (version != ColumnarSegmentWriter.VERSION) {
+			throw new IOException("Unsupported ledger archive segment version: " + version);
+		}
+		this.table = this.in.readUTF();
+		int columnCount = this.in.readInt();
+		List<SegmentColumn> declared = new ArrayList<>(columnCount);
+		for (int c = 0; c < columnCount; c++) {
+			String name = this.in.readUTF();
+			int type = this.in.readUnsignedByte();
+			if (type >= TYPES.length) {
+				throw new IOException("Unknown segment column type " + type + " for column " + name);
+			}
+			declared.add(new SegmentColumn(name, TYPES[type]));
+		}
+		this.columns = List.copyOf(declared);
+	}
+
+	public String table() {
+		return table;
+	}
+
+	public List<SegmentColumn> columns() {
+		return columns;
+	}
+
+	public Object[] nextRow() throws IOException {
+		if (position == blockRows && !readBlock()) {
+			return null;
+		}
+		Object[] row = new Object[columns.size()];
+		for (int c = 0; c < row.length; c++) {
+			row[c] = block[c][position];
+		}
+		position++;
+		return row;
+	}
+
+	@Override
+	public void close() throws IOException {
+		in.close();
+	}
+
+	private boolean readBlock() throws IOException {
+		if (exhausted) {
+			return false;
+		}
+		int rows = in.readInt();
+		if (rows == 0) {
+			exhausted = true;
+			return false;
+		}
+		if (block == null || block[0].length < rows) {
+			block = new Object[columns.size()][rows];
+		}
+		for (int c = 0; c < columns.size(); c++) {
+			SegmentColumn.Type type = columns.get(c).type();
+			for (int r = 0; r < rows; r++) {
+				block[c][r] = readValue(type);
+			}
+		}
+		blockRows = rows;
+		position = 0;
+		return true;
+	}
+
+	private Object readValue(SegmentColumn.Type type) throws IOException {
+		return switch (type) {
+			case UUID -> new UUID(in.readLong(), in.readLong());
+			case INT64 -> in.readLong();
+			case TEXT -> new String(readBytes(), StandardCharsets.UTF_8);
+			case DECIMAL -> {
+				int scale = in.readInt();
+				yield new BigDecimal(new BigInteger(readBytes()), scale);
+			}
+			case TIMESTAMP -> {
+				long micros = in.readLong();
+				yield Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), Math.floorMod(micros, 1_000_000L) * 1_000L);
+			}
+		};
+	}
+
+	private byte[] readBytes() throws IOException {
+		int length = in.readInt();
+		if (length < 0) {
+			throw new IOException("Corrupt segment: negative value length");
+		}
+		byte[] bytes = in.readNBytes(length);
+		if (bytes.length != length) {
+			throw new EOFException("Corrupt segment: truncated value");
+		}
+		return bytes;
+	}
+}
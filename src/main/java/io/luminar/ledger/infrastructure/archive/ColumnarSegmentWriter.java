@@ -0,0 +1,121 @@
+package io.luminar.ledger.infrastructure.archive;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+public final class ColumnarSegmentWriter implements Closeable {
+	static final int MAGIC = 0x4C4C5347;
+	static final int VERSION = 1;
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private final DataOutputStream out;
+	private final List<SegmentColumn> columns;
+	private final Object[][] block;
+	private int buffered;
+	private long rowCount;
+
+	public ColumnarSegmentWriter(OutputStream out, String table, List<SegmentColumn> columns, int blockSize)
+			throws IOException {
+		Objects.requireNonNull(out, "out is required");
+		Objects.requireNonNull(table, "table is required");
+		this.columns = List.copyOf(Objects.requireNonNull(columns, "columns is required"));
+		if (this.columns.isEmpty()) {
+			throw new IllegalArgumentException("Segment requires at least one column");
+		}
+		this.block = new Object[this.columns.size()][Math.max(1, blockSize)];
+		this.out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(out, BUFFER_SIZE), BUFFER_SIZE));
+
+		this.out.writeInt(MAGIC);
+		this.out.writeInt(VERSION);
+		this.out.writeUTF(table);
+		this.out.writeInt(this.columns.size());
+		for (SegmentColumn column : this.columns) {
+			this.out.writeUTF(column.name());
+			this.out.writeByte(column.type().ordinal());
+		}
+	}
+
+	public void append(Object... values) throws IOException {
+		Objects.requireNonNull(values, "values is required");
+		if (values.length != columns.size()) {
+			throw new IllegalArgumentException("Expected " + columns.size() + " values but got " + values.length);
+		}
+		for (int c = 0; c < values.length; c++) {
+			block[c][buffered] = Objects.requireNonNull(values[c],
+					"Segment value is required for column " + columns.get(c).name());
+		}
+		buffered++;
+		rowCount++;
+		if (buffered == block[0].length) {
+			flushBlock();
+		}
+	}
+
+	public long rowCount() {
+		return rowCount;
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			flushBlock();
+			out.writeInt(0);
+		} finally {
+			out.close();
+		}
+	}
+
+	private void flushBlock() throws IOException {
+		if (buffered == 0) {
+			return;
+		}
+		out.writeInt(buffered);
+		for (int c = 0; c < columns.size(); c++) {
+			SegmentColumn.Type type = columns.get(c).type();
+			Object[] values = block[c];
+			for (int r = 0; r < buffered; r++) {
+				writeValue(type, values[r]);
+				values[r] = null;
+			}
+		}
+		buffered = 0;
+	}
+
+	private void writeValue(SegmentColumn.Type type, Object value) throws IOException {
+		switch (type) {
+			case UUID -> {
+				UUID uuid = (UUID) value;
+				out.writeLong(uuid.getMostSignificantBits());
+				out.writeLong(uuid.getLeastSignificantBits());
+			}
+			case INT64 -> out.writeLong(((Number) value).longValue());
+			case TEXT -> writeBytes(((String) value).getBytes(StandardCharsets.UTF_8));
+			case DECIMAL -> {
+				BigDecimal decimal = (BigDecimal) value;
+				out.writeInt(decimal.scale());
+				writeBytes(decimal.unscaledValue().toByteArray());
+			}
+			case TIMESTAMP -> {
+				Instant instant = (Instant) value;
+				out.writeLong(Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000L),
+						instant.getNano() / 1_000));
+			}
+		}
+	}
+
+	private void writeBytes(byte[] bytes) throws IOException {
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+}
@@ -0,0 +1,129 @@
+package io.luminar.ledger.infrastructure.archive;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+@Component
+public class LedgerArchiveReader {
+	private final LedgerArchiveRepository archiveRepository;
+	private final ArchiveStorage archiveStorage;
+	private final TransactionTemplate readTemplate;
+
+	public LedgerArchiveReader(
+			LedgerArchiveRepository archiveRepository,
+			ArchiveStorage archiveStorage,
+			PlatformTransactionManager transactionManager) {
+		this.archiveRepository = Objects.requireNonNull(archiveRepository, "archiveRepository is required");
+		this.archiveStorage = Objects.requireNonNull(archiveStorage, "archiveStorage is required");
+		this.readTemplate = new TransactionTemplate(Objects.requireNonNull(transactionManager,
+				"transactionManager is required"));
+		this.readTemplate.setReadOnly(true);
+	}
+
+	public void streamEvents(Instant fromInclusive, Instant toExclusive, Consumer<ArchivedLedgerEvent> consumer) {
+		stream(LedgerArchiveRepository.LEDGER_EVENTS, fromInclusive, toExclusive, consumer,
+				ArchivedLedgerEvent::fromSegmentRow, ArchivedLedgerEvent::occurredAt, archiveRepository::streamEvents);
+	}
+
+	public void streamEntries(Instant fromInclusive, Instant toExclusive, Consumer<ArchivedEntry> consumer) {
+		stream(LedgerArchiveRepository.TRANSACTION_ENTRIES, fromInclusive, toExclusive, consumer,
+				ArchivedEntry::fromSegmentRow, ArchivedEntry::createdAt, archiveRepository::streamEntries);
+	}
+
+	private <T> void stream(String table, Instant fromInclusive, Instant toExclusive, Consumer<T> consumer,
+			Function<Object[], T> decoder, Function<T, Instant> timestamp, HotScan<T> hotScan) {
+		Objects.requireNonNull(fromInclusive, "fromInclusive is required");
+		Objects.requireNonNull(toExclusive, "toExclusive is required");
+		Objects.requireNonNull(consumer, "consumer is required");
+		if (!fromInclusive.isBefore(toExclusive)) {
+			return;
+		}
+
+		YearMonth first = YearMonth.from(fromInclusive.atZone(ZoneOffset.UTC));
+		YearMonth last = YearMonth.from(toExclusive.minusNanos(1).atZone(ZoneOffset.UTC));
+		Map<LocalDate, LedgerArchiveRepository.SegmentRecord> segments = new HashMap<>();
+		for (LedgerArchiveRepository.SegmentRecord segment : archiveRepository.findSegments(first.atDay(1),
+				last.atDay(1))) {
+			if (table.equals(segment.table())) {
+				segments.put(segment.periodStart(), segment);
+			}
+		}
+
+		for (YearMonth month = first; !month.isAfter(last); month = month.plusMonths(1)) {
+			Instant monthFrom = max(fromInclusive, LedgerArchiver.periodStart(month));
+			Instant monthTo = min(toExclusive, LedgerArchiver.periodStart(month.plusMonths(1)));
+			LedgerArchiveRepository.SegmentRecord segment = segments.get(month.atDay(1));
+			if (segment == null) {
+				readTemplate.executeWithoutResult(status -> hotScan.scan(monthFrom, monthTo, consumer));
+				continue;
+			}
+			readSegment(segment, row -> {
+				T value = decoder.apply(row);
+				Instant at = timestamp.apply(value);
+				if (!at.isBefore(monthFrom) && at.isBefore(monthTo)) {
+					consumer.accept(value);
+				}
+			});
+		}
+	}
+
+	private void readSegment(LedgerArchiveRepository.SegmentRecord segment, Consumer<Object[]> rows) {
+		try {
+			verifyChecksum(segment);
+			try (ColumnarSegmentReader reader = new ColumnarSegmentReader(archiveStorage.open(segment.storageKey()))) {
+				if (!segment.table().equals(reader.table())) {
+					throw new IllegalStateException("Archive segment " + segment.storageKey() + " holds table "
+							+ reader.table() + " but catalog expects " + segment.table());
+				}
+				for (Object[] row = reader.nextRow(); row != null; row = reader.nextRow()) {
+					rows.accept(row);
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to read archive segment " + segment.storageKey(), e);
+		}
+	}
+
+	private void verifyChecksum(LedgerArchiveRepository.SegmentRecord segment) throws IOException {
+		MessageDigest digest = LedgerArchiver.sha256();
+		try (InputStream in = new DigestInputStream(archiveStorage.open(segment.storageKey()), digest)) {
+			in.transferTo(OutputStream.nullOutputStream());
+		}
+		String actual = HexFormat.of().formatHex(digest.digest());
+		if (!actual.equalsIgnoreCase(segment.sha256())) {
+			throw new IllegalStateException("Archive segment checksum mismatch for " + segment.storageKey()
+					+ ": expected " + segment.sha256() + " but was " + actual);
+		}
+	}
+
+	private static Instant max(Instant a, Instant b) {
+		return a.isAfter(b) ? a : b;
+	}
+
+	private static Instant min(Instant a, Instant b) {
+		return a.isBefore(b) ? a : b;
+	}
+
+	@FunctionalInterface
+	private interface HotScan<T> {
+		void scan(Instant fromInclusive, Instant toExclusive, Consumer<T> consumer);
+	}
+}
@@ -0,0 +1,142 @@
+package io.luminar.ledger.infrastructure.archive;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+@Repository
+public class LedgerArchiveRepository {
+	public static final String LEDGER_EVENTS = "ledger_events";
+	public static final String TRANSACTION_ENTRIES = "transaction_entries";
+
+	private static final String FIND_OLDEST =
+			"select least((select min(occurred_at) from ledger_events where occurred_at >= ?), " +
+					"(select min(created_at) from transaction_entries where created_at >= ?))";
+	private static final String STREAM_EVENTS =
+			"select event_id, aggregate_type, aggregate_id, sequence_number, event_type, reference_id, " +
+					"correlation_id, payload::text, occurred_at, global_sequence from ledger_events " +
+					"where occurred_at >= ? and occurred_at < ? order by global_sequence";
+	private static final String STREAM_ENTRIES =
+			"select id, transaction_id, account_id, entry_type::text, amount, created_at from transaction_entries " +
+					"where created_at >= ? and created_at < ? order by created_at, id";
+	private static final String FIND_SEGMENTS =
+			"select period_start, table_name, storage_key, sha256, row_count, byte_size from ledger_archive_segments " +
+					"where period_start between ? and ? order by period_start, table_name";
+	private static final String UPSERT_SEGMENT =
+			"insert into ledger_archive_segments (period_start, table_name, storage_key, sha256, row_count, byte_size) " +
+					"values (?, ?, ?, ?, ?, ?) " +
+					"on conflict (period_start, table_name) do update set " +
+					"storage_key = excluded.storage_key, sha256 = excluded.sha256, row_count = excluded.row_count, " +
+					"byte_size = excluded.byte_size, archived_at = now()";
+
+	private static final int FETCH_SIZE = 1000;
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public LedgerArchiveRepository(DataSource dataSource) {
+		this.jdbcTemplate = new JdbcTemplate(Objects.requireNonNull(dataSource, "dataSource is required"));
+		this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+	}
+
+	public Instant findOldestRecordedAtOrAfter(Instant from) {
+		Objects.requireNonNull(from, "from is required");
+		OffsetDateTime bound = OffsetDateTime.ofInstant(from, ZoneOffset.UTC);
+		OffsetDateTime oldest = jdbcTemplate.query(FIND_OLDEST, ps -> {
+			ps.setObject(1, bound);
+			ps.setObject(2, bound);
+		}, rs -> rs.next() ? rs.getObject(1, OffsetDateTime.class) : null);
+		return oldest == null ? null : oldest.toInstant();
+	}
+
+	public void streamEvents(Instant fromInclusive, Instant toExclusive, Consumer<ArchivedLedgerEvent> consumer) {
+		Objects.requireNonNull(consumer, "consumer is required");
+		jdbcTemplate.query(STREAM_EVENTS, rangeScan(fromInclusive, toExclusive), rs -> {
+			consumer.accept(new ArchivedLedgerEvent(
+					rs.getObject(1, UUID.class),
+					rs.getString(2),
+					rs.getObject(3, UUID.class),
+					rs.getLong(4),
+					rs.getString(5),
+					rs.getString(6),
+					rs.getString(7),
+					rs.getString(8),
+					rs.getObject(9, OffsetDateTime.class).toInstant(),
+					rs.getLong(10)));
+		});
+	}
+
+	public void streamEntries(Instant fromInclusive, Instant toExclusive, Consumer<ArchivedEntry> consumer) {
+		Objects.requireNonNull(consumer, "consumer is required");
+		jdbcTemplate.query(STREAM_ENTRIES, rangeScan(fromInclusive, toExclusive), rs -> {
+			consumer.accept(new ArchivedEntry(
+					rs.getObject(1, UUID.class),
+					rs.getObject(2, UUID.class),
+					rs.getObject(3, UUID.class),
+					rs.getString(4),
+					rs.getBigDecimal(5),
+					rs.getObject(6, OffsetDateTime.class).toInstant()));
+		});
+	}
+
+	public List<SegmentRecord> findSegments(LocalDate fromPeriod, LocalDate toPeriod) {
+		Objects.requireNonNull(fromPeriod, "fromPeriod is required");
+		Objects.requireNonNull(toPeriod, "toPeriod is required");
+		return jdbcTemplate.query(FIND_SEGMENTS, ps -> {
+			ps.setDate(1, Date.valueOf(fromPeriod));
+			ps.setDate(2, Date.valueOf(toPeriod));
+		}, (rs, rowNum) -> new SegmentRecord(
+				rs.getDate(1).toLocalDate(),
+				rs.getString(2),
+				rs.getString(3),
+				rs.getString(4),
+				rs.getLong(5),
+				rs.getLong(6)));
+	}
+
+	public void upsertSegment(SegmentRecord segment) {
+		Objects.requireNonNull(segment, "segment is required");
+		jdbcTemplate.update(UPSERT_SEGMENT, ps -> {
+			ps.setDate(1, Date.valueOf(segment.periodStart()));
+			ps.setString(2, segment.table());
+			ps.setString(3, segment.storageKey());
+			ps.setString(4, segment.sha256());
+			ps.setLong(5, segment.rowCount());
+			ps.setLong(6, segment.byteSize());
+		});
+	}
+
+	private static PreparedStatementSetter rangeScan(Instant fromInclusive, Instant toExclusive) {
+		Objects.requireNonNull(fromInclusive, "fromInclusive is required");
+		Objects.requireNonNull(toExclusive, "toExclusive is required");
+		return ps -> {
+			ps.setObject(1, OffsetDateTime.ofInstant(fromInclusive, ZoneOffset.UTC));
+			ps.setObject(2, OffsetDateTime.ofInstant(toExclusive, ZoneOffset.UTC));
+		};
+	}
+
+	public record SegmentRecord(
+			LocalDate periodStart,
+			String table,
+			String storageKey,
+			String sha256,
+			long rowCount,
+			long byteSize) {
+		public SegmentRecord {
+			Objects.requireNonNull(periodStart, "SegmentRecord.periodStart is required");
+			Objects.requireNonNull(table, "SegmentRecord.table is required");
+			Objects.requireNonNull(storageKey, "SegmentRecord.storageKey is required");
+			Objects.requireNonNull(sha256, "SegmentRecord.sha256 is required");
+		}
+	}
+}
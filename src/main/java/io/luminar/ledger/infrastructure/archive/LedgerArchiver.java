@@ -0,0 +1,196 @@
+package io.luminar.ledger.infrastructure.archive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+@Component
+public class LedgerArchiver {
+	private static final Logger log = LoggerFactory.getLogger(LedgerArchiver.class);
+	private static final String KEY_PREFIX = "ledger/";
+	private static final int SEGMENTS_PER_PERIOD = 2;
+
+	private final LedgerArchiveRepository archiveRepository;
+	private final ArchiveStorage archiveStorage;
+	private final ObjectMapper objectMapper;
+	private final TransactionTemplate readTemplate;
+	private final TransactionTemplate writeTemplate;
+	private final AtomicBoolean running;
+	private final boolean enabled;
+	private final int retentionMonths;
+	private final int blockSize;
+
+	public LedgerArchiver(
+			LedgerArchiveRepository archiveRepository,
+			ArchiveStorage archiveStorage,
+			ObjectMapper objectMapper,
+			PlatformTransactionManager transactionManager,
+			@Value("${ledger.archive.enabled:false}") boolean enabled,
+			@Value("${ledger.archive.retention-months:12}") int retentionMonths,
+			@Value("${ledger.archive.block-size:4096}") int blockSize) {
+		this.archiveRepository = Objects.requireNonNull(archiveRepository, "archiveRepository is required");
+		this.archiveStorage = Objects.requireNonNull(archiveStorage, "archiveStorage is required");
+		this.objectMapper = Objects.requireNonNull(objectMapper, "objectMapper is required");
+		Objects.requireNonNull(transactionManager, "transactionManager is required");
+		this.readTemplate = new TransactionTemplate(transactionManager);
+		this.readTemplate.setReadOnly(true);
+		this.readTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+		this.writeTemplate = new TransactionTemplate(transactionManager);
+		this.running = new AtomicBoolean(false);
+		this.enabled = enabled;
+		this.retentionMonths = Math.max(0, retentionMonths);
+		this.blockSize = Math.max(1, blockSize);
+	}
+
+	@Scheduled(fixedDelayString = "${ledger.archive.fixed-delay-ms:3600000}")
+	public void tick() {
+		if (!enabled || !running.compareAndSet(false, true)) {
+			return;
+		}
+
+		try {
+			YearMonth archived = archiveOnce();
+			if (archived != null) {
+				log.info("Archived ledger month {}", archived);
+			}
+		} catch (RuntimeException e) {
+			log.error("Ledger archiver failed. Month will be retried.", e);
+		} finally {
+			running.set(false);
+		}
+	}
+
+	public YearMonth archiveOnce() {
+		YearMonth cutoff = YearMonth.now(ZoneOffset.UTC).minusMonths(retentionMonths);
+		Instant cursor = Instant.EPOCH;
+		while (true) {
+			Instant searchFrom = cursor;
+			Instant oldest = readTemplate.execute(status -> archiveRepository.findOldestRecordedAtOrAfter(searchFrom));
+			if (oldest == null) {
+				return null;
+			}
+			YearMonth month = YearMonth.from(oldest.atZone(ZoneOffset.UTC));
+			if (!month.isBefore(cutoff)) {
+				return null;
+			}
+			if (archiveRepository.findSegments(month.atDay(1), month.atDay(1)).size() < SEGMENTS_PER_PERIOD) {
+				archiveMonth(month);
+				return month;
+			}
+			cursor = periodStart(month.plusMonths(1));
+		}
+	}
+
+	public ArchiveManifest archiveMonth(YearMonth period) {
+		Objects.requireNonNull(period, "period is required");
+		if (!period.isBefore(YearMonth.now(ZoneOffset.UTC))) {
+			throw new IllegalArgumentException("Only closed months can be archived: " + period);
+		}
+
+		Instant from = periodStart(period);
+		Instant to = periodStart(period.plusMonths(1));
+		String prefix = KEY_PREFIX + period + "/";
+		try {
+			ArchiveManifest.Segment events = writeSegment(prefix + LedgerArchiveRepository.LEDGER_EVENTS + ".seg.gz",
+					LedgerArchiveRepository.LEDGER_EVENTS, ArchivedLedgerEvent.COLUMNS,
+					sink -> archiveRepository.streamEvents(from, to, event -> sink.accept(event.toSegmentRow())));
+			ArchiveManifest.Segment entries = writeSegment(
+					prefix + LedgerArchiveRepository.TRANSACTION_ENTRIES + ".seg.gz",
+					LedgerArchiveRepository.TRANSACTION_ENTRIES, ArchivedEntry.COLUMNS,
+					sink -> archiveRepository.streamEntries(from, to, entry -> sink.accept(entry.toSegmentRow())));
+
+			ArchiveManifest manifest = new ArchiveManifest(period.toString(), Instant.now(), List.of(events, entries));
+			writeManifest(prefix + "manifest.json", manifest);
+
+			writeTemplate.executeWithoutResult(status -> {
+				for (ArchiveManifest.Segment segment : manifest.segments()) {
+					archiveRepository.upsertSegment(new LedgerArchiveRepository.SegmentRecord(
+							period.atDay(1),
+							segment.table(),
+							segment.key(),
+							segment.sha256(),
+							segment.rowCount(),
+							segment.byteSize()));
+				}
+			});
+			return manifest;
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to archive ledger month " + period, e);
+		}
+	}
+
+	static Instant periodStart(YearMonth period) {
+		return period.atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+	}
+
+	private ArchiveManifest.Segment writeSegment(String key, String table, List<SegmentColumn> columns,
+			Consumer<Consumer<Object[]>> rows) throws IOException {
+		Path staging = Files.createTempFile("ledger-archive-", ".seg.gz");
+		try {
+			MessageDigest digest = sha256();
+			ColumnarSegmentWriter writer;
+			try (OutputStream file = Files.newOutputStream(staging);
+					DigestOutputStream digestOut = new DigestOutputStream(file, digest)) {
+				writer = new ColumnarSegmentWriter(digestOut, table, columns, blockSize);
+				try (writer) {
+					readTemplate.executeWithoutResult(status -> rows.accept(row -> {
+						try {
+							writer.append(row);
+						} catch (IOException e) {
+							throw new UncheckedIOException(e);
+						}
+					}));
+				}
+			} catch (UncheckedIOException e) {
+				throw e.getCause();
+			}
+
+			archiveStorage.put(key, staging);
+			return new ArchiveManifest.Segment(table, key, writer.rowCount(), Files.size(staging),
+					HexFormat.of().formatHex(digest.digest()));
+		} finally {
+			Files.deleteIfExists(staging);
+		}
+	}
+
+	private void writeManifest(String key, ArchiveManifest manifest) throws IOException {
+		Path staging = Files.createTempFile("ledger-archive-", ".json");
+		try {
+			objectMapper.writerWithDefaultPrettyPrinter().writeValue(staging.toFile(), manifest);
+			archiveStorage.put(key, staging);
+		} finally {
+			Files.deleteIfExists(staging);
+		}
+	}
+
+	static MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+	}
+}
@@ -0,0 +1,55 @@
+package io.luminar.ledger.infrastructure.archive;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Objects;
+
+@Component
+public class LocalFileArchiveStorage implements ArchiveStorage {
+	private final Path root;
+
+	public LocalFileArchiveStorage(@Value("${ledger.archive.directory:ledger-archive}") String directory) {
+		this.root = Path.of(Objects.requireNonNull(directory, "LocalFileArchiveStorage.directory is required"))
+				.toAbsolutePath()
+				.normalize();
+	}
+
+	@Override
+	public void put(String key, Path content) throws IOException {
+		Objects.requireNonNull(content, "content is required");
+		Path target = resolve(key);
+		Files.createDirectories(target.getParent());
+		Path staging = Files.createTempFile(target.getParent(), ".staging-", ".tmp");
+		try {
+			Files.copy(content, staging, StandardCopyOption.REPLACE_EXISTING);
+			Files.move(staging, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(staging);
+		}
+	}
+
+	@Override
+	public InputStream open(String key) throws IOException {
+		return Files.newInputStream(resolve(key));
+	}
+
+	@Override
+	public boolean exists(String key) {
+		return Files.isRegularFile(resolve(key));
+	}
+
+	private Path resolve(String key) {
+		Objects.requireNonNull(key, "key is required");
+		Path resolved = root.resolve(key).normalize();
+		if (!resolved.startsWith(root) || resolved.equals(root)) {
+			throw new IllegalArgumentException("Archive key escapes storage root: " + key);
+		}
+		return resolved;
+	}
+}
@@ -0,0 +1,18 @@
+package io.luminar.ledger.infrastructure.archive;
+
+import java.util.Objects;
+
+public record SegmentColumn(String name, Type type) {
+	public enum Type {
+		UUID,
+		INT64,
+		TEXT,
+		DECIMAL,
+		TIMESTAMP
+	}
+
+	public SegmentColumn {
+		Objects.requireNonNull(name, "SegmentColumn.name is required");
+		Objects.requireNonNull(type, "SegmentColumn.type is required");
+	}
+}
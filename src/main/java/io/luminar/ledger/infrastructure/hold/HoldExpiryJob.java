@@ -0,0 +1,79 @@
+package io.luminar.ledger.infrastructure.hold;
+
+import io.luminar.ledger.infrastructure.persistence.hold.AccountHoldRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+public class HoldExpiryJob {
+	private static final Logger log = LoggerFactory.getLogger(HoldExpiryJob.class);
+
+	private final AccountHoldRepository accountHoldRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final AtomicBoolean running;
+	private final boolean enabled;
+	private final int batchSize;
+	private final int maxBatchesPerRun;
+	private final Counter expired;
+
+	public HoldExpiryJob(
+			AccountHoldRepository accountHoldRepository,
+			PlatformTransactionManager transactionManager,
+			MeterRegistry meterRegistry,
+			@Value("${ledger.holds.expiry.enabled:false}") boolean enabled,
+			@Value("${ledger.holds.expiry.batch-size:1000}") int batchSize,
+			@Value("${ledger.holds.expiry.max-batches-per-run:50}") int maxBatchesPerRun) {
+		this.accountHoldRepository = Objects.requireNonNull(accountHoldRepository,
+				"accountHoldRepository is required");
+		this.transactionTemplate = new TransactionTemplate(Objects.requireNonNull(transactionManager,
+				"transactionManager is required"));
+		this.running = new AtomicBoolean(false);
+		this.enabled = enabled;
+		this.batchSize = Math.max(1, batchSize);
+		this.maxBatchesPerRun = Math.max(1, maxBatchesPerRun);
+		this.expired = Objects.requireNonNull(meterRegistry, "meterRegistry is required")
+				.counter("ledger.holds.expired");
+	}
+
+	@Scheduled(fixedDelayString = "${ledger.holds.expiry.fixed-delay-ms:30000}")
+	public void tick() {
+		if (!enabled || !running.compareAndSet(false, true)) {
+			return;
+		}
+
+		try {
+			int count = expireOnce();
+			if (count > 0) {
+				log.debug("Expired {} account holds", count);
+			}
+		} catch (RuntimeException e) {
+			log.error("Hold expiry failed. Holds will be retried.", e);
+		} finally {
+			running.set(false);
+		}
+	}
+
+	public int expireOnce() {
+		int total = 0;
+		for (int i = 0; i < maxBatchesPerRun; i++) {
+			Integer updated = transactionTemplate.execute(status -> accountHoldRepository.expireDue(batchSize));
+			int count = updated == null ? 0 : updated;
+			total += count;
+			if (count < batchSize) {
+				break;
+			}
+		}
+		expired.increment(total);
+		return total;
+	}
+}
@@ -0,0 +1,36 @@
+package io.luminar.ledger.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("io.luminar.ledger.CacheLookup")
+@Label("Cache Lookup")
+@Category({ "Luminar Ledger", "Cache" })
+@StackTrace(false)
+public final class CacheLookupEvent extends Event {
+	@Label("Cache")
+	String cache;
+
+	@Label("Keys")
+	int keys;
+
+	@Label("Hits")
+	int hits;
+
+	@Label("Failed")
+	boolean failed;
+
+	public void finish(String cache, int keys, int hits, boolean failed) {
+		end();
+		if (shouldCommit()) {
+			this.cache = cache;
+			this.keys = keys;
+			this.hits = hits;
+			this.failed = failed;
+			commit();
+		}
+	}
+}
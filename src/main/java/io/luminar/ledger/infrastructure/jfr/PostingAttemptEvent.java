@@ -0,0 +1,76 @@
+package io.luminar.ledger.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import java.util.Objects;
+
+@Name("io.luminar.ledger.PostingAttempt")
+@Label("Posting Attempt")
+@Category({ "Luminar Ledger", "Posting" })
+@StackTrace(false)
+public final class PostingAttemptEvent extends Event {
+	public static final String POSTED = "POSTED";
+	public static final String SERIALIZATION_FAILURE = "SERIALIZATION_FAILURE";
+	public static final String FAILED = "FAILED";
+
+	private static final ThreadLocal<PostingAttemptEvent> CURRENT = new ThreadLocal<>();
+
+	@Label("Reference Key Hash")
+	int referenceKeyHash;
+
+	@Label("Leg Count")
+	int legCount;
+
+	@Label("Attempt")
+	int attempt;
+
+	@Label("Lock Wait")
+	@Timespan(Timespan.NANOSECONDS)
+	long lockWait;
+
+	@Label("Outcome")
+	String outcome;
+
+	public static PostingAttemptEvent start(String referenceKey, int legCount, int attempt) {
+		PostingAttemptEvent event = new PostingAttemptEvent();
+		if (!event.isEnabled()) {
+			return event;
+		}
+		event.referenceKeyHash = Objects.requireNonNull(referenceKey, "referenceKey is required").hashCode();
+		event.legCount = legCount;
+		event.attempt = attempt;
+		CURRENT.set(event);
+		event.begin();
+		return event;
+	}
+
+	public static boolean inProgress() {
+		return CURRENT.get() != null;
+	}
+
+	public static void addLockWait(long nanos) {
+		PostingAttemptEvent current = CURRENT.get();
+		if (current != null) {
+			current.lockWait += nanos;
+		}
+	}
+
+	public void finish(String outcome) {
+		if (CURRENT.get() == this) {
+			CURRENT.remove();
+		}
+		if (!isEnabled()) {
+			return;
+		}
+		end();
+		if (shouldCommit()) {
+			this.outcome = outcome;
+			commit();
+		}
+	}
+}
@@ -0,0 +1,46 @@
+package io.luminar.ledger.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@Name("io.luminar.ledger.ProjectionBatch")
+@Label("Projection Batch")
+@Category({ "Luminar Ledger", "Projection" })
+@StackTrace(false)
+public final class ProjectionBatchEvent extends Event {
+	@Label("Projection")
+	String projection;
+
+	@Label("Batch Size")
+	int size;
+
+	@Label("From Sequence")
+	long fromSequence;
+
+	@Label("To Sequence")
+	long toSequence;
+
+	@Label("Lag")
+	@Timespan(Timespan.MILLISECONDS)
+	long lag;
+
+	public void finish(String projection, int size, long fromSequence, long toSequence, Instant oldestOccurredAt) {
+		end();
+		if (size > 0 && shouldCommit()) {
+			this.projection = projection;
+			this.size = size;
+			this.fromSequence = fromSequence;
+			this.toSequence = toSequence;
+			this.lag = oldestOccurredAt == null ? 0L
+					: Math.max(0L, Duration.between(oldestOccurredAt, Instant.now()).toMillis());
+			commit();
+		}
+	}
+}
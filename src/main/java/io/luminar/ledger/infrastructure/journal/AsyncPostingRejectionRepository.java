@@ -0,0 +1,61 @@
+package io.luminar.ledger.infrastructure.journal;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Objects;
+import java.util.Optional;
+
+@Repository
+public class AsyncPostingRejectionRepository {
+	private static final String UPSERT =
+			"insert into async_posting_rejections (reference_key, journal_position, error_code, error_message, rejected_at) " +
+					"values (?, ?, ?, ?, ?) " +
+					"on conflict (reference_key) do update set journal_position = excluded.journal_position, " +
+					"error_code = excluded.error_code, error_message = excluded.error_message, " +
+					"rejected_at = excluded.rejected_at";
+	private static final String FIND =
+			"select reference_key, journal_position, error_code, error_message, rejected_at " +
+					"from async_posting_rejections where reference_key = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public AsyncPostingRejectionRepository(DataSource dataSource) {
+		this.jdbcTemplate = new JdbcTemplate(Objects.requireNonNull(dataSource, "dataSource is required"));
+	}
+
+	public void record(Rejection rejection) {
+		Objects.requireNonNull(rejection, "rejection is required");
+		jdbcTemplate.update(UPSERT, ps -> {
+			ps.setString(1, rejection.referenceKey());
+			ps.setLong(2, rejection.journalPosition());
+			ps.setString(3, rejection.errorCode());
+			ps.setString(4, rejection.errorMessage());
+			ps.setObject(5, OffsetDateTime.ofInstant(rejection.rejectedAt(), ZoneOffset.UTC));
+		});
+	}
+
+	public Optional<Rejection> find(String referenceKey) {
+		Objects.requireNonNull(referenceKey, "referenceKey is required");
+		return jdbcTemplate.query(FIND, (rs, rowNum) -> new Rejection(
+				rs.getString(1),
+				rs.getLong(2),
+				rs.getString(3),
+				rs.getString(4),
+				rs.getObject(5, OffsetDateTime.class).toInstant()), referenceKey).stream().findFirst();
+	}
+
+	public record Rejection(String referenceKey, long journalPosition, String errorCode, String errorMessage,
+			Instant rejectedAt) {
+		public Rejection {
+			Objects.requireNonNull(referenceKey, "Rejection.referenceKey is required");
+			Objects.requireNonNull(errorCode, "Rejection.errorCode is required");
+			Objects.requireNonNull(errorMessage, "Rejection.errorMessage is required");
+			Objects.requireNonNull(rejectedAt, "Rejection.rejectedAt is required");
+		}
+	}
+}
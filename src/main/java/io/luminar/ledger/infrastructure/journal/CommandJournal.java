@@ -0,0 +1,365 @@
+package io.luminar.ledger.infrastructure.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+public final class CommandJournal implements Closeable {
+	private static final Pattern SEGMENT_NAME = Pattern.compile("(\\d{20})\\.journal");
+	private static final String APPLIED_FILE = "applied.position";
+	private static final int HEADER_BYTES = 8;
+	private static final int END_OF_SEGMENT = -1;
+	private static final int MIN_SEGMENT_BYTES = 4096;
+	private static final int ZERO_CHUNK_BYTES = 8192;
+
+	private final Path directory;
+	private final int segmentBytes;
+	private final long groupCommitDelayNanos;
+	private final ConcurrentSkipListMap<Long, Segment> segments;
+	private final FileChannel appliedChannel;
+	private final Object appendLock;
+	private final Object flushLock;
+	private final AtomicLong fsyncs;
+	private volatile long writePosition;
+	private volatile long durablePosition;
+	private volatile long appliedPosition;
+	private volatile boolean closed;
+
+	private CommandJournal(Path directory, int segmentBytes, long groupCommitDelayNanos) throws IOException {
+		this.directory = directory;
+		this.segmentBytes = segmentBytes;
+		this.groupCommitDelayNanos = groupCommitDelayNanos;
+		this.segments = new ConcurrentSkipListMap<>();
+		this.appendLock = new Object();
+		this.flushLock = new Object();
+		this.fsyncs = new AtomicLong();
+		this.appliedChannel = FileChannel.open(directory.resolve(APPLIED_FILE), StandardOpenOption.CREATE,
+				StandardOpenOption.READ, StandardOpenOption.WRITE);
+	}
+
+	public static CommandJournal open(Path directory, int segmentBytes, long groupCommitDelayNanos) {
+		Objects.requireNonNull(directory, "CommandJournal.directory is required");
+		if (segmentBytes < MIN_SEGMENT_BYTES) {
+			throw new IllegalArgumentException("CommandJournal.segmentBytes must be at least " + MIN_SEGMENT_BYTES);
+		}
+		try {
+			Files.createDirectories(directory);
+			CommandJournal journal = new CommandJournal(directory.toAbsolutePath().normalize(), segmentBytes,
+					Math.max(0L, groupCommitDelayNanos));
+			try {
+				journal.recover();
+			} catch (IOException | RuntimeException e) {
+				journal.close();
+				throw e;
+			}
+			return journal;
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to open command journal at " + directory, e);
+		}
+	}
+
+	public long append(byte[] payload) {
+		Objects.requireNonNull(payload, "payload is required");
+		if (payload.length == 0 || payload.length > segmentBytes - 2 * HEADER_BYTES) {
+			throw new IllegalArgumentException("Journal record must be 1.." + (segmentBytes - 2 * HEADER_BYTES)
+					+ " bytes: " + payload.length);
+		}
+
+		synchronized (appendLock) {
+			ensureOpen();
+			Segment segment = segments.lastEntry().getValue();
+			int offset = (int) (writePosition - segment.start);
+			if (offset + HEADER_BYTES + payload.length > segment.capacity) {
+				if (offset + HEADER_BYTES <= segment.capacity) {
+					segment.buffer.putInt(offset, END_OF_SEGMENT);
+				}
+				segment = createSegment(segment.start + segment.capacity);
+				offset = 0;
+			}
+
+			CRC32C crc = new CRC32C();
+			crc.update(payload);
+			segment.buffer.put(offset + HEADER_BYTES, payload);
+			segment.buffer.putInt(offset + 4, (int) crc.getValue());
+			segment.buffer.putInt(offset, payload.length);
+
+			long position = segment.start + offset;
+			writePosition = position + HEADER_BYTES + payload.length;
+			return position;
+		}
+	}
+
+	public void awaitDurable(long position) {
+		if (durablePosition > position) {
+			return;
+		}
+		synchronized (flushLock) {
+			if (durablePosition > position) {
+				return;
+			}
+			if (groupCommitDelayNanos > 0) {
+				LockSupport.parkNanos(groupCommitDelayNanos);
+			}
+
+			long target = writePosition;
+			long from = durablePosition;
+			for (Segment segment : segments.subMap(segments.floorKey(from), true, target, false).values()) {
+				int start = (int) Math.max(0, from - segment.start);
+				int end = (int) Math.min(segment.capacity, target - segment.start);
+				if (end > start) {
+					segment.buffer.force(start, end - start);
+				}
+			}
+			fsyncs.incrementAndGet();
+			durablePosition = target;
+		}
+	}
+
+	public List<Entry> read(long fromPosition, int maxEntries) {
+		List<Entry> entries = new ArrayList<>(Math.min(Math.max(0, maxEntries), 1024));
+		long position = fromPosition;
+		long limit = durablePosition;
+		while (entries.size() < maxEntries && position < limit) {
+			Map.Entry<Long, Segment> floor = segments.floorEntry(position);
+			if (floor == null) {
+				throw new IllegalStateException("Journal position " + position + " precedes retained segments");
+			}
+			Segment segment = floor.getValue();
+			int offset = (int) (position - segment.start);
+			int length = offset + HEADER_BYTES <= segment.capacity ? segment.buffer.getInt(offset) : END_OF_SEGMENT;
+			if (length <= 0) {
+				position = segment.start + segment.capacity;
+				continue;
+			}
+
+			byte[] payload = new byte[length];
+			segment.buffer.get(offset + HEADER_BYTES, payload);
+			long next = position + HEADER_BYTES + length;
+			entries.add(new Entry(position, next, payload));
+			position = next;
+		}
+		return entries;
+	}
+
+	public void markApplied(long position) {
+		if (position < appliedPosition || position > durablePosition) {
+			throw new IllegalArgumentException("Applied position " + position + " is outside ["
+					+ appliedPosition + ", " + durablePosition + "]");
+		}
+		ByteBuffer record = ByteBuffer.allocate(12);
+		record.putLong(0, position);
+		record.putInt(8, checksum(position));
+		try {
+			appliedChannel.write(record, 0);
+			appliedChannel.force(false);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to persist journal applied position", e);
+		}
+		appliedPosition = position;
+		releaseSegmentsBefore(position);
+	}
+
+	public long appliedPosition() {
+		return appliedPosition;
+	}
+
+	public long durablePosition() {
+		return durablePosition;
+	}
+
+	public long fsyncCount() {
+		return fsyncs.get();
+	}
+
+	public int segmentCount() {
+		return segments.size();
+	}
+
+	public Path directory() {
+		return directory;
+	}
+
+	@Override
+	public void close() {
+		synchronized (appendLock) {
+			if (closed) {
+				return;
+			}
+			closed = true;
+			try {
+				for (Segment segment : segments.values()) {
+					segment.buffer.force();
+					segment.channel.close();
+				}
+				appliedChannel.close();
+			} catch (IOException e) {
+				throw new UncheckedIOException("Failed to close command journal", e);
+			}
+		}
+	}
+
+	private void recover() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			for (Path file : files.toList()) {
+				Matcher matcher = SEGMENT_NAME.matcher(file.getFileName().toString());
+				if (matcher.matches()) {
+					long start = Long.parseLong(matcher.group(1));
+					segments.put(start, mapSegment(file, start, (int) Math.max(MIN_SEGMENT_BYTES, Files.size(file))));
+				}
+			}
+		}
+
+		long applied = readAppliedPosition();
+		if (segments.isEmpty()) {
+			createSegment(applied);
+			writePosition = applied;
+			durablePosition = applied;
+			appliedPosition = applied;
+			return;
+		}
+		Map.Entry<Long, Segment> last = segments.lastEntry();
+		if (segments.floorEntry(applied) == null || applied > last.getKey() + last.getValue().capacity) {
+			applied = segments.firstKey();
+		}
+		writePosition = scanFrom(applied);
+		durablePosition = writePosition;
+		appliedPosition = Math.min(applied, writePosition);
+	}
+
+	private long scanFrom(long position) throws IOException {
+		Segment segment = segments.floorEntry(position).getValue();
+		int offset = (int) (position - segment.start);
+		while (true) {
+			int length = offset + HEADER_BYTES <= segment.capacity ? segment.buffer.getInt(offset) : END_OF_SEGMENT;
+			if (length == END_OF_SEGMENT) {
+				Segment next = segments.get(segment.start + segment.capacity);
+				if (next == null) {
+					dropSegmentsAfter(segment.start);
+					return segment.start + segment.capacity;
+				}
+				segment = next;
+				offset = 0;
+				continue;
+			}
+			if (length <= 0 || offset + HEADER_BYTES + length > segment.capacity) {
+				break;
+			}
+			if (!crcMatches(segment, offset, length)) {
+				break;
+			}
+			offset += HEADER_BYTES + length;
+		}
+
+		byte[] zeros = new byte[ZERO_CHUNK_BYTES];
+		for (int i = offset; i < segment.capacity; i += ZERO_CHUNK_BYTES) {
+			segment.buffer.put(i, zeros, 0, Math.min(ZERO_CHUNK_BYTES, segment.capacity - i));
+		}
+		segment.buffer.force();
+		dropSegmentsAfter(segment.start);
+		return segment.start + offset;
+	}
+
+	private static boolean crcMatches(Segment segment, int offset, int length) {
+		byte[] payload = new byte[length];
+		segment.buffer.get(offset + HEADER_BYTES, payload);
+		CRC32C crc = new CRC32C();
+		crc.update(payload);
+		return (int) crc.getValue() == segment.buffer.getInt(offset + 4);
+	}
+
+	private void dropSegmentsAfter(long start) throws IOException {
+		for (Segment segment : List.copyOf(segments.tailMap(start, false).values())) {
+			segments.remove(segment.start);
+			segment.channel.close();
+			Files.deleteIfExists(segment.path);
+		}
+	}
+
+	private long readAppliedPosition() throws IOException {
+		ByteBuffer record = ByteBuffer.allocate(12);
+		int read = appliedChannel.read(record, 0);
+		if (read < 12) {
+			return 0L;
+		}
+		long position = record.getLong(0);
+		return record.getInt(8) == checksum(position) ? position : 0L;
+	}
+
+	private void releaseSegmentsBefore(long position) {
+		synchronized (appendLock) {
+			for (Segment segment : List.copyOf(segments.headMap(segments.lastKey()).values())) {
+				if (segment.start + segment.capacity > position) {
+					break;
+				}
+				segments.remove(segment.start);
+				try {
+					segment.channel.close();
+					Files.deleteIfExists(segment.path);
+				} catch (IOException e) {
+					throw new UncheckedIOException("Failed to release journal segment " + segment.path, e);
+				}
+			}
+		}
+	}
+
+	private Segment createSegment(long start) {
+		Path file = directory.resolve(String.format("%020d.journal", start));
+		try {
+			Segment segment = mapSegment(file, start, segmentBytes);
+			segments.put(start, segment);
+			try (FileChannel dir = FileChannel.open(directory, StandardOpenOption.READ)) {
+				dir.force(true);
+			}
+			return segment;
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to create journal segment " + file, e);
+		}
+	}
+
+	private static Segment mapSegment(Path file, long start, int capacity) throws IOException {
+		FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+				StandardOpenOption.WRITE);
+		try {
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+			return new Segment(file, start, capacity, channel, buffer);
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	private void ensureOpen() {
+		if (closed) {
+			throw new IllegalStateException("Command journal is closed");
+		}
+	}
+
+	private static int checksum(long position) {
+		CRC32C crc = new CRC32C();
+		crc.update(ByteBuffer.allocate(8).putLong(0, position));
+		return (int) crc.getValue();
+	}
+
+	public record Entry(long position, long nextPosition, byte[] payload) {
+	}
+
+	private record Segment(Path path, long start, int capacity, FileChannel channel, MappedByteBuffer buffer) {
+	}
+}
@@ -0,0 +1,26 @@
+package io.luminar.ledger.infrastructure.journal;
+
+import io.luminar.ledger.application.transaction.command.PostTransactionCommand;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+public record JournaledPosting(
+		UUID transactionId,
+		Instant occurredAt,
+		List<String> entryCurrencies,
+		PostTransactionCommand command
+) {
+	public JournaledPosting {
+		Objects.requireNonNull(transactionId, "JournaledPosting.transactionId is required");
+		Objects.requireNonNull(occurredAt, "JournaledPosting.occurredAt is required");
+		Objects.requireNonNull(command, "JournaledPosting.command is required");
+		entryCurrencies = List.copyOf(Objects.requireNonNull(entryCurrencies,
+				"JournaledPosting.entryCurrencies is required"));
+		if (entryCurrencies.size() != command.entries().size()) {
+			throw new IllegalArgumentException("JournaledPosting.entryCurrencies must match command entries");
+		}
+	}
+}
@@ -0,0 +1,205 @@
+package io.luminar.ledger.infrastructure.journal;
+
+import io.luminar.ledger.application.transaction.command.CompactPostingCommand;
+import io.luminar.ledger.application.transaction.command.PostTransactionCommand;
+import io.luminar.ledger.domain.ledger.MoneyMicros;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+public final class PostingCommandCodec {
+	private static final byte VERSION = 1;
+	private static final byte POSTED_VERSION = 1;
+	private static final PostTransactionCommand.EntryType[] ENTRY_TYPES = PostTransactionCommand.EntryType.values();
+
+	private PostingCommandCodec() {
+	}
+
+	public static byte[] encode(PostTransactionCommand command) {
+		Objects.requireNonNull(command, "command is required");
+		if (command.entries().size() > 0xFFFF || command.fxConversions().size() > 0xFFFF) {
+			throw new IllegalArgumentException("Posting command has too many legs to journal");
+		}
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + command.entries().size() * 48);
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			out.writeByte(VERSION);
+			out.writeUTF(command.referenceKey());
+			out.writeShort(command.entries().size());
+			for (PostTransactionCommand.Entry entry : command.entries()) {
+				out.writeLong(entry.accountId().getMostSignificantBits());
+				out.writeLong(entry.accountId().getLeastSignificantBits());
+				out.writeByte(entry.entryType().ordinal());
+				writeDecimal(out, entry.amount());
+			}
+			writeFxConversions(out, command.fxConversions());
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to encode posting command", e);
+		}
+		return bytes.toByteArray();
+	}
+
+	public static byte[] encode(CompactPostingCommand command) {
+		Objects.requireNonNull(command, "command is required");
+		if (command.legCount() > 0xFFFF || command.fxConversions().size() > 0xFFFF) {
+			throw new IllegalArgumentException("Posting command has too many legs to journal");
+		}
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + command.legCount() * 32);
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			out.writeByte(VERSION);
+			out.writeUTF(command.referenceKey());
+			out.writeShort(command.legCount());
+			for (int i = 0; i < command.legCount(); i++) {
+				out.writeLong(command.accountHigh(i));
+				out.writeLong(command.accountLow(i));
+				out.writeByte((command.isDebit(i)
+						? PostTransactionCommand.EntryType.DEBIT
+						: PostTransactionCommand.EntryType.CREDIT).ordinal());
+				writeMicros(out, command.amountMicros(i));
+			}
+			writeFxConversions(out, command.fxConversions());
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to encode posting command", e);
+		}
+		return bytes.toByteArray();
+	}
+
+	public static PostTransactionCommand decode(byte[] payload) {
+		Objects.requireNonNull(payload, "payload is required");
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+			byte version = in.readByte();
+			if (version != VERSION) {
+				throw new IllegalStateException("Unsupported posting command version: " + version);
+			}
+			String referenceKey = in.readUTF();
+			int entryCount = in.readUnsignedShort();
+			List<PostTransactionCommand.Entry> entries = new ArrayList<>(entryCount);
+			for (int i = 0; i < entryCount; i++) {
+				UUID accountId = new UUID(in.readLong(), in.readLong());
+				PostTransactionCommand.EntryType entryType = ENTRY_TYPES[in.readUnsignedByte()];
+				entries.add(new PostTransactionCommand.Entry(accountId, entryType, readDecimal(in)));
+			}
+			int conversionCount = in.readUnsignedShort();
+			List<PostTransactionCommand.FxConversion> conversions = new ArrayList<>(conversionCount);
+			for (int i = 0; i < conversionCount; i++) {
+				String soldCurrency = in.readUTF();
+				BigDecimal soldAmount = readDecimal(in);
+				String boughtCurrency = in.readUTF();
+				conversions.add(new PostTransactionCommand.FxConversion(soldCurrency, soldAmount, boughtCurrency,
+						readDecimal(in)));
+			}
+			return new PostTransactionCommand(referenceKey, entries, conversions);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to decode posting command", e);
+		}
+	}
+
+	public static String referenceKey(byte[] payload) {
+		Objects.requireNonNull(payload, "payload is required");
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+			in.readByte();
+			return in.readUTF();
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to decode posting command reference key", e);
+		}
+	}
+
+	public static byte[] encodePosted(List<JournaledPosting> postings) {
+		Objects.requireNonNull(postings, "postings is required");
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(postings.size() * 160);
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			out.writeByte(POSTED_VERSION);
+			out.writeInt(postings.size());
+			for (JournaledPosting posting : postings) {
+				out.writeLong(posting.transactionId().getMostSignificantBits());
+				out.writeLong(posting.transactionId().getLeastSignificantBits());
+				out.writeLong(ChronoUnit.MICROS.between(Instant.EPOCH, posting.occurredAt()));
+				out.writeShort(posting.entryCurrencies().size());
+				for (String currency : posting.entryCurrencies()) {
+					out.writeUTF(currency);
+				}
+				byte[] command = encode(posting.command());
+				out.writeInt(command.length);
+				out.write(command);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to encode journaled postings", e);
+		}
+		return bytes.toByteArray();
+	}
+
+	public static List<JournaledPosting> decodePosted(byte[] payload) {
+		Objects.requireNonNull(payload, "payload is required");
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+			byte version = in.readByte();
+			if (version != POSTED_VERSION) {
+				throw new IllegalStateException("Unsupported journaled posting version: " + version);
+			}
+			int count = in.readInt();
+			List<JournaledPosting> postings = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				UUID transactionId = new UUID(in.readLong(), in.readLong());
+				Instant occurredAt = Instant.EPOCH.plus(in.readLong(), ChronoUnit.MICROS);
+				int currencyCount = in.readUnsignedShort();
+				List<String> currencies = new ArrayList<>(currencyCount);
+				for (int j = 0; j < currencyCount; j++) {
+					currencies.add(in.readUTF());
+				}
+				byte[] command = new byte[in.readInt()];
+				in.readFully(command);
+				postings.add(new JournaledPosting(transactionId, occurredAt, currencies, decode(command)));
+			}
+			return postings;
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to decode journaled postings", e);
+		}
+	}
+
+	private static void writeFxConversions(DataOutputStream out,
+			List<PostTransactionCommand.FxConversion> conversions) throws IOException {
+		out.writeShort(conversions.size());
+		for (PostTransactionCommand.FxConversion conversion : conversions) {
+			out.writeUTF(conversion.soldCurrency());
+			writeDecimal(out, conversion.soldAmount());
+			out.writeUTF(conversion.boughtCurrency());
+			writeDecimal(out, conversion.boughtAmount());
+		}
+	}
+
+	private static void writeMicros(DataOutputStream out, long micros) throws IOException {
+		int length = (Long.SIZE - Long.numberOfLeadingZeros(micros)) / Byte.SIZE + 1;
+		out.writeInt(MoneyMicros.SCALE);
+		out.writeByte(length);
+		for (int shift = (length - 1) * Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+			out.writeByte((int) (micros >>> shift));
+		}
+	}
+
+	private static void writeDecimal(DataOutputStream out, BigDecimal value) throws IOException {
+		byte[] unscaled = value.unscaledValue().toByteArray();
+		if (unscaled.length > 255) {
+			throw new IllegalArgumentException("Amount is too large to journal: " + value);
+		}
+		out.writeInt(value.scale());
+		out.writeByte(unscaled.length);
+		out.write(unscaled);
+	}
+
+	private static BigDecimal readDecimal(DataInputStream in) throws IOException {
+		int scale = in.readInt();
+		byte[] unscaled = new byte[in.readUnsignedByte()];
+		in.readFully(unscaled);
+		return new BigDecimal(new BigInteger(unscaled), scale);
+	}
+}
@@ -39,7 +39,7 @@ public final class LedgerPersistenceMapper {
 
 	public static TransactionEntryEntity toTransactionEntryEntity(UUID transactionId, java.time.Instant occurredAt, LedgerEntry entry) {
 		return new TransactionEntryEntity(
-				null,
+				UUID.randomUUID(),
 				transactionId,
 				entry.accountId().value(),
 				toEntityType(entry.type()),
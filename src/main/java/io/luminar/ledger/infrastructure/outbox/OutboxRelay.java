@@ -0,0 +1,119 @@
+package io.luminar.ledger.infrastructure.outbox;
+
+import io.luminar.ledger.infrastructure.projection.LedgerEventPollingRepository;
+import io.luminar.ledger.infrastructure.projection.ProjectionCheckpointRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+public class OutboxRelay {
+	public static final String CHECKPOINT_PREFIX = "OUTBOX:";
+
+	private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+	private static final int MAX_SINK_NAME_LENGTH = 64 - CHECKPOINT_PREFIX.length();
+
+	private final List<OutboxSink> sinks;
+	private final ProjectionCheckpointRepository checkpointRepository;
+	private final LedgerEventPollingRepository ledgerEventPollingRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final Map<String, AtomicBoolean> running;
+	private final boolean enabled;
+	private final int batchSize;
+	private final int maxBatchesPerTick;
+
+	public OutboxRelay(
+			List<OutboxSink> sinks,
+			ProjectionCheckpointRepository checkpointRepository,
+			LedgerEventPollingRepository ledgerEventPollingRepository,
+			PlatformTransactionManager transactionManager,
+			@Value("${ledger.outbox.enabled:true}") boolean enabled,
+			@Value("${ledger.outbox.batch-size:500}") int batchSize,
+			@Value("${ledger.outbox.max-batches-per-tick:20}") int maxBatchesPerTick) {
+		this.sinks = List.copyOf(Objects.requireNonNull(sinks, "sinks is required"));
+		this.checkpointRepository = Objects.requireNonNull(checkpointRepository, "checkpointRepository is required");
+		this.ledgerEventPollingRepository = Objects.requireNonNull(ledgerEventPollingRepository,
+				"ledgerEventPollingRepository is required");
+		this.transactionTemplate = new TransactionTemplate(Objects.requireNonNull(transactionManager,
+				"transactionManager is required"));
+		this.running = new ConcurrentHashMap<>();
+		this.enabled = enabled;
+		this.batchSize = Math.max(1, batchSize);
+		this.maxBatchesPerTick = Math.max(1, maxBatchesPerTick);
+
+		Set<String> names = new HashSet<>();
+		for (OutboxSink sink : this.sinks) {
+			String name = Objects.requireNonNull(sink.name(), "OutboxSink.name is required");
+			if (name.isBlank() || name.length() > MAX_SINK_NAME_LENGTH) {
+				throw new IllegalStateException("OutboxSink.name must be 1.." + MAX_SINK_NAME_LENGTH + " characters: "
+						+ name);
+			}
+			if (!names.add(name)) {
+				throw new IllegalStateException("Duplicate OutboxSink name: " + name);
+			}
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${ledger.outbox.fixed-delay-ms:100}")
+	public void tick() {
+		if (!enabled) {
+			return;
+		}
+		for (OutboxSink sink : sinks) {
+			AtomicBoolean sinkRunning = running.computeIfAbsent(sink.name(), name -> new AtomicBoolean(false));
+			if (!sinkRunning.compareAndSet(false, true)) {
+				continue;
+			}
+			try {
+				for (int i = 0; i < maxBatchesPerTick; i++) {
+					if (relayBatch(sink) < batchSize) {
+						break;
+					}
+				}
+			} catch (RuntimeException e) {
+				log.error("Outbox relay to sink {} failed. Batch will be redelivered.", sink.name(), e);
+			} finally {
+				sinkRunning.set(false);
+			}
+		}
+	}
+
+	public int relayOnce(String sinkName) {
+		Objects.requireNonNull(sinkName, "sinkName is required");
+		for (OutboxSink sink : sinks) {
+			if (sink.name().equals(sinkName)) {
+				return relayBatch(sink);
+			}
+		}
+		throw new IllegalArgumentException("Unknown outbox sink: " + sinkName);
+	}
+
+	private int relayBatch(OutboxSink sink) {
+		String checkpoint = CHECKPOINT_PREFIX + sink.name();
+		Integer relayed = transactionTemplate.execute(status -> {
+			long last = checkpointRepository.lockAndGetLastSequenceNumber(checkpoint);
+			List<LedgerEventPollingRepository.LedgerEventRow> events =
+					ledgerEventPollingRepository.fetchContiguousAfter(last, batchSize);
+			if (events.isEmpty()) {
+				return 0;
+			}
+
+			sink.publish(events);
+			checkpointRepository.updateLastSequenceNumber(checkpoint, events.getLast().globalSequence());
+			return events.size();
+		});
+		return relayed == null ? 0 : relayed;
+	}
+}
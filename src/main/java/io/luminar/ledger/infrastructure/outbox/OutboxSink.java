@@ -0,0 +1,11 @@
+package io.luminar.ledger.infrastructure.outbox;
+
+import io.luminar.ledger.infrastructure.projection.LedgerEventPollingRepository;
+
+import java.util.List;
+
+public interface OutboxSink {
+	String name();
+
+	void publish(List<LedgerEventPollingRepository.LedgerEventRow> events);
+}
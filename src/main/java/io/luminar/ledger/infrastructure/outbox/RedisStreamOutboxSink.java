@@ -0,0 +1,72 @@
+package io.luminar.ledger.infrastructure.outbox;
+
+import io.luminar.ledger.infrastructure.projection.LedgerEventPollingRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.connection.stream.StringRecord;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Component
+@ConditionalOnProperty(name = "ledger.outbox.redis-stream.enabled", havingValue = "true")
+public class RedisStreamOutboxSink implements OutboxSink {
+	private final StringRedisTemplate stringRedisTemplate;
+	private final String streamKey;
+	private final RedisStreamCommands.XAddOptions addOptions;
+
+	public RedisStreamOutboxSink(
+			StringRedisTemplate stringRedisTemplate,
+			@Value("${ledger.outbox.redis-stream.key:ledger-events}") String streamKey,
+			@Value("${ledger.outbox.redis-stream.max-length:1000000}") long maxLength) {
+		this.stringRedisTemplate = Objects.requireNonNull(stringRedisTemplate,
+				"RedisStreamOutboxSink.stringRedisTemplate is required");
+		this.streamKey = Objects.requireNonNull(streamKey, "RedisStreamOutboxSink.streamKey is required");
+		this.addOptions = maxLength > 0
+				? RedisStreamCommands.XAddOptions.maxlen(maxLength).approximateTrimming(true)
+				: RedisStreamCommands.XAddOptions.none();
+	}
+
+	@Override
+	public String name() {
+		return "REDIS_STREAM:" + streamKey;
+	}
+
+	@Override
+	public void publish(List<LedgerEventPollingRepository.LedgerEventRow> events) {
+		Objects.requireNonNull(events, "events is required");
+		if (events.isEmpty()) {
+			return;
+		}
+
+		stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			StringRedisConnection redis = (StringRedisConnection) connection;
+			for (LedgerEventPollingRepository.LedgerEventRow event : events) {
+				redis.xAdd(toRecord(event), addOptions);
+			}
+			return null;
+		});
+	}
+
+	private StringRecord toRecord(LedgerEventPollingRepository.LedgerEventRow event) {
+		Map<String, String> fields = new LinkedHashMap<>();
+		fields.put("event_id", event.eventId().toString());
+		fields.put("global_sequence", Long.toString(event.globalSequence()));
+		fields.put("event_type", event.eventType());
+		fields.put("reference_id", event.referenceId());
+		if (event.correlationId() != null) {
+			fields.put("correlation_id", event.correlationId());
+		}
+		fields.put("occurred_at", event.occurredAt().toString());
+		fields.put("payload", event.payloadJson());
+		return StreamRecords.string(fields).withStreamKey(streamKey);
+	}
+}
@@ -6,8 +6,6 @@ import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.util.Collection;
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -17,8 +15,4 @@ public interface AccountJpaRepository extends JpaRepository<AccountEntity, UUID>
 	@Lock(LockModeType.PESSIMISTIC_WRITE)
 	@Query("select a from AccountEntity a where a.id = :id")
 	Optional<AccountEntity> findByIdForUpdate(@Param("id") UUID id);
-
-	@Lock(LockModeType.PESSIMISTIC_WRITE)
-	@Query("select a from AccountEntity a where a.id in :ids")
-	List<AccountEntity> findByIdIn(@Param("ids") Collection<UUID> ids);
 }
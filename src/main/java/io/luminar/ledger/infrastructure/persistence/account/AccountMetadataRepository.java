@@ -0,0 +1,67 @@
+package io.luminar.ledger.infrastructure.persistence.account;
+
+import io.luminar.ledger.domain.account.AccountId;
+import io.luminar.ledger.domain.account.AccountMetadata;
+import io.luminar.ledger.domain.account.AccountStatus;
+import io.luminar.ledger.domain.account.AccountType;
+import io.luminar.ledger.domain.account.Currency;
+import io.luminar.ledger.infrastructure.persistence.statement.NamedStatement;
+import io.luminar.ledger.infrastructure.persistence.statement.NamedStatements;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+@Repository
+public class AccountMetadataRepository {
+	private static final NamedStatement LOCK_FOR_POSTING = new NamedStatement("account.lock-for-posting",
+			"select a.id, a.metadata_version from accounts a " +
+					"join account_balances b on b.account_id = a.id " +
+					"where a.id = any(?) order by a.id " +
+					"for share of a for no key update of b");
+	private static final NamedStatement FIND_METADATA = new NamedStatement("account.find-metadata",
+			"select id, type::text, status::text, currency, metadata_version from accounts where id = any(?)");
+
+	private final JdbcTemplate jdbcTemplate;
+	private final NamedStatements namedStatements;
+
+	public AccountMetadataRepository(DataSource dataSource, NamedStatements namedStatements) {
+		this.jdbcTemplate = new JdbcTemplate(Objects.requireNonNull(dataSource, "dataSource is required"));
+		this.namedStatements = Objects.requireNonNull(namedStatements, "namedStatements is required");
+	}
+
+	public Map<UUID, Long> lockForPosting(Collection<UUID> accountIds) {
+		Objects.requireNonNull(accountIds, "accountIds is required");
+		Map<UUID, Long> versions = new HashMap<>();
+		if (accountIds.isEmpty()) {
+			return versions;
+		}
+		jdbcTemplate.query(namedStatements.creator(LOCK_FOR_POSTING,
+				ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", accountIds.toArray()))),
+				rs -> {
+					versions.put(rs.getObject(1, UUID.class), rs.getLong(2));
+				});
+		return versions;
+	}
+
+	public List<AccountMetadata> findByIds(Collection<UUID> accountIds) {
+		Objects.requireNonNull(accountIds, "accountIds is required");
+		if (accountIds.isEmpty()) {
+			return List.of();
+		}
+		return jdbcTemplate.query(namedStatements.creator(FIND_METADATA,
+				ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", accountIds.toArray()))),
+				(rs, rowNum) -> new AccountMetadata(
+						new AccountId(rs.getObject(1, UUID.class)),
+						AccountType.valueOf(rs.getString(2)),
+						new Currency(rs.getString(4)),
+						AccountStatus.valueOf(rs.getString(3)),
+						rs.getLong(5)));
+	}
+}
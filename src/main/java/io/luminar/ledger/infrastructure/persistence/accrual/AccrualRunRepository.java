@@ -0,0 +1,261 @@
+package io.luminar.ledger.infrastructure.persistence.accrual;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.luminar.ledger.domain.accrual.AccrualRule;
+import io.luminar.ledger.domain.account.AccountId;
+import io.luminar.ledger.domain.account.AccountType;
+import io.luminar.ledger.domain.account.Currency;
+import io.luminar.ledger.domain.ledger.EntryType;
+import io.luminar.ledger.domain.ledger.MoneyMicros;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public class AccrualRunRepository {
+	private static final String FIND_RUN =
+			"select id, run_key, days, rules::text, status::text from accrual_runs where run_key = ?";
+	private static final String INSERT_RUN =
+			"insert into accrual_runs (id, run_key, days, rules, chunk_count) values (?, ?, ?, ?::jsonb, 0) " +
+					"on conflict (run_key) do nothing";
+	private static final String PLAN_CHUNKS =
+			"with ordered as (" +
+					"select account_id, row_number() over (order by account_id) - 1 as rn from account_balances" +
+					"), starts as (" +
+					"select account_id, row_number() over (order by account_id) - 1 as chunk_index, " +
+					"lead(account_id) over (order by account_id) as next_id from ordered where rn % ? = 0" +
+					") " +
+					"insert into accrual_run_chunks (run_id, chunk_index, lower_bound, upper_bound) " +
+					"select ?, chunk_index, " +
+					"case when chunk_index = 0 then '00000000-0000-0000-0000-000000000000'::uuid " +
+					"else account_id end, " +
+					"next_id from starts";
+	private static final String SET_CHUNK_COUNT = "update accrual_runs set chunk_count = ? where id = ?";
+	private static final String OPEN_CHUNKS =
+			"select chunk_index, lower_bound, upper_bound from accrual_run_chunks " +
+					"where run_id = ? and completed_at is null order by chunk_index";
+	private static final String LOCK_OPEN_CHUNK =
+			"select 1 from accrual_run_chunks where run_id = ? and chunk_index = ? and completed_at is null " +
+					"for update skip locked";
+	private static final String COMPLETE_CHUNK =
+			"update accrual_run_chunks set posted_count = ?, rejected_count = ?, completed_at = now() " +
+					"where run_id = ? and chunk_index = ? and completed_at is null";
+	private static final String SCAN_CHUNK =
+			"select b.account_id, a.type::text, a.currency, b.balance " +
+					"from account_balances b join accounts a on a.id = b.account_id " +
+					"where b.account_id >= ? and (?::uuid is null or b.account_id < ?::uuid) " +
+					"and a.status = 'ACTIVE' and a.type::text = any(?) and b.account_id <> all(?) " +
+					"order by b.account_id";
+	private static final String COMPLETE_RUN =
+			"update accrual_runs set status = 'COMPLETED'::accrual_run_status, completed_at = now() " +
+					"where id = ? and status = 'RUNNING' " +
+					"and not exists (select 1 from accrual_run_chunks where run_id = ? and completed_at is null)";
+	private static final String FIND_SUMMARY =
+			"select r.run_key, r.status::text, r.days, r.chunk_count, r.started_at, r.completed_at, " +
+					"count(c.completed_at), coalesce(sum(c.posted_count), 0), coalesce(sum(c.rejected_count), 0) " +
+					"from accrual_runs r left join accrual_run_chunks c on c.run_id = r.id " +
+					"where r.run_key = ? group by r.id";
+	private static final TypeReference<List<StoredRule>> STORED_RULES = new TypeReference<>() {
+	};
+
+	private final JdbcTemplate jdbcTemplate;
+	private final ObjectMapper objectMapper;
+
+	public AccrualRunRepository(DataSource dataSource, ObjectMapper objectMapper) {
+		this.jdbcTemplate = new JdbcTemplate(Objects.requireNonNull(dataSource, "dataSource is required"));
+		this.objectMapper = Objects.requireNonNull(objectMapper, "objectMapper is required");
+	}
+
+	public Optional<AccrualRun> findRun(String runKey) {
+		Objects.requireNonNull(runKey, "runKey is required");
+		return jdbcTemplate.query(FIND_RUN, (rs, rowNum) -> new AccrualRun(
+				rs.getObject(1, UUID.class),
+				rs.getString(2),
+				rs.getInt(3),
+				readRules(rs.getString(4)),
+				Status.valueOf(rs.getString(5))), runKey).stream().findFirst();
+	}
+
+	public boolean insertRun(AccrualRun run) {
+		Objects.requireNonNull(run, "run is required");
+		String rules = writeRules(run.rules());
+		return jdbcTemplate.update(INSERT_RUN, ps -> {
+			ps.setObject(1, run.id());
+			ps.setString(2, run.runKey());
+			ps.setInt(3, run.days());
+			ps.setString(4, rules);
+		}) == 1;
+	}
+
+	public int planChunks(UUID runId, int chunkSize) {
+		Objects.requireNonNull(runId, "runId is required");
+		if (chunkSize <= 0) {
+			throw new IllegalArgumentException("chunkSize must be > 0");
+		}
+		int chunks = jdbcTemplate.update(PLAN_CHUNKS, ps -> {
+			ps.setInt(1, chunkSize);
+			ps.setObject(2, runId);
+		});
+		jdbcTemplate.update(SET_CHUNK_COUNT, ps -> {
+			ps.setInt(1, chunks);
+			ps.setObject(2, runId);
+		});
+		return chunks;
+	}
+
+	public List<Chunk> openChunks(UUID runId) {
+		Objects.requireNonNull(runId, "runId is required");
+		return jdbcTemplate.query(OPEN_CHUNKS, ps -> ps.setObject(1, runId), (rs, rowNum) ->
+				new Chunk(runId, rs.getInt(1), rs.getObject(2, UUID.class), rs.getObject(3, UUID.class)));
+	}
+
+	public boolean lockOpenChunk(Chunk chunk) {
+		Objects.requireNonNull(chunk, "chunk is required");
+		return Boolean.TRUE.equals(jdbcTemplate.query(LOCK_OPEN_CHUNK, ps -> {
+			ps.setObject(1, chunk.runId());
+			ps.setInt(2, chunk.index());
+		}, (ResultSetExtractor<Boolean>) ResultSet::next));
+	}
+
+	public void completeChunk(Chunk chunk, int postedCount, int rejectedCount) {
+		Objects.requireNonNull(chunk, "chunk is required");
+		jdbcTemplate.update(COMPLETE_CHUNK, ps -> {
+			ps.setInt(1, postedCount);
+			ps.setInt(2, rejectedCount);
+			ps.setObject(3, chunk.runId());
+			ps.setInt(4, chunk.index());
+		});
+	}
+
+	public List<Candidate> scanChunk(Chunk chunk, Collection<AccountType> accountTypes,
+			Collection<UUID> excludedAccountIds) {
+		Objects.requireNonNull(chunk, "chunk is required");
+		Objects.requireNonNull(accountTypes, "accountTypes is required");
+		Objects.requireNonNull(excludedAccountIds, "excludedAccountIds is required");
+		return jdbcTemplate.query(SCAN_CHUNK, ps -> {
+			ps.setObject(1, chunk.lowerBound());
+			ps.setObject(2, chunk.upperBound());
+			ps.setObject(3, chunk.upperBound());
+			ps.setArray(4, ps.getConnection().createArrayOf("text",
+					accountTypes.stream().map(Enum::name).toArray()));
+			ps.setArray(5, ps.getConnection().createArrayOf("uuid", excludedAccountIds.toArray()));
+		}, (rs, rowNum) -> new Candidate(
+				rs.getObject(1, UUID.class),
+				AccountType.valueOf(rs.getString(2)),
+				new Currency(rs.getString(3)),
+				MoneyMicros.fromBigDecimal(rs.getBigDecimal(4))));
+	}
+
+	public boolean completeRun(UUID runId) {
+		Objects.requireNonNull(runId, "runId is required");
+		return jdbcTemplate.update(COMPLETE_RUN, ps -> {
+			ps.setObject(1, runId);
+			ps.setObject(2, runId);
+		}) == 1;
+	}
+
+	public Optional<Summary> findSummary(String runKey) {
+		Objects.requireNonNull(runKey, "runKey is required");
+		return jdbcTemplate.query(FIND_SUMMARY, (rs, rowNum) -> new Summary(
+				rs.getString(1),
+				Status.valueOf(rs.getString(2)),
+				rs.getInt(3),
+				rs.getInt(4),
+				rs.getInt(7),
+				rs.getLong(8),
+				rs.getLong(9),
+				rs.getTimestamp(5).toInstant(),
+				rs.getTimestamp(6) == null ? null : rs.getTimestamp(6).toInstant()), runKey).stream().findFirst();
+	}
+
+	private String writeRules(List<AccrualRule> rules) {
+		try {
+			return objectMapper.writeValueAsString(rules.stream()
+					.map(rule -> new StoredRule(
+							rule.accountType().name(),
+							rule.currency().code(),
+							rule.annualRate(),
+							rule.dayCountBasis(),
+							rule.entryType().name(),
+							rule.counterpartyAccountId().value(),
+							rule.minimumBalance()))
+					.toList());
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Failed to serialize accrual rules", e);
+		}
+	}
+
+	private List<AccrualRule> readRules(String json) {
+		try {
+			return objectMapper.readValue(json, STORED_RULES).stream()
+					.map(rule -> new AccrualRule(
+							AccountType.valueOf(rule.accountType()),
+							new Currency(rule.currency()),
+							rule.annualRate(),
+							rule.dayCountBasis(),
+							EntryType.valueOf(rule.entryType()),
+							new AccountId(rule.counterpartyAccountId()),
+							rule.minimumBalance()))
+					.toList();
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Failed to deserialize accrual rules", e);
+		}
+	}
+
+	public enum Status {
+		RUNNING,
+		COMPLETED
+	}
+
+	public record AccrualRun(UUID id, String runKey, int days, List<AccrualRule> rules, Status status) {
+		public AccrualRun {
+			Objects.requireNonNull(id, "AccrualRun.id is required");
+			Objects.requireNonNull(runKey, "AccrualRun.runKey is required");
+			Objects.requireNonNull(rules, "AccrualRun.rules is required");
+			Objects.requireNonNull(status, "AccrualRun.status is required");
+			rules = List.copyOf(rules);
+		}
+	}
+
+	public record Chunk(UUID runId, int index, UUID lowerBound, UUID upperBound) {
+	}
+
+	public record Candidate(UUID accountId, AccountType type, Currency currency, long balanceMicros) {
+	}
+
+	public record Summary(
+			String runKey,
+			Status status,
+			int days,
+			int chunkCount,
+			int completedChunks,
+			long postedCount,
+			long rejectedCount,
+			Instant startedAt,
+			Instant completedAt
+	) {
+	}
+
+	record StoredRule(
+			String accountType,
+			String currency,
+			BigDecimal annualRate,
+			int dayCountBasis,
+			String entryType,
+			UUID counterpartyAccountId,
+			BigDecimal minimumBalance
+	) {
+	}
+}
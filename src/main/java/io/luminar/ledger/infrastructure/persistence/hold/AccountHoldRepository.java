@@ -0,0 +1,140 @@
+package io.luminar.ledger.infrastructure.persistence.hold;
+
+import io.luminar.ledger.domain.account.AccountId;
+import io.luminar.ledger.domain.account.AccountMetadata;
+import io.luminar.ledger.domain.account.AccountStatus;
+import io.luminar.ledger.domain.account.AccountType;
+import io.luminar.ledger.domain.account.Currency;
+import io.luminar.ledger.domain.common.ReferenceKey;
+import io.luminar.ledger.domain.hold.Hold;
+import io.luminar.ledger.domain.hold.HoldStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public class AccountHoldRepository {
+	private static final String HOLD_COLUMNS = "id, account_id, reference_key, amount, status::text, expires_at, " +
+			"captured_amount, capture_reference_key, transaction_id, created_at, updated_at";
+	private static final String FIND_BY_ID = "select " + HOLD_COLUMNS + " from account_holds where id = ?";
+	private static final String LOCK_BY_ID = FIND_BY_ID + " for update";
+	private static final String FIND_BY_REFERENCE =
+			"select " + HOLD_COLUMNS + " from account_holds where reference_key = ?";
+	private static final String LOCK_ACCOUNT =
+			"select a.id, a.type::text, a.status::text, a.currency, a.metadata_version, b.balance, " +
+					"account_held_amount(a.id) " +
+					"from accounts a join account_balances b on b.account_id = a.id " +
+					"where a.id = ? for share of a for no key update of b";
+	private static final String INSERT =
+			"insert into account_holds (id, account_id, reference_key, amount, status, expires_at, created_at, " +
+					"updated_at) values (?, ?, ?, ?, 'ACTIVE'::hold_status, ?, ?, ?) " +
+					"on conflict (reference_key) do nothing";
+	private static final String UPDATE_STATUS =
+			"update account_holds set status = ?::hold_status, captured_amount = ?, capture_reference_key = ?, " +
+					"transaction_id = ?, updated_at = ? where id = ?";
+	private static final String EXPIRE_DUE =
+			"update account_holds h set status = 'EXPIRED'::hold_status, updated_at = now() " +
+					"where h.id in (select id from account_holds where status = 'ACTIVE' and expires_at <= now() " +
+					"order by expires_at limit ? for update skip locked)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public AccountHoldRepository(DataSource dataSource) {
+		this.jdbcTemplate = new JdbcTemplate(Objects.requireNonNull(dataSource, "dataSource is required"));
+	}
+
+	public Optional<Hold> findById(UUID holdId) {
+		return findOne(FIND_BY_ID, Objects.requireNonNull(holdId, "holdId is required"));
+	}
+
+	public Optional<Hold> lockById(UUID holdId) {
+		return findOne(LOCK_BY_ID, Objects.requireNonNull(holdId, "holdId is required"));
+	}
+
+	public Optional<Hold> findByReferenceKey(String referenceKey) {
+		return findOne(FIND_BY_REFERENCE, Objects.requireNonNull(referenceKey, "referenceKey is required"));
+	}
+
+	public Optional<LockedAccount> lockAccount(UUID accountId) {
+		Objects.requireNonNull(accountId, "accountId is required");
+		return jdbcTemplate.query(LOCK_ACCOUNT, (rs, rowNum) -> new LockedAccount(
+				new AccountMetadata(
+						new AccountId(rs.getObject(1, UUID.class)),
+						AccountType.valueOf(rs.getString(2)),
+						new Currency(rs.getString(4)),
+						AccountStatus.valueOf(rs.getString(3)),
+						rs.getLong(5)),
+				rs.getBigDecimal(6),
+				rs.getBigDecimal(7)), accountId).stream().findFirst();
+	}
+
+	public boolean insert(Hold hold) {
+		Objects.requireNonNull(hold, "hold is required");
+		return jdbcTemplate.update(INSERT, ps -> {
+			ps.setObject(1, hold.id());
+			ps.setObject(2, hold.accountId().value());
+			ps.setString(3, hold.referenceKey().value());
+			ps.setBigDecimal(4, hold.amount());
+			ps.setTimestamp(5, Timestamp.from(hold.expiresAt()));
+			ps.setTimestamp(6, Timestamp.from(hold.createdAt()));
+			ps.setTimestamp(7, Timestamp.from(hold.updatedAt()));
+		}) == 1;
+	}
+
+	public void updateStatus(Hold hold) {
+		Objects.requireNonNull(hold, "hold is required");
+		int updated = jdbcTemplate.update(UPDATE_STATUS, ps -> {
+			ps.setString(1, hold.status().name());
+			ps.setBigDecimal(2, hold.capturedAmount());
+			ps.setString(3, hold.captureReferenceKey());
+			ps.setObject(4, hold.transactionId());
+			ps.setTimestamp(5, Timestamp.from(hold.updatedAt()));
+			ps.setObject(6, hold.id());
+		});
+		if (updated != 1) {
+			throw new IllegalStateException("Hold status update affected no row: " + hold.id());
+		}
+	}
+
+	public int expireDue(int limit) {
+		return jdbcTemplate.update(EXPIRE_DUE, ps -> ps.setInt(1, limit));
+	}
+
+	private Optional<Hold> findOne(String sql, Object key) {
+		return jdbcTemplate.query(sql, (rs, rowNum) -> map(rs), key).stream().findFirst();
+	}
+
+	private static Hold map(ResultSet rs) throws SQLException {
+		return new Hold(
+				rs.getObject(1, UUID.class),
+				new AccountId(rs.getObject(2, UUID.class)),
+				new ReferenceKey(rs.getString(3)),
+				rs.getBigDecimal(4),
+				HoldStatus.valueOf(rs.getString(5)),
+				toInstant(rs.getTimestamp(6)),
+				rs.getBigDecimal(7),
+				rs.getString(8),
+				rs.getObject(9, UUID.class),
+				toInstant(rs.getTimestamp(10)),
+				toInstant(rs.getTimestamp(11)));
+	}
+
+	private static Instant toInstant(Timestamp timestamp) {
+		return timestamp == null ? null : timestamp.toInstant();
+	}
+
+	public record LockedAccount(AccountMetadata metadata, BigDecimal balance, BigDecimal held) {
+		public BigDecimal available() {
+			return balance.subtract(held);
+		}
+	}
+}
@@ -0,0 +1,136 @@
+package io.luminar.ledger.infrastructure.persistence.ledger;
+
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Objects;
+
+@Repository
+public class LedgerBulkWriter {
+	private static final String ENTRY_COLUMNS = "id, transaction_id, account_id, entry_type, amount, created_at";
+	private static final String EVENT_COLUMNS = "event_id, aggregate_type, aggregate_id, sequence_number, event_type, "
+			+ "reference_id, correlation_id, payload, occurred_at";
+	private static final String INSERT_ENTRY =
+			"insert into transaction_entries (" + ENTRY_COLUMNS + ") values (?, ?, ?, ?::entry_type, ?, ?)";
+	private static final String INSERT_EVENT =
+			"insert into ledger_events (" + EVENT_COLUMNS + ") values (?, ?, ?, ?, ?, ?, ?, ?::jsonb, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final int copyThreshold;
+
+	public LedgerBulkWriter(DataSource dataSource,
+			@Value("${ledger.persistence.bulk.copy-threshold:64}") int copyThreshold) {
+		this.jdbcTemplate = new JdbcTemplate(Objects.requireNonNull(dataSource, "dataSource is required"));
+		if (copyThreshold <= 0) {
+			throw new IllegalArgumentException("ledger.persistence.bulk.copy-threshold must be > 0");
+		}
+		this.copyThreshold = copyThreshold;
+	}
+
+	public void insertEntries(List<TransactionEntryEntity> entries) {
+		Objects.requireNonNull(entries, "entries is required");
+		if (entries.isEmpty()) {
+			return;
+		}
+		if (entries.size() >= copyThreshold) {
+			copyEntries(entries);
+			return;
+		}
+		jdbcTemplate.batchUpdate(INSERT_ENTRY, entries, entries.size(), (ps, entry) -> {
+			ps.setObject(1, requireId(entry.getId()));
+			ps.setObject(2, entry.getTransactionId());
+			ps.setObject(3, entry.getAccountId());
+			ps.setString(4, entry.getEntryType().name());
+			ps.setBigDecimal(5, entry.getAmount());
+			ps.setTimestamp(6, Timestamp.from(entry.getCreatedAt()));
+		});
+	}
+
+	public void insertEvents(List<LedgerEventEntity> events) {
+		Objects.requireNonNull(events, "events is required");
+		if (events.isEmpty()) {
+			return;
+		}
+		if (events.size() >= copyThreshold) {
+			copyEvents(events);
+			return;
+		}
+		jdbcTemplate.batchUpdate(INSERT_EVENT, events, events.size(), (ps, event) -> {
+			ps.setObject(1, requireId(event.getEventId()));
+			ps.setString(2, event.getAggregateType());
+			ps.setObject(3, event.getAggregateId());
+			ps.setLong(4, event.getSequenceNumber());
+			ps.setString(5, event.getEventType());
+			ps.setString(6, event.getReferenceId());
+			ps.setString(7, event.getCorrelationId());
+			ps.setString(8, event.getPayload());
+			ps.setTimestamp(9, Timestamp.from(event.getOccurredAt()));
+		});
+	}
+
+	private void copyEntries(List<TransactionEntryEntity> entries) {
+		StringBuilder csv = new StringBuilder(entries.size() * 160);
+		for (TransactionEntryEntity entry : entries) {
+			csv.append(requireId(entry.getId())).append(',')
+					.append(entry.getTransactionId()).append(',')
+					.append(entry.getAccountId()).append(',')
+					.append(entry.getEntryType().name()).append(',')
+					.append(entry.getAmount().toPlainString()).append(',')
+					.append(entry.getCreatedAt()).append('\n');
+		}
+		copyIn("transaction_entries (" + ENTRY_COLUMNS + ")", csv);
+	}
+
+	private void copyEvents(List<LedgerEventEntity> events) {
+		StringBuilder csv = new StringBuilder(events.size() * 512);
+		for (LedgerEventEntity event : events) {
+			csv.append(requireId(event.getEventId())).append(',');
+			appendQuoted(csv, event.getAggregateType()).append(',');
+			csv.append(event.getAggregateId()).append(',')
+					.append(event.getSequenceNumber()).append(',');
+			appendQuoted(csv, event.getEventType()).append(',');
+			appendQuoted(csv, event.getReferenceId()).append(',');
+			appendQuoted(csv, event.getCorrelationId()).append(',');
+			appendQuoted(csv, event.getPayload()).append(',');
+			csv.append(event.getOccurredAt()).append('\n');
+		}
+		copyIn("ledger_events (" + EVENT_COLUMNS + ")", csv);
+	}
+
+	private void copyIn(String target, CharSequence csv) {
+		jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+			try {
+				return connection.unwrap(PGConnection.class).getCopyAPI()
+						.copyIn("copy " + target + " from stdin with (format csv)", new StringReader(csv.toString()));
+			} catch (IOException e) {
+				throw new SQLException("COPY into " + target + " failed", e);
+			}
+		});
+	}
+
+	private static StringBuilder appendQuoted(StringBuilder csv, String value) {
+		csv.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == '"') {
+				csv.append('"');
+			}
+			csv.append(c);
+		}
+		return csv.append('"');
+	}
+
+	private static Object requireId(Object id) {
+		return Objects.requireNonNull(id, "Bulk-inserted rows must carry a client-generated id");
+	}
+}
@@ -0,0 +1,170 @@
+package io.luminar.ledger.infrastructure.persistence.schedule;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public class ScheduledPostingRepository {
+	private static final String INSERT =
+			"insert into scheduled_postings (id, reference_key, due_at, payload, status, created_at, updated_at) " +
+					"values (?, ?, ?, ?, 'PENDING'::scheduled_posting_status, ?, ?) " +
+					"on conflict (reference_key) do nothing";
+	private static final String FIND =
+			"select id, reference_key, due_at, status::text, attempts, transaction_id, error_code, error_message, " +
+					"created_at, updated_at from scheduled_postings where reference_key = ?";
+	private static final String CLAIM_DUE =
+			"update scheduled_postings s set status = 'CLAIMED'::scheduled_posting_status, claimed_by = ?, " +
+					"lease_until = ?, attempts = s.attempts + 1, updated_at = now() " +
+					"where s.id in (select id from scheduled_postings where status = 'PENDING' and due_at <= ? " +
+					"order by due_at limit ? for update skip locked) " +
+					"returning s.id, s.reference_key, s.due_at, s.attempts, s.payload";
+	private static final String RECLAIM_EXPIRED =
+			"update scheduled_postings s set status = 'PENDING'::scheduled_posting_status, claimed_by = null, " +
+					"lease_until = null, updated_at = now() " +
+					"where s.id in (select id from scheduled_postings where status = 'CLAIMED' and lease_until < now() " +
+					"order by lease_until limit ? for update skip locked)";
+	private static final String MARK_POSTED =
+			"update scheduled_postings s set status = 'POSTED'::scheduled_posting_status, " +
+					"transaction_id = d.transaction_id, claimed_by = null, lease_until = null, error_code = null, " +
+					"error_message = null, updated_at = now() " +
+					"from unnest(?::uuid[], ?::uuid[]) as d(id, transaction_id) " +
+					"where s.id = d.id and s.status = 'CLAIMED'";
+	private static final String MARK_FAILED =
+			"update scheduled_postings set status = 'FAILED'::scheduled_posting_status, claimed_by = null, " +
+					"lease_until = null, error_code = ?, error_message = ?, updated_at = now() " +
+					"where id = ? and status = 'CLAIMED'";
+	private static final String RELEASE =
+			"update scheduled_postings set status = 'PENDING'::scheduled_posting_status, claimed_by = null, " +
+					"lease_until = null, updated_at = now() " +
+					"where id = any(?) and status = 'CLAIMED' and claimed_by = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public ScheduledPostingRepository(DataSource dataSource) {
+		this.jdbcTemplate = new JdbcTemplate(Objects.requireNonNull(dataSource, "dataSource is required"));
+	}
+
+	public boolean insert(ScheduledPosting posting, byte[] payload) {
+		Objects.requireNonNull(posting, "posting is required");
+		Objects.requireNonNull(payload, "payload is required");
+		return jdbcTemplate.update(INSERT, ps -> {
+			ps.setObject(1, posting.id());
+			ps.setString(2, posting.referenceKey());
+			ps.setTimestamp(3, Timestamp.from(posting.dueAt()));
+			ps.setBytes(4, payload);
+			ps.setTimestamp(5, Timestamp.from(posting.createdAt()));
+			ps.setTimestamp(6, Timestamp.from(posting.updatedAt()));
+		}) == 1;
+	}
+
+	public Optional<ScheduledPosting> find(String referenceKey) {
+		Objects.requireNonNull(referenceKey, "referenceKey is required");
+		return jdbcTemplate.query(FIND, (rs, rowNum) -> new ScheduledPosting(
+				rs.getObject(1, UUID.class),
+				rs.getString(2),
+				rs.getTimestamp(3).toInstant(),
+				Status.valueOf(rs.getString(4)),
+				rs.getInt(5),
+				rs.getObject(6, UUID.class),
+				rs.getString(7),
+				rs.getString(8),
+				rs.getTimestamp(9).toInstant(),
+				rs.getTimestamp(10).toInstant()), referenceKey).stream().findFirst();
+	}
+
+	public List<Claimed> claimDue(String owner, Instant dueBefore, Instant leaseUntil, int limit) {
+		Objects.requireNonNull(owner, "owner is required");
+		Objects.requireNonNull(dueBefore, "dueBefore is required");
+		Objects.requireNonNull(leaseUntil, "leaseUntil is required");
+		return jdbcTemplate.query(CLAIM_DUE, ps -> {
+			ps.setString(1, owner);
+			ps.setTimestamp(2, Timestamp.from(leaseUntil));
+			ps.setTimestamp(3, Timestamp.from(dueBefore));
+			ps.setInt(4, limit);
+		}, (rs, rowNum) -> new Claimed(
+				rs.getObject(1, UUID.class),
+				rs.getString(2),
+				rs.getTimestamp(3).toInstant(),
+				rs.getInt(4),
+				rs.getBytes(5)));
+	}
+
+	public int reclaimExpired(int limit) {
+		return jdbcTemplate.update(RECLAIM_EXPIRED, ps -> ps.setInt(1, limit));
+	}
+
+	public void markPosted(List<UUID> ids, List<UUID> transactionIds) {
+		Objects.requireNonNull(ids, "ids is required");
+		Objects.requireNonNull(transactionIds, "transactionIds is required");
+		if (ids.size() != transactionIds.size()) {
+			throw new IllegalArgumentException("ids and transactionIds must have the same size");
+		}
+		if (ids.isEmpty()) {
+			return;
+		}
+		jdbcTemplate.update(MARK_POSTED, ps -> {
+			ps.setArray(1, ps.getConnection().createArrayOf("uuid", ids.toArray()));
+			ps.setArray(2, ps.getConnection().createArrayOf("uuid", transactionIds.toArray()));
+		});
+	}
+
+	public void markFailed(UUID id, String errorCode, String errorMessage) {
+		Objects.requireNonNull(id, "id is required");
+		jdbcTemplate.update(MARK_FAILED, ps -> {
+			ps.setString(1, errorCode);
+			ps.setString(2, errorMessage);
+			ps.setObject(3, id);
+		});
+	}
+
+	public int release(Collection<UUID> ids, String owner) {
+		Objects.requireNonNull(ids, "ids is required");
+		Objects.requireNonNull(owner, "owner is required");
+		if (ids.isEmpty()) {
+			return 0;
+		}
+		return jdbcTemplate.update(RELEASE, ps -> {
+			ps.setArray(1, ps.getConnection().createArrayOf("uuid", ids.toArray()));
+			ps.setString(2, owner);
+		});
+	}
+
+	public enum Status {
+		PENDING,
+		CLAIMED,
+		POSTED,
+		FAILED
+	}
+
+	public record ScheduledPosting(
+			UUID id,
+			String referenceKey,
+			Instant dueAt,
+			Status status,
+			int attempts,
+			UUID transactionId,
+			String errorCode,
+			String errorMessage,
+			Instant createdAt,
+			Instant updatedAt
+	) {
+		public ScheduledPosting {
+			Objects.requireNonNull(id, "ScheduledPosting.id is required");
+			Objects.requireNonNull(referenceKey, "ScheduledPosting.referenceKey is required");
+			Objects.requireNonNull(dueAt, "ScheduledPosting.dueAt is required");
+			Objects.requireNonNull(status, "ScheduledPosting.status is required");
+		}
+	}
+
+	public record Claimed(UUID id, String referenceKey, Instant dueAt, int attempts, byte[] payload) {
+	}
+}
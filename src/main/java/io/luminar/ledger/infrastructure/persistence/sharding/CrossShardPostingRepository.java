@@ -0,0 +1,153 @@
+package io.luminar.ledger.infrastructure.persistence.sharding;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+public class CrossShardPostingRepository {
+	private static final String INSERT =
+			"insert into cross_shard_postings (id, reference_key, payload, shard_count, created_at, updated_at) " +
+					"values (?, ?, ?, ?, ?, ?) " +
+					"on conflict (reference_key) do nothing";
+	private static final String FIND =
+			"select id, reference_key, payload, shard_count, status::text, error_code, error_message, created_at " +
+					"from cross_shard_postings where reference_key = ?";
+	private static final String MARK_COMMITTED =
+			"update cross_shard_postings set status = 'COMMITTED'::cross_shard_posting_status, updated_at = now() " +
+					"where id = ? and status = 'PREPARED'::cross_shard_posting_status";
+	private static final String MARK_ABORTED =
+			"update cross_shard_postings set status = 'ABORTED'::cross_shard_posting_status, error_code = ?, " +
+					"error_message = ?, updated_at = now() " +
+					"where id = ? and status = 'PREPARED'::cross_shard_posting_status";
+	private static final String MARK_COMPENSATION_FAILED =
+			"update cross_shard_postings set status = 'COMPENSATION_FAILED'::cross_shard_posting_status, " +
+					"error_code = ?, error_message = ?, updated_at = now() " +
+					"where id = ? and status in ('PREPARED'::cross_shard_posting_status, " +
+					"'ABORTED'::cross_shard_posting_status)";
+	private static final String FIND_STALE =
+			"select id, reference_key, payload, shard_count, status::text, error_code, error_message, created_at " +
+					"from cross_shard_postings where status = 'PREPARED'::cross_shard_posting_status " +
+					"and updated_at < ? order by updated_at limit ?";
+	private static final String TOUCH =
+			"update cross_shard_postings set updated_at = now() " +
+					"where id = ? and status = 'PREPARED'::cross_shard_posting_status";
+	private static final String COUNT_PREPARED =
+			"select count(*) from cross_shard_postings where status = 'PREPARED'::cross_shard_posting_status";
+	private static final String COUNT_COMPENSATION_FAILED =
+			"select count(*) from cross_shard_postings " +
+					"where status = 'COMPENSATION_FAILED'::cross_shard_posting_status";
+	private static final int MAX_ERROR_MESSAGE_LENGTH = 512;
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public CrossShardPostingRepository(DataSource dataSource) {
+		this.jdbcTemplate = new JdbcTemplate(Objects.requireNonNull(dataSource, "dataSource is required"));
+	}
+
+	public boolean insert(UUID id, String referenceKey, byte[] payload, int shardCount, Instant createdAt) {
+		Objects.requireNonNull(id, "id is required");
+		Objects.requireNonNull(referenceKey, "referenceKey is required");
+		Objects.requireNonNull(payload, "payload is required");
+		Objects.requireNonNull(createdAt, "createdAt is required");
+		return jdbcTemplate.update(INSERT, ps -> {
+			ps.setObject(1, id);
+			ps.setString(2, referenceKey);
+			ps.setBytes(3, payload);
+			ps.setInt(4, shardCount);
+			ps.setTimestamp(5, Timestamp.from(createdAt));
+			ps.setTimestamp(6, Timestamp.from(createdAt));
+		}) == 1;
+	}
+
+	public Optional<CrossShardPosting> find(String referenceKey) {
+		Objects.requireNonNull(referenceKey, "referenceKey is required");
+		return jdbcTemplate.query(FIND, (rs, rowNum) -> read(rs), referenceKey).stream().findFirst();
+	}
+
+	public boolean markCommitted(UUID id) {
+		return update(MARK_COMMITTED, id);
+	}
+
+	public boolean markAborted(UUID id, String errorCode, String errorMessage) {
+		Objects.requireNonNull(id, "id is required");
+		return jdbcTemplate.update(MARK_ABORTED, ps -> {
+			ps.setString(1, errorCode);
+			ps.setString(2, truncate(errorMessage));
+			ps.setObject(3, id);
+		}) == 1;
+	}
+
+	public boolean markCompensationFailed(UUID id, String errorCode, String errorMessage) {
+		Objects.requireNonNull(id, "id is required");
+		return jdbcTemplate.update(MARK_COMPENSATION_FAILED, ps -> {
+			ps.setString(1, errorCode);
+			ps.setString(2, truncate(errorMessage));
+			ps.setObject(3, id);
+		}) == 1;
+	}
+
+	public boolean touch(UUID id) {
+		return update(TOUCH, id);
+	}
+
+	public List<CrossShardPosting> findStale(Instant updatedBefore, int limit) {
+		Objects.requireNonNull(updatedBefore, "updatedBefore is required");
+		return jdbcTemplate.query(FIND_STALE, ps -> {
+			ps.setTimestamp(1, Timestamp.from(updatedBefore));
+			ps.setInt(2, limit);
+		}, (rs, rowNum) -> read(rs));
+	}
+
+	public long countPrepared() {
+		Long count = jdbcTemplate.queryForObject(COUNT_PREPARED, Long.class);
+		return count != null ? count : 0L;
+	}
+
+	public long countCompensationFailed() {
+		Long count = jdbcTemplate.queryForObject(COUNT_COMPENSATION_FAILED, Long.class);
+		return count != null ? count : 0L;
+	}
+
+	private boolean update(String sql, UUID id) {
+		Objects.requireNonNull(id, "id is required");
+		return jdbcTemplate.update(sql, ps -> ps.setObject(1, id)) == 1;
+	}
+
+	private static CrossShardPosting read(ResultSet rs) throws SQLException {
+		return new CrossShardPosting(
+				rs.getObject(1, UUID.class),
+				rs.getString(2),
+				rs.getBytes(3),
+				rs.getInt(4),
+				Status.valueOf(rs.getString(5)),
+				rs.getString(6),
+				rs.getString(7),
+				rs.getTimestamp(8).toInstant());
+	}
+
+	private static String truncate(String message) {
+		if (message == null || message.length() <= MAX_ERROR_MESSAGE_LENGTH) {
+			return message;
+		}
+		return message.substring(0, MAX_ERROR_MESSAGE_LENGTH);
+	}
+
+	public enum Status {
+		PREPARED,
+		COMMITTED,
+		ABORTED,
+		COMPENSATION_FAILED
+	}
+
+	public record CrossShardPosting(UUID id, String referenceKey, byte[] payload, int shardCount, Status status,
+			String errorCode, String errorMessage, Instant createdAt) {
+	}
+}
@@ -0,0 +1,105 @@
+package io.luminar.ledger.infrastructure.persistence.sharding;
+
+import io.luminar.ledger.domain.account.Account;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+
+public class ShardLedgerRepository {
+	public static final String CLEARING_CODE_PREFIX = "SHARD-CLEARING-";
+
+	private static final String INSERT_ACCOUNT =
+			"with inserted as (" +
+					"insert into accounts (id, code, name, type, currency, status, status_changed_at, status_reason) " +
+					"values (?, ?, ?, ?::account_type, ?, ?::account_status, ?, ?) " +
+					"on conflict (code) do nothing returning id" +
+					") insert into account_balances (account_id, balance) select id, 0 from inserted";
+	private static final String FIND_ACCOUNT_ID = "select id from accounts where code = ?";
+	private static final String FIND_BALANCE = "select balance from account_balances where account_id = ?";
+	private static final String FIND_CURRENCIES = "select id, currency from accounts where id = any(?)";
+	private static final String FIND_TRANSACTION = "select id from transactions where reference_key = ?";
+	private static final String CLEARING_BALANCES =
+			"select a.currency, sum(b.balance) from accounts a join account_balances b on b.account_id = a.id " +
+					"where a.code like '" + CLEARING_CODE_PREFIX + "%' group by a.currency";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public ShardLedgerRepository(DataSource dataSource) {
+		this.jdbcTemplate = new JdbcTemplate(Objects.requireNonNull(dataSource, "dataSource is required"));
+	}
+
+	public boolean insertAccount(Account account) {
+		Objects.requireNonNull(account, "account is required");
+		return jdbcTemplate.update(INSERT_ACCOUNT, ps -> {
+			ps.setObject(1, account.id().value());
+			ps.setString(2, account.code());
+			ps.setString(3, account.name());
+			ps.setString(4, account.type().name());
+			ps.setString(5, account.currency().code());
+			ps.setString(6, account.status().name());
+			ps.setTimestamp(7, Timestamp.from(account.statusChangedAt()));
+			ps.setString(8, account.statusReason());
+		}) == 1;
+	}
+
+	public Optional<UUID> findAccountId(String code) {
+		Objects.requireNonNull(code, "code is required");
+		return jdbcTemplate.query(FIND_ACCOUNT_ID, (rs, rowNum) -> rs.getObject(1, UUID.class), code)
+				.stream().findFirst();
+	}
+
+	public Optional<BigDecimal> findBalance(UUID accountId) {
+		Objects.requireNonNull(accountId, "accountId is required");
+		return jdbcTemplate.query(FIND_BALANCE, (rs, rowNum) -> rs.getBigDecimal(1), accountId)
+				.stream().findFirst();
+	}
+
+	public Map<UUID, String> findCurrencies(Collection<UUID> accountIds) {
+		Objects.requireNonNull(accountIds, "accountIds is required");
+		Map<UUID, String> currencies = new HashMap<>(accountIds.size());
+		if (accountIds.isEmpty()) {
+			return currencies;
+		}
+		jdbcTemplate.query(FIND_CURRENCIES,
+				ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", accountIds.toArray())),
+				rs -> {
+					currencies.put(rs.getObject(1, UUID.class), rs.getString(2));
+				});
+		return currencies;
+	}
+
+	public Optional<UUID> findTransactionId(String referenceKey) {
+		Objects.requireNonNull(referenceKey, "referenceKey is required");
+		return jdbcTemplate.query(FIND_TRANSACTION, (rs, rowNum) -> rs.getObject(1, UUID.class), referenceKey)
+				.stream().findFirst();
+	}
+
+	public boolean transactionExists(String referenceKey) {
+		Objects.requireNonNull(referenceKey, "referenceKey is required");
+		return Boolean.TRUE.equals(jdbcTemplate.query(FIND_TRANSACTION,
+				ps -> ps.setString(1, referenceKey), (ResultSetExtractor<Boolean>) ResultSet::next));
+	}
+
+	public Map<String, BigDecimal> clearingBalances() {
+		Map<String, BigDecimal> balances = new TreeMap<>();
+		jdbcTemplate.query(CLEARING_BALANCES, rs -> {
+			balances.put(rs.getString(1), rs.getBigDecimal(2));
+		});
+		return balances;
+	}
+
+	public static String clearingCode(String currency) {
+		return CLEARING_CODE_PREFIX + Objects.requireNonNull(currency, "currency is required");
+	}
+}
@@ -0,0 +1,16 @@
+package io.luminar.ledger.infrastructure.persistence.statement;
+
+import java.util.Objects;
+
+public record NamedStatement(String name, String sql) {
+	public NamedStatement {
+		Objects.requireNonNull(name, "name is required");
+		Objects.requireNonNull(sql, "sql is required");
+		if (name.isBlank()) {
+			throw new IllegalArgumentException("NamedStatement.name must not be blank");
+		}
+		if (sql.isBlank()) {
+			throw new IllegalArgumentException("NamedStatement.sql must not be blank");
+		}
+	}
+}
@@ -0,0 +1,122 @@
+package io.luminar.ledger.infrastructure.persistence.statement;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.postgresql.PGConnection;
+import org.postgresql.PGStatement;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.SqlProvider;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class NamedStatements {
+	public static final String PREPARE_CALLS = "ledger.jdbc.statement.prepare.calls";
+
+	private static final String PREPARE_CALLS_DESCRIPTION = "Calls to prepare a named statement, tagged by whether "
+			+ "the connection had already prepared it prepare-threshold times, after which pgjdbc executes it as a "
+			+ "server-side prepared statement";
+
+	private final MeterRegistry meterRegistry;
+	private final int prepareThreshold;
+	private final Map<Object, Map<String, Integer>> preparedByConnection;
+	private final Map<String, Counter> belowThreshold;
+	private final Map<String, Counter> thresholdReached;
+
+	public NamedStatements(MeterRegistry meterRegistry,
+			@Value("${ledger.jdbc.prepare-threshold:1}") int prepareThreshold) {
+		this.meterRegistry = Objects.requireNonNull(meterRegistry, "meterRegistry is required");
+		if (prepareThreshold < 0) {
+			throw new IllegalArgumentException("ledger.jdbc.prepare-threshold must be >= 0");
+		}
+		this.prepareThreshold = prepareThreshold;
+		this.preparedByConnection = Collections.synchronizedMap(new WeakHashMap<>());
+		this.belowThreshold = new ConcurrentHashMap<>();
+		this.thresholdReached = new ConcurrentHashMap<>();
+	}
+
+	public PreparedStatementCreator creator(NamedStatement statement, Object... args) {
+		return creator(statement, new ArgumentPreparedStatementSetter(args));
+	}
+
+	public PreparedStatementCreator creator(NamedStatement statement, PreparedStatementSetter setter) {
+		return new Creator(Objects.requireNonNull(statement, "statement is required"),
+				Objects.requireNonNull(setter, "setter is required"));
+	}
+
+	public PreparedStatement prepare(Connection connection, NamedStatement statement) throws SQLException {
+		Objects.requireNonNull(connection, "connection is required");
+		Objects.requireNonNull(statement, "statement is required");
+		PreparedStatement ps = connection.prepareStatement(statement.sql());
+		if (ps.isWrapperFor(PGStatement.class)) {
+			ps.unwrap(PGStatement.class).setPrepareThreshold(prepareThreshold);
+		}
+		record(physical(connection), statement.name());
+		return ps;
+	}
+
+	public int prepareThreshold() {
+		return prepareThreshold;
+	}
+
+	private void record(Object connection, String name) {
+		Map<String, Integer> statements = preparedByConnection.computeIfAbsent(connection,
+				ignored -> new ConcurrentHashMap<>());
+		int previous = statements.merge(name, 1, Integer::sum) - 1;
+		if (prepareThreshold > 0 && previous >= prepareThreshold) {
+			counter(thresholdReached, "reached", name).increment();
+		} else {
+			counter(belowThreshold, "below", name).increment();
+		}
+	}
+
+	private Counter counter(Map<String, Counter> counters, String threshold, String name) {
+		return counters.computeIfAbsent(name, statement -> Counter.builder(PREPARE_CALLS)
+				.description(PREPARE_CALLS_DESCRIPTION)
+				.tag("statement", statement)
+				.tag("threshold", threshold)
+				.register(meterRegistry));
+	}
+
+	private static Object physical(Connection connection) throws SQLException {
+		return connection.isWrapperFor(PGConnection.class) ? connection.unwrap(PGConnection.class) : connection;
+	}
+
+	private final class Creator implements PreparedStatementCreator, SqlProvider {
+		private final NamedStatement statement;
+		private final PreparedStatementSetter setter;
+
+		private Creator(NamedStatement statement, PreparedStatementSetter setter) {
+			this.statement = statement;
+			this.setter = setter;
+		}
+
+		@Override
+		public PreparedStatement createPreparedStatement(Connection connection) throws SQLException {
+			PreparedStatement ps = prepare(connection, statement);
+			try {
+				setter.setValues(ps);
+			} catch (SQLException | RuntimeException e) {
+				ps.close();
+				throw e;
+			}
+			return ps;
+		}
+
+		@Override
+		public String getSql() {
+			return statement.sql();
+		}
+	}
+}
@@ -0,0 +1,217 @@
+package io.luminar.ledger.infrastructure.projection;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+@Repository
+public class BalanceSnapshotRepository {
+	private final EntityManager entityManager;
+
+	public BalanceSnapshotRepository(EntityManager entityManager) {
+		this.entityManager = Objects.requireNonNull(entityManager, "entityManager is required");
+	}
+
+	public void addPendingEntries(UUID accountId, long count) {
+		Objects.requireNonNull(accountId, "accountId is required");
+
+		entityManager.createNativeQuery(
+				"insert into account_balance_snapshot_state (account_id, pending_entries) values (:accountId, :count) " +
+						"on conflict (account_id) do update set " +
+						"pending_entries = account_balance_snapshot_state.pending_entries + excluded.pending_entries, " +
+						"updated_at = now()")
+				.setParameter("accountId", accountId)
+				.setParameter("count", count)
+				.executeUpdate();
+	}
+
+	public List<UUID> lockDueAccounts(long minEntries, Instant staleBefore, int limit) {
+		Objects.requireNonNull(staleBefore, "staleBefore is required");
+
+		@SuppressWarnings("unchecked")
+		List<UUID> rows = (List<UUID>) entityManager.createNativeQuery(
+				"select st.account_id from account_balance_snapshot_state st " +
+						"left join lateral (select s.as_of from account_balance_snapshots s " +
+						"where s.account_id = st.account_id order by s.as_of desc limit 1) l on true " +
+						"where st.pending_entries > 0 " +
+						"and (st.pending_entries >= :minEntries or l.as_of is null or l.as_of < :staleBefore) " +
+						"order by st.account_id " +
+						"limit :limit " +
+						"for update of st skip locked")
+				.setParameter("minEntries", minEntries)
+				.setParameter("staleBefore", staleBefore)
+				.setParameter("limit", limit)
+				.getResultList();
+		return rows;
+	}
+
+	public Snapshot findLatestAtOrBefore(UUID accountId, Instant asOf) {
+		Objects.requireNonNull(accountId, "accountId is required");
+		Objects.requireNonNull(asOf, "asOf is required");
+
+		@SuppressWarnings("unchecked")
+		List<Object[]> rows = (List<Object[]>) entityManager.createNativeQuery(
+				"select s.as_of, s.balance, coalesce(st.snapshot_sequence, 0) from account_balance_snapshots s " +
+						"left join account_balance_snapshot_state st on st.account_id = s.account_id " +
+						"where s.account_id = :accountId and s.as_of <= :asOf " +
+						"order by s.as_of desc limit 1")
+				.setParameter("accountId", accountId)
+				.setParameter("asOf", asOf)
+				.getResultList();
+		if (rows.isEmpty()) {
+			return null;
+		}
+		Object[] row = rows.getFirst();
+		return new Snapshot(toInstant(row[0]), (BigDecimal) row[1], ((Number) row[2]).longValue());
+	}
+
+	public EntryDelta sumEntries(UUID accountId, Instant fromExclusive, Instant toInclusive) {
+		return sumEntries(accountId, fromExclusive, toInclusive, null);
+	}
+
+	public EntryDelta sumEntries(UUID accountId, Instant fromExclusive, Instant toInclusive, Long throughSequence) {
+		Objects.requireNonNull(accountId, "accountId is required");
+		Objects.requireNonNull(toInclusive, "toInclusive is required");
+
+		StringBuilder sql = new StringBuilder();
+		sql.append("select count(*), coalesce(sum(case when e.entry_type = 'CREDIT' then e.amount else -e.amount end), 0) ");
+		sql.append("from transaction_entries e ");
+		sql.append("where e.account_id = :accountId ");
+		if (fromExclusive != null) {
+			sql.append("and e.created_at > :fromExclusive ");
+		}
+		sql.append("and e.created_at <= :toInclusive");
+		if (throughSequence != null) {
+			sql.append(" and exists (select 1 from ledger_events le where le.aggregate_id = e.transaction_id ");
+			sql.append("and le.global_sequence <= :throughSequence)");
+		}
+
+		var query = entityManager.createNativeQuery(sql.toString())
+				.setParameter("accountId", accountId)
+				.setParameter("toInclusive", toInclusive);
+		if (fromExclusive != null) {
+			query.setParameter("fromExclusive", fromExclusive);
+		}
+		if (throughSequence != null) {
+			query.setParameter("throughSequence", throughSequence);
+		}
+
+		Object[] row = (Object[]) query.getSingleResult();
+		return new EntryDelta(((Number) row[0]).longValue(), (BigDecimal) row[1]);
+	}
+
+	public EntryDelta sumLateEntries(UUID accountId, long afterSequence, Long throughSequence, Instant asOf) {
+		Objects.requireNonNull(accountId, "accountId is required");
+		Objects.requireNonNull(asOf, "asOf is required");
+
+		StringBuilder sql = new StringBuilder();
+		sql.append("select count(*), ");
+		sql.append("coalesce(sum(case when e.entry_type = 'CREDIT' then e.amount else -e.amount end), 0) ");
+		sql.append("from ledger_events le ");
+		sql.append("join transaction_entries e on e.transaction_id = le.aggregate_id ");
+		sql.append("where le.global_sequence > :afterSequence ");
+		if (throughSequence != null) {
+			sql.append("and le.global_sequence <= :throughSequence ");
+		}
+		sql.append("and e.account_id = :accountId ");
+		sql.append("and e.created_at <= :asOf");
+
+		var query = entityManager.createNativeQuery(sql.toString())
+				.setParameter("afterSequence", afterSequence)
+				.setParameter("accountId", accountId)
+				.setParameter("asOf", asOf);
+		if (throughSequence != null) {
+			query.setParameter("throughSequence", throughSequence);
+		}
+
+		Object[] row = (Object[]) query.getSingleResult();
+		return new EntryDelta(((Number) row[0]).longValue(), (BigDecimal) row[1]);
+	}
+
+	public int foldLateEntries(UUID accountId, long afterSequence, long throughSequence) {
+		Objects.requireNonNull(accountId, "accountId is required");
+
+		return entityManager.createNativeQuery(
+				"with late as (" +
+						"select e.created_at, " +
+						"case when e.entry_type = 'CREDIT' then e.amount else -e.amount end as amount " +
+						"from ledger_events le join transaction_entries e on e.transaction_id = le.aggregate_id " +
+						"where le.global_sequence > :afterSequence and le.global_sequence <= :throughSequence " +
+						"and e.account_id = :accountId" +
+						") update account_balance_snapshots s " +
+						"set balance = s.balance + (select sum(l.amount) from late l where l.created_at <= s.as_of) " +
+						"where s.account_id = :accountId " +
+						"and exists (select 1 from late l where l.created_at <= s.as_of)")
+				.setParameter("afterSequence", afterSequence)
+				.setParameter("throughSequence", throughSequence)
+				.setParameter("accountId", accountId)
+				.executeUpdate();
+	}
+
+	public void advanceSnapshotSequence(UUID accountId, long throughSequence) {
+		Objects.requireNonNull(accountId, "accountId is required");
+
+		entityManager.createNativeQuery(
+				"update account_balance_snapshot_state " +
+						"set snapshot_sequence = greatest(snapshot_sequence, :throughSequence), updated_at = now() " +
+						"where account_id = :accountId")
+				.setParameter("accountId", accountId)
+				.setParameter("throughSequence", throughSequence)
+				.executeUpdate();
+	}
+
+	public boolean insertSnapshot(UUID accountId, Instant asOf, BigDecimal balance, long entryCount) {
+		Objects.requireNonNull(accountId, "accountId is required");
+		Objects.requireNonNull(asOf, "asOf is required");
+		Objects.requireNonNull(balance, "balance is required");
+
+		int inserted = entityManager.createNativeQuery(
+				"insert into account_balance_snapshots (account_id, as_of, balance, entry_count) " +
+						"values (:accountId, :asOf, :balance, :entryCount) on conflict do nothing")
+				.setParameter("accountId", accountId)
+				.setParameter("asOf", asOf)
+				.setParameter("balance", balance)
+				.setParameter("entryCount", entryCount)
+				.executeUpdate();
+		return inserted == 1;
+	}
+
+	public void consumePendingEntries(UUID accountId, long count) {
+		Objects.requireNonNull(accountId, "accountId is required");
+
+		entityManager.createNativeQuery(
+				"update account_balance_snapshot_state " +
+						"set pending_entries = greatest(0, pending_entries - :count), updated_at = now() " +
+						"where account_id = :accountId")
+				.setParameter("accountId", accountId)
+				.setParameter("count", count)
+				.executeUpdate();
+	}
+
+	private static Instant toInstant(Object raw) {
+		if (raw instanceof Timestamp ts) {
+			return ts.toInstant();
+		}
+		if (raw instanceof OffsetDateTime odt) {
+			return odt.toInstant();
+		}
+		if (raw instanceof Instant i) {
+			return i;
+		}
+		throw new IllegalStateException("Unexpected as_of type from DB: " +
+				(raw == null ? "null" : raw.getClass().getName()));
+	}
+
+	public record Snapshot(Instant asOf, BigDecimal balance, long sequence) {
+	}
+
+	public record EntryDelta(long count, BigDecimal amount) {
+	}
+}
@@ -0,0 +1,115 @@
+package io.luminar.ledger.infrastructure.projection;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+public class BalanceSnapshotWriter {
+	private static final Logger log = LoggerFactory.getLogger(BalanceSnapshotWriter.class);
+
+	private final BalanceSnapshotRepository snapshotRepository;
+	private final ProjectionCheckpointRepository checkpointRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final AtomicBoolean running;
+	private final long minEntries;
+	private final Duration maxInterval;
+	private final Duration settleWindow;
+	private final int batchSize;
+
+	public BalanceSnapshotWriter(
+			BalanceSnapshotRepository snapshotRepository,
+			ProjectionCheckpointRepository checkpointRepository,
+			PlatformTransactionManager transactionManager,
+			@Value("${ledger.snapshot.balance.min-entries:500}") long minEntries,
+			@Value("${ledger.snapshot.balance.max-interval-seconds:3600}") long maxIntervalSeconds,
+			@Value("${ledger.snapshot.balance.settle-seconds:60}") long settleSeconds,
+			@Value("${ledger.snapshot.balance.batch-size:200}") int batchSize) {
+		this.snapshotRepository = Objects.requireNonNull(snapshotRepository, "snapshotRepository is required");
+		this.checkpointRepository = Objects.requireNonNull(checkpointRepository,
+				"checkpointRepository is required");
+		this.transactionTemplate = new TransactionTemplate(Objects.requireNonNull(transactionManager,
+				"transactionManager is required"));
+		this.running = new AtomicBoolean(false);
+		this.minEntries = Math.max(1, minEntries);
+		this.maxInterval = Duration.ofSeconds(Math.max(1, maxIntervalSeconds));
+		this.settleWindow = Duration.ofSeconds(Math.max(0, settleSeconds));
+		this.batchSize = Math.max(1, batchSize);
+	}
+
+	@Scheduled(fixedDelayString = "${ledger.snapshot.balance.fixed-delay-ms:10000}")
+	public void tick() {
+		if (!running.compareAndSet(false, true)) {
+			return;
+		}
+
+		try {
+			int written = snapshotOnce();
+			if (written > 0) {
+				log.debug("Wrote {} account balance snapshots", written);
+			}
+		} catch (RuntimeException e) {
+			log.error("Balance snapshot writer failed. Accounts will be retried.", e);
+		} finally {
+			running.set(false);
+		}
+	}
+
+	public int snapshotOnce() {
+		Instant cutoff = Instant.now().minus(settleWindow).truncatedTo(ChronoUnit.MICROS);
+		Integer written = transactionTemplate.execute(status -> snapshotBatch(cutoff));
+		return written == null ? 0 : written;
+	}
+
+	private int snapshotBatch(Instant cutoff) {
+		List<UUID> due = snapshotRepository.lockDueAccounts(minEntries, cutoff.minus(maxInterval), batchSize);
+		long through = checkpointRepository.findLastSequenceNumber(
+				LedgerEventProjector.TRANSACTION_HISTORY_PROJECTION_TYPE);
+		int written = 0;
+		for (UUID accountId : due) {
+			BalanceSnapshotRepository.Snapshot previous = snapshotRepository.findLatestAtOrBefore(accountId, cutoff);
+			Instant from = previous == null ? null : previous.asOf();
+			BigDecimal base = previous == null ? BigDecimal.ZERO : previous.balance();
+			long folded = 0;
+			if (previous != null && through > previous.sequence()) {
+				BalanceSnapshotRepository.EntryDelta late = snapshotRepository.sumLateEntries(accountId,
+						previous.sequence(), through, from);
+				if (late.count() > 0) {
+					snapshotRepository.foldLateEntries(accountId, previous.sequence(), through);
+					base = base.add(late.amount());
+					folded += late.count();
+					log.info("Folded {} late entries into balance snapshots. accountId={}", late.count(), accountId);
+				}
+			}
+			snapshotRepository.advanceSnapshotSequence(accountId, through);
+
+			if (from == null || from.isBefore(cutoff)) {
+				BalanceSnapshotRepository.EntryDelta delta = snapshotRepository.sumEntries(accountId, from, cutoff,
+						through);
+				if (delta.count() > 0) {
+					if (snapshotRepository.insertSnapshot(accountId, cutoff, base.add(delta.amount()), delta.count())) {
+						written++;
+					}
+					folded += delta.count();
+				}
+			}
+			if (folded > 0) {
+				snapshotRepository.consumePendingEntries(accountId, folded);
+			}
+		}
+		return written;
+	}
+}
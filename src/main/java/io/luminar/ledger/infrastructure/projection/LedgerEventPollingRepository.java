@@ -1,8 +1,11 @@
 package io.luminar.ledger.infrastructure.projection;
 
-import jakarta.persistence.EntityManager;
+import io.luminar.ledger.infrastructure.persistence.statement.NamedStatement;
+import io.luminar.ledger.infrastructure.persistence.statement.NamedStatements;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import javax.sql.DataSource;
 import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
@@ -10,49 +13,72 @@ import java.util.UUID;
 
 @Repository
 public class LedgerEventPollingRepository {
-	private final EntityManager entityManager;
+	private static final NamedStatement FETCH_AFTER = new NamedStatement("projection.events.fetch-after",
+			"select event_id, event_type, reference_id, correlation_id, payload::text, occurred_at, global_sequence " +
+					"from ledger_events " +
+					"where global_sequence > ? " +
+					"order by global_sequence asc " +
+					"limit ?");
+	private static final NamedStatement SNAPSHOT_XMAX = new NamedStatement("projection.events.snapshot-xmax",
+			"select cast(cast(pg_snapshot_xmax(pg_current_snapshot()) as text) as bigint)");
+	private static final NamedStatement GAP_PERMANENT = new NamedStatement("projection.events.gap-permanent",
+			"select not exists (select 1 from pg_snapshot_xip(pg_current_snapshot()) x " +
+					"where cast(cast(x as text) as bigint) < ?) " +
+					"and not exists (select 1 from ledger_events " +
+					"where global_sequence between ? and ?)");
 
-	public LedgerEventPollingRepository(EntityManager entityManager) {
-		this.entityManager = Objects.requireNonNull(entityManager, "entityManager is required");
+	private final JdbcTemplate jdbcTemplate;
+	private final NamedStatements namedStatements;
+
+	public LedgerEventPollingRepository(DataSource dataSource, NamedStatements namedStatements) {
+		this.jdbcTemplate = new JdbcTemplate(Objects.requireNonNull(dataSource, "dataSource is required"));
+		this.namedStatements = Objects.requireNonNull(namedStatements, "namedStatements is required");
 	}
 
 	public List<LedgerEventRow> fetchAfter(long lastGlobalSequence, int limit) {
-		@SuppressWarnings("unchecked")
-		List<Object[]> rows = (List<Object[]>) entityManager.createNativeQuery(
-				"select event_id, event_type, reference_id, correlation_id, payload::text, occurred_at, global_sequence "
-						+
-						"from ledger_events " +
-						"where global_sequence > :lastGlobalSequence " +
-						"order by global_sequence asc " +
-						"limit :limit")
-				.setParameter("lastGlobalSequence", lastGlobalSequence)
-				.setParameter("limit", limit)
-				.getResultList();
-
-		return rows.stream()
-				.map(row -> new LedgerEventRow(
-						(UUID) row[0],
-						(String) row[1],
-						(String) row[2],
-						(String) row[3],
-						(String) row[4],
-						toInstant(row[5]),
-						((Number) row[6]).longValue()))
-				.toList();
+		return jdbcTemplate.query(namedStatements.creator(FETCH_AFTER, ps -> {
+			ps.setLong(1, lastGlobalSequence);
+			ps.setInt(2, limit);
+		}), (rs, rowNum) -> new LedgerEventRow(
+				rs.getObject(1, UUID.class),
+				rs.getString(2),
+				rs.getString(3),
+				rs.getString(4),
+				rs.getString(5),
+				rs.getTimestamp(6).toInstant(),
+				rs.getLong(7)));
 	}
 
-	private static Instant toInstant(Object raw) {
-		if (raw instanceof java.sql.Timestamp ts) {
-			return ts.toInstant();
-		}
-		if (raw instanceof java.time.OffsetDateTime odt) {
-			return odt.toInstant();
-		}
-		if (raw instanceof Instant i) {
-			return i;
+	public List<LedgerEventRow> fetchContiguousAfter(long lastGlobalSequence, int limit) {
+		List<LedgerEventRow> rows = fetchAfter(lastGlobalSequence, limit);
+		long expected = lastGlobalSequence + 1;
+		Long observedXmax = null;
+		for (int i = 0; i < rows.size(); i++) {
+			long sequence = rows.get(i).globalSequence();
+			if (sequence > expected) {
+				if (observedXmax == null) {
+					observedXmax = currentSnapshotXmax();
+				}
+				if (!isGapPermanent(expected, sequence - 1, observedXmax)) {
+					return rows.subList(0, i);
+				}
+			}
+			expected = sequence + 1;
 		}
-		throw new IllegalStateException("Unexpected occurred_at type from DB: " +
-				(raw == null ? "null" : raw.getClass().getName()));
+		return rows;
+	}
+
+	private long currentSnapshotXmax() {
+		return Objects.requireNonNull(jdbcTemplate.query(namedStatements.creator(SNAPSHOT_XMAX),
+				rs -> rs.next() ? rs.getLong(1) : null), "pg_snapshot_xmax returned no row");
+	}
+
+	private boolean isGapPermanent(long fromSequence, long toSequence, long observedXmax) {
+		return Boolean.TRUE.equals(jdbcTemplate.query(namedStatements.creator(GAP_PERMANENT, ps -> {
+			ps.setLong(1, observedXmax);
+			ps.setLong(2, fromSequence);
+			ps.setLong(3, toSequence);
+		}), rs -> rs.next() && rs.getBoolean(1)));
 	}
 
 	public record LedgerEventRow(
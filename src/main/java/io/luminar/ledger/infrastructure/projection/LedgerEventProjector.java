@@ -2,6 +2,7 @@ package io.luminar.ledger.infrastructure.projection;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.luminar.ledger.infrastructure.jfr.ProjectionBatchEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -11,7 +12,9 @@ import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -26,6 +29,8 @@ public class LedgerEventProjector {
 	private final ProjectionCheckpointRepository checkpointRepository;
 	private final LedgerEventPollingRepository ledgerEventPollingRepository;
 	private final TransactionHistoryProjectionRepository projectionRepository;
+	private final BalanceSnapshotRepository balanceSnapshotRepository;
+	private final TrialBalanceProjectionRepository trialBalanceProjectionRepository;
 	private final ObjectMapper objectMapper;
 	private final TransactionTemplate transactionTemplate;
 	private final AtomicBoolean running;
@@ -35,6 +40,8 @@ public class LedgerEventProjector {
 			ProjectionCheckpointRepository checkpointRepository,
 			LedgerEventPollingRepository ledgerEventPollingRepository,
 			TransactionHistoryProjectionRepository projectionRepository,
+			BalanceSnapshotRepository balanceSnapshotRepository,
+			TrialBalanceProjectionRepository trialBalanceProjectionRepository,
 			ObjectMapper objectMapper,
 			PlatformTransactionManager transactionManager,
 			@Value("${ledger.projection.transaction-history.batch-size:200}") int batchSize) {
@@ -42,6 +49,10 @@ public class LedgerEventProjector {
 		this.ledgerEventPollingRepository = Objects.requireNonNull(ledgerEventPollingRepository,
 				"ledgerEventPollingRepository is required");
 		this.projectionRepository = Objects.requireNonNull(projectionRepository, "projectionRepository is required");
+		this.balanceSnapshotRepository = Objects.requireNonNull(balanceSnapshotRepository,
+				"balanceSnapshotRepository is required");
+		this.trialBalanceProjectionRepository = Objects.requireNonNull(trialBalanceProjectionRepository,
+				"trialBalanceProjectionRepository is required");
 		this.objectMapper = Objects.requireNonNull(objectMapper, "objectMapper is required");
 		this.transactionTemplate = new TransactionTemplate(Objects.requireNonNull(transactionManager,
 				"transactionManager is required"));
@@ -73,29 +84,43 @@ public class LedgerEventProjector {
 	}
 
 	private int projectBatch() {
+		ProjectionBatchEvent batch = new ProjectionBatchEvent();
+		batch.begin();
 		long last = checkpointRepository.lockAndGetLastSequenceNumber(TRANSACTION_HISTORY_PROJECTION_TYPE);
-		var events = ledgerEventPollingRepository.fetchAfter(last, batchSize);
+		var events = ledgerEventPollingRepository.fetchContiguousAfter(last, batchSize);
 		if (events.isEmpty()) {
 			return 0;
 		}
 
 		long max = last;
 		int processed = 0;
+		Map<UUID, Long> pendingEntries = new HashMap<>();
+		TrialBalanceProjectionRepository.Batch trialBalance = new TrialBalanceProjectionRepository.Batch();
 		for (var event : events) {
 			max = Math.max(max, event.globalSequence());
 			if (LEDGER_TRANSACTION_RECORDED.equals(event.eventType())) {
-				projectTransactionRecorded(event);
+				projectTransactionRecorded(event, pendingEntries, trialBalance);
 			}
 			processed++;
 		}
 
+		trialBalanceProjectionRepository.apply(trialBalance);
+
+		for (Map.Entry<UUID, Long> pending : pendingEntries.entrySet()) {
+			balanceSnapshotRepository.addPendingEntries(pending.getKey(), pending.getValue());
+		}
+
 		checkpointRepository.updateLastSequenceNumber(TRANSACTION_HISTORY_PROJECTION_TYPE, max);
+		batch.finish(TRANSACTION_HISTORY_PROJECTION_TYPE, processed, events.getFirst().globalSequence(), max,
+				events.getFirst().occurredAt());
 		return processed;
 	}
 
-	private void projectTransactionRecorded(LedgerEventPollingRepository.LedgerEventRow event) {
+	private void projectTransactionRecorded(LedgerEventPollingRepository.LedgerEventRow event,
+			Map<UUID, Long> pendingEntries, TrialBalanceProjectionRepository.Batch trialBalance) {
 		try {
-			if (projectionRepository.isEventProcessed(event.eventId(), TRANSACTION_HISTORY_PROJECTION_TYPE)) {
+			if (!projectionRepository.tryMarkEventProcessed(event.eventId(), event.globalSequence(),
+					TRANSACTION_HISTORY_PROJECTION_TYPE)) {
 				return;
 			}
 
@@ -103,7 +128,7 @@ public class LedgerEventProjector {
 
 			UUID transactionId = UUID.fromString(requiredText(root, "transaction_id"));
 			String referenceKey = requiredText(root, "reference_key");
-			String currency = requiredText(root, "currency");
+			JsonNode rootCurrency = root.get("currency");
 
 			JsonNode entries = root.get("entries");
 			if (entries == null || !entries.isArray()) {
@@ -116,6 +141,9 @@ public class LedgerEventProjector {
 				UUID accountId = UUID.fromString(requiredText(leg, "account_id"));
 				String direction = requiredText(leg, "entry_type");
 				BigDecimal amount = new BigDecimal(requiredText(leg, "amount"));
+				String currency = leg.hasNonNull("currency") || rootCurrency == null
+						? requiredText(leg, "currency")
+						: rootCurrency.asText();
 
 				projectionRepository.insertProjectionRow(
 						event.eventId(),
@@ -128,9 +156,10 @@ public class LedgerEventProjector {
 						event.occurredAt(),
 						event.globalSequence(),
 						event.correlationId());
+				pendingEntries.merge(accountId, 1L, Long::sum);
+				trialBalance.add(accountId, currency, event.occurredAt(), direction, amount);
 			}
 
-			projectionRepository.tryMarkEventProcessed(event.eventId(), TRANSACTION_HISTORY_PROJECTION_TYPE);
 		} catch (RuntimeException e) {
 			throw e;
 		} catch (Exception e) {
@@ -1,43 +1,57 @@
 package io.luminar.ledger.infrastructure.projection;
 
-import jakarta.persistence.EntityManager;
+import io.luminar.ledger.infrastructure.persistence.statement.NamedStatement;
+import io.luminar.ledger.infrastructure.persistence.statement.NamedStatements;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import javax.sql.DataSource;
 import java.util.Objects;
 
 @Repository
 public class ProjectionCheckpointRepository {
-	private final EntityManager entityManager;
-
-	public ProjectionCheckpointRepository(EntityManager entityManager) {
-		this.entityManager = Objects.requireNonNull(entityManager, "entityManager is required");
+	private static final NamedStatement INSERT_CHECKPOINT = new NamedStatement("projection.checkpoint.insert",
+			"insert into projection_checkpoints (projection_type, last_sequence_number) values (?, 0) " +
+					"on conflict (projection_type) do nothing");
+	private static final NamedStatement LOCK_CHECKPOINT = new NamedStatement("projection.checkpoint.lock",
+			"select last_sequence_number from projection_checkpoints where projection_type = ? for update");
+	private static final NamedStatement FIND_CHECKPOINT = new NamedStatement("projection.checkpoint.find",
+			"select last_sequence_number from projection_checkpoints where projection_type = ?");
+	private static final NamedStatement UPDATE_CHECKPOINT = new NamedStatement("projection.checkpoint.update",
+			"update projection_checkpoints set last_sequence_number = ?, updated_at = now() " +
+					"where projection_type = ?");
+
+	private final JdbcTemplate jdbcTemplate;
+	private final NamedStatements namedStatements;
+
+	public ProjectionCheckpointRepository(DataSource dataSource, NamedStatements namedStatements) {
+		this.jdbcTemplate = new JdbcTemplate(Objects.requireNonNull(dataSource, "dataSource is required"));
+		this.namedStatements = Objects.requireNonNull(namedStatements, "namedStatements is required");
 	}
 
 	public long lockAndGetLastSequenceNumber(String projectionType) {
 		Objects.requireNonNull(projectionType, "projectionType is required");
 
-		entityManager.createNativeQuery(
-				"insert into projection_checkpoints (projection_type, last_sequence_number) values (:projectionType, 0) " +
-						"on conflict (projection_type) do nothing")
-				.setParameter("projectionType", projectionType)
-				.executeUpdate();
+		jdbcTemplate.update(namedStatements.creator(INSERT_CHECKPOINT, projectionType));
+		Long last = jdbcTemplate.query(namedStatements.creator(LOCK_CHECKPOINT, projectionType),
+				rs -> rs.next() ? rs.getLong(1) : null);
+		if (last == null) {
+			throw new IllegalStateException("Projection checkpoint is missing: " + projectionType);
+		}
+		return last;
+	}
 
-		Number last = (Number) entityManager.createNativeQuery(
-				"select last_sequence_number from projection_checkpoints where projection_type = :projectionType for update")
-				.setParameter("projectionType", projectionType)
-				.getSingleResult();
+	public long findLastSequenceNumber(String projectionType) {
+		Objects.requireNonNull(projectionType, "projectionType is required");
 
-		return last.longValue();
+		Long last = jdbcTemplate.query(namedStatements.creator(FIND_CHECKPOINT, projectionType),
+				rs -> rs.next() ? rs.getLong(1) : null);
+		return last == null ? 0L : last;
 	}
 
 	public void updateLastSequenceNumber(String projectionType, long lastSequenceNumber) {
 		Objects.requireNonNull(projectionType, "projectionType is required");
 
-		entityManager.createNativeQuery(
-				"update projection_checkpoints set last_sequence_number = :lastSequenceNumber, updated_at = now() " +
-						"where projection_type = :projectionType")
-				.setParameter("lastSequenceNumber", lastSequenceNumber)
-				.setParameter("projectionType", projectionType)
-				.executeUpdate();
+		jdbcTemplate.update(namedStatements.creator(UPDATE_CHECKPOINT, lastSequenceNumber, projectionType));
 	}
 }
@@ -0,0 +1,80 @@
+package io.luminar.ledger.infrastructure.projection;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+public class ProjectionDedupRetentionJob {
+	private static final Logger log = LoggerFactory.getLogger(ProjectionDedupRetentionJob.class);
+
+	private final TransactionHistoryProjectionRepository projectionRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final AtomicBoolean running;
+	private final boolean enabled;
+	private final long sequenceWindow;
+	private final Duration minAge;
+	private final int batchSize;
+	private final int maxBatchesPerRun;
+
+	public ProjectionDedupRetentionJob(
+			TransactionHistoryProjectionRepository projectionRepository,
+			PlatformTransactionManager transactionManager,
+			@Value("${ledger.projection.dedup-retention.enabled:true}") boolean enabled,
+			@Value("${ledger.projection.dedup-retention.sequence-window:100000}") long sequenceWindow,
+			@Value("${ledger.projection.dedup-retention.min-age-seconds:86400}") long minAgeSeconds,
+			@Value("${ledger.projection.dedup-retention.batch-size:5000}") int batchSize,
+			@Value("${ledger.projection.dedup-retention.max-batches-per-run:100}") int maxBatchesPerRun) {
+		this.projectionRepository = Objects.requireNonNull(projectionRepository, "projectionRepository is required");
+		this.transactionTemplate = new TransactionTemplate(Objects.requireNonNull(transactionManager,
+				"transactionManager is required"));
+		this.running = new AtomicBoolean(false);
+		this.enabled = enabled;
+		this.sequenceWindow = Math.max(0, sequenceWindow);
+		this.minAge = Duration.ofSeconds(Math.max(0, minAgeSeconds));
+		this.batchSize = Math.max(1, batchSize);
+		this.maxBatchesPerRun = Math.max(1, maxBatchesPerRun);
+	}
+
+	@Scheduled(fixedDelayString = "${ledger.projection.dedup-retention.fixed-delay-ms:60000}")
+	public void tick() {
+		if (!enabled || !running.compareAndSet(false, true)) {
+			return;
+		}
+
+		try {
+			int deleted = pruneOnce();
+			if (deleted > 0) {
+				log.debug("Pruned {} projection dedup rows", deleted);
+			}
+		} catch (RuntimeException e) {
+			log.error("Projection dedup retention failed. Rows will be retried.", e);
+		} finally {
+			running.set(false);
+		}
+	}
+
+	public int pruneOnce() {
+		Instant processedBefore = Instant.now().minus(minAge);
+		int total = 0;
+		for (int i = 0; i < maxBatchesPerRun; i++) {
+			Integer deleted = transactionTemplate.execute(status -> projectionRepository
+					.deleteDedupRowsBehindCheckpoint(sequenceWindow, processedBefore, batchSize));
+			int count = deleted == null ? 0 : deleted;
+			total += count;
+			if (count < batchSize) {
+				break;
+			}
+		}
+		return total;
+	}
+}
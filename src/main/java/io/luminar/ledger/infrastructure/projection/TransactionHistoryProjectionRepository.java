@@ -1,47 +1,66 @@
 package io.luminar.ledger.infrastructure.projection;
 
-import jakarta.persistence.EntityManager;
+import io.luminar.ledger.infrastructure.persistence.statement.NamedStatement;
+import io.luminar.ledger.infrastructure.persistence.statement.NamedStatements;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import javax.sql.DataSource;
 import java.math.BigDecimal;
+import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.Objects;
 import java.util.UUID;
 
 @Repository
 public class TransactionHistoryProjectionRepository {
-	private final EntityManager entityManager;
+	private static final NamedStatement MARK_PROCESSED = new NamedStatement("projection.dedup.mark-processed",
+			"insert into projection_event_dedup (event_id, projection_type, global_sequence) " +
+					"values (?, ?, ?) " +
+					"on conflict do nothing");
+	private static final NamedStatement DELETE_BEHIND_CHECKPOINT = new NamedStatement(
+			"projection.dedup.delete-behind-checkpoint",
+			"delete from projection_event_dedup d " +
+					"using (select x.event_id, x.projection_type from projection_event_dedup x " +
+					"join projection_checkpoints c on c.projection_type = x.projection_type " +
+					"where x.global_sequence <= c.last_sequence_number - ? " +
+					"and x.processed_at < ? " +
+					"limit ?) expired " +
+					"where d.event_id = expired.event_id and d.projection_type = expired.projection_type");
+	private static final NamedStatement INSERT_ROW = new NamedStatement("projection.transaction-history.insert",
+			"insert into transaction_history_projection " +
+					"(event_id, transaction_id, reference_key, account_id, direction, amount, currency, occurred_at, " +
+					"sequence_number, correlation_id) " +
+					"values (?, ?, ?, ?, cast(? as entry_type), ?, ?, ?, ?, ?) " +
+					"on conflict do nothing");
 
-	public TransactionHistoryProjectionRepository(EntityManager entityManager) {
-		this.entityManager = Objects.requireNonNull(entityManager, "entityManager is required");
+	private final JdbcTemplate jdbcTemplate;
+	private final NamedStatements namedStatements;
+
+	public TransactionHistoryProjectionRepository(DataSource dataSource, NamedStatements namedStatements) {
+		this.jdbcTemplate = new JdbcTemplate(Objects.requireNonNull(dataSource, "dataSource is required"));
+		this.namedStatements = Objects.requireNonNull(namedStatements, "namedStatements is required");
 	}
 
-	public boolean tryMarkEventProcessed(UUID eventId, String projectionType) {
+	public boolean tryMarkEventProcessed(UUID eventId, long globalSequence, String projectionType) {
 		Objects.requireNonNull(eventId, "eventId is required");
 		Objects.requireNonNull(projectionType, "projectionType is required");
 
-		int inserted = entityManager.createNativeQuery(
-				"insert into projection_event_dedup (event_id, projection_type) values (:eventId, :projectionType) " +
-						"on conflict do nothing")
-				.setParameter("eventId", eventId)
-				.setParameter("projectionType", projectionType)
-				.executeUpdate();
-
-		return inserted == 1;
+		return jdbcTemplate.update(namedStatements.creator(MARK_PROCESSED, ps -> {
+			ps.setObject(1, eventId);
+			ps.setString(2, projectionType);
+			ps.setLong(3, globalSequence);
+		})) == 1;
 	}
 
-	public boolean isEventProcessed(UUID eventId, String projectionType) {
-		Objects.requireNonNull(eventId, "eventId is required");
-		Objects.requireNonNull(projectionType, "projectionType is required");
-		@SuppressWarnings("unchecked")
-		boolean exists = !((java.util.List<Object>) entityManager.createNativeQuery(
-				"select 1 from projection_event_dedup where event_id = :eventId and projection_type = :projectionType")
-				.setParameter("eventId", eventId)
-				.setParameter("projectionType", projectionType)
-				.setMaxResults(1)
-				.getResultList()).isEmpty();
+	public int deleteDedupRowsBehindCheckpoint(long sequenceWindow, Instant processedBefore, int limit) {
+		Objects.requireNonNull(processedBefore, "processedBefore is required");
 
-		return exists;
+		return jdbcTemplate.update(namedStatements.creator(DELETE_BEHIND_CHECKPOINT, ps -> {
+			ps.setLong(1, sequenceWindow);
+			ps.setTimestamp(2, Timestamp.from(processedBefore));
+			ps.setInt(3, limit);
+		}));
 	}
 
 	public void insertProjectionRow(UUID eventId, UUID transactionId, String referenceKey, UUID accountId,
@@ -57,23 +76,17 @@ public class TransactionHistoryProjectionRepository {
 		Objects.requireNonNull(occurredAt, "occurredAt is required");
 		Objects.requireNonNull(correlationId, "correlationId is required");
 
-		entityManager.createNativeQuery(
-				"insert into transaction_history_projection " +
-						"(event_id, transaction_id, reference_key, account_id, direction, amount, currency, occurred_at, sequence_number, correlation_id) "
-						+
-						"values (:eventId, :transactionId, :referenceKey, :accountId, cast(:direction as entry_type), :amount, :currency, :occurredAt, :sequenceNumber, :correlationId) "
-						+
-						"on conflict do nothing")
-				.setParameter("eventId", eventId)
-				.setParameter("transactionId", transactionId)
-				.setParameter("referenceKey", referenceKey)
-				.setParameter("accountId", accountId)
-				.setParameter("direction", direction)
-				.setParameter("amount", amount)
-				.setParameter("currency", currency)
-				.setParameter("occurredAt", occurredAt)
-				.setParameter("sequenceNumber", sequenceNumber)
-				.setParameter("correlationId", correlationId)
-				.executeUpdate();
+		jdbcTemplate.update(namedStatements.creator(INSERT_ROW, ps -> {
+			ps.setObject(1, eventId);
+			ps.setObject(2, transactionId);
+			ps.setString(3, referenceKey);
+			ps.setObject(4, accountId);
+			ps.setString(5, direction);
+			ps.setBigDecimal(6, amount);
+			ps.setString(7, currency);
+			ps.setTimestamp(8, Timestamp.from(occurredAt));
+			ps.setLong(9, sequenceNumber);
+			ps.setString(10, correlationId);
+		}));
 	}
 }
@@ -0,0 +1,84 @@
+package io.luminar.ledger.infrastructure.projection;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+@Repository
+public class TrialBalanceProjectionRepository {
+	private static final String APPLY_LEGS =
+			"insert into trial_balance_daily (account_type, currency, business_date, debit_total, credit_total, entry_count) " +
+					"select a.type, l.currency, l.business_date, sum(l.debit), sum(l.credit), count(*) " +
+					"from unnest(?::uuid[], ?::text[], ?::date[], ?::numeric[], ?::numeric[]) " +
+					"as l(account_id, currency, business_date, debit, credit) " +
+					"join accounts a on a.id = l.account_id " +
+					"group by a.type, l.currency, l.business_date " +
+					"on conflict (account_type, currency, business_date) do update set " +
+					"debit_total = trial_balance_daily.debit_total + excluded.debit_total, " +
+					"credit_total = trial_balance_daily.credit_total + excluded.credit_total, " +
+					"entry_count = trial_balance_daily.entry_count + excluded.entry_count, " +
+					"updated_at = now()";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public TrialBalanceProjectionRepository(DataSource dataSource) {
+		this.jdbcTemplate = new JdbcTemplate(Objects.requireNonNull(dataSource, "dataSource is required"));
+	}
+
+	public void apply(Batch batch) {
+		Objects.requireNonNull(batch, "batch is required");
+		if (batch.isEmpty()) {
+			return;
+		}
+		jdbcTemplate.update(connection -> {
+			PreparedStatement ps = connection.prepareStatement(APPLY_LEGS);
+			ps.setArray(1, connection.createArrayOf("uuid", batch.accountIds.toArray()));
+			ps.setArray(2, connection.createArrayOf("text", batch.currencies.toArray()));
+			ps.setArray(3, connection.createArrayOf("date", batch.businessDates.toArray()));
+			ps.setArray(4, connection.createArrayOf("numeric", batch.debits.toArray()));
+			ps.setArray(5, connection.createArrayOf("numeric", batch.credits.toArray()));
+			return ps;
+		});
+	}
+
+	public static final class Batch {
+		private final List<UUID> accountIds = new ArrayList<>();
+		private final List<String> currencies = new ArrayList<>();
+		private final List<Date> businessDates = new ArrayList<>();
+		private final List<BigDecimal> debits = new ArrayList<>();
+		private final List<BigDecimal> credits = new ArrayList<>();
+
+		public void add(UUID accountId, String currency, Instant occurredAt, String direction, BigDecimal amount) {
+			Objects.requireNonNull(accountId, "accountId is required");
+			Objects.requireNonNull(currency, "currency is required");
+			Objects.requireNonNull(occurredAt, "occurredAt is required");
+			Objects.requireNonNull(amount, "amount is required");
+
+			boolean debit = switch (Objects.requireNonNull(direction, "direction is required")) {
+				case "DEBIT" -> true;
+				case "CREDIT" -> false;
+				default -> throw new IllegalArgumentException("Unknown entry direction: " + direction);
+			};
+			accountIds.add(accountId);
+			currencies.add(currency);
+			businessDates.add(Date.valueOf(LocalDate.ofInstant(occurredAt, ZoneOffset.UTC)));
+			debits.add(debit ? amount : BigDecimal.ZERO);
+			credits.add(debit ? BigDecimal.ZERO : amount);
+		}
+
+		public boolean isEmpty() {
+			return accountIds.isEmpty();
+		}
+	}
+}
@@ -0,0 +1,20 @@
+package io.luminar.ledger.infrastructure.reconciliation;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+public record BalanceMismatchDetectedEvent(UUID accountId, BigDecimal storedBalance, BigDecimal expectedBalance,
+		Instant detectedAt) {
+	public BalanceMismatchDetectedEvent {
+		Objects.requireNonNull(accountId, "BalanceMismatchDetectedEvent.accountId is required");
+		Objects.requireNonNull(storedBalance, "BalanceMismatchDetectedEvent.storedBalance is required");
+		Objects.requireNonNull(expectedBalance, "BalanceMismatchDetectedEvent.expectedBalance is required");
+		Objects.requireNonNull(detectedAt, "BalanceMismatchDetectedEvent.detectedAt is required");
+	}
+
+	public BigDecimal difference() {
+		return storedBalance.subtract(expectedBalance);
+	}
+}
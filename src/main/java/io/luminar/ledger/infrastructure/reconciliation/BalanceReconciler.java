@@ -0,0 +1,166 @@
+package io.luminar.ledger.infrastructure.reconciliation;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+public class BalanceReconciler {
+	private static final Logger log = LoggerFactory.getLogger(BalanceReconciler.class);
+
+	private final BalanceReconciliationRepository reconciliationRepository;
+	private final ApplicationEventPublisher eventPublisher;
+	private final DataSource dataSource;
+	private final TransactionTemplate transactionTemplate;
+	private final AtomicBoolean running;
+	private final Set<UUID> mismatchedAccounts;
+	private final boolean enabled;
+	private final int chunkSize;
+	private final double maxPoolUtilization;
+	private final int statementTimeoutMs;
+	private final Counter accountsChecked;
+	private final Counter mismatches;
+	private final Counter throttled;
+	private final Counter passes;
+	private final Timer chunkTimer;
+	private volatile UUID cursor;
+
+	public BalanceReconciler(
+			BalanceReconciliationRepository reconciliationRepository,
+			ApplicationEventPublisher eventPublisher,
+			DataSource dataSource,
+			PlatformTransactionManager transactionManager,
+			MeterRegistry meterRegistry,
+			@Value("${ledger.reconciliation.enabled:true}") boolean enabled,
+			@Value("${ledger.reconciliation.chunk-size:200}") int chunkSize,
+			@Value("${ledger.reconciliation.max-pool-utilization:0.5}") double maxPoolUtilization,
+			@Value("${ledger.reconciliation.statement-timeout-ms:2000}") int statementTimeoutMs) {
+		this.reconciliationRepository = Objects.requireNonNull(reconciliationRepository,
+				"reconciliationRepository is required");
+		this.eventPublisher = Objects.requireNonNull(eventPublisher, "eventPublisher is required");
+		this.dataSource = Objects.requireNonNull(dataSource, "dataSource is required");
+		this.transactionTemplate = new TransactionTemplate(Objects.requireNonNull(transactionManager,
+				"transactionManager is required"));
+		this.transactionTemplate.setReadOnly(true);
+		this.running = new AtomicBoolean(false);
+		this.mismatchedAccounts = ConcurrentHashMap.newKeySet();
+		this.enabled = enabled;
+		this.chunkSize = Math.max(1, chunkSize);
+		this.maxPoolUtilization = Math.clamp(maxPoolUtilization, 0.0, 1.0);
+		this.statementTimeoutMs = Math.max(1, statementTimeoutMs);
+
+		Objects.requireNonNull(meterRegistry, "meterRegistry is required");
+		this.accountsChecked = meterRegistry.counter("ledger.reconciliation.accounts.checked");
+		this.mismatches = meterRegistry.counter("ledger.reconciliation.mismatches");
+		this.throttled = meterRegistry.counter("ledger.reconciliation.throttled");
+		this.passes = meterRegistry.counter("ledger.reconciliation.passes");
+		this.chunkTimer = meterRegistry.timer("ledger.reconciliation.chunk");
+		meterRegistry.gaugeCollectionSize("ledger.reconciliation.mismatched.accounts", List.of(), mismatchedAccounts);
+	}
+
+	@Scheduled(fixedDelayString = "${ledger.reconciliation.fixed-delay-ms:1000}")
+	public void tick() {
+		if (!enabled || !running.compareAndSet(false, true)) {
+			return;
+		}
+
+		try {
+			if (isPostingPathBusy()) {
+				throttled.increment();
+				return;
+			}
+			reconcileOnce();
+		} catch (RuntimeException e) {
+			log.error("Balance reconciliation chunk failed. Chunk will be retried.", e);
+		} finally {
+			running.set(false);
+		}
+	}
+
+	public int reconcileOnce() {
+		UUID after = cursor;
+		List<BalanceReconciliationRepository.AccountReconciliationRow> rows = chunkTimer.record(
+				() -> transactionTemplate.execute(status -> {
+					reconciliationRepository.lowerPriority(statementTimeoutMs);
+					return reconciliationRepository.fetchChunk(after, chunkSize);
+				}));
+		if (rows == null || rows.isEmpty()) {
+			completePass();
+			return 0;
+		}
+
+		Instant detectedAt = Instant.now();
+		for (BalanceReconciliationRepository.AccountReconciliationRow row : rows) {
+			if (row.matches()) {
+				mismatchedAccounts.remove(row.accountId());
+				continue;
+			}
+			mismatches.increment();
+			mismatchedAccounts.add(row.accountId());
+			log.warn("Balance mismatch detected. accountId={} stored={} expected={}", row.accountId(),
+					row.storedBalance(), row.expectedBalance());
+			eventPublisher.publishEvent(new BalanceMismatchDetectedEvent(row.accountId(), row.storedBalance(),
+					row.expectedBalance(), detectedAt));
+		}
+		accountsChecked.increment(rows.size());
+
+		if (rows.size() < chunkSize) {
+			completePass();
+		} else {
+			cursor = rows.getLast().accountId();
+		}
+		return rows.size();
+	}
+
+	public Set<UUID> mismatchedAccounts() {
+		return Set.copyOf(mismatchedAccounts);
+	}
+
+	private void completePass() {
+		cursor = null;
+		passes.increment();
+	}
+
+	private boolean isPostingPathBusy() {
+		HikariDataSource hikari = unwrapHikari(dataSource);
+		if (hikari == null) {
+			return false;
+		}
+		HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+		if (pool == null) {
+			return false;
+		}
+		if (pool.getThreadsAwaitingConnection() > 0) {
+			return true;
+		}
+		return pool.getActiveConnections() > hikari.getMaximumPoolSize() * maxPoolUtilization;
+	}
+
+	private static HikariDataSource unwrapHikari(DataSource dataSource) {
+		try {
+			return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+		} catch (SQLException e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,67 @@
+package io.luminar.ledger.infrastructure.reconciliation;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+@Repository
+public class BalanceReconciliationRepository {
+	private final EntityManager entityManager;
+
+	public BalanceReconciliationRepository(EntityManager entityManager) {
+		this.entityManager = Objects.requireNonNull(entityManager, "entityManager is required");
+	}
+
+	public void lowerPriority(int statementTimeoutMs) {
+		entityManager.createNativeQuery("select set_config('statement_timeout', :timeout, true)")
+				.setParameter("timeout", Math.max(1, statementTimeoutMs) + "ms")
+				.getSingleResult();
+	}
+
+	public List<AccountReconciliationRow> fetchChunk(UUID after, int limit) {
+		StringBuilder sql = new StringBuilder();
+		sql.append("select b.account_id, b.balance, ");
+		sql.append("coalesce(s.balance, 0) + coalesce(d.delta, 0) + coalesce(l.delta, 0) ");
+		sql.append("from account_balances b ");
+		sql.append("left join account_balance_snapshot_state st on st.account_id = b.account_id ");
+		sql.append("left join lateral (select bs.as_of, bs.balance from account_balance_snapshots bs ");
+		sql.append("where bs.account_id = b.account_id order by bs.as_of desc limit 1) s on true ");
+		sql.append("left join lateral (select sum(case when e.entry_type = 'CREDIT' then e.amount else -e.amount end) as delta ");
+		sql.append("from transaction_entries e where e.account_id = b.account_id ");
+		sql.append("and (s.as_of is null or e.created_at > s.as_of)) d on true ");
+		sql.append("left join lateral (select ");
+		sql.append("sum(case when e.entry_type = 'CREDIT' then e.amount else -e.amount end) as delta ");
+		sql.append("from ledger_events le join transaction_entries e on e.transaction_id = le.aggregate_id ");
+		sql.append("where le.global_sequence > st.snapshot_sequence and e.account_id = b.account_id ");
+		sql.append("and e.created_at <= s.as_of) l on true ");
+		if (after != null) {
+			sql.append("where b.account_id > :after ");
+		}
+		sql.append("order by b.account_id asc");
+
+		var query = entityManager.createNativeQuery(sql.toString())
+				.setMaxResults(Math.max(1, limit));
+		if (after != null) {
+			query.setParameter("after", after);
+		}
+
+		@SuppressWarnings("unchecked")
+		List<Object[]> rows = (List<Object[]>) query.getResultList();
+		List<AccountReconciliationRow> result = new ArrayList<>(rows.size());
+		for (Object[] row : rows) {
+			result.add(new AccountReconciliationRow((UUID) row[0], (BigDecimal) row[1], (BigDecimal) row[2]));
+		}
+		return result;
+	}
+
+	public record AccountReconciliationRow(UUID accountId, BigDecimal storedBalance, BigDecimal expectedBalance) {
+		public boolean matches() {
+			return storedBalance.compareTo(expectedBalance) == 0;
+		}
+	}
+}
@@ -0,0 +1,30 @@
+package io.luminar.ledger.infrastructure.routing;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+final class ConsistencyTokenInterceptor implements HandlerInterceptor {
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		ReadConsistency.clear();
+		String token = request.getHeader(ReadConsistency.TOKEN_HEADER);
+		if (token == null || token.isBlank()) {
+			return true;
+		}
+		try {
+			ReadConsistency.requireAtLeast(ReadConsistency.parseToken(token));
+		} catch (IllegalArgumentException e) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+		}
+		return true;
+	}
+
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+			Exception ex) {
+		ReadConsistency.clear();
+	}
+}
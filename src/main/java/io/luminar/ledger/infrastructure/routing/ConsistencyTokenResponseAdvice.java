@@ -0,0 +1,56 @@
+package io.luminar.ledger.infrastructure.routing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Objects;
+
+@RestControllerAdvice
+@ConditionalOnProperty(name = "ledger.read-replicas.enabled", havingValue = "true")
+public class ConsistencyTokenResponseAdvice implements ResponseBodyAdvice<Object> {
+	private static final Logger log = LoggerFactory.getLogger(ConsistencyTokenResponseAdvice.class);
+
+	private final ReplicaRoutingDataSource routingDataSource;
+
+	public ConsistencyTokenResponseAdvice(DataSource dataSource) {
+		Objects.requireNonNull(dataSource, "dataSource is required");
+		try {
+			this.routingDataSource = dataSource.unwrap(ReplicaRoutingDataSource.class);
+		} catch (SQLException e) {
+			throw new IllegalStateException("Read replica routing is enabled but the DataSource is not routed", e);
+		}
+	}
+
+	@Override
+	public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+		return true;
+	}
+
+	@Override
+	public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+			Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+			ServerHttpResponse response) {
+		HttpMethod method = request.getMethod();
+		if (HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method) || HttpMethod.OPTIONS.equals(method)) {
+			return body;
+		}
+		try {
+			response.getHeaders().set(ReadConsistency.TOKEN_HEADER,
+					ReadConsistency.formatToken(routingDataSource.currentPrimaryLsn()));
+		} catch (RuntimeException e) {
+			log.warn("Consistency token omitted. Primary WAL position is unavailable.", e);
+		}
+		return body;
+	}
+}
@@ -0,0 +1,48 @@
+package io.luminar.ledger.infrastructure.routing;
+
+public final class ReadConsistency {
+	public static final String TOKEN_HEADER = "X-Consistency-Token";
+
+	private static final ThreadLocal<Long> MINIMUM_LSN = new ThreadLocal<>();
+
+	private ReadConsistency() {
+	}
+
+	public static long minimumLsn() {
+		Long lsn = MINIMUM_LSN.get();
+		return lsn == null ? 0L : lsn;
+	}
+
+	public static void requireAtLeast(long lsn) {
+		MINIMUM_LSN.set(lsn);
+	}
+
+	public static void clear() {
+		MINIMUM_LSN.remove();
+	}
+
+	public static long parseToken(String token) {
+		if (token == null || token.isBlank()) {
+			throw new IllegalArgumentException("Consistency token is required");
+		}
+		String trimmed = token.trim();
+		int slash = trimmed.indexOf('/');
+		if (slash <= 0 || slash == trimmed.length() - 1) {
+			throw new IllegalArgumentException("Malformed consistency token: " + token);
+		}
+		try {
+			long high = Long.parseLong(trimmed, 0, slash, 16);
+			long low = Long.parseLong(trimmed, slash + 1, trimmed.length(), 16);
+			if (high < 0 || high > 0xFFFFFFFFL || low < 0 || low > 0xFFFFFFFFL) {
+				throw new IllegalArgumentException("Malformed consistency token: " + token);
+			}
+			return (high << 32) | low;
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Malformed consistency token: " + token, e);
+		}
+	}
+
+	public static String formatToken(long lsn) {
+		return Long.toHexString(lsn >>> 32).toUpperCase() + "/" + Long.toHexString(lsn & 0xFFFFFFFFL).toUpperCase();
+	}
+}
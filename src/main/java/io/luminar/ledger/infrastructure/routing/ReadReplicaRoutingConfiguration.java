@@ -0,0 +1,113 @@
+package io.luminar.ledger.infrastructure.routing;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "ledger.read-replicas.enabled", havingValue = "true")
+public class ReadReplicaRoutingConfiguration implements WebMvcConfigurer {
+	private static final String DATA_SOURCE_BEAN = "dataSource";
+
+	@Bean
+	static BeanPostProcessor readReplicaRoutingPostProcessor(Environment environment) {
+		Objects.requireNonNull(environment, "environment is required");
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (!DATA_SOURCE_BEAN.equals(beanName) || !(bean instanceof HikariDataSource primary)) {
+					return bean;
+				}
+				return routed(primary, environment);
+			}
+		};
+	}
+
+	@Bean
+	MeterBinder readReplicaLagMetrics(DataSource dataSource) {
+		ReplicaRoutingDataSource routing = unwrap(dataSource);
+		return registry -> routing.replicaLagBytes().keySet().forEach(replica ->
+				Gauge.builder("ledger.read-replica.lag-bytes", routing,
+								r -> r.replicaLagBytes().getOrDefault(replica, -1L))
+						.tag("replica", replica)
+						.register(registry));
+	}
+
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(new ConsistencyTokenInterceptor());
+	}
+
+	private static DataSource routed(HikariDataSource primary, Environment environment) {
+		String urls = environment.getProperty("ledger.read-replicas.urls", "");
+		int maximumPoolSize = environment.getProperty("ledger.read-replicas.maximum-pool-size", Integer.class, 16);
+		long maxLagBytes = environment.getProperty("ledger.read-replicas.max-lag-bytes", Long.class, 16_777_216L);
+		long lagPollMillis = environment.getProperty("ledger.read-replicas.lag-poll-ms", Long.class, 200L);
+		String username = environment.getProperty("ledger.read-replicas.username");
+		String password = environment.getProperty("ledger.read-replicas.password");
+
+		Map<String, DataSource> replicas = new LinkedHashMap<>();
+		for (String url : urls.split(",")) {
+			if (url.isBlank()) {
+				continue;
+			}
+			String name = "replica-" + replicas.size();
+			HikariConfig config = new HikariConfig();
+			primary.copyStateTo(config);
+			config.setJdbcUrl(url.trim());
+			config.setPoolName("ledger-" + name);
+			config.setMaximumPoolSize(Math.max(1, maximumPoolSize));
+			config.setMinimumIdle(Math.min(config.getMinimumIdle(), config.getMaximumPoolSize()));
+			config.setReadOnly(true);
+			if (username != null) {
+				config.setUsername(username);
+			}
+			if (password != null) {
+				config.setPassword(password);
+			}
+			replicas.put(name, new HikariDataSource(config));
+		}
+		return new RoutedDataSource(primary,
+				new ReplicaRoutingDataSource(primary, replicas, maxLagBytes, lagPollMillis));
+	}
+
+	private static ReplicaRoutingDataSource unwrap(DataSource dataSource) {
+		try {
+			return Objects.requireNonNull(dataSource, "dataSource is required").unwrap(ReplicaRoutingDataSource.class);
+		} catch (SQLException e) {
+			throw new IllegalStateException("Read replica routing is enabled but the DataSource is not routed", e);
+		}
+	}
+
+	private static final class RoutedDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+		private final HikariDataSource primary;
+		private final ReplicaRoutingDataSource routing;
+
+		private RoutedDataSource(HikariDataSource primary, ReplicaRoutingDataSource routing) {
+			super(routing);
+			this.primary = primary;
+			this.routing = routing;
+		}
+
+		@Override
+		public void close() {
+			routing.close();
+			primary.close();
+		}
+	}
+}
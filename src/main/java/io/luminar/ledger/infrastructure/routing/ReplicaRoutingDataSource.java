@@ -0,0 +1,181 @@
+package io.luminar.ledger.infrastructure.routing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+	public static final String PRIMARY = "primary";
+
+	private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+	private static final String PRIMARY_LSN = "select pg_current_wal_insert_lsn()::text";
+	private static final String REPLAY_LSN = "select (case when pg_is_in_recovery() then pg_last_wal_replay_lsn() " +
+			"else pg_current_wal_insert_lsn() end)::text";
+
+	private final DataSource primary;
+	private final List<Replica> replicas;
+	private final long maxLagBytes;
+	private final AtomicInteger next;
+	private final ScheduledExecutorService poller;
+	private volatile long primaryLsn;
+
+	public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, long maxLagBytes,
+			long lagPollMillis) {
+		this.primary = Objects.requireNonNull(primary, "primary is required");
+		Objects.requireNonNull(replicas, "replicas is required");
+		if (maxLagBytes < 0) {
+			throw new IllegalArgumentException("maxLagBytes must be >= 0");
+		}
+		this.replicas = new ArrayList<>(replicas.size());
+		Map<Object, Object> targets = new HashMap<>();
+		targets.put(PRIMARY, primary);
+		replicas.forEach((name, dataSource) -> {
+			if (PRIMARY.equals(name)) {
+				throw new IllegalArgumentException("Replica name must not be " + PRIMARY);
+			}
+			this.replicas.add(new Replica(name, Objects.requireNonNull(dataSource, "replica is required")));
+			targets.put(name, dataSource);
+		});
+		this.maxLagBytes = maxLagBytes;
+		this.next = new AtomicInteger();
+		setTargetDataSources(targets);
+		setDefaultTargetDataSource(primary);
+		setLenientFallback(false);
+		afterPropertiesSet();
+
+		refreshLag();
+		if (this.replicas.isEmpty() || lagPollMillis <= 0) {
+			this.poller = null;
+		} else {
+			this.poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "ledger-replica-lag");
+				thread.setDaemon(true);
+				return thread;
+			});
+			this.poller.scheduleWithFixedDelay(this::refreshLag, lagPollMillis, lagPollMillis, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		if (replicas.isEmpty() || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			return PRIMARY;
+		}
+		return selectReplica(ReadConsistency.minimumLsn()).orElse(PRIMARY);
+	}
+
+	public Optional<String> selectReplica(long minimumLsn) {
+		int size = replicas.size();
+		if (size == 0) {
+			return Optional.empty();
+		}
+		long primaryPosition = primaryLsn;
+		int start = Math.floorMod(next.getAndIncrement(), size);
+		for (int i = 0; i < size; i++) {
+			Replica replica = replicas.get((start + i) % size);
+			long replayed = replica.replayLsn;
+			if (replica.healthy && replayed >= minimumLsn && primaryPosition - replayed <= maxLagBytes) {
+				return Optional.of(replica.name);
+			}
+		}
+		return Optional.empty();
+	}
+
+	public long currentPrimaryLsn() {
+		try {
+			long lsn = queryLsn(primary, PRIMARY_LSN);
+			primaryLsn = Math.max(primaryLsn, lsn);
+			return lsn;
+		} catch (SQLException e) {
+			throw new IllegalStateException("Failed to read primary WAL position", e);
+		}
+	}
+
+	public void refreshLag() {
+		try {
+			primaryLsn = Math.max(primaryLsn, queryLsn(primary, PRIMARY_LSN));
+		} catch (SQLException | RuntimeException e) {
+			log.warn("Reading primary WAL position failed. Replica lag will be re-checked.", e);
+		}
+		for (Replica replica : replicas) {
+			try {
+				replica.replayLsn = queryLsn(replica.dataSource, REPLAY_LSN);
+				if (!replica.healthy) {
+					log.info("Read replica available again. replica={}", replica.name);
+				}
+				replica.healthy = true;
+			} catch (SQLException | RuntimeException e) {
+				if (replica.healthy) {
+					log.warn("Read replica unavailable. Reads fall back to the primary. replica={}", replica.name, e);
+				}
+				replica.healthy = false;
+			}
+		}
+	}
+
+	public Map<String, Long> replicaLagBytes() {
+		Map<String, Long> lag = new LinkedHashMap<>();
+		long primaryPosition = primaryLsn;
+		for (Replica replica : replicas) {
+			lag.put(replica.name, replica.healthy ? Math.max(0L, primaryPosition - replica.replayLsn) : -1L);
+		}
+		return lag;
+	}
+
+	@Override
+	public void close() {
+		if (poller != null) {
+			poller.shutdownNow();
+		}
+		for (Replica replica : replicas) {
+			if (replica.dataSource instanceof AutoCloseable closeable) {
+				try {
+					closeable.close();
+				} catch (Exception e) {
+					log.warn("Closing read replica pool failed. replica={}", replica.name, e);
+				}
+			}
+		}
+	}
+
+	private static long queryLsn(DataSource dataSource, String sql) throws SQLException {
+		try (Connection connection = dataSource.getConnection();
+				PreparedStatement ps = connection.prepareStatement(sql);
+				ResultSet rs = ps.executeQuery()) {
+			if (!rs.next() || rs.getString(1) == null) {
+				throw new SQLException("WAL position is not available");
+			}
+			return ReadConsistency.parseToken(rs.getString(1));
+		}
+	}
+
+	private static final class Replica {
+		private final String name;
+		private final DataSource dataSource;
+		private volatile long replayLsn;
+		private volatile boolean healthy = true;
+
+		private Replica(String name, DataSource dataSource) {
+			this.name = name;
+			this.dataSource = dataSource;
+		}
+	}
+}
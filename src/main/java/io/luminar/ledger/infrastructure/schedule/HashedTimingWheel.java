@@ -0,0 +1,88 @@
+package io.luminar.ledger.infrastructure.schedule;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+public final class HashedTimingWheel<T> {
+	private final long tickMillis;
+	private final int mask;
+	private final ArrayDeque<Timeout<T>>[] buckets;
+	private long currentTick;
+	private int size;
+
+	@SuppressWarnings("unchecked")
+	public HashedTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+		if (tickMillis <= 0) {
+			throw new IllegalArgumentException("tickMillis must be > 0");
+		}
+		if (wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+			throw new IllegalArgumentException("wheelSize must be a positive power of two");
+		}
+		this.tickMillis = tickMillis;
+		this.mask = wheelSize - 1;
+		this.buckets = new ArrayDeque[wheelSize];
+		for (int i = 0; i < wheelSize; i++) {
+			buckets[i] = new ArrayDeque<>();
+		}
+		this.currentTick = Math.floorDiv(startMillis, tickMillis);
+	}
+
+	public void schedule(long dueMillis, T item) {
+		Objects.requireNonNull(item, "item is required");
+		long dueTick = Math.max(Math.ceilDiv(dueMillis, tickMillis), currentTick);
+		buckets[(int) (dueTick & mask)].addLast(new Timeout<>(dueTick, item));
+		size++;
+	}
+
+	public int advance(long nowMillis, Consumer<T> expired) {
+		Objects.requireNonNull(expired, "expired is required");
+		long targetTick = Math.floorDiv(nowMillis, tickMillis);
+		if (targetTick < currentTick) {
+			return 0;
+		}
+
+		long visits = Math.min(targetTick - currentTick + 1, buckets.length);
+		int fired = 0;
+		for (long i = 0; i < visits; i++) {
+			Iterator<Timeout<T>> iterator = buckets[(int) ((currentTick + i) & mask)].iterator();
+			while (iterator.hasNext()) {
+				Timeout<T> timeout = iterator.next();
+				if (timeout.dueTick() <= targetTick) {
+					iterator.remove();
+					size--;
+					fired++;
+					expired.accept(timeout.item());
+				}
+			}
+		}
+		currentTick = targetTick + 1;
+		return fired;
+	}
+
+	public int drain(Consumer<T> consumer) {
+		Objects.requireNonNull(consumer, "consumer is required");
+		int drained = 0;
+		for (ArrayDeque<Timeout<T>> bucket : buckets) {
+			Timeout<T> timeout;
+			while ((timeout = bucket.pollFirst()) != null) {
+				drained++;
+				consumer.accept(timeout.item());
+			}
+		}
+		size = 0;
+		return drained;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public long spanMillis() {
+		return tickMillis * buckets.length;
+	}
+
+	private record Timeout<T>(long dueTick, T item) {
+	}
+}
@@ -0,0 +1,259 @@
+package io.luminar.ledger.infrastructure.schedule;
+
+import io.luminar.ledger.application.transaction.command.PostTransactionCommand;
+import io.luminar.ledger.domain.common.DomainException;
+import io.luminar.ledger.infrastructure.journal.PostingCommandCodec;
+import io.luminar.ledger.infrastructure.persistence.schedule.ScheduledPostingRepository;
+import io.luminar.ledger.service.LedgerPostingService;
+import io.luminar.ledger.service.PostedTransaction;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+public class ScheduledPostingDispatcher {
+	private static final Logger log = LoggerFactory.getLogger(ScheduledPostingDispatcher.class);
+	private static final String REJECTED_CODE = "POSTING_REJECTED";
+	private static final String INVALID_PAYLOAD_CODE = "INVALID_PAYLOAD";
+	private static final String RETRIES_EXHAUSTED_CODE = "RETRIES_EXHAUSTED";
+
+	private final ScheduledPostingRepository repository;
+	private final LedgerPostingService ledgerPostingService;
+	private final TransactionTemplate transactionTemplate;
+	private final HashedTimingWheel<ScheduledPostingRepository.Claimed> wheel;
+	private final AtomicBoolean running;
+	private final String owner;
+	private final boolean enabled;
+	private final long claimIntervalMillis;
+	private final long lookaheadMillis;
+	private final long leaseMillis;
+	private final int claimBatchSize;
+	private final int postBatchSize;
+	private final int maxInFlight;
+	private final int maxAttempts;
+	private final Counter claimed;
+	private final Counter posted;
+	private final Counter failed;
+	private final Timer postTimer;
+	private long nextClaimAtMillis;
+	private boolean backlog;
+
+	public ScheduledPostingDispatcher(
+			ScheduledPostingRepository repository,
+			LedgerPostingService ledgerPostingService,
+			PlatformTransactionManager transactionManager,
+			MeterRegistry meterRegistry,
+			@Value("${ledger.scheduled-postings.enabled:false}") boolean enabled,
+			@Value("${ledger.scheduled-postings.owner:}") String owner,
+			@Value("${ledger.scheduled-postings.tick-ms:100}") long tickMillis,
+			@Value("${ledger.scheduled-postings.wheel-size:512}") int wheelSize,
+			@Value("${ledger.scheduled-postings.claim-interval-ms:1000}") long claimIntervalMillis,
+			@Value("${ledger.scheduled-postings.lookahead-ms:5000}") long lookaheadMillis,
+			@Value("${ledger.scheduled-postings.lease-ms:60000}") long leaseMillis,
+			@Value("${ledger.scheduled-postings.claim-batch-size:1000}") int claimBatchSize,
+			@Value("${ledger.scheduled-postings.post-batch-size:200}") int postBatchSize,
+			@Value("${ledger.scheduled-postings.max-in-flight:10000}") int maxInFlight,
+			@Value("${ledger.scheduled-postings.max-attempts:10}") int maxAttempts) {
+		this.repository = Objects.requireNonNull(repository, "repository is required");
+		this.ledgerPostingService = Objects.requireNonNull(ledgerPostingService,
+				"ledgerPostingService is required");
+		this.transactionTemplate = new TransactionTemplate(Objects.requireNonNull(transactionManager,
+				"transactionManager is required"));
+		this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_SERIALIZABLE);
+		if (lookaheadMillis < 0 || leaseMillis <= lookaheadMillis) {
+			throw new IllegalArgumentException(
+					"ledger.scheduled-postings.lease-ms must be greater than lookahead-ms");
+		}
+		this.wheel = new HashedTimingWheel<>(tickMillis, wheelSize, System.currentTimeMillis());
+		this.running = new AtomicBoolean(false);
+		this.owner = owner == null || owner.isBlank() ? "scheduler-" + UUID.randomUUID() : owner.trim();
+		this.enabled = enabled;
+		this.claimIntervalMillis = Math.max(0, claimIntervalMillis);
+		this.lookaheadMillis = lookaheadMillis;
+		this.leaseMillis = leaseMillis;
+		this.claimBatchSize = Math.max(1, claimBatchSize);
+		this.postBatchSize = Math.max(1, postBatchSize);
+		this.maxInFlight = Math.max(1, maxInFlight);
+		this.maxAttempts = Math.max(1, maxAttempts);
+
+		Objects.requireNonNull(meterRegistry, "meterRegistry is required");
+		this.claimed = meterRegistry.counter("ledger.scheduled.claimed");
+		this.posted = meterRegistry.counter("ledger.scheduled.posted");
+		this.failed = meterRegistry.counter("ledger.scheduled.failed");
+		this.postTimer = meterRegistry.timer("ledger.scheduled.post.batch");
+		Gauge.builder("ledger.scheduled.in-flight", this, ScheduledPostingDispatcher::inFlight)
+				.register(meterRegistry);
+	}
+
+	@Scheduled(fixedDelayString = "${ledger.scheduled-postings.tick-ms:100}")
+	public void tick() {
+		if (!enabled || !running.compareAndSet(false, true)) {
+			return;
+		}
+
+		try {
+			dispatchOnce();
+		} catch (RuntimeException e) {
+			log.error("Scheduled posting dispatch failed. Due postings will be retried.", e);
+		} finally {
+			running.set(false);
+		}
+	}
+
+	public synchronized int dispatchOnce() {
+		long now = System.currentTimeMillis();
+		if (backlog || now >= nextClaimAtMillis) {
+			claim(now);
+			nextClaimAtMillis = now + claimIntervalMillis;
+		}
+
+		List<ScheduledPostingRepository.Claimed> due = new ArrayList<>();
+		wheel.advance(now, due::add);
+		int dispatched = 0;
+		for (int from = 0; from < due.size(); from += postBatchSize) {
+			List<ScheduledPostingRepository.Claimed> batch = due.subList(from,
+					Math.min(from + postBatchSize, due.size()));
+			try {
+				dispatched += post(batch);
+			} catch (RuntimeException e) {
+				releaseQuietly(due.subList(from, due.size()));
+				throw e;
+			}
+		}
+		return dispatched;
+	}
+
+	public int inFlight() {
+		return wheel.size();
+	}
+
+	public String owner() {
+		return owner;
+	}
+
+	@PreDestroy
+	public synchronized void close() {
+		List<ScheduledPostingRepository.Claimed> pending = new ArrayList<>(wheel.size());
+		wheel.drain(pending::add);
+		releaseQuietly(pending);
+	}
+
+	private void claim(long now) {
+		repository.reclaimExpired(claimBatchSize);
+		backlog = false;
+		Instant dueBefore = Instant.ofEpochMilli(now + lookaheadMillis);
+		Instant leaseUntil = Instant.ofEpochMilli(now + leaseMillis);
+		while (wheel.size() < maxInFlight) {
+			int limit = Math.min(claimBatchSize, maxInFlight - wheel.size());
+			List<ScheduledPostingRepository.Claimed> batch = repository.claimDue(owner, dueBefore, leaseUntil, limit);
+			for (ScheduledPostingRepository.Claimed posting : batch) {
+				wheel.schedule(posting.dueAt().toEpochMilli(), posting);
+			}
+			claimed.increment(batch.size());
+			if (batch.size() < limit) {
+				return;
+			}
+		}
+		backlog = true;
+	}
+
+	private int post(List<ScheduledPostingRepository.Claimed> batch) {
+		List<ScheduledPostingRepository.Claimed> valid = new ArrayList<>(batch.size());
+		List<PostTransactionCommand> commands = new ArrayList<>(batch.size());
+		for (ScheduledPostingRepository.Claimed posting : batch) {
+			try {
+				commands.add(PostingCommandCodec.decode(posting.payload()));
+				valid.add(posting);
+			} catch (RuntimeException e) {
+				fail(posting, INVALID_PAYLOAD_CODE, e);
+			}
+		}
+		if (commands.isEmpty()) {
+			return 0;
+		}
+
+		try {
+			postTimer.record(() -> transactionTemplate.executeWithoutResult(status -> postAndMark(valid, commands)));
+			posted.increment(valid.size());
+			return valid.size();
+		} catch (RuntimeException e) {
+			return postIndividually(valid, commands);
+		}
+	}
+
+	private int postIndividually(List<ScheduledPostingRepository.Claimed> batch,
+			List<PostTransactionCommand> commands) {
+		int dispatched = 0;
+		for (int i = 0; i < batch.size(); i++) {
+			ScheduledPostingRepository.Claimed posting = batch.get(i);
+			PostTransactionCommand command = commands.get(i);
+			try {
+				transactionTemplate.executeWithoutResult(status -> postAndMark(List.of(posting), List.of(command)));
+				posted.increment();
+				dispatched++;
+			} catch (DomainException | DataIntegrityViolationException e) {
+				fail(posting, e instanceof DomainException domain && domain.code() != null
+						? domain.code()
+						: REJECTED_CODE, e);
+			} catch (RuntimeException e) {
+				if (posting.attempts() >= maxAttempts) {
+					fail(posting, RETRIES_EXHAUSTED_CODE, e);
+				} else {
+					log.warn("Scheduled posting deferred. referenceKey={} attempt={} reason={}",
+							posting.referenceKey(), posting.attempts(), e.getMessage());
+					repository.release(List.of(posting.id()), owner);
+				}
+			}
+		}
+		return dispatched;
+	}
+
+	private void postAndMark(List<ScheduledPostingRepository.Claimed> batch, List<PostTransactionCommand> commands) {
+		List<PostedTransaction> transactions = ledgerPostingService.postBatch(commands);
+		List<UUID> ids = new ArrayList<>(batch.size());
+		List<UUID> transactionIds = new ArrayList<>(batch.size());
+		for (int i = 0; i < batch.size(); i++) {
+			ids.add(batch.get(i).id());
+			transactionIds.add(transactions.get(i).transactionId());
+		}
+		repository.markPosted(ids, transactionIds);
+	}
+
+	private void fail(ScheduledPostingRepository.Claimed posting, String code, RuntimeException cause) {
+		String message = Objects.requireNonNullElse(cause.getMessage(), cause.getClass().getSimpleName());
+		repository.markFailed(posting.id(), code, message);
+		failed.increment();
+		log.warn("Scheduled posting failed. referenceKey={} dueAt={} reason={}", posting.referenceKey(),
+				posting.dueAt(), message);
+	}
+
+	private void releaseQuietly(List<ScheduledPostingRepository.Claimed> postings) {
+		if (postings.isEmpty()) {
+			return;
+		}
+		try {
+			repository.release(postings.stream().map(ScheduledPostingRepository.Claimed::id).toList(), owner);
+		} catch (RuntimeException e) {
+			log.warn("Releasing {} claimed scheduled postings failed. Their lease will expire instead.",
+					postings.size(), e);
+		}
+	}
+}
@@ -0,0 +1,130 @@
+package io.luminar.ledger.infrastructure.sharding;
+
+import io.luminar.ledger.domain.common.DomainException;
+import io.luminar.ledger.infrastructure.persistence.sharding.CrossShardPostingRepository;
+import io.luminar.ledger.service.ShardedPostingService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@ConditionalOnProperty(name = "ledger.sharding.enabled", havingValue = "true")
+public class CrossShardRecoveryJob {
+	private static final Logger log = LoggerFactory.getLogger(CrossShardRecoveryJob.class);
+
+	private final ShardRouter shardRouter;
+	private final ShardedPostingService shardedPostingService;
+	private final AtomicBoolean running;
+	private final AtomicInteger unbalancedCurrencies;
+	private final AtomicLong compensationFailures;
+	private final boolean enabled;
+	private final Duration staleAfter;
+	private final int batchSize;
+	private final Counter committed;
+	private final Counter aborted;
+
+	public CrossShardRecoveryJob(
+			ShardRouter shardRouter,
+			ShardedPostingService shardedPostingService,
+			MeterRegistry meterRegistry,
+			@Value("${ledger.sharding.recovery.enabled:true}") boolean enabled,
+			@Value("${ledger.sharding.recovery.stale-after-ms:30000}") long staleAfterMillis,
+			@Value("${ledger.sharding.recovery.batch-size:100}") int batchSize) {
+		this.shardRouter = Objects.requireNonNull(shardRouter, "shardRouter is required");
+		this.shardedPostingService = Objects.requireNonNull(shardedPostingService,
+				"shardedPostingService is required");
+		this.running = new AtomicBoolean(false);
+		this.unbalancedCurrencies = new AtomicInteger();
+		this.compensationFailures = new AtomicLong();
+		this.enabled = enabled;
+		this.staleAfter = Duration.ofMillis(Math.max(0, staleAfterMillis));
+		this.batchSize = Math.max(1, batchSize);
+
+		Objects.requireNonNull(meterRegistry, "meterRegistry is required");
+		this.committed = meterRegistry.counter("ledger.sharding.recovery.committed");
+		this.aborted = meterRegistry.counter("ledger.sharding.recovery.aborted");
+		Gauge.builder("ledger.sharding.clearing.unbalanced-currencies", unbalancedCurrencies, AtomicInteger::get)
+				.register(meterRegistry);
+		Gauge.builder("ledger.sharding.compensation-failed", compensationFailures, AtomicLong::get)
+				.register(meterRegistry);
+	}
+
+	@Scheduled(fixedDelayString = "${ledger.sharding.recovery.fixed-delay-ms:10000}")
+	public void tick() {
+		if (!enabled || !running.compareAndSet(false, true)) {
+			return;
+		}
+
+		try {
+			recoverOnce();
+			reconcileOnce();
+		} catch (RuntimeException e) {
+			log.error("Cross-shard recovery failed. Prepared postings will be retried.", e);
+		} finally {
+			running.set(false);
+		}
+	}
+
+	public int recoverOnce() {
+		CrossShardPostingRepository coordinator = shardRouter.coordinator().crossShardPostings();
+		int resolved = 0;
+		for (CrossShardPostingRepository.CrossShardPosting posting
+				: coordinator.findStale(Instant.now().minus(staleAfter), batchSize)) {
+			if (!coordinator.touch(posting.id())) {
+				continue;
+			}
+			try {
+				shardedPostingService.resume(posting);
+				committed.increment();
+				resolved++;
+			} catch (DomainException e) {
+				aborted.increment();
+				resolved++;
+				log.warn("Cross-shard posting aborted during recovery. referenceKey={} reason={}",
+						posting.referenceKey(), e.getMessage());
+			} catch (RuntimeException e) {
+				log.warn("Cross-shard posting recovery deferred. referenceKey={}", posting.referenceKey(), e);
+			}
+		}
+		return resolved;
+	}
+
+	public Map<String, BigDecimal> reconcileOnce() {
+		CrossShardPostingRepository coordinator = shardRouter.coordinator().crossShardPostings();
+		long inFlight = coordinator.countPrepared();
+		long failed = coordinator.countCompensationFailed();
+		compensationFailures.set(failed);
+		if (failed > 0) {
+			log.error("Cross-shard postings need manual resolution after a rejected compensation. count={}", failed);
+		}
+		Map<String, BigDecimal> totals = new TreeMap<>();
+		for (ShardRouter.Shard shard : shardRouter.shards()) {
+			shard.ledger().clearingBalances().forEach((currency, balance) -> totals.merge(currency, balance,
+					BigDecimal::add));
+		}
+		totals.values().removeIf(total -> total.signum() == 0);
+		if (inFlight == 0) {
+			unbalancedCurrencies.set(totals.size());
+			if (!totals.isEmpty()) {
+				log.warn("Shard clearing accounts do not net to zero. imbalances={}", totals);
+			}
+		}
+		return totals;
+	}
+}
@@ -0,0 +1,106 @@
+package io.luminar.ledger.infrastructure.sharding;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.luminar.ledger.application.account.AccountMetadataCache;
+import io.luminar.ledger.infrastructure.persistence.account.AccountMetadataRepository;
+import io.luminar.ledger.infrastructure.persistence.ledger.LedgerBulkWriter;
+import io.luminar.ledger.infrastructure.persistence.sharding.CrossShardPostingRepository;
+import io.luminar.ledger.infrastructure.persistence.sharding.ShardLedgerRepository;
+import io.luminar.ledger.infrastructure.persistence.statement.NamedStatements;
+import io.luminar.ledger.service.JdbcPostingEngine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+public class ShardRouter implements AutoCloseable {
+	private static final Logger log = LoggerFactory.getLogger(ShardRouter.class);
+
+	private final List<Shard> shards;
+
+	public ShardRouter(List<DataSource> dataSources, StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper,
+			NamedStatements namedStatements, int copyThreshold, int metadataCacheEntries) {
+		Objects.requireNonNull(dataSources, "dataSources is required");
+		Objects.requireNonNull(stringRedisTemplate, "stringRedisTemplate is required");
+		Objects.requireNonNull(objectMapper, "objectMapper is required");
+		Objects.requireNonNull(namedStatements, "namedStatements is required");
+		if (dataSources.isEmpty()) {
+			throw new IllegalArgumentException("At least one shard is required");
+		}
+		List<Shard> built = new ArrayList<>(dataSources.size());
+		for (int index = 0; index < dataSources.size(); index++) {
+			DataSource dataSource = Objects.requireNonNull(dataSources.get(index), "shard DataSource is required");
+			TransactionTemplate transactionTemplate = new TransactionTemplate(
+					new DataSourceTransactionManager(dataSource));
+			transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_SERIALIZABLE);
+			AccountMetadataCache metadataCache = new AccountMetadataCache(
+					new AccountMetadataRepository(dataSource, namedStatements), stringRedisTemplate, false,
+					metadataCacheEntries);
+			JdbcPostingEngine postingEngine = new JdbcPostingEngine(dataSource,
+					new LedgerBulkWriter(dataSource, copyThreshold), metadataCache, objectMapper, namedStatements);
+			built.add(new Shard(index, dataSource, transactionTemplate, postingEngine,
+					new ShardLedgerRepository(dataSource), new CrossShardPostingRepository(dataSource)));
+		}
+		this.shards = List.copyOf(built);
+	}
+
+	public int size() {
+		return shards.size();
+	}
+
+	public List<Shard> shards() {
+		return shards;
+	}
+
+	public Shard shard(int index) {
+		return shards.get(index);
+	}
+
+	public Shard shardFor(UUID accountId) {
+		return shards.get(shardOf(accountId, shards.size()));
+	}
+
+	public Shard coordinator() {
+		return shards.getFirst();
+	}
+
+	@Override
+	public void close() {
+		for (Shard shard : shards.subList(1, shards.size())) {
+			if (shard.dataSource() instanceof AutoCloseable closeable) {
+				try {
+					closeable.close();
+				} catch (Exception e) {
+					log.warn("Closing shard pool failed. shard={}", shard.index(), e);
+				}
+			}
+		}
+	}
+
+	public static int shardOf(UUID accountId, int shardCount) {
+		Objects.requireNonNull(accountId, "accountId is required");
+		if (shardCount <= 0) {
+			throw new IllegalArgumentException("shardCount must be > 0");
+		}
+		long hash = accountId.getMostSignificantBits() ^ accountId.getLeastSignificantBits();
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= hash >>> 33;
+		return (int) Math.floorMod(hash, (long) shardCount);
+	}
+
+	public record Shard(int index, DataSource dataSource, TransactionTemplate transactionTemplate,
+			JdbcPostingEngine postingEngine, ShardLedgerRepository ledger,
+			CrossShardPostingRepository crossShardPostings) {
+	}
+}
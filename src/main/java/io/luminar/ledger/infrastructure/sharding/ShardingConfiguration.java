@@ -0,0 +1,74 @@
+package io.luminar.ledger.infrastructure.sharding;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.luminar.ledger.infrastructure.persistence.statement.NamedStatements;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "ledger.sharding.enabled", havingValue = "true")
+public class ShardingConfiguration {
+	@Bean(destroyMethod = "close")
+	ShardRouter shardRouter(
+			DataSource dataSource,
+			Flyway flyway,
+			StringRedisTemplate stringRedisTemplate,
+			ObjectMapper objectMapper,
+			NamedStatements namedStatements,
+			@Value("${ledger.sharding.urls:}") String urls,
+			@Value("${ledger.sharding.maximum-pool-size:16}") int maximumPoolSize,
+			@Value("${ledger.persistence.bulk.copy-threshold:64}") int copyThreshold,
+			@Value("${ledger.cache.account-metadata.max-entries:100000}") int metadataCacheEntries) {
+		Objects.requireNonNull(dataSource, "dataSource is required");
+		List<DataSource> shards = new ArrayList<>();
+		shards.add(dataSource);
+		for (String url : urls.split(",")) {
+			if (url.isBlank()) {
+				continue;
+			}
+			DataSource shard = shardPool(dataSource, url.trim(), shards.size(), maximumPoolSize);
+			shards.add(shard);
+			migrate(flyway, shard);
+		}
+		return new ShardRouter(shards, stringRedisTemplate, objectMapper, namedStatements, copyThreshold,
+				metadataCacheEntries);
+	}
+
+	public static void migrate(Flyway flyway, DataSource shard) {
+		Flyway.configure()
+				.configuration(Objects.requireNonNull(flyway, "flyway is required").getConfiguration())
+				.dataSource(Objects.requireNonNull(shard, "shard is required"))
+				.load()
+				.migrate();
+	}
+
+	private static DataSource shardPool(DataSource primary, String url, int index, int maximumPoolSize) {
+		HikariConfig config = new HikariConfig();
+		try {
+			if (primary.isWrapperFor(HikariDataSource.class)) {
+				primary.unwrap(HikariDataSource.class).copyStateTo(config);
+			}
+		} catch (SQLException e) {
+			throw new IllegalStateException("Failed to read primary pool settings", e);
+		}
+		config.setDataSource(null);
+		config.setJdbcUrl(url);
+		config.setPoolName("ledger-shard-" + index);
+		config.setMaximumPoolSize(Math.max(1, maximumPoolSize));
+		config.setMinimumIdle(Math.min(config.getMinimumIdle(), config.getMaximumPoolSize()));
+		config.setReadOnly(false);
+		return new HikariDataSource(config);
+	}
+}
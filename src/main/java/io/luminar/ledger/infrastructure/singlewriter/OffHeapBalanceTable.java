@@ -0,0 +1,152 @@
+package io.luminar.ledger.infrastructure.singlewriter;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+public final class OffHeapBalanceTable {
+	private static final int SLOT_BYTES = 40;
+	private static final int MSB = 0;
+	private static final int LSB = 8;
+	private static final int BALANCE = 16;
+	private static final int VERSION = 24;
+	private static final int OCCUPIED = 32;
+	private static final int TYPE = 33;
+	private static final int STATUS = 34;
+	private static final int CURRENCY = 36;
+	private static final int MAX_CAPACITY = Integer.MAX_VALUE / SLOT_BYTES;
+
+	private ByteBuffer slots;
+	private int capacity;
+	private int mask;
+	private int size;
+
+	public OffHeapBalanceTable(int initialCapacity) {
+		if (initialCapacity <= 0) {
+			throw new IllegalArgumentException("OffHeapBalanceTable.initialCapacity must be > 0");
+		}
+		allocate(Math.max(16, Integer.highestOneBit(Math.min(initialCapacity, MAX_CAPACITY / 2) * 2 - 1)));
+	}
+
+	public int find(long mostSigBits, long leastSigBits) {
+		int slot = hash(mostSigBits, leastSigBits) & mask;
+		while (slots.get(offset(slot) + OCCUPIED) != 0) {
+			int base = offset(slot);
+			if (slots.getLong(base + MSB) == mostSigBits && slots.getLong(base + LSB) == leastSigBits) {
+				return slot;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return -1;
+	}
+
+	public int put(long mostSigBits, long leastSigBits, long balance, long version, int type, int status,
+			int currency) {
+		int existing = find(mostSigBits, leastSigBits);
+		if (existing >= 0) {
+			balance(existing, balance);
+			metadata(existing, version, type, status, currency);
+			return existing;
+		}
+		if ((size + 1) * 2L > capacity) {
+			grow();
+		}
+		int slot = insert(mostSigBits, leastSigBits);
+		balance(slot, balance);
+		metadata(slot, version, type, status, currency);
+		size++;
+		return slot;
+	}
+
+	public long balance(int slot) {
+		return slots.getLong(offset(slot) + BALANCE);
+	}
+
+	public void balance(int slot, long balance) {
+		slots.putLong(offset(slot) + BALANCE, balance);
+	}
+
+	public long version(int slot) {
+		return slots.getLong(offset(slot) + VERSION);
+	}
+
+	public int type(int slot) {
+		return slots.get(offset(slot) + TYPE);
+	}
+
+	public int status(int slot) {
+		return slots.get(offset(slot) + STATUS);
+	}
+
+	public int currency(int slot) {
+		return slots.getShort(offset(slot) + CURRENCY) & 0xFFFF;
+	}
+
+	public void metadata(int slot, long version, int type, int status, int currency) {
+		if (type < 0 || type > Byte.MAX_VALUE || status < 0 || status > Byte.MAX_VALUE
+				|| currency < 0 || currency > 0xFFFF) {
+			throw new IllegalArgumentException("Account metadata does not fit the balance table slot");
+		}
+		int base = offset(slot);
+		slots.putLong(base + VERSION, version);
+		slots.put(base + TYPE, (byte) type);
+		slots.put(base + STATUS, (byte) status);
+		slots.putShort(base + CURRENCY, (short) currency);
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public long reservedBytes() {
+		return (long) capacity * SLOT_BYTES;
+	}
+
+	private int insert(long mostSigBits, long leastSigBits) {
+		int slot = hash(mostSigBits, leastSigBits) & mask;
+		while (slots.get(offset(slot) + OCCUPIED) != 0) {
+			slot = (slot + 1) & mask;
+		}
+		int base = offset(slot);
+		slots.putLong(base + MSB, mostSigBits);
+		slots.putLong(base + LSB, leastSigBits);
+		slots.put(base + OCCUPIED, (byte) 1);
+		return slot;
+	}
+
+	private void grow() {
+		if (capacity * 2L > MAX_CAPACITY) {
+			throw new IllegalStateException("OffHeapBalanceTable cannot grow beyond " + capacity + " slots");
+		}
+		ByteBuffer previous = slots;
+		int previousCapacity = capacity;
+		allocate(capacity * 2);
+		for (int i = 0; i < previousCapacity; i++) {
+			int base = i * SLOT_BYTES;
+			if (previous.get(base + OCCUPIED) == 0) {
+				continue;
+			}
+			int slot = insert(previous.getLong(base + MSB), previous.getLong(base + LSB));
+			balance(slot, previous.getLong(base + BALANCE));
+			metadata(slot, previous.getLong(base + VERSION), previous.get(base + TYPE), previous.get(base + STATUS),
+					previous.getShort(base + CURRENCY) & 0xFFFF);
+		}
+	}
+
+	private void allocate(int newCapacity) {
+		slots = ByteBuffer.allocateDirect(newCapacity * SLOT_BYTES).order(ByteOrder.nativeOrder());
+		capacity = newCapacity;
+		mask = newCapacity - 1;
+	}
+
+	private static int offset(int slot) {
+		return slot * SLOT_BYTES;
+	}
+
+	private static int hash(long mostSigBits, long leastSigBits) {
+		long h = mostSigBits * 0x9E3779B97F4A7C15L ^ leastSigBits;
+		h ^= h >>> 33;
+		h *= 0xFF51AFD7ED558CCDL;
+		h ^= h >>> 33;
+		return (int) h;
+	}
+}
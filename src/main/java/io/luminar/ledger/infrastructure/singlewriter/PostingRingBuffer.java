@@ -0,0 +1,104 @@
+package io.luminar.ledger.infrastructure.singlewriter;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+public final class PostingRingBuffer<T> {
+	private static final long PRODUCER_PARK_NANOS = 1_000L;
+
+	private final Object[] slots;
+	private final AtomicLongArray published;
+	private final AtomicLong claimed;
+	private final AtomicLong consumed;
+	private final int mask;
+	private volatile Thread consumer;
+	private volatile boolean consumerWaiting;
+	private volatile boolean closed;
+
+	public PostingRingBuffer(int capacity) {
+		if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+			throw new IllegalArgumentException("PostingRingBuffer.capacity must be a power of two");
+		}
+		this.slots = new Object[capacity];
+		this.published = new AtomicLongArray(capacity);
+		for (int i = 0; i < capacity; i++) {
+			published.set(i, -1L);
+		}
+		this.claimed = new AtomicLong();
+		this.consumed = new AtomicLong(-1L);
+		this.mask = capacity - 1;
+	}
+
+	public void bindConsumer(Thread thread) {
+		this.consumer = Objects.requireNonNull(thread, "thread is required");
+	}
+
+	public void publish(T value) {
+		Objects.requireNonNull(value, "value is required");
+		ensureOpen();
+		long sequence = claimed.getAndIncrement();
+		while (sequence - slots.length > consumed.get()) {
+			ensureOpen();
+			LockSupport.parkNanos(PRODUCER_PARK_NANOS);
+		}
+		int index = (int) (sequence & mask);
+		slots[index] = value;
+		published.set(index, sequence);
+		if (consumerWaiting) {
+			LockSupport.unpark(consumer);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	public int drain(List<T> batch, int maxItems) {
+		long next = consumed.get() + 1;
+		int count = 0;
+		while (count < maxItems) {
+			int index = (int) ((next + count) & mask);
+			if (published.get(index) != next + count) {
+				break;
+			}
+			batch.add((T) slots[index]);
+			slots[index] = null;
+			count++;
+		}
+		return count;
+	}
+
+	public void release(int count) {
+		consumed.lazySet(consumed.get() + count);
+	}
+
+	public void awaitPublished(long parkNanos) {
+		long next = consumed.get() + 1;
+		consumerWaiting = true;
+		try {
+			if (published.get((int) (next & mask)) != next && !closed) {
+				LockSupport.parkNanos(parkNanos);
+			}
+		} finally {
+			consumerWaiting = false;
+		}
+	}
+
+	public long backlog() {
+		return Math.max(0L, claimed.get() - consumed.get() - 1);
+	}
+
+	public void close() {
+		closed = true;
+		Thread thread = consumer;
+		if (thread != null) {
+			LockSupport.unpark(thread);
+		}
+	}
+
+	private void ensureOpen() {
+		if (closed) {
+			throw new IllegalStateException("Posting ring buffer is closed");
+		}
+	}
+}
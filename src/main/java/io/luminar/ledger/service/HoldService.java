@@ -0,0 +1,157 @@
+package io.luminar.ledger.service;
+
+import io.luminar.ledger.application.hold.command.CaptureHoldCommand;
+import io.luminar.ledger.application.hold.command.ReserveHoldCommand;
+import io.luminar.ledger.application.transaction.command.PostTransactionCommand;
+import io.luminar.ledger.domain.account.AccountId;
+import io.luminar.ledger.domain.account.AccountType;
+import io.luminar.ledger.domain.common.DomainException;
+import io.luminar.ledger.domain.common.ReferenceKey;
+import io.luminar.ledger.domain.hold.Hold;
+import io.luminar.ledger.domain.hold.HoldStatus;
+import io.luminar.ledger.domain.ledger.MoneyMicros;
+import io.luminar.ledger.infrastructure.persistence.hold.AccountHoldRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+public class HoldService {
+	private final AccountHoldRepository accountHoldRepository;
+	private final LedgerPostingService ledgerPostingService;
+	private final Duration defaultExpiry;
+
+	public HoldService(AccountHoldRepository accountHoldRepository, LedgerPostingService ledgerPostingService,
+			@Value("${ledger.holds.default-expiry-seconds:604800}") long defaultExpirySeconds) {
+		this.accountHoldRepository = Objects.requireNonNull(accountHoldRepository,
+				"accountHoldRepository is required");
+		this.ledgerPostingService = Objects.requireNonNull(ledgerPostingService, "ledgerPostingService is required");
+		if (defaultExpirySeconds <= 0) {
+			throw new IllegalArgumentException("ledger.holds.default-expiry-seconds must be > 0");
+		}
+		this.defaultExpiry = Duration.ofSeconds(defaultExpirySeconds);
+	}
+
+	@Transactional(isolation = Isolation.SERIALIZABLE)
+	public Hold reserve(ReserveHoldCommand command) {
+		Objects.requireNonNull(command, "ReserveHoldCommand is required");
+		requireSupportedEngine();
+		Optional<Hold> existing = accountHoldRepository.findByReferenceKey(command.referenceKey());
+		if (existing.isPresent()) {
+			return existing.get();
+		}
+
+		BigDecimal amount = normalize(command.amount());
+		AccountHoldRepository.LockedAccount account = accountHoldRepository.lockAccount(command.accountId())
+				.orElseThrow(() -> new DomainException("One or more accounts do not exist"));
+		account.metadata().assertPostingAllowed();
+		if (account.metadata().type() == AccountType.ASSET && account.available().compareTo(amount) < 0) {
+			throw new DomainException("Insufficient funds for accountId: " + command.accountId());
+		}
+
+		Instant now = LedgerPostingSupport.now();
+		Hold hold = new Hold(
+				UUID.randomUUID(),
+				new AccountId(command.accountId()),
+				new ReferenceKey(command.referenceKey()),
+				amount,
+				HoldStatus.ACTIVE,
+				now.plus(Objects.requireNonNullElse(command.expiresIn(), defaultExpiry)),
+				null,
+				null,
+				null,
+				now,
+				now);
+		if (!accountHoldRepository.insert(hold)) {
+			return accountHoldRepository.findByReferenceKey(command.referenceKey())
+					.orElseThrow(() -> new DomainException("Hold already exists but could not be loaded"));
+		}
+		return hold;
+	}
+
+	@Transactional(isolation = Isolation.SERIALIZABLE)
+	public Hold capture(CaptureHoldCommand command) {
+		Objects.requireNonNull(command, "CaptureHoldCommand is required");
+		requireSupportedEngine();
+		Hold hold = accountHoldRepository.lockById(command.holdId())
+				.orElseThrow(() -> new DomainException("Hold does not exist: " + command.holdId()));
+		if (hold.isCapturedBy(command.referenceKey())) {
+			return hold;
+		}
+
+		Instant now = LedgerPostingSupport.now();
+		BigDecimal amount = command.amount() == null ? hold.amount() : normalize(command.amount());
+		hold.assertCapturable(now, amount);
+
+		Hold releasing = withStatus(hold, HoldStatus.CAPTURED, amount, command.referenceKey(), null, now);
+		accountHoldRepository.updateStatus(releasing);
+
+		UUID accountId = hold.accountId().value();
+		PostedTransaction posted = ledgerPostingService.post(new PostTransactionCommand(command.referenceKey(),
+				List.of(
+						new PostTransactionCommand.Entry(accountId, PostTransactionCommand.EntryType.DEBIT, amount),
+						new PostTransactionCommand.Entry(command.counterpartyAccountId(),
+								PostTransactionCommand.EntryType.CREDIT, amount))));
+
+		Hold captured = withStatus(hold, HoldStatus.CAPTURED, amount, command.referenceKey(),
+				posted.transactionId(), now);
+		accountHoldRepository.updateStatus(captured);
+		return captured;
+	}
+
+	@Transactional(isolation = Isolation.SERIALIZABLE)
+	public Hold voidHold(UUID holdId) {
+		Objects.requireNonNull(holdId, "holdId is required");
+		Hold hold = accountHoldRepository.lockById(holdId)
+				.orElseThrow(() -> new DomainException("Hold does not exist: " + holdId));
+		if (hold.status() == HoldStatus.VOIDED) {
+			return hold;
+		}
+		if (hold.status() != HoldStatus.ACTIVE) {
+			throw new DomainException("Hold is not active: " + holdId + " (" + hold.status() + ")");
+		}
+
+		Hold voided = withStatus(hold, HoldStatus.VOIDED, null, null, null, LedgerPostingSupport.now());
+		accountHoldRepository.updateStatus(voided);
+		return voided;
+	}
+
+	private void requireSupportedEngine() {
+		if (SingleWriterPostingEngine.NAME.equals(ledgerPostingService.engineName())) {
+			throw new DomainException("Holds are not supported by the single-writer posting engine");
+		}
+	}
+
+	private static BigDecimal normalize(BigDecimal amount) {
+		long micros = MoneyMicros.fromBigDecimal(amount);
+		if (micros <= 0) {
+			throw new DomainException("Hold.amount must be positive");
+		}
+		return MoneyMicros.toBigDecimal(micros);
+	}
+
+	private static Hold withStatus(Hold hold, HoldStatus status, BigDecimal capturedAmount, String captureReferenceKey,
+			UUID transactionId, Instant updatedAt) {
+		return new Hold(
+				hold.id(),
+				hold.accountId(),
+				hold.referenceKey(),
+				hold.amount(),
+				status,
+				hold.expiresAt(),
+				capturedAmount,
+				captureReferenceKey,
+				transactionId,
+				hold.createdAt(),
+				updatedAt);
+	}
+}
@@ -0,0 +1,246 @@
+package io.luminar.ledger.service;
+
+import io.luminar.ledger.application.account.AccountMetadataCache;
+import io.luminar.ledger.application.transaction.command.CompactPostingCommand;
+import io.luminar.ledger.application.transaction.command.PostTransactionCommand;
+import io.luminar.ledger.domain.account.AccountMetadata;
+import io.luminar.ledger.domain.account.AccountType;
+import io.luminar.ledger.domain.common.DomainException;
+import io.luminar.ledger.domain.ledger.LedgerTransaction;
+import io.luminar.ledger.domain.ledger.MoneyMicros;
+import io.luminar.ledger.infrastructure.mapper.LedgerEventPersistenceMapper;
+import io.luminar.ledger.infrastructure.mapper.LedgerPersistenceMapper;
+import io.luminar.ledger.infrastructure.persistence.ledger.LedgerBulkWriter;
+import io.luminar.ledger.infrastructure.persistence.ledger.LedgerEventEntity;
+import io.luminar.ledger.infrastructure.persistence.ledger.TransactionEntryEntity;
+import io.luminar.ledger.infrastructure.persistence.statement.NamedStatement;
+import io.luminar.ledger.infrastructure.persistence.statement.NamedStatements;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+@Component
+public class JdbcPostingEngine implements PostingEngine {
+	public static final String NAME = "jdbc";
+
+	private static final NamedStatement FIND_TRANSACTION = new NamedStatement("posting.find-transaction",
+			"select id, reference_key, created_at from transactions where reference_key = ?");
+	private static final NamedStatement APPLY_BALANCE_DELTAS = new NamedStatement("posting.apply-balance-deltas",
+			"update account_balances b set balance = b.balance + d.delta " +
+					"from unnest(?::uuid[], ?::numeric[], ?::boolean[]) as d(account_id, delta, guarded) " +
+					"where b.account_id = d.account_id " +
+					"and (not d.guarded or b.balance - account_held_amount(b.account_id) >= -d.delta) " +
+					"returning b.account_id");
+
+	private final JdbcTemplate jdbcTemplate;
+	private final LedgerBulkWriter ledgerBulkWriter;
+	private final AccountMetadataCache accountMetadataCache;
+	private final ObjectMapper objectMapper;
+	private final NamedStatements namedStatements;
+
+	public JdbcPostingEngine(DataSource dataSource, LedgerBulkWriter ledgerBulkWriter,
+			AccountMetadataCache accountMetadataCache, ObjectMapper objectMapper, NamedStatements namedStatements) {
+		this.jdbcTemplate = new JdbcTemplate(Objects.requireNonNull(dataSource));
+		this.ledgerBulkWriter = Objects.requireNonNull(ledgerBulkWriter);
+		this.accountMetadataCache = Objects.requireNonNull(accountMetadataCache);
+		this.objectMapper = Objects.requireNonNull(objectMapper);
+		this.namedStatements = Objects.requireNonNull(namedStatements);
+	}
+
+	@Override
+	public String name() {
+		return NAME;
+	}
+
+	@Override
+	public List<PostedTransaction> postAll(List<PostTransactionCommand> commands) {
+		return jdbcTemplate.execute((ConnectionCallback<List<PostedTransaction>>) connection ->
+				postAll(connection, commands, true));
+	}
+
+	public List<PostedTransaction> postCompensations(List<PostTransactionCommand> commands) {
+		return jdbcTemplate.execute((ConnectionCallback<List<PostedTransaction>>) connection ->
+				postAll(connection, commands, false));
+	}
+
+	@Override
+	public PostedTransaction postCompact(CompactPostingCommand command) {
+		return jdbcTemplate.execute((ConnectionCallback<PostedTransaction>) connection ->
+				postCompact(connection, command));
+	}
+
+	private List<PostedTransaction> postAll(Connection connection, List<PostTransactionCommand> commands,
+			boolean guardOverdraft) throws SQLException {
+		PostedTransaction[] results = new PostedTransaction[commands.size()];
+		Set<UUID> accountIds = new HashSet<>();
+		try (PreparedStatement find = namedStatements.prepare(connection, FIND_TRANSACTION)) {
+			for (int i = 0; i < commands.size(); i++) {
+				PostTransactionCommand command = commands.get(i);
+				results[i] = findPosted(find, command.referenceKey());
+				if (results[i] == null) {
+					accountIds.addAll(LedgerPostingSupport.extractAccountIds(command.entries()));
+				}
+			}
+		}
+		if (accountIds.isEmpty()) {
+			return List.of(results);
+		}
+
+		Map<UUID, AccountMetadata> lockedAccounts = accountMetadataCache.lockForPosting(accountIds);
+
+		List<LedgerTransaction> pending = new ArrayList<>(commands.size());
+		for (int i = 0; i < commands.size(); i++) {
+			if (results[i] != null) {
+				continue;
+			}
+			PostTransactionCommand command = commands.get(i);
+			validateAccounts(LedgerPostingSupport.extractAccountIds(command.entries()), lockedAccounts);
+			LedgerPostingSupport.requireMinimumEntries(command);
+			pending.add(LedgerPostingSupport.buildDomainTransaction(command, lockedAccounts, UUID.randomUUID(),
+					LedgerPostingSupport.now()));
+		}
+
+		List<PostedTransaction> recorded = record(connection, pending, lockedAccounts, guardOverdraft);
+		for (int i = 0, next = 0; i < results.length; i++) {
+			if (results[i] == null) {
+				results[i] = recorded.get(next++);
+			}
+		}
+		return List.of(results);
+	}
+
+	private PostedTransaction postCompact(Connection connection, CompactPostingCommand command)
+			throws SQLException {
+		try (PreparedStatement find = namedStatements.prepare(connection, FIND_TRANSACTION)) {
+			PostedTransaction existing = findPosted(find, command.referenceKey());
+			if (existing != null) {
+				return existing;
+			}
+		}
+
+		Set<UUID> accountIds = LedgerPostingSupport.extractAccountIds(command);
+		Map<UUID, AccountMetadata> lockedAccounts = accountMetadataCache.lockForPosting(accountIds);
+		validateAccounts(accountIds, lockedAccounts);
+		LedgerTransaction transaction = LedgerPostingSupport.buildDomainTransaction(command, lockedAccounts,
+				UUID.randomUUID(), LedgerPostingSupport.now());
+		return record(connection, List.of(transaction), lockedAccounts, true).getFirst();
+	}
+
+	private List<PostedTransaction> record(Connection connection, List<LedgerTransaction> transactions,
+			Map<UUID, AccountMetadata> lockedAccounts, boolean guardOverdraft) throws SQLException {
+		List<PostedTransaction> results = new ArrayList<>(transactions.size());
+		List<LedgerTransaction> posted = new ArrayList<>(transactions.size());
+		List<LedgerEventEntity> eventEntities = new ArrayList<>(transactions.size());
+		List<TransactionEntryEntity> entryEntities = new ArrayList<>();
+		try (PreparedStatement insert = namedStatements.prepare(connection, LedgerPostingSupport.INSERT_TRANSACTION)) {
+			for (LedgerTransaction transaction : transactions) {
+				String referenceKey = transaction.referenceKey().value();
+				insert.setObject(1, transaction.id());
+				insert.setString(2, referenceKey);
+				insert.setTimestamp(3, Timestamp.from(transaction.occurredAt()));
+				if (insert.executeUpdate() == 0) {
+					try (PreparedStatement find = namedStatements.prepare(connection, FIND_TRANSACTION)) {
+						PostedTransaction concurrent = findPosted(find, referenceKey);
+						if (concurrent == null) {
+							throw new DomainException("Transaction already exists but could not be loaded");
+						}
+						results.add(concurrent);
+					}
+					continue;
+				}
+
+				eventEntities.add(LedgerEventPersistenceMapper.toEntity(
+						LedgerPostingSupport.buildRecordedEvent(transaction, objectMapper)));
+				entryEntities.addAll(LedgerPersistenceMapper.toTransactionEntryEntities(transaction));
+				posted.add(transaction);
+				results.add(new PostedTransaction(transaction.id(), referenceKey, transaction.occurredAt()));
+			}
+		}
+
+		ledgerBulkWriter.insertEvents(eventEntities);
+		ledgerBulkWriter.insertEntries(entryEntities);
+
+		try (PreparedStatement update = namedStatements.prepare(connection, APPLY_BALANCE_DELTAS)) {
+			for (LedgerTransaction transaction : posted) {
+				applyBalanceDeltas(connection, update, LedgerPostingSupport.aggregateNetChanges(transaction.entries()),
+						lockedAccounts, guardOverdraft);
+			}
+		}
+		return results;
+	}
+
+	private static PostedTransaction findPosted(PreparedStatement find, String referenceKey) throws SQLException {
+		find.setString(1, referenceKey);
+		try (ResultSet rs = find.executeQuery()) {
+			if (!rs.next()) {
+				return null;
+			}
+			return new PostedTransaction(
+					rs.getObject(1, UUID.class),
+					rs.getString(2),
+					rs.getTimestamp(3).toInstant());
+		}
+	}
+
+	private static void validateAccounts(Set<UUID> accountIds, Map<UUID, AccountMetadata> lockedAccounts) {
+		for (UUID accountId : accountIds) {
+			AccountMetadata account = lockedAccounts.get(accountId);
+			if (account == null) {
+				throw new DomainException("One or more accounts do not exist");
+			}
+			account.assertPostingAllowed();
+		}
+	}
+
+	private static void applyBalanceDeltas(Connection connection, PreparedStatement update,
+			LedgerPostingSupport.NetChanges netChanges, Map<UUID, AccountMetadata> lockedAccounts,
+			boolean guardOverdraft) throws SQLException {
+		int size = netChanges.size();
+		UUID[] accountIds = new UUID[size];
+		BigDecimal[] deltas = new BigDecimal[size];
+		Boolean[] guarded = new Boolean[size];
+		for (int i = 0; i < size; i++) {
+			accountIds[i] = netChanges.accountId(i);
+			deltas[i] = MoneyMicros.toBigDecimal(netChanges.delta(i));
+			guarded[i] = guardOverdraft && netChanges.delta(i) < 0
+					&& lockedAccounts.get(accountIds[i]).type() == AccountType.ASSET;
+		}
+
+		update.setArray(1, connection.createArrayOf("uuid", accountIds));
+		update.setArray(2, connection.createArrayOf("numeric", deltas));
+		update.setArray(3, connection.createArrayOf("bool", guarded));
+		Set<UUID> updated = new HashSet<>(size);
+		try (ResultSet rs = update.executeQuery()) {
+			while (rs.next()) {
+				updated.add(rs.getObject(1, UUID.class));
+			}
+		}
+		if (updated.size() == size) {
+			return;
+		}
+		for (int j = 0; j < size; j++) {
+			if (!updated.contains(accountIds[j])) {
+				throw guarded[j]
+						? new DomainException("Insufficient funds for accountId: " + accountIds[j])
+						: new DomainException("Account balance update failed for accountId: " + accountIds[j]);
+			}
+		}
+	}
+}
@@ -0,0 +1,197 @@
+package io.luminar.ledger.service;
+
+import io.luminar.ledger.application.account.AccountMetadataCache;
+import io.luminar.ledger.application.transaction.command.PostTransactionCommand;
+import io.luminar.ledger.domain.account.AccountMetadata;
+import io.luminar.ledger.domain.account.AccountType;
+import io.luminar.ledger.domain.common.DomainException;
+import io.luminar.ledger.domain.ledger.LedgerEntry;
+import io.luminar.ledger.domain.ledger.LedgerTransaction;
+import io.luminar.ledger.domain.ledger.MoneyMicros;
+import io.luminar.ledger.domain.ledger.event.LedgerTransactionRecordedEvent;
+import io.luminar.ledger.infrastructure.mapper.LedgerEventPersistenceMapper;
+import io.luminar.ledger.infrastructure.mapper.LedgerPersistenceMapper;
+import io.luminar.ledger.infrastructure.persistence.ledger.LedgerBulkWriter;
+import io.luminar.ledger.infrastructure.persistence.ledger.LedgerEventEntity;
+import io.luminar.ledger.infrastructure.persistence.ledger.TransactionEntity;
+import io.luminar.ledger.infrastructure.persistence.ledger.TransactionEntryEntity;
+import io.luminar.ledger.infrastructure.persistence.ledger.TransactionJpaRepository;
+import io.luminar.ledger.infrastructure.persistence.statement.NamedStatements;
+import jakarta.persistence.EntityManager;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+@Component
+public class JpaPostingEngine implements PostingEngine {
+	public static final String NAME = "jpa";
+
+	private final TransactionJpaRepository transactionJpaRepository;
+	private final LedgerBulkWriter ledgerBulkWriter;
+	private final AccountMetadataCache accountMetadataCache;
+	private final EntityManager entityManager;
+	private final ObjectMapper objectMapper;
+	private final JdbcTemplate jdbcTemplate;
+	private final NamedStatements namedStatements;
+
+	public JpaPostingEngine(
+			TransactionJpaRepository transactionJpaRepository,
+			LedgerBulkWriter ledgerBulkWriter,
+			AccountMetadataCache accountMetadataCache,
+			EntityManager entityManager,
+			ObjectMapper objectMapper,
+			DataSource dataSource,
+			NamedStatements namedStatements) {
+		this.transactionJpaRepository = Objects.requireNonNull(transactionJpaRepository);
+		this.ledgerBulkWriter = Objects.requireNonNull(ledgerBulkWriter);
+		this.accountMetadataCache = Objects.requireNonNull(accountMetadataCache);
+		this.entityManager = Objects.requireNonNull(entityManager);
+		this.objectMapper = Objects.requireNonNull(objectMapper);
+		this.jdbcTemplate = new JdbcTemplate(Objects.requireNonNull(dataSource));
+		this.namedStatements = Objects.requireNonNull(namedStatements);
+	}
+
+	@Override
+	public String name() {
+		return NAME;
+	}
+
+	@Override
+	public List<PostedTransaction> postAll(List<PostTransactionCommand> commands) {
+		PostedTransaction[] results = new PostedTransaction[commands.size()];
+		Set<UUID> accountIds = new HashSet<>();
+		for (int i = 0; i < commands.size(); i++) {
+			PostTransactionCommand command = commands.get(i);
+			Optional<TransactionEntity> existing = transactionJpaRepository.findByReferenceKey(command.referenceKey());
+			if (existing.isPresent()) {
+				TransactionEntity entity = existing.get();
+				results[i] = new PostedTransaction(entity.getId(), entity.getReferenceKey(), entity.getCreatedAt());
+				continue;
+			}
+			accountIds.addAll(LedgerPostingSupport.extractAccountIds(command.entries()));
+		}
+		if (accountIds.isEmpty()) {
+			return List.of(results);
+		}
+
+		Map<UUID, AccountMetadata> lockedAccounts = accountMetadataCache.lockForPosting(accountIds);
+
+		List<LedgerTransaction> posted = new ArrayList<>(commands.size());
+		List<LedgerEventEntity> eventEntities = new ArrayList<>(commands.size());
+		List<TransactionEntryEntity> entryEntities = new ArrayList<>();
+		for (int i = 0; i < commands.size(); i++) {
+			if (results[i] != null) {
+				continue;
+			}
+			PostTransactionCommand command = commands.get(i);
+			validateAccounts(command, lockedAccounts);
+
+			UUID transactionId = UUID.randomUUID();
+			Instant occurredAt = LedgerPostingSupport.now();
+			LedgerTransaction domainTransaction = LedgerPostingSupport.buildDomainTransaction(command,
+					lockedAccounts, transactionId, occurredAt);
+
+			if (!insertTransaction(transactionId, command.referenceKey(), occurredAt)) {
+				TransactionEntity concurrent = transactionJpaRepository.findByReferenceKey(command.referenceKey())
+						.orElseThrow(() -> new DomainException("Transaction already exists but could not be loaded"));
+				results[i] = new PostedTransaction(concurrent.getId(), concurrent.getReferenceKey(),
+						concurrent.getCreatedAt());
+				continue;
+			}
+
+			LedgerTransactionRecordedEvent recordedEvent = LedgerPostingSupport.buildRecordedEvent(domainTransaction,
+					objectMapper);
+			eventEntities.add(LedgerEventPersistenceMapper.toEntity(recordedEvent));
+			entryEntities.addAll(LedgerPersistenceMapper.toTransactionEntryEntities(domainTransaction));
+			posted.add(domainTransaction);
+			results[i] = new PostedTransaction(domainTransaction.id(), command.referenceKey(), occurredAt);
+		}
+
+		ledgerBulkWriter.insertEvents(eventEntities);
+		ledgerBulkWriter.insertEntries(entryEntities);
+
+		for (LedgerTransaction transaction : posted) {
+			applyBalanceUpdates(transaction.entries(), lockedAccounts);
+		}
+		return List.of(results);
+	}
+
+	private boolean insertTransaction(UUID transactionId, String referenceKey, Instant occurredAt) {
+		return jdbcTemplate.update(namedStatements.creator(LedgerPostingSupport.INSERT_TRANSACTION, insert -> {
+			insert.setObject(1, transactionId);
+			insert.setString(2, referenceKey);
+			insert.setTimestamp(3, Timestamp.from(occurredAt));
+		})) == 1;
+	}
+
+	private static void validateAccounts(PostTransactionCommand command,
+			Map<UUID, AccountMetadata> lockedAccounts) {
+		Set<UUID> requestedAccountIds = LedgerPostingSupport.extractAccountIds(command.entries());
+		List<AccountMetadata> accounts = new ArrayList<>(requestedAccountIds.size());
+		for (UUID accountId : requestedAccountIds) {
+			AccountMetadata account = lockedAccounts.get(accountId);
+			if (account == null) {
+				throw new DomainException("One or more accounts do not exist");
+			}
+			accounts.add(account);
+		}
+
+		for (AccountMetadata account : accounts) {
+			account.assertPostingAllowed();
+		}
+
+		LedgerPostingSupport.requireMinimumEntries(command);
+	}
+
+	private void applyBalanceUpdates(List<LedgerEntry> entries, Map<UUID, AccountMetadata> lockedAccounts) {
+		LedgerPostingSupport.NetChanges netChanges = LedgerPostingSupport.aggregateNetChanges(entries);
+		for (int i = 0; i < netChanges.size(); i++) {
+			UUID accountId = netChanges.accountId(i);
+			long deltaMicros = netChanges.delta(i);
+			BigDecimal delta = MoneyMicros.toBigDecimal(deltaMicros);
+			AccountMetadata account = lockedAccounts.get(accountId);
+			if (account == null) {
+				throw new DomainException("Account type missing for accountId: " + accountId);
+			}
+
+			int updated;
+			if (deltaMicros < 0 && account.type() == AccountType.ASSET) {
+				BigDecimal required = delta.negate();
+				updated = entityManager.createQuery(
+						"update AccountBalanceEntity b set b.balance = b.balance + :delta " +
+								"where b.accountId = :accountId " +
+								"and b.balance - function('account_held_amount' as BigDecimal, b.accountId) >= :required")
+						.setParameter("delta", delta)
+						.setParameter("accountId", accountId)
+						.setParameter("required", required)
+						.executeUpdate();
+				if (updated != 1) {
+					throw new DomainException("Insufficient funds for accountId: " + accountId);
+				}
+				continue;
+			}
+
+			updated = entityManager.createQuery(
+					"update AccountBalanceEntity b set b.balance = b.balance + :delta where b.accountId = :accountId")
+					.setParameter("delta", delta)
+					.setParameter("accountId", accountId)
+					.executeUpdate();
+			if (updated != 1) {
+				throw new DomainException("Account balance update failed for accountId: " + accountId);
+			}
+		}
+	}
+}
@@ -0,0 +1,272 @@
+package io.luminar.ledger.service;
+
+import io.luminar.ledger.application.transaction.command.CompactPostingCommand;
+import io.luminar.ledger.application.transaction.command.PostTransactionCommand;
+import io.luminar.ledger.domain.account.AccountId;
+import io.luminar.ledger.domain.account.AccountMetadata;
+import io.luminar.ledger.domain.account.Currency;
+import io.luminar.ledger.domain.common.DomainException;
+import io.luminar.ledger.domain.common.ReferenceKey;
+import io.luminar.ledger.domain.ledger.EntryType;
+import io.luminar.ledger.domain.ledger.FxConversion;
+import io.luminar.ledger.domain.ledger.LedgerEntry;
+import io.luminar.ledger.domain.ledger.LedgerTransaction;
+import io.luminar.ledger.domain.ledger.Money;
+import io.luminar.ledger.domain.ledger.MoneyMicros;
+import io.luminar.ledger.domain.ledger.event.LedgerTransactionRecordedEvent;
+import io.luminar.ledger.infrastructure.persistence.statement.NamedStatement;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+final class LedgerPostingSupport {
+	static final NamedStatement INSERT_TRANSACTION = new NamedStatement("posting.insert-transaction",
+			"insert into transactions (id, reference_key, status, created_at) " +
+					"values (?, ?, 'POSTED'::transaction_status, ?) on conflict (reference_key) do nothing");
+
+	private LedgerPostingSupport() {
+	}
+
+	static Instant now() {
+		return Instant.now().truncatedTo(ChronoUnit.MICROS);
+	}
+
+	static Set<UUID> extractAccountIds(List<PostTransactionCommand.Entry> entries) {
+		Set<UUID> ids = new HashSet<>();
+		for (PostTransactionCommand.Entry e : entries) {
+			if (e == null) {
+				throw new IllegalArgumentException("PostTransactionCommand.entries must not contain null");
+			}
+			ids.add(e.accountId());
+		}
+		return ids;
+	}
+
+	static Set<UUID> extractAccountIds(CompactPostingCommand command) {
+		Set<UUID> ids = new HashSet<>();
+		for (int i = 0; i < command.legCount(); i++) {
+			ids.add(command.accountId(i));
+		}
+		return ids;
+	}
+
+	static void requireMinimumEntries(PostTransactionCommand command) {
+		if (command.entries().size() < 2) {
+			throw new DomainException("LedgerTransaction must have at least 2 entries");
+		}
+	}
+
+	static LedgerTransaction buildDomainTransaction(PostTransactionCommand command,
+			Map<UUID, AccountMetadata> accounts, UUID transactionId, Instant occurredAt) {
+		List<Currency> currencies = command.entries().stream()
+				.map(e -> accounts.get(e.accountId()).currency())
+				.toList();
+		return buildDomainTransaction(command, currencies, transactionId, occurredAt);
+	}
+
+	static LedgerTransaction buildDomainTransaction(PostTransactionCommand command, List<Currency> entryCurrencies,
+			UUID transactionId, Instant occurredAt) {
+		List<LedgerEntry> entries = new ArrayList<>(command.entries().size());
+		for (int i = 0; i < command.entries().size(); i++) {
+			PostTransactionCommand.Entry e = command.entries().get(i);
+			entries.add(new LedgerEntry(
+					new AccountId(e.accountId()),
+					toDomainType(e.entryType()),
+					new Money(entryCurrencies.get(i), e.amount())));
+		}
+
+		return new LedgerTransaction(
+				transactionId,
+				occurredAt,
+				new ReferenceKey(command.referenceKey()),
+				entries,
+				toDomainFxConversions(command));
+	}
+
+	static LedgerTransaction buildDomainTransaction(CompactPostingCommand command,
+			Map<UUID, AccountMetadata> accounts, UUID transactionId, Instant occurredAt) {
+		List<LedgerEntry> entries = new ArrayList<>(command.legCount());
+		for (int i = 0; i < command.legCount(); i++) {
+			UUID accountId = command.accountId(i);
+			entries.add(new LedgerEntry(
+					new AccountId(accountId),
+					command.isDebit(i) ? EntryType.DEBIT : EntryType.CREDIT,
+					Money.ofMicros(accounts.get(accountId).currency(), command.amountMicros(i))));
+		}
+
+		return new LedgerTransaction(
+				transactionId,
+				occurredAt,
+				new ReferenceKey(command.referenceKey()),
+				entries,
+				toDomainFxConversions(command.fxConversions()));
+	}
+
+	static List<FxConversion> toDomainFxConversions(PostTransactionCommand command) {
+		return toDomainFxConversions(command.fxConversions());
+	}
+
+	private static List<FxConversion> toDomainFxConversions(List<PostTransactionCommand.FxConversion> requested) {
+		if (requested.isEmpty()) {
+			return List.of();
+		}
+		List<FxConversion> conversions = new ArrayList<>(requested.size());
+		for (PostTransactionCommand.FxConversion c : requested) {
+			if (c == null) {
+				throw new IllegalArgumentException("PostTransactionCommand.fxConversions must not contain null");
+			}
+			conversions.add(new FxConversion(
+					new Money(new Currency(c.soldCurrency()), c.soldAmount()),
+					new Money(new Currency(c.boughtCurrency()), c.boughtAmount())));
+		}
+		return conversions;
+	}
+
+	static LedgerTransactionRecordedEvent buildRecordedEvent(LedgerTransaction transaction,
+			ObjectMapper objectMapper) {
+		Objects.requireNonNull(transaction, "transaction is required");
+
+		String payload = buildPayload(transaction, objectMapper);
+		String referenceId = transaction.referenceKey().value();
+		String correlationId = referenceId;
+
+		return new LedgerTransactionRecordedEvent(
+				UUID.randomUUID(),
+				"LEDGER",
+				transaction.id(),
+				1L,
+				"LEDGER_TRANSACTION_RECORDED",
+				payload,
+				transaction.occurredAt(),
+				correlationId,
+				referenceId);
+	}
+
+	static NetChanges aggregateNetChanges(List<LedgerEntry> entries) {
+		NetChanges changes = new NetChanges(entries.size());
+		for (LedgerEntry entry : entries) {
+			long amount = entry.amount().micros();
+			changes.add(entry.accountId().value(), switch (entry.type()) {
+				case DEBIT -> MoneyMicros.negate(amount);
+				case CREDIT -> amount;
+			});
+		}
+		return changes;
+	}
+
+	private static String buildPayload(LedgerTransaction transaction, ObjectMapper objectMapper) {
+		LinkedHashMap<String, Object> root = new LinkedHashMap<>();
+		root.put("transaction_id", transaction.id().toString());
+		root.put("reference_key", transaction.referenceKey().value());
+		root.put("occurred_at", transaction.occurredAt().toString());
+		if (transaction.fxConversions().isEmpty()) {
+			root.put("currency", transaction.entries().getFirst().amount().currency().code());
+		}
+
+		List<LinkedHashMap<String, Object>> legs = new ArrayList<>(transaction.entries().size());
+		for (LedgerEntry e : transaction.entries()) {
+			LinkedHashMap<String, Object> leg = new LinkedHashMap<>();
+			leg.put("account_id", e.accountId().value());
+			leg.put("entry_type", e.type().name());
+			leg.put("amount", MoneyMicros.toPlainString(e.amount().micros()));
+			leg.put("currency", e.amount().currency().code());
+			legs.add(leg);
+		}
+		root.put("entries", legs);
+
+		if (!transaction.fxConversions().isEmpty()) {
+			List<LinkedHashMap<String, Object>> conversions = new ArrayList<>(transaction.fxConversions().size());
+			for (FxConversion c : transaction.fxConversions()) {
+				LinkedHashMap<String, Object> conversion = new LinkedHashMap<>();
+				conversion.put("sold_currency", c.sold().currency().code());
+				conversion.put("sold_amount", MoneyMicros.toPlainString(c.sold().micros()));
+				conversion.put("bought_currency", c.bought().currency().code());
+				conversion.put("bought_amount", MoneyMicros.toPlainString(c.bought().micros()));
+				conversions.add(conversion);
+			}
+			root.put("fx_conversions", conversions);
+		}
+
+		try {
+			return objectMapper.writeValueAsString(root);
+		} catch (JsonProcessingException e) {
+			throw new DomainException("Failed to serialize ledger event payload", e);
+		}
+	}
+
+	private static EntryType toDomainType(PostTransactionCommand.EntryType entryType) {
+		return switch (entryType) {
+			case DEBIT -> EntryType.DEBIT;
+			case CREDIT -> EntryType.CREDIT;
+		};
+	}
+
+	static final class NetChanges {
+		private static final int LINEAR_SCAN_LIMIT = 16;
+
+		private final UUID[] accountIds;
+		private final long[] deltas;
+		private Map<UUID, Integer> index;
+		private int size;
+
+		private NetChanges(int capacity) {
+			this.accountIds = new UUID[capacity];
+			this.deltas = new long[capacity];
+		}
+
+		int size() {
+			return size;
+		}
+
+		UUID accountId(int i) {
+			return accountIds[i];
+		}
+
+		long delta(int i) {
+			return deltas[i];
+		}
+
+		private void add(UUID accountId, long delta) {
+			int slot = indexOf(accountId);
+			if (slot >= 0) {
+				deltas[slot] = MoneyMicros.add(deltas[slot], delta);
+				return;
+			}
+			accountIds[size] = accountId;
+			deltas[size] = delta;
+			if (index != null) {
+				index.put(accountId, size);
+			} else if (size + 1 > LINEAR_SCAN_LIMIT) {
+				index = new HashMap<>();
+				for (int i = 0; i <= size; i++) {
+					index.put(accountIds[i], i);
+				}
+			}
+			size++;
+		}
+
+		private int indexOf(UUID accountId) {
+			if (index != null) {
+				Integer slot = index.get(accountId);
+				return slot == null ? -1 : slot;
+			}
+			for (int i = 0; i < size; i++) {
+				if (accountIds[i].equals(accountId)) {
+					return i;
+				}
+			}
+			return -1;
+		}
+	}
+}
@@ -0,0 +1,16 @@
+package io.luminar.ledger.service;
+
+import io.luminar.ledger.application.transaction.command.CompactPostingCommand;
+import io.luminar.ledger.application.transaction.command.PostTransactionCommand;
+
+import java.util.List;
+
+public interface PostingEngine {
+	String name();
+
+	List<PostedTransaction> postAll(List<PostTransactionCommand> commands);
+
+	default PostedTransaction postCompact(CompactPostingCommand command) {
+		return postAll(List.of(command.toCommand())).getFirst();
+	}
+}
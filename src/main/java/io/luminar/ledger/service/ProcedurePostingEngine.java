@@ -0,0 +1,132 @@
+package io.luminar.ledger.service;
+
+import io.luminar.ledger.application.transaction.command.PostTransactionCommand;
+import io.luminar.ledger.domain.account.AccountClosedException;
+import io.luminar.ledger.domain.account.AccountFrozenException;
+import io.luminar.ledger.domain.common.DomainException;
+import io.luminar.ledger.domain.ledger.FxConversion;
+import io.luminar.ledger.domain.ledger.MoneyMicros;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.ServerErrorMessage;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+@Component
+public class ProcedurePostingEngine implements PostingEngine {
+	public static final String NAME = "procedure";
+
+	private static final String CALL_POST_TRANSACTIONS =
+			"select out_index, out_transaction_id, out_reference_key, out_posted_at " +
+					"from ledger_post_transactions(?::jsonb)";
+	private static final String DOMAIN_ERROR_CLASS = "LG";
+	private static final String ACCOUNT_FROZEN_SQLSTATE = "LG002";
+	private static final String ACCOUNT_CLOSED_SQLSTATE = "LG003";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final ObjectMapper objectMapper;
+
+	public ProcedurePostingEngine(DataSource dataSource, ObjectMapper objectMapper) {
+		this.jdbcTemplate = new JdbcTemplate(Objects.requireNonNull(dataSource));
+		this.objectMapper = Objects.requireNonNull(objectMapper);
+	}
+
+	@Override
+	public String name() {
+		return NAME;
+	}
+
+	@Override
+	public List<PostedTransaction> postAll(List<PostTransactionCommand> commands) {
+		String request = buildRequest(commands);
+		PostedTransaction[] results = new PostedTransaction[commands.size()];
+		try {
+			jdbcTemplate.query(CALL_POST_TRANSACTIONS, ps -> ps.setString(1, request), rs -> {
+				results[rs.getInt(1)] = new PostedTransaction(
+						rs.getObject(2, UUID.class),
+						rs.getString(3),
+						rs.getTimestamp(4).toInstant());
+			});
+		} catch (DataAccessException e) {
+			throw translate(e);
+		}
+
+		for (PostedTransaction result : results) {
+			if (result == null) {
+				throw new IllegalStateException("ledger_post_transactions returned fewer rows than requested");
+			}
+		}
+		return List.of(results);
+	}
+
+	private String buildRequest(List<PostTransactionCommand> commands) {
+		Instant occurredAt = LedgerPostingSupport.now();
+		ArrayNode transactions = objectMapper.createArrayNode();
+		for (PostTransactionCommand command : commands) {
+			LedgerPostingSupport.extractAccountIds(command.entries());
+			ObjectNode transaction = transactions.addObject();
+			transaction.put("transaction_id", UUID.randomUUID().toString());
+			transaction.put("event_id", UUID.randomUUID().toString());
+			transaction.put("reference_key", command.referenceKey());
+			transaction.put("occurred_at", occurredAt.toString());
+			ArrayNode entries = transaction.putArray("entries");
+			for (PostTransactionCommand.Entry e : command.entries()) {
+				ObjectNode entry = entries.addObject();
+				entry.put("id", UUID.randomUUID().toString());
+				entry.put("account_id", e.accountId().toString());
+				entry.put("entry_type", e.entryType().name());
+				entry.put("amount", MoneyMicros.toPlainString(MoneyMicros.fromBigDecimal(e.amount())));
+			}
+			ArrayNode conversions = transaction.putArray("fx_conversions");
+			for (FxConversion c : LedgerPostingSupport.toDomainFxConversions(command)) {
+				ObjectNode conversion = conversions.addObject();
+				conversion.put("sold_currency", c.sold().currency().code());
+				conversion.put("sold_amount", MoneyMicros.toPlainString(c.sold().micros()));
+				conversion.put("bought_currency", c.bought().currency().code());
+				conversion.put("bought_amount", MoneyMicros.toPlainString(c.bought().micros()));
+			}
+		}
+		try {
+			return objectMapper.writeValueAsString(transactions);
+		} catch (JsonProcessingException e) {
+			throw new DomainException("Failed to serialize posting request", e);
+		}
+	}
+
+	private static RuntimeException translate(DataAccessException e) {
+		if (!(e.getCause() instanceof SQLException cause)) {
+			return e;
+		}
+		String state = cause.getSQLState();
+		if (state == null || !state.startsWith(DOMAIN_ERROR_CLASS)) {
+			return e;
+		}
+		String message = serverMessage(cause);
+		return switch (state) {
+			case ACCOUNT_FROZEN_SQLSTATE -> new AccountFrozenException(message);
+			case ACCOUNT_CLOSED_SQLSTATE -> new AccountClosedException(message);
+			default -> new DomainException(message, cause);
+		};
+	}
+
+	private static String serverMessage(SQLException e) {
+		if (e instanceof PSQLException psql) {
+			ServerErrorMessage server = psql.getServerErrorMessage();
+			if (server != null && server.getMessage() != null) {
+				return server.getMessage();
+			}
+		}
+		return e.getMessage();
+	}
+}
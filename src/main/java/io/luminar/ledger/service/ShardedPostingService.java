@@ -0,0 +1,263 @@
+package io.luminar.ledger.service;
+
+import io.luminar.ledger.application.transaction.SerializationRetry;
+import io.luminar.ledger.application.transaction.command.PostTransactionCommand;
+import io.luminar.ledger.domain.account.Account;
+import io.luminar.ledger.domain.account.AccountId;
+import io.luminar.ledger.domain.account.AccountType;
+import io.luminar.ledger.domain.account.Currency;
+import io.luminar.ledger.domain.common.DomainException;
+import io.luminar.ledger.domain.ledger.MoneyMicros;
+import io.luminar.ledger.infrastructure.journal.PostingCommandCodec;
+import io.luminar.ledger.infrastructure.persistence.sharding.CrossShardPostingRepository;
+import io.luminar.ledger.infrastructure.persistence.sharding.ShardLedgerRepository;
+import io.luminar.ledger.infrastructure.sharding.ShardRouter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+
+@Service
+@ConditionalOnProperty(name = "ledger.sharding.enabled", havingValue = "true")
+public class ShardedPostingService {
+	private static final Logger log = LoggerFactory.getLogger(ShardedPostingService.class);
+	private static final String LEG_SUFFIX = ":shard-";
+	private static final String VOID_SUFFIX = ":void";
+	private static final int MAX_REFERENCE_KEY_LENGTH = 128;
+	private static final String REJECTED_CODE = "POSTING_REJECTED";
+
+	private final ShardRouter shardRouter;
+
+	public ShardedPostingService(ShardRouter shardRouter) {
+		this.shardRouter = Objects.requireNonNull(shardRouter, "shardRouter is required");
+	}
+
+	public PostedTransaction post(PostTransactionCommand command) {
+		Objects.requireNonNull(command, "PostTransactionCommand is required");
+		Map<Integer, List<PostTransactionCommand.Entry>> byShard = partition(command);
+		if (byShard.size() == 1) {
+			return postLeg(shardRouter.shard(byShard.keySet().iterator().next()), command, false);
+		}
+
+		CrossShardPostingRepository coordinator = shardRouter.coordinator().crossShardPostings();
+		Optional<CrossShardPostingRepository.CrossShardPosting> existing = coordinator.find(command.referenceKey());
+		if (existing.isPresent()) {
+			return resume(existing.get());
+		}
+
+		List<Leg> legs = plan(command, byShard);
+		UUID id = UUID.randomUUID();
+		Instant createdAt = LedgerPostingSupport.now();
+		if (!coordinator.insert(id, command.referenceKey(), PostingCommandCodec.encode(command), legs.size(),
+				createdAt)) {
+			return resume(coordinator.find(command.referenceKey())
+					.orElseThrow(() -> new DomainException(
+							"Cross-shard posting already exists but could not be loaded")));
+		}
+		return drive(id, command.referenceKey(), createdAt, legs);
+	}
+
+	public PostedTransaction resume(CrossShardPostingRepository.CrossShardPosting posting) {
+		Objects.requireNonNull(posting, "posting is required");
+		return switch (posting.status()) {
+			case COMMITTED -> new PostedTransaction(committedTransactionId(posting), posting.referenceKey(),
+					posting.createdAt());
+			case ABORTED -> throw new DomainException(Objects.requireNonNullElse(posting.errorMessage(),
+					"Cross-shard posting was aborted: " + posting.referenceKey()));
+			case COMPENSATION_FAILED -> throw new DomainException(Objects.requireNonNullElse(posting.errorMessage(),
+					"Cross-shard posting could not be compensated: " + posting.referenceKey()));
+			case PREPARED -> {
+				PostTransactionCommand command = PostingCommandCodec.decode(posting.payload());
+				List<Leg> legs;
+				try {
+					legs = plan(command, partition(command));
+				} catch (DomainException e) {
+					abort(posting.id(), List.of(), e);
+					throw e;
+				}
+				yield drive(posting.id(), posting.referenceKey(), posting.createdAt(), legs);
+			}
+		};
+	}
+
+	private PostedTransaction drive(UUID id, String referenceKey, Instant createdAt, List<Leg> legs) {
+		CrossShardPostingRepository coordinator = shardRouter.coordinator().crossShardPostings();
+		UUID transactionId = null;
+		for (Leg leg : legs) {
+			PostedTransaction posted;
+			try {
+				posted = postLeg(leg.shard(), leg.command(), false);
+			} catch (DomainException e) {
+				abort(id, legs, e);
+				throw e;
+			}
+			if (transactionId == null) {
+				transactionId = posted.transactionId();
+			}
+		}
+
+		if (!coordinator.markCommitted(id)) {
+			CrossShardPostingRepository.CrossShardPosting current = coordinator.find(referenceKey)
+					.orElseThrow(() -> new IllegalStateException("Cross-shard posting disappeared: " + referenceKey));
+			if (current.status() == CrossShardPostingRepository.Status.ABORTED) {
+				compensate(id, legs);
+				return resume(coordinator.find(referenceKey).orElse(current));
+			}
+		}
+		return new PostedTransaction(transactionId, referenceKey, createdAt);
+	}
+
+	private void abort(UUID id, List<Leg> legs, DomainException cause) {
+		if (!compensate(id, legs)) {
+			return;
+		}
+		String code = cause.code() != null ? cause.code() : REJECTED_CODE;
+		shardRouter.coordinator().crossShardPostings().markAborted(id, code, cause.getMessage());
+	}
+
+	private boolean compensate(UUID id, List<Leg> legs) {
+		try {
+			reverse(legs);
+			return true;
+		} catch (DomainException e) {
+			log.error("Compensating cross-shard posting was rejected. Manual resolution is required. id={}", id, e);
+			shardRouter.coordinator().crossShardPostings().markCompensationFailed(id,
+					e.code() != null ? e.code() : REJECTED_CODE, e.getMessage());
+			return false;
+		} catch (RuntimeException e) {
+			log.error("Compensating cross-shard posting failed. Recovery will retry. id={}", id, e);
+			throw e;
+		}
+	}
+
+	private void reverse(List<Leg> legs) {
+		for (Leg leg : legs) {
+			PostTransactionCommand posted = leg.command();
+			if (!leg.shard().ledger().transactionExists(posted.referenceKey())) {
+				continue;
+			}
+			List<PostTransactionCommand.Entry> reversed = new ArrayList<>(posted.entries().size());
+			for (PostTransactionCommand.Entry entry : posted.entries()) {
+				reversed.add(new PostTransactionCommand.Entry(entry.accountId(),
+						entry.entryType() == PostTransactionCommand.EntryType.DEBIT
+								? PostTransactionCommand.EntryType.CREDIT
+								: PostTransactionCommand.EntryType.DEBIT,
+						entry.amount()));
+			}
+			postLeg(leg.shard(), new PostTransactionCommand(posted.referenceKey() + VOID_SUFFIX, reversed), true);
+		}
+	}
+
+	private UUID committedTransactionId(CrossShardPostingRepository.CrossShardPosting posting) {
+		int index = partition(PostingCommandCodec.decode(posting.payload())).keySet().iterator().next();
+		String legKey = posting.referenceKey() + LEG_SUFFIX + index;
+		return shardRouter.shard(index).ledger().findTransactionId(legKey)
+				.orElseThrow(() -> new IllegalStateException("Committed cross-shard leg is missing: " + legKey));
+	}
+
+	private Map<Integer, List<PostTransactionCommand.Entry>> partition(PostTransactionCommand command) {
+		Map<Integer, List<PostTransactionCommand.Entry>> byShard = new TreeMap<>();
+		for (PostTransactionCommand.Entry entry : command.entries()) {
+			if (entry == null) {
+				throw new IllegalArgumentException("PostTransactionCommand.entries must not contain null");
+			}
+			byShard.computeIfAbsent(shardRouter.shardFor(entry.accountId()).index(), index -> new ArrayList<>())
+					.add(entry);
+		}
+		return byShard;
+	}
+
+	private List<Leg> plan(PostTransactionCommand command, Map<Integer, List<PostTransactionCommand.Entry>> byShard) {
+		if (!command.fxConversions().isEmpty()) {
+			throw new DomainException("Cross-shard postings do not support FX conversions");
+		}
+		if (command.referenceKey().length() + LEG_SUFFIX.length() + 10 + VOID_SUFFIX.length()
+				> MAX_REFERENCE_KEY_LENGTH) {
+			throw new DomainException("Reference key is too long for a cross-shard posting: "
+					+ command.referenceKey());
+		}
+
+		Map<String, Long> totals = new TreeMap<>();
+		List<Leg> legs = new ArrayList<>(byShard.size());
+		for (Map.Entry<Integer, List<PostTransactionCommand.Entry>> shardEntries : byShard.entrySet()) {
+			ShardRouter.Shard shard = shardRouter.shard(shardEntries.getKey());
+			List<PostTransactionCommand.Entry> entries = shardEntries.getValue();
+			Map<UUID, String> currencies = shard.ledger().findCurrencies(
+					LedgerPostingSupport.extractAccountIds(entries));
+			Map<String, Long> net = new TreeMap<>();
+			for (PostTransactionCommand.Entry entry : entries) {
+				String currency = currencies.get(entry.accountId());
+				if (currency == null) {
+					throw new DomainException("One or more accounts do not exist");
+				}
+				long micros = MoneyMicros.fromBigDecimal(entry.amount());
+				net.merge(currency, entry.entryType() == PostTransactionCommand.EntryType.CREDIT ? micros : -micros,
+						Math::addExact);
+			}
+
+			List<PostTransactionCommand.Entry> legEntries = new ArrayList<>(entries);
+			for (Map.Entry<String, Long> currencyNet : net.entrySet()) {
+				long micros = currencyNet.getValue();
+				totals.merge(currencyNet.getKey(), micros, Math::addExact);
+				if (micros == 0) {
+					continue;
+				}
+				legEntries.add(new PostTransactionCommand.Entry(clearingAccount(shard, currencyNet.getKey()),
+						micros > 0 ? PostTransactionCommand.EntryType.DEBIT : PostTransactionCommand.EntryType.CREDIT,
+						MoneyMicros.toBigDecimal(Math.abs(micros))));
+			}
+			legs.add(new Leg(shard, new PostTransactionCommand(command.referenceKey() + LEG_SUFFIX + shard.index(),
+					legEntries)));
+		}
+
+		for (Map.Entry<String, Long> total : totals.entrySet()) {
+			if (total.getValue() != 0) {
+				throw new DomainException("LedgerTransaction is not balanced in currency: " + total.getKey());
+			}
+		}
+		return legs;
+	}
+
+	private static UUID clearingAccount(ShardRouter.Shard shard, String currency) {
+		String code = ShardLedgerRepository.clearingCode(currency);
+		Optional<UUID> existing = shard.ledger().findAccountId(code);
+		if (existing.isPresent()) {
+			return existing.get();
+		}
+		shard.ledger().insertAccount(Account.open(new AccountId(UUID.randomUUID()), code,
+				"Shard " + shard.index() + " clearing " + currency, AccountType.LIABILITY, new Currency(currency)));
+		return shard.ledger().findAccountId(code)
+				.orElseThrow(() -> new IllegalStateException("Clearing account could not be created: " + code));
+	}
+
+	private static PostedTransaction postLeg(ShardRouter.Shard shard, PostTransactionCommand command,
+			boolean compensation) {
+		RuntimeException last = null;
+		for (int attempt = 1; attempt <= SerializationRetry.MAX_ATTEMPTS; attempt++) {
+			try {
+				return Objects.requireNonNull(shard.transactionTemplate().execute(status -> (compensation
+						? shard.postingEngine().postCompensations(List.of(command))
+						: shard.postingEngine().postAll(List.of(command))).getFirst()), "PostingEngine returned null");
+			} catch (RuntimeException e) {
+				last = e;
+				if (!SerializationRetry.isSerializationFailure(e) || attempt == SerializationRetry.MAX_ATTEMPTS) {
+					throw e;
+				}
+				SerializationRetry.backoff(command.referenceKey(), attempt);
+			}
+		}
+		throw Objects.requireNonNull(last, "Retry loop ended unexpectedly without exception");
+	}
+
+	private record Leg(ShardRouter.Shard shard, PostTransactionCommand command) {
+	}
+}
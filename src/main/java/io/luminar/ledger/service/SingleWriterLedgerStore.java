@@ -0,0 +1,174 @@
+package io.luminar.ledger.service;
+
+import io.luminar.ledger.domain.account.AccountId;
+import io.luminar.ledger.domain.account.AccountMetadata;
+import io.luminar.ledger.domain.account.AccountStatus;
+import io.luminar.ledger.domain.account.AccountType;
+import io.luminar.ledger.domain.account.Currency;
+import io.luminar.ledger.domain.ledger.LedgerTransaction;
+import io.luminar.ledger.domain.ledger.MoneyMicros;
+import io.luminar.ledger.infrastructure.journal.JournaledPosting;
+import io.luminar.ledger.infrastructure.mapper.LedgerEventPersistenceMapper;
+import io.luminar.ledger.infrastructure.mapper.LedgerPersistenceMapper;
+import io.luminar.ledger.infrastructure.persistence.ledger.LedgerBulkWriter;
+import io.luminar.ledger.infrastructure.persistence.ledger.LedgerEventEntity;
+import io.luminar.ledger.infrastructure.persistence.ledger.TransactionEntryEntity;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+@Repository
+@ConditionalOnProperty(name = "ledger.posting.engine", havingValue = SingleWriterPostingEngine.NAME)
+public class SingleWriterLedgerStore {
+	private static final String FIND_POSTED =
+			"select id, reference_key, created_at from transactions where reference_key = any(?)";
+	private static final String LOAD_ACCOUNTS =
+			"select a.id, a.type::text, a.status::text, a.currency, a.metadata_version, b.balance " +
+					"from accounts a join account_balances b on b.account_id = a.id where a.id = any(?)";
+	private static final String INSERT_TRANSACTIONS =
+			"insert into transactions (id, reference_key, status, created_at) " +
+					"select t.id, t.reference_key, 'POSTED'::transaction_status, t.created_at " +
+					"from unnest(?::uuid[], ?::text[], ?::timestamptz[]) as t(id, reference_key, created_at) " +
+					"on conflict (reference_key) do nothing returning id";
+	private static final String APPLY_BALANCE_DELTAS =
+			"update account_balances b set balance = b.balance + d.delta " +
+					"from unnest(?::uuid[], ?::numeric[]) as d(account_id, delta) " +
+					"where b.account_id = d.account_id";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final LedgerBulkWriter ledgerBulkWriter;
+	private final ObjectMapper objectMapper;
+
+	public SingleWriterLedgerStore(DataSource dataSource, LedgerBulkWriter ledgerBulkWriter,
+			ObjectMapper objectMapper) {
+		this.jdbcTemplate = new JdbcTemplate(Objects.requireNonNull(dataSource, "dataSource is required"));
+		this.ledgerBulkWriter = Objects.requireNonNull(ledgerBulkWriter, "ledgerBulkWriter is required");
+		this.objectMapper = Objects.requireNonNull(objectMapper, "objectMapper is required");
+	}
+
+	public Map<String, PostedTransaction> findPosted(Collection<String> referenceKeys) {
+		Objects.requireNonNull(referenceKeys, "referenceKeys is required");
+		Map<String, PostedTransaction> posted = new HashMap<>();
+		if (referenceKeys.isEmpty()) {
+			return posted;
+		}
+		jdbcTemplate.query(FIND_POSTED,
+				ps -> ps.setArray(1, ps.getConnection().createArrayOf("text", referenceKeys.toArray())),
+				rs -> {
+					PostedTransaction transaction = new PostedTransaction(
+							rs.getObject(1, UUID.class),
+							rs.getString(2),
+							rs.getTimestamp(3).toInstant());
+					posted.put(transaction.referenceKey(), transaction);
+				});
+		return posted;
+	}
+
+	public List<LoadedAccount> loadAccounts(Collection<UUID> accountIds) {
+		Objects.requireNonNull(accountIds, "accountIds is required");
+		if (accountIds.isEmpty()) {
+			return new ArrayList<>();
+		}
+		return jdbcTemplate.query(LOAD_ACCOUNTS,
+				ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", accountIds.toArray())),
+				(rs, rowNum) -> new LoadedAccount(
+						new AccountMetadata(
+								new AccountId(rs.getObject(1, UUID.class)),
+								AccountType.valueOf(rs.getString(2)),
+								new Currency(rs.getString(4)),
+								AccountStatus.valueOf(rs.getString(3)),
+								rs.getLong(5)),
+						MoneyMicros.fromBigDecimal(rs.getBigDecimal(6))));
+	}
+
+	public int persist(List<JournaledPosting> postings) {
+		Objects.requireNonNull(postings, "postings is required");
+		if (postings.isEmpty()) {
+			return 0;
+		}
+		Set<UUID> inserted = insertTransactions(postings);
+
+		List<LedgerEventEntity> eventEntities = new ArrayList<>(inserted.size());
+		List<TransactionEntryEntity> entryEntities = new ArrayList<>(inserted.size() * 2);
+		Map<UUID, Long> deltas = new LinkedHashMap<>();
+		for (JournaledPosting posting : postings) {
+			if (!inserted.contains(posting.transactionId())) {
+				continue;
+			}
+			LedgerTransaction transaction = LedgerPostingSupport.buildDomainTransaction(posting.command(),
+					posting.entryCurrencies().stream().map(Currency::new).toList(),
+					posting.transactionId(), posting.occurredAt());
+			eventEntities.add(LedgerEventPersistenceMapper.toEntity(
+					LedgerPostingSupport.buildRecordedEvent(transaction, objectMapper)));
+			entryEntities.addAll(LedgerPersistenceMapper.toTransactionEntryEntities(transaction));
+			LedgerPostingSupport.NetChanges changes = LedgerPostingSupport.aggregateNetChanges(
+					transaction.entries());
+			for (int i = 0; i < changes.size(); i++) {
+				deltas.merge(changes.accountId(i), changes.delta(i), MoneyMicros::add);
+			}
+		}
+
+		ledgerBulkWriter.insertEvents(eventEntities);
+		ledgerBulkWriter.insertEntries(entryEntities);
+		applyBalanceDeltas(deltas);
+		return inserted.size();
+	}
+
+	private Set<UUID> insertTransactions(List<JournaledPosting> postings) {
+		UUID[] ids = new UUID[postings.size()];
+		String[] referenceKeys = new String[postings.size()];
+		Timestamp[] createdAt = new Timestamp[postings.size()];
+		for (int i = 0; i < postings.size(); i++) {
+			JournaledPosting posting = postings.get(i);
+			ids[i] = posting.transactionId();
+			referenceKeys[i] = posting.command().referenceKey();
+			createdAt[i] = Timestamp.from(posting.occurredAt());
+		}
+
+		Set<UUID> inserted = new HashSet<>(postings.size());
+		jdbcTemplate.query(INSERT_TRANSACTIONS, ps -> {
+			ps.setArray(1, ps.getConnection().createArrayOf("uuid", ids));
+			ps.setArray(2, ps.getConnection().createArrayOf("text", referenceKeys));
+			ps.setArray(3, ps.getConnection().createArrayOf("timestamptz", createdAt));
+		}, rs -> {
+			inserted.add(rs.getObject(1, UUID.class));
+		});
+		return inserted;
+	}
+
+	private void applyBalanceDeltas(Map<UUID, Long> deltas) {
+		if (deltas.isEmpty()) {
+			return;
+		}
+		UUID[] accountIds = new UUID[deltas.size()];
+		BigDecimal[] amounts = new BigDecimal[deltas.size()];
+		int i = 0;
+		for (Map.Entry<UUID, Long> delta : deltas.entrySet()) {
+			accountIds[i] = delta.getKey();
+			amounts[i] = MoneyMicros.toBigDecimal(delta.getValue());
+			i++;
+		}
+		jdbcTemplate.update(APPLY_BALANCE_DELTAS, ps -> {
+			ps.setArray(1, ps.getConnection().createArrayOf("uuid", accountIds));
+			ps.setArray(2, ps.getConnection().createArrayOf("numeric", amounts));
+		});
+	}
+
+	public record LoadedAccount(AccountMetadata metadata, long balanceMicros) {
+	}
+}
@@ -0,0 +1,562 @@
+package io.luminar.ledger.service;
+
+import io.luminar.ledger.application.account.AccountMetadataCache;
+import io.luminar.ledger.application.transaction.command.PostTransactionCommand;
+import io.luminar.ledger.domain.account.AccountId;
+import io.luminar.ledger.domain.account.AccountMetadata;
+import io.luminar.ledger.domain.account.AccountStatus;
+import io.luminar.ledger.domain.account.AccountType;
+import io.luminar.ledger.domain.account.Currency;
+import io.luminar.ledger.domain.common.DomainException;
+import io.luminar.ledger.domain.ledger.LedgerTransaction;
+import io.luminar.ledger.domain.ledger.MoneyMicros;
+import io.luminar.ledger.infrastructure.journal.CommandJournal;
+import io.luminar.ledger.infrastructure.journal.JournaledPosting;
+import io.luminar.ledger.infrastructure.journal.PostingCommandCodec;
+import io.luminar.ledger.infrastructure.singlewriter.OffHeapBalanceTable;
+import io.luminar.ledger.infrastructure.singlewriter.PostingRingBuffer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+@Component
+@ConditionalOnProperty(name = "ledger.posting.engine", havingValue = SingleWriterPostingEngine.NAME)
+public class SingleWriterPostingEngine implements PostingEngine {
+	public static final String NAME = "single-writer";
+
+	private static final Logger log = LoggerFactory.getLogger(SingleWriterPostingEngine.class);
+	private static final AccountType[] ACCOUNT_TYPES = AccountType.values();
+	private static final AccountStatus[] ACCOUNT_STATUSES = AccountStatus.values();
+	private static final long IDLE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+	private static final long RESULT_POLL_MILLIS = 1_000L;
+	private static final long SHUTDOWN_TIMEOUT_MILLIS = 5_000L;
+
+	private final SingleWriterLedgerStore store;
+	private final AccountMetadataCache accountMetadataCache;
+	private final TransactionTemplate persistTemplate;
+	private final CommandJournal journal;
+	private final PostingRingBuffer<Request> ringBuffer;
+	private final OffHeapBalanceTable balances;
+	private final List<Currency> currencies;
+	private final Map<Currency, Integer> currencyIndex;
+	private final Map<String, Recent> recent;
+	private final ArrayDeque<Recent> recentOrder;
+	private final ConcurrentLinkedQueue<UUID> refreshQueue;
+	private final Consumer<UUID> evictionListener;
+	private final AtomicBoolean persisting;
+	private final Thread writer;
+	private final boolean persisterEnabled;
+	private final int writerBatchSize;
+	private final int persistBatchSize;
+	private final int maxBatchesPerTick;
+	private final Counter posted;
+	private final Counter rejected;
+	private final Counter persisted;
+	private final Timer persistTimer;
+	private int[] undoSlots;
+	private long[] undoBalances;
+	private int undoSize;
+	private long maxPrunedPosition;
+	private volatile boolean stopped;
+	private volatile RuntimeException failure;
+
+	public SingleWriterPostingEngine(
+			SingleWriterLedgerStore store,
+			AccountMetadataCache accountMetadataCache,
+			PlatformTransactionManager transactionManager,
+			MeterRegistry meterRegistry,
+			@Value("${ledger.single-writer.directory:ledger-single-writer}") String directory,
+			@Value("${ledger.single-writer.segment-bytes:67108864}") int segmentBytes,
+			@Value("${ledger.single-writer.ring-size:65536}") int ringSize,
+			@Value("${ledger.single-writer.initial-accounts:65536}") int initialAccounts,
+			@Value("${ledger.single-writer.writer-batch-size:1024}") int writerBatchSize,
+			@Value("${ledger.single-writer.persister-enabled:true}") boolean persisterEnabled,
+			@Value("${ledger.single-writer.persist-batch-size:256}") int persistBatchSize,
+			@Value("${ledger.single-writer.max-batches-per-tick:20}") int maxBatchesPerTick) {
+		this.store = Objects.requireNonNull(store, "store is required");
+		this.accountMetadataCache = Objects.requireNonNull(accountMetadataCache,
+				"accountMetadataCache is required");
+		this.persistTemplate = new TransactionTemplate(
+				Objects.requireNonNull(transactionManager, "transactionManager is required"));
+		this.ringBuffer = new PostingRingBuffer<>(ringSize);
+		this.balances = new OffHeapBalanceTable(initialAccounts);
+		this.currencies = new ArrayList<>();
+		this.currencyIndex = new HashMap<>();
+		this.recent = new HashMap<>();
+		this.recentOrder = new ArrayDeque<>();
+		this.refreshQueue = new ConcurrentLinkedQueue<>();
+		this.evictionListener = refreshQueue::add;
+		this.persisting = new AtomicBoolean(false);
+		this.persisterEnabled = persisterEnabled;
+		this.writerBatchSize = Math.max(1, writerBatchSize);
+		this.persistBatchSize = Math.max(1, persistBatchSize);
+		this.maxBatchesPerTick = Math.max(1, maxBatchesPerTick);
+		this.undoSlots = new int[64];
+		this.undoBalances = new long[64];
+		this.maxPrunedPosition = -1L;
+		this.journal = CommandJournal.open(
+				Path.of(Objects.requireNonNull(directory, "ledger.single-writer.directory is required")),
+				segmentBytes,
+				0L);
+
+		Objects.requireNonNull(meterRegistry, "meterRegistry is required");
+		this.posted = meterRegistry.counter("ledger.single-writer.posted");
+		this.rejected = meterRegistry.counter("ledger.single-writer.rejected");
+		this.persisted = meterRegistry.counter("ledger.single-writer.persisted");
+		this.persistTimer = meterRegistry.timer("ledger.single-writer.persist.batch");
+		Gauge.builder("ledger.single-writer.ring.backlog", ringBuffer, PostingRingBuffer::backlog)
+				.register(meterRegistry);
+		Gauge.builder("ledger.single-writer.journal.lag.bytes", journal,
+				j -> j.durablePosition() - j.appliedPosition()).register(meterRegistry);
+		FunctionCounter.builder("ledger.single-writer.journal.fsyncs", journal, CommandJournal::fsyncCount)
+				.register(meterRegistry);
+
+		try {
+			replay();
+		} catch (RuntimeException e) {
+			journal.close();
+			throw e;
+		}
+		accountMetadataCache.addEvictionListener(evictionListener);
+		this.writer = new Thread(this::runWriter, "ledger-single-writer");
+		writer.setDaemon(true);
+		ringBuffer.bindConsumer(writer);
+		writer.start();
+	}
+
+	@Override
+	public String name() {
+		return NAME;
+	}
+
+	@Override
+	public List<PostedTransaction> postAll(List<PostTransactionCommand> commands) {
+		Objects.requireNonNull(commands, "commands is required");
+		if (commands.isEmpty()) {
+			return List.of();
+		}
+		ensureAvailable();
+
+		long checkedThrough = journal.appliedPosition();
+		Set<String> referenceKeys = new LinkedHashSet<>(commands.size());
+		for (PostTransactionCommand command : commands) {
+			referenceKeys.add(command.referenceKey());
+		}
+		Map<String, PostedTransaction> existing = store.findPosted(referenceKeys);
+
+		List<PostTransactionCommand> pending = new ArrayList<>(commands.size());
+		for (PostTransactionCommand command : commands) {
+			if (!existing.containsKey(command.referenceKey())) {
+				pending.add(command);
+			}
+		}
+		if (!pending.isEmpty()) {
+			Request request = new Request(pending, checkedThrough, new CompletableFuture<>());
+			ringBuffer.publish(request);
+			for (PostedTransaction transaction : awaitResult(request)) {
+				existing.putIfAbsent(transaction.referenceKey(), transaction);
+			}
+		}
+
+		List<PostedTransaction> results = new ArrayList<>(commands.size());
+		for (PostTransactionCommand command : commands) {
+			results.add(existing.get(command.referenceKey()));
+		}
+		return results;
+	}
+
+	@Scheduled(fixedDelayString = "${ledger.single-writer.persist-delay-ms:20}")
+	public void tick() {
+		if (!persisterEnabled || stopped || !persisting.compareAndSet(false, true)) {
+			return;
+		}
+
+		try {
+			for (int i = 0; i < maxBatchesPerTick; i++) {
+				if (persistOnce() < persistBatchSize) {
+					break;
+				}
+			}
+		} catch (RuntimeException e) {
+			log.error("Single-writer journal persistence failed. Batch will be retried.", e);
+		} finally {
+			persisting.set(false);
+		}
+	}
+
+	public synchronized int persistOnce() {
+		List<CommandJournal.Entry> entries = journal.read(journal.appliedPosition(), persistBatchSize);
+		if (entries.isEmpty()) {
+			return 0;
+		}
+
+		List<JournaledPosting> postings = new ArrayList<>(entries.size());
+		for (CommandJournal.Entry entry : entries) {
+			postings.addAll(PostingCommandCodec.decodePosted(entry.payload()));
+		}
+		Integer inserted = persistTimer.record(() -> persistTemplate.execute(status -> store.persist(postings)));
+		journal.markApplied(entries.getLast().nextPosition());
+		persisted.increment(Objects.requireNonNullElse(inserted, 0));
+		return entries.size();
+	}
+
+	public long persistedPosition() {
+		return journal.appliedPosition();
+	}
+
+	public long journaledPosition() {
+		return journal.durablePosition();
+	}
+
+	@PreDestroy
+	public void close() {
+		if (stopped) {
+			return;
+		}
+		stopped = true;
+		accountMetadataCache.removeEvictionListener(evictionListener);
+		ringBuffer.close();
+		try {
+			writer.join(SHUTDOWN_TIMEOUT_MILLIS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		journal.close();
+	}
+
+	private void replay() {
+		int records = 0;
+		int batch;
+		while ((batch = persistOnce()) > 0) {
+			records += batch;
+		}
+		if (records > 0) {
+			log.info("Single-writer journal replayed. records={} position={}", records, journal.appliedPosition());
+		}
+	}
+
+	private void runWriter() {
+		List<Request> batch = new ArrayList<>(writerBatchSize);
+		while (!stopped) {
+			int count = ringBuffer.drain(batch, writerBatchSize);
+			if (count == 0) {
+				ringBuffer.awaitPublished(IDLE_PARK_NANOS);
+				continue;
+			}
+			try {
+				refreshMetadata();
+				pruneRecent();
+				loadMissingAccounts(batch);
+			} catch (RuntimeException e) {
+				log.warn("Single-writer batch preparation failed. batchSize={}", count, e);
+				for (Request request : batch) {
+					request.result().completeExceptionally(e);
+				}
+				ringBuffer.release(count);
+				batch.clear();
+				continue;
+			}
+			try {
+				process(batch);
+			} catch (RuntimeException e) {
+				failure = e;
+				log.error("Single-writer ledger engine stopped after an unrecoverable failure.", e);
+				for (Request request : batch) {
+					request.result().completeExceptionally(e);
+				}
+				stopped = true;
+			}
+			ringBuffer.release(count);
+			batch.clear();
+		}
+
+		List<Request> abandoned = new ArrayList<>();
+		ringBuffer.drain(abandoned, Integer.MAX_VALUE);
+		for (Request request : abandoned) {
+			request.result().completeExceptionally(new IllegalStateException("Single-writer ledger engine is stopped"));
+		}
+	}
+
+	private void process(List<Request> batch) {
+		List<Request> accepted = new ArrayList<>(batch.size());
+		List<List<PostedTransaction>> outcomes = new ArrayList<>(batch.size());
+		List<Long> positions = new ArrayList<>(batch.size());
+		Map<String, PostedTransaction> inFlight = new HashMap<>();
+		long last = -1L;
+		int journaledCount = 0;
+		for (Request request : batch) {
+			undoSize = 0;
+			List<JournaledPosting> journaled = new ArrayList<>(request.commands().size());
+			List<PostedTransaction> results;
+			try {
+				results = apply(request, journaled, inFlight);
+			} catch (RuntimeException e) {
+				undo();
+				rejected.increment(request.commands().size());
+				request.result().completeExceptionally(e);
+				continue;
+			}
+			if (!journaled.isEmpty()) {
+				try {
+					last = journal.append(PostingCommandCodec.encodePosted(journaled));
+				} catch (IllegalArgumentException e) {
+					undo();
+					rejected.increment(request.commands().size());
+					request.result().completeExceptionally(e);
+					continue;
+				}
+			}
+			for (PostedTransaction transaction : results) {
+				inFlight.putIfAbsent(transaction.referenceKey(), transaction);
+			}
+			journaledCount += journaled.size();
+			accepted.add(request);
+			outcomes.add(results);
+			positions.add(journaled.isEmpty() ? -1L : last);
+		}
+
+		if (last >= 0) {
+			journal.awaitDurable(last);
+		}
+		posted.increment(journaledCount);
+		for (int i = 0; i < accepted.size(); i++) {
+			long position = positions.get(i);
+			for (PostedTransaction transaction : outcomes.get(i)) {
+				if (position >= 0 && !recent.containsKey(transaction.referenceKey())) {
+					Recent entry = new Recent(transaction, position);
+					recent.put(transaction.referenceKey(), entry);
+					recentOrder.add(entry);
+				}
+			}
+			accepted.get(i).result().complete(outcomes.get(i));
+		}
+	}
+
+	private List<PostedTransaction> apply(Request request, List<JournaledPosting> journaled,
+			Map<String, PostedTransaction> inFlight) {
+		Map<String, PostedTransaction> local = new HashMap<>();
+		List<PostedTransaction> results = new ArrayList<>(request.commands().size());
+		for (PostTransactionCommand command : request.commands()) {
+			PostedTransaction existing = findExisting(command.referenceKey(), local, inFlight,
+					request.checkedThrough());
+			if (existing != null) {
+				results.add(existing);
+				continue;
+			}
+
+			LedgerPostingSupport.requireMinimumEntries(command);
+			Map<UUID, AccountMetadata> accounts = new HashMap<>();
+			Map<UUID, Integer> slots = new HashMap<>();
+			for (UUID accountId : LedgerPostingSupport.extractAccountIds(command.entries())) {
+				int slot = balances.find(accountId.getMostSignificantBits(), accountId.getLeastSignificantBits());
+				if (slot < 0) {
+					throw new DomainException("One or more accounts do not exist");
+				}
+				AccountMetadata account = metadata(accountId, slot);
+				account.assertPostingAllowed();
+				accounts.put(accountId, account);
+				slots.put(accountId, slot);
+			}
+
+			UUID transactionId = UUID.randomUUID();
+			Instant occurredAt = LedgerPostingSupport.now();
+			LedgerTransaction transaction = LedgerPostingSupport.buildDomainTransaction(command, accounts,
+					transactionId, occurredAt);
+			LedgerPostingSupport.NetChanges changes = LedgerPostingSupport.aggregateNetChanges(transaction.entries());
+			for (int i = 0; i < changes.size(); i++) {
+				UUID accountId = changes.accountId(i);
+				int slot = slots.get(accountId);
+				long delta = changes.delta(i);
+				long balance = balances.balance(slot);
+				if (delta < 0 && accounts.get(accountId).type() == AccountType.ASSET && balance < -delta) {
+					throw new DomainException("Insufficient funds for accountId: " + accountId);
+				}
+				recordUndo(slot, balance);
+				balances.balance(slot, MoneyMicros.add(balance, delta));
+			}
+
+			List<String> entryCurrencies = new ArrayList<>(command.entries().size());
+			for (PostTransactionCommand.Entry entry : command.entries()) {
+				entryCurrencies.add(accounts.get(entry.accountId()).currency().code());
+			}
+			journaled.add(new JournaledPosting(transactionId, occurredAt, entryCurrencies, command));
+			PostedTransaction result = new PostedTransaction(transactionId, command.referenceKey(), occurredAt);
+			local.put(command.referenceKey(), result);
+			results.add(result);
+		}
+		return results;
+	}
+
+	private PostedTransaction findExisting(String referenceKey, Map<String, PostedTransaction> local,
+			Map<String, PostedTransaction> inFlight, long checkedThrough) {
+		PostedTransaction existing = local.get(referenceKey);
+		if (existing == null) {
+			existing = inFlight.get(referenceKey);
+		}
+		if (existing != null) {
+			return existing;
+		}
+		Recent entry = recent.get(referenceKey);
+		if (entry != null) {
+			return entry.transaction();
+		}
+		if (checkedThrough <= maxPrunedPosition) {
+			return store.findPosted(List.of(referenceKey)).get(referenceKey);
+		}
+		return null;
+	}
+
+	private AccountMetadata metadata(UUID accountId, int slot) {
+		return new AccountMetadata(
+				new AccountId(accountId),
+				ACCOUNT_TYPES[balances.type(slot)],
+				currencies.get(balances.currency(slot)),
+				ACCOUNT_STATUSES[balances.status(slot)],
+				balances.version(slot));
+	}
+
+	private void recordUndo(int slot, long balance) {
+		if (undoSize == undoSlots.length) {
+			undoSlots = Arrays.copyOf(undoSlots, undoSize * 2);
+			undoBalances = Arrays.copyOf(undoBalances, undoSize * 2);
+		}
+		undoSlots[undoSize] = slot;
+		undoBalances[undoSize] = balance;
+		undoSize++;
+	}
+
+	private void undo() {
+		for (int i = undoSize - 1; i >= 0; i--) {
+			balances.balance(undoSlots[i], undoBalances[i]);
+		}
+		undoSize = 0;
+	}
+
+	private void loadMissingAccounts(List<Request> batch) {
+		Set<UUID> missing = new HashSet<>();
+		for (Request request : batch) {
+			for (PostTransactionCommand command : request.commands()) {
+				for (PostTransactionCommand.Entry entry : command.entries()) {
+					if (entry != null && balances.find(entry.accountId().getMostSignificantBits(),
+							entry.accountId().getLeastSignificantBits()) < 0) {
+						missing.add(entry.accountId());
+					}
+				}
+			}
+		}
+		for (SingleWriterLedgerStore.LoadedAccount loaded : store.loadAccounts(missing)) {
+			UUID accountId = loaded.metadata().id().value();
+			balances.put(accountId.getMostSignificantBits(), accountId.getLeastSignificantBits(),
+					loaded.balanceMicros(), loaded.metadata().version(), loaded.metadata().type().ordinal(),
+					loaded.metadata().status().ordinal(), currencyIndex(loaded.metadata().currency()));
+		}
+	}
+
+	private void refreshMetadata() {
+		Set<UUID> invalidated = new HashSet<>();
+		UUID accountId;
+		while ((accountId = refreshQueue.poll()) != null) {
+			if (balances.find(accountId.getMostSignificantBits(), accountId.getLeastSignificantBits()) >= 0) {
+				invalidated.add(accountId);
+			}
+		}
+		List<SingleWriterLedgerStore.LoadedAccount> reloaded;
+		try {
+			reloaded = store.loadAccounts(invalidated);
+		} catch (RuntimeException e) {
+			refreshQueue.addAll(invalidated);
+			throw e;
+		}
+		for (SingleWriterLedgerStore.LoadedAccount loaded : reloaded) {
+			UUID id = loaded.metadata().id().value();
+			int slot = balances.find(id.getMostSignificantBits(), id.getLeastSignificantBits());
+			if (loaded.metadata().version() >= balances.version(slot)) {
+				balances.metadata(slot, loaded.metadata().version(), loaded.metadata().type().ordinal(),
+						loaded.metadata().status().ordinal(), currencyIndex(loaded.metadata().currency()));
+			}
+		}
+	}
+
+	private void pruneRecent() {
+		long persistedThrough = journal.appliedPosition();
+		while (!recentOrder.isEmpty() && recentOrder.peekFirst().position() < persistedThrough) {
+			Recent entry = recentOrder.pollFirst();
+			recent.remove(entry.transaction().referenceKey(), entry);
+			maxPrunedPosition = Math.max(maxPrunedPosition, entry.position());
+		}
+	}
+
+	private int currencyIndex(Currency currency) {
+		return currencyIndex.computeIfAbsent(currency, c -> {
+			currencies.add(c);
+			return currencies.size() - 1;
+		});
+	}
+
+	private List<PostedTransaction> awaitResult(Request request) {
+		while (true) {
+			try {
+				return request.result().get(RESULT_POLL_MILLIS, TimeUnit.MILLISECONDS);
+			} catch (TimeoutException e) {
+				ensureAvailable();
+			} catch (ExecutionException e) {
+				if (e.getCause() instanceof RuntimeException runtime) {
+					throw runtime;
+				}
+				throw new IllegalStateException("Single-writer posting failed", e.getCause());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Interrupted while waiting for single-writer posting", e);
+			}
+		}
+	}
+
+	private void ensureAvailable() {
+		RuntimeException cause = failure;
+		if (cause != null) {
+			throw new IllegalStateException("Single-writer ledger engine is unavailable", cause);
+		}
+		if (stopped) {
+			throw new IllegalStateException("Single-writer ledger engine is stopped");
+		}
+	}
+
+	private record Request(List<PostTransactionCommand> commands, long checkedThrough,
+			CompletableFuture<List<PostedTransaction>> result) {
+	}
+
+	private record Recent(PostedTransaction transaction, long position) {
+	}
+}
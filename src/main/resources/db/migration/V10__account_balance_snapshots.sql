@@ -0,0 +1,24 @@
+CREATE TABLE account_balance_snapshots (
+    account_id      UUID NOT NULL,
+    as_of           TIMESTAMPTZ NOT NULL,
+    balance         NUMERIC(20,6) NOT NULL,
+    entry_count     BIGINT NOT NULL,
+    created_at      TIMESTAMPTZ NOT NULL DEFAULT now(),
+
+    PRIMARY KEY (account_id, as_of),
+
+    CONSTRAINT fk_balance_snapshots_account
+        FOREIGN KEY (account_id)
+        REFERENCES accounts(id)
+        ON DELETE RESTRICT
+);
+
+CREATE TABLE account_balance_snapshot_state (
+    account_id       UUID PRIMARY KEY,
+    pending_entries  BIGINT NOT NULL DEFAULT 0,
+    updated_at       TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+CREATE INDEX idx_balance_snapshot_state_pending
+    ON account_balance_snapshot_state (pending_entries)
+    WHERE pending_entries > 0;
@@ -0,0 +1,25 @@
+CREATE TABLE trial_balance_daily (
+    account_type    account_type NOT NULL,
+    currency        CHAR(3) NOT NULL,
+    business_date   DATE NOT NULL,
+    debit_total     NUMERIC(30,6) NOT NULL DEFAULT 0,
+    credit_total    NUMERIC(30,6) NOT NULL DEFAULT 0,
+    entry_count     BIGINT NOT NULL DEFAULT 0,
+    updated_at      TIMESTAMPTZ NOT NULL DEFAULT now(),
+
+    PRIMARY KEY (account_type, currency, business_date)
+);
+
+CREATE INDEX idx_trial_balance_daily_business_date
+    ON trial_balance_daily (business_date);
+
+INSERT INTO trial_balance_daily (account_type, currency, business_date, debit_total, credit_total, entry_count)
+SELECT a.type,
+       p.currency,
+       (p.occurred_at AT TIME ZONE 'UTC')::date,
+       COALESCE(SUM(p.amount) FILTER (WHERE p.direction = 'DEBIT'), 0),
+       COALESCE(SUM(p.amount) FILTER (WHERE p.direction = 'CREDIT'), 0),
+       COUNT(*)
+FROM transaction_history_projection p
+JOIN accounts a ON a.id = p.account_id
+GROUP BY a.type, p.currency, (p.occurred_at AT TIME ZONE 'UTC')::date;
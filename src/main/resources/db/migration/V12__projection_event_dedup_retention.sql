@@ -0,0 +1,17 @@
+ALTER TABLE projection_event_dedup
+    ADD COLUMN global_sequence BIGINT;
+
+UPDATE projection_event_dedup d
+SET global_sequence = e.global_sequence
+FROM ledger_events e
+WHERE e.event_id = d.event_id
+  AND d.global_sequence IS NULL;
+
+DELETE FROM projection_event_dedup
+WHERE global_sequence IS NULL;
+
+ALTER TABLE projection_event_dedup
+    ALTER COLUMN global_sequence SET NOT NULL;
+
+CREATE INDEX idx_projection_event_dedup_sequence
+    ON projection_event_dedup (projection_type, global_sequence);
@@ -0,0 +1,17 @@
+CREATE TABLE ledger_archive_segments (
+    period_start  DATE NOT NULL,
+    table_name    VARCHAR(64) NOT NULL,
+    storage_key   VARCHAR(512) NOT NULL,
+    sha256        CHAR(64) NOT NULL,
+    row_count     BIGINT NOT NULL,
+    byte_size     BIGINT NOT NULL,
+    archived_at   TIMESTAMPTZ NOT NULL DEFAULT now(),
+
+    PRIMARY KEY (period_start, table_name),
+
+    CONSTRAINT chk_archive_period_start
+        CHECK (period_start = date_trunc('month', period_start)::date)
+);
+
+CREATE INDEX idx_entries_created
+    ON transaction_entries (created_at);
@@ -0,0 +1,7 @@
+CREATE TABLE async_posting_rejections (
+    reference_key     VARCHAR(128) PRIMARY KEY,
+    journal_position  BIGINT NOT NULL,
+    error_code        VARCHAR(64) NOT NULL,
+    error_message     TEXT NOT NULL,
+    rejected_at       TIMESTAMPTZ NOT NULL DEFAULT now()
+);
@@ -0,0 +1,41 @@
+-- Future-dated postings wait here until due_at. Dispatchers claim due rows with FOR UPDATE SKIP LOCKED and
+-- hold them under a lease; a row whose lease lapses (dispatcher crash) becomes claimable again, and the
+-- posting reference key keeps a re-dispatch idempotent.
+CREATE TYPE scheduled_posting_status AS ENUM (
+    'PENDING',
+    'CLAIMED',
+    'POSTED',
+    'FAILED'
+);
+
+CREATE TABLE scheduled_postings (
+    id              UUID PRIMARY KEY,
+    reference_key   VARCHAR(128) NOT NULL,
+    due_at          TIMESTAMPTZ NOT NULL,
+    payload         BYTEA NOT NULL,
+    status          scheduled_posting_status NOT NULL DEFAULT 'PENDING',
+    attempts        INTEGER NOT NULL DEFAULT 0,
+    claimed_by      VARCHAR(128),
+    lease_until     TIMESTAMPTZ,
+    transaction_id  UUID,
+    error_code      VARCHAR(64),
+    error_message   TEXT,
+    created_at      TIMESTAMPTZ NOT NULL DEFAULT now(),
+    updated_at      TIMESTAMPTZ NOT NULL DEFAULT now(),
+
+    CONSTRAINT uq_scheduled_postings_reference
+        UNIQUE (reference_key),
+
+    CONSTRAINT fk_scheduled_postings_transaction
+        FOREIGN KEY (transaction_id)
+        REFERENCES transactions(id)
+        ON DELETE RESTRICT
+);
+
+CREATE INDEX idx_scheduled_postings_pending_due
+    ON scheduled_postings (due_at)
+    WHERE status = 'PENDING';
+
+CREATE INDEX idx_scheduled_postings_claimed_lease
+    ON scheduled_postings (lease_until)
+    WHERE status = 'CLAIMED';
@@ -0,0 +1,45 @@
+-- Accrual runs post one interest/fee transaction per matching account, keyed accrual:<run_key>:<account_id>.
+-- A run is planned once into account-id ranges over account_balances; each range is checkpointed in the
+-- same transaction as its postings so an interrupted run resumes with the ranges that are still open.
+CREATE TYPE accrual_run_status AS ENUM (
+    'RUNNING',
+    'COMPLETED'
+);
+
+CREATE TABLE accrual_runs (
+    id            UUID PRIMARY KEY,
+    run_key       VARCHAR(128) NOT NULL,
+    days          INTEGER NOT NULL,
+    rules         JSONB NOT NULL,
+    status        accrual_run_status NOT NULL DEFAULT 'RUNNING',
+    chunk_count   INTEGER NOT NULL,
+    started_at    TIMESTAMPTZ NOT NULL DEFAULT now(),
+    completed_at  TIMESTAMPTZ,
+
+    CONSTRAINT uq_accrual_runs_run_key
+        UNIQUE (run_key),
+
+    CONSTRAINT chk_accrual_runs_days_positive
+        CHECK (days > 0)
+);
+
+CREATE TABLE accrual_run_chunks (
+    run_id          UUID NOT NULL,
+    chunk_index     INTEGER NOT NULL,
+    lower_bound     UUID NOT NULL,
+    upper_bound     UUID,
+    posted_count    INTEGER NOT NULL DEFAULT 0,
+    rejected_count  INTEGER NOT NULL DEFAULT 0,
+    completed_at    TIMESTAMPTZ,
+
+    PRIMARY KEY (run_id, chunk_index),
+
+    CONSTRAINT fk_accrual_run_chunks_run
+        FOREIGN KEY (run_id)
+        REFERENCES accrual_runs(id)
+        ON DELETE CASCADE
+);
+
+CREATE INDEX idx_accrual_run_chunks_open
+    ON accrual_run_chunks (run_id, chunk_index)
+    WHERE completed_at IS NULL;
@@ -0,0 +1,30 @@
+-- Coordinator log for postings whose accounts live on more than one shard. Each shard posts a local leg that is
+-- balanced against its clearing account; the row stays PREPARED until every leg is posted, and a stale PREPARED
+-- row is re-driven (legs are idempotent by reference key) or compensated by recovery.
+CREATE TYPE cross_shard_posting_status AS ENUM (
+    'PREPARED',
+    'COMMITTED',
+    'ABORTED'
+);
+
+CREATE TABLE cross_shard_postings (
+    id              UUID PRIMARY KEY,
+    reference_key   VARCHAR(128) NOT NULL,
+    payload         BYTEA NOT NULL,
+    shard_count     INTEGER NOT NULL,
+    status          cross_shard_posting_status NOT NULL DEFAULT 'PREPARED',
+    error_code      VARCHAR(64),
+    error_message   VARCHAR(512),
+    created_at      TIMESTAMPTZ NOT NULL DEFAULT now(),
+    updated_at      TIMESTAMPTZ NOT NULL DEFAULT now(),
+
+    CONSTRAINT uq_cross_shard_postings_reference
+        UNIQUE (reference_key),
+
+    CONSTRAINT chk_cross_shard_postings_shards
+        CHECK (shard_count > 1)
+);
+
+CREATE INDEX idx_cross_shard_postings_prepared
+    ON cross_shard_postings (updated_at)
+    WHERE status = 'PREPARED';
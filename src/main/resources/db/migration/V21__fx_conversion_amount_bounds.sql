@@ -0,0 +1,229 @@
+-- FX conversion legs may move only part of a currency's posted total: fee legs and currencies that are sold in
+-- one conversion and bought in another are valid, so each side is bounded by the balanced debit total instead of
+-- having to equal it. ledger_post_transactions is redefined from V20 with only this LG004 check relaxed.
+CREATE OR REPLACE FUNCTION ledger_post_transactions(p_transactions JSONB)
+RETURNS TABLE (
+    out_index           INT,
+    out_transaction_id  UUID,
+    out_reference_key   VARCHAR,
+    out_posted_at       TIMESTAMPTZ
+) AS $$
+DECLARE
+    tx            JSONB;
+    tx_index      INT;
+    tx_id         UUID;
+    tx_reference  VARCHAR(128);
+    tx_occurred   TIMESTAMPTZ;
+    existing      RECORD;
+    blocked       RECORD;
+    change        RECORD;
+    tx_currency   TEXT;
+    currency_count INT;
+    leg_count     INT;
+    unbalanced    TEXT;
+    uncovered     TEXT;
+    mismatched    TEXT;
+BEGIN
+    PERFORM 1
+    FROM accounts a
+    WHERE a.id IN (
+        SELECT (e->>'account_id')::UUID
+        FROM jsonb_array_elements(p_transactions) t,
+             jsonb_array_elements(t->'entries') e
+        WHERE NOT EXISTS (SELECT 1 FROM transactions x WHERE x.reference_key = t->>'reference_key')
+    )
+    ORDER BY a.id
+    FOR UPDATE;
+
+    FOR tx, tx_index IN
+        SELECT value, (ordinality - 1)::INT FROM jsonb_array_elements(p_transactions) WITH ORDINALITY
+    LOOP
+        tx_id := (tx->>'transaction_id')::UUID;
+        tx_reference := tx->>'reference_key';
+        tx_occurred := (tx->>'occurred_at')::TIMESTAMPTZ;
+
+        SELECT x.id, x.reference_key, x.created_at INTO existing
+        FROM transactions x WHERE x.reference_key = tx_reference;
+        IF FOUND THEN
+            RETURN QUERY SELECT tx_index, existing.id, existing.reference_key, existing.created_at;
+            CONTINUE;
+        END IF;
+
+        IF EXISTS (
+            SELECT 1 FROM jsonb_array_elements(tx->'entries') e
+            LEFT JOIN accounts a ON a.id = (e->>'account_id')::UUID
+            WHERE a.id IS NULL
+        ) THEN
+            RAISE EXCEPTION USING ERRCODE = 'LG001', MESSAGE = 'One or more accounts do not exist';
+        END IF;
+
+        SELECT a.id, a.status INTO blocked
+        FROM accounts a
+        WHERE a.id IN (SELECT (e->>'account_id')::UUID FROM jsonb_array_elements(tx->'entries') e)
+          AND a.status <> 'ACTIVE'
+        ORDER BY a.id
+        LIMIT 1;
+        IF FOUND THEN
+            IF blocked.status = 'FROZEN' THEN
+                RAISE EXCEPTION USING ERRCODE = 'LG002', MESSAGE = 'Account is FROZEN: ' || blocked.id;
+            END IF;
+            RAISE EXCEPTION USING ERRCODE = 'LG003', MESSAGE = 'Account is CLOSED: ' || blocked.id;
+        END IF;
+
+        SELECT min(a.currency), count(DISTINCT a.currency) INTO tx_currency, currency_count
+        FROM accounts a
+        WHERE a.id IN (SELECT (e->>'account_id')::UUID FROM jsonb_array_elements(tx->'entries') e);
+
+        SELECT count(*) INTO leg_count FROM jsonb_array_elements(tx->'entries') e;
+        IF leg_count < 2 THEN
+            RAISE EXCEPTION USING ERRCODE = 'LG005', MESSAGE = 'LedgerTransaction must have at least 2 entries';
+        END IF;
+        IF EXISTS (SELECT 1 FROM jsonb_array_elements(tx->'entries') e WHERE (e->>'amount')::NUMERIC < 0) THEN
+            RAISE EXCEPTION USING ERRCODE = 'LG005', MESSAGE = 'Money.amount must be non-negative';
+        END IF;
+        IF EXISTS (SELECT 1 FROM jsonb_array_elements(tx->'entries') e WHERE (e->>'amount')::NUMERIC = 0) THEN
+            RAISE EXCEPTION USING ERRCODE = 'LG005', MESSAGE = 'LedgerEntry.amount must be positive';
+        END IF;
+
+        SELECT a.currency INTO unbalanced
+        FROM jsonb_array_elements(tx->'entries') WITH ORDINALITY AS legs(e, ord)
+        JOIN accounts a ON a.id = (e->>'account_id')::UUID
+        GROUP BY a.currency
+        HAVING SUM(CASE WHEN e->>'entry_type' = 'DEBIT' THEN (e->>'amount')::NUMERIC
+                        ELSE -(e->>'amount')::NUMERIC END) <> 0
+        ORDER BY min(ord)
+        LIMIT 1;
+        IF FOUND THEN
+            IF currency_count > 1 THEN
+                RAISE EXCEPTION USING ERRCODE = 'LG005',
+                    MESSAGE = 'LedgerTransaction is not balanced in currency: ' || unbalanced;
+            END IF;
+            RAISE EXCEPTION USING ERRCODE = 'LG005', MESSAGE = 'LedgerTransaction is not balanced';
+        END IF;
+
+        IF currency_count = 1 THEN
+            IF jsonb_array_length(COALESCE(tx->'fx_conversions', '[]'::JSONB)) > 0 THEN
+                RAISE EXCEPTION USING ERRCODE = 'LG004',
+                    MESSAGE = 'FX conversions require a multi-currency transaction';
+            END IF;
+        ELSE
+            IF jsonb_array_length(COALESCE(tx->'fx_conversions', '[]'::JSONB)) = 0 THEN
+                RAISE EXCEPTION USING ERRCODE = 'LG004',
+                    MESSAGE = 'Multi-currency transaction requires FX conversion legs';
+            END IF;
+
+            SELECT c.code INTO uncovered
+            FROM jsonb_array_elements(tx->'fx_conversions') WITH ORDINALITY AS fx(f, ord),
+                 LATERAL (VALUES (1, f->>'sold_currency'), (2, f->>'bought_currency')) AS c(side, code)
+            WHERE c.code NOT IN (
+                SELECT a.currency FROM accounts a
+                WHERE a.id IN (SELECT (e->>'account_id')::UUID FROM jsonb_array_elements(tx->'entries') e))
+            ORDER BY fx.ord, c.side
+            LIMIT 1;
+            IF FOUND THEN
+                RAISE EXCEPTION USING ERRCODE = 'LG004',
+                    MESSAGE = 'FX conversion currency is not posted by the transaction: ' || uncovered;
+            END IF;
+
+            SELECT a.currency INTO uncovered
+            FROM jsonb_array_elements(tx->'entries') WITH ORDINALITY AS legs(e, ord)
+            JOIN accounts a ON a.id = (e->>'account_id')::UUID
+            WHERE a.currency NOT IN (
+                  SELECT f->>'sold_currency' FROM jsonb_array_elements(tx->'fx_conversions') f
+                  UNION ALL
+                  SELECT f->>'bought_currency' FROM jsonb_array_elements(tx->'fx_conversions') f)
+            ORDER BY legs.ord
+            LIMIT 1;
+            IF FOUND THEN
+                RAISE EXCEPTION USING ERRCODE = 'LG004',
+                    MESSAGE = 'Multi-currency transaction has no FX conversion for currency: ' || uncovered;
+            END IF;
+
+            SELECT t.currency INTO mismatched
+            FROM (
+                SELECT a.currency, min(legs.ord) AS first_ord,
+                       SUM(CASE WHEN e->>'entry_type' = 'DEBIT' THEN (e->>'amount')::NUMERIC ELSE 0 END) AS posted
+                FROM jsonb_array_elements(tx->'entries') WITH ORDINALITY AS legs(e, ord)
+                JOIN accounts a ON a.id = (e->>'account_id')::UUID
+                GROUP BY a.currency
+            ) t
+            CROSS JOIN LATERAL (
+                SELECT SUM(CASE WHEN f->>'sold_currency' = t.currency
+                                THEN (f->>'sold_amount')::NUMERIC ELSE 0 END) AS sold,
+                       SUM(CASE WHEN f->>'bought_currency' = t.currency
+                                THEN (f->>'bought_amount')::NUMERIC ELSE 0 END) AS bought
+                FROM jsonb_array_elements(tx->'fx_conversions') f
+            ) c
+            WHERE c.sold > t.posted OR c.bought > t.posted
+            ORDER BY t.first_ord
+            LIMIT 1;
+            IF FOUND THEN
+                RAISE EXCEPTION USING ERRCODE = 'LG004',
+                    MESSAGE = 'FX conversion amounts exceed posted amount in currency: ' || mismatched;
+            END IF;
+        END IF;
+
+        INSERT INTO transactions (id, reference_key, status, created_at)
+        VALUES (tx_id, tx_reference, 'POSTED', tx_occurred)
+        ON CONFLICT (reference_key) DO NOTHING;
+        IF NOT FOUND THEN
+            SELECT x.id, x.reference_key, x.created_at INTO existing
+            FROM transactions x WHERE x.reference_key = tx_reference;
+            RETURN QUERY SELECT tx_index, existing.id, existing.reference_key, existing.created_at;
+            CONTINUE;
+        END IF;
+
+        INSERT INTO ledger_events (event_id, aggregate_type, aggregate_id, sequence_number, event_type,
+                                   reference_id, correlation_id, payload, occurred_at)
+        SELECT (tx->>'event_id')::UUID, 'LEDGER', tx_id, 1, 'LEDGER_TRANSACTION_RECORDED',
+               tx_reference, tx_reference,
+               jsonb_strip_nulls(jsonb_build_object(
+                   'transaction_id', tx_id::TEXT,
+                   'reference_key', tx_reference,
+                   'occurred_at', tx->>'occurred_at',
+                   'currency', CASE WHEN currency_count = 1 THEN tx_currency END,
+                   'entries', jsonb_agg(jsonb_build_object(
+                       'account_id', e->>'account_id',
+                       'entry_type', e->>'entry_type',
+                       'amount', e->>'amount',
+                       'currency', a.currency) ORDER BY ord),
+                   'fx_conversions', CASE WHEN currency_count > 1 THEN tx->'fx_conversions' END)),
+               tx_occurred
+        FROM jsonb_array_elements(tx->'entries') WITH ORDINALITY AS legs(e, ord)
+        JOIN accounts a ON a.id = (e->>'account_id')::UUID;
+
+        INSERT INTO transaction_entries (id, transaction_id, account_id, entry_type, amount, created_at)
+        SELECT (e->>'id')::UUID, tx_id, (e->>'account_id')::UUID, (e->>'entry_type')::entry_type,
+               (e->>'amount')::NUMERIC, tx_occurred
+        FROM jsonb_array_elements(tx->'entries') e;
+
+        FOR change IN
+            SELECT d.account_id, d.delta, d.delta < 0 AND a.type = 'ASSET' AS guarded
+            FROM (
+                SELECT (e->>'account_id')::UUID AS account_id,
+                       SUM(CASE WHEN e->>'entry_type' = 'DEBIT' THEN -(e->>'amount')::NUMERIC
+                                ELSE (e->>'amount')::NUMERIC END) AS delta
+                FROM jsonb_array_elements(tx->'entries') e
+                GROUP BY 1
+            ) d
+            JOIN accounts a ON a.id = d.account_id
+            ORDER BY d.account_id
+        LOOP
+            UPDATE account_balances b
+            SET balance = b.balance + change.delta
+            WHERE b.account_id = change.account_id
+              AND (NOT change.guarded OR b.balance - account_held_amount(b.account_id) >= -change.delta);
+            IF NOT FOUND THEN
+                IF change.guarded THEN
+                    RAISE EXCEPTION USING ERRCODE = 'LG006',
+                        MESSAGE = 'Insufficient funds for accountId: ' || change.account_id;
+                END IF;
+                RAISE EXCEPTION USING ERRCODE = 'LG007',
+                    MESSAGE = 'Account balance update failed for accountId: ' || change.account_id;
+            END IF;
+        END LOOP;
+
+        RETURN QUERY SELECT tx_index, tx_id, tx_reference, tx_occurred;
+    END LOOP;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,3 @@
+-- Terminal state for a cross-shard posting whose compensating reversal was itself rejected. Recovery no longer
+-- re-drives it; the clearing accounts stay out of balance until an operator resolves it.
+ALTER TYPE cross_shard_posting_status ADD VALUE 'COMPENSATION_FAILED';
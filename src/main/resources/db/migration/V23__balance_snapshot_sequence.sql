@@ -0,0 +1,8 @@
+-- Balance snapshots are folded in commit order: every snapshot of an account covers exactly the entries stamped at or
+-- before its as_of whose ledger event sequence is at or below snapshot_sequence. Entries that commit after a snapshot
+-- was written carry a higher sequence and are folded into the affected snapshots by the writer.
+ALTER TABLE account_balance_snapshot_state
+    ADD COLUMN snapshot_sequence BIGINT NOT NULL DEFAULT 0;
+
+UPDATE account_balance_snapshot_state
+SET snapshot_sequence = (SELECT COALESCE(MAX(global_sequence), 0) FROM ledger_events);
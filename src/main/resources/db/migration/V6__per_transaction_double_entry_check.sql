@@ -0,0 +1,54 @@
+-- Runs the double-entry aggregate once per transaction instead of once per inserted row.
+-- A statement-level trigger counts insert statements on transaction_entries in a transaction-local
+-- setting; the deferred row trigger remembers which transaction it last checked at which statement
+-- count and skips firings that the check already covered. Any later insert (e.g. after
+-- SET CONSTRAINTS ... IMMEDIATE) bumps the count and forces a re-check, so the guarantee is
+-- unchanged. Setting names are fixed so nothing accumulates on pooled connections.
+
+CREATE OR REPLACE FUNCTION count_double_entry_statements()
+RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM set_config(
+        'ledger.double_entry_statements',
+        (COALESCE(NULLIF(current_setting('ledger.double_entry_statements', true), ''), '0')::BIGINT + 1)::TEXT,
+        true);
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_count_double_entry_statements
+AFTER INSERT ON transaction_entries
+FOR EACH STATEMENT
+EXECUTE FUNCTION count_double_entry_statements();
+
+CREATE OR REPLACE FUNCTION enforce_double_entry_balance()
+RETURNS TRIGGER AS $$
+DECLARE
+    checked_key  TEXT;
+    debit_total  NUMERIC(20,6);
+    credit_total NUMERIC(20,6);
+BEGIN
+    checked_key := NEW.transaction_id::TEXT || ':' ||
+        COALESCE(NULLIF(current_setting('ledger.double_entry_statements', true), ''), '0');
+    IF current_setting('ledger.double_entry_checked', true) = checked_key THEN
+        RETURN NULL;
+    END IF;
+
+    SELECT
+        COALESCE(SUM(CASE WHEN entry_type = 'DEBIT' THEN amount END), 0),
+        COALESCE(SUM(CASE WHEN entry_type = 'CREDIT' THEN amount END), 0)
+    INTO debit_total, credit_total
+    FROM transaction_entries
+    WHERE transaction_id = NEW.transaction_id;
+
+    IF debit_total <> credit_total THEN
+        RAISE EXCEPTION
+            'Double-entry violation: debit=% credit=%',
+            debit_total, credit_total;
+    END IF;
+
+    PERFORM set_config('ledger.double_entry_checked', checked_key, true);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,160 @@
+-- Server-side posting used by ledger.posting.engine=procedure. Takes a JSON array of transactions whose ids,
+-- timestamps and amounts were prepared by the application and posts them in one round-trip. Business-rule
+-- failures are raised with SQLSTATE class LG so the application can map them back to domain exceptions:
+--   LG001 missing account, LG002 account frozen, LG003 account closed, LG004 mixed currency,
+--   LG005 invalid transaction shape, LG006 insufficient funds, LG007 balance row missing.
+
+CREATE OR REPLACE FUNCTION ledger_post_transactions(p_transactions JSONB)
+RETURNS TABLE (
+    out_index           INT,
+    out_transaction_id  UUID,
+    out_reference_key   VARCHAR,
+    out_posted_at       TIMESTAMPTZ
+) AS $$
+DECLARE
+    tx            JSONB;
+    tx_index      INT;
+    tx_id         UUID;
+    tx_reference  VARCHAR(128);
+    tx_occurred   TIMESTAMPTZ;
+    existing      RECORD;
+    blocked       RECORD;
+    change        RECORD;
+    tx_currency   TEXT;
+    currency_count INT;
+    leg_count     INT;
+    debit_total   NUMERIC;
+    credit_total  NUMERIC;
+BEGIN
+    PERFORM 1
+    FROM accounts a
+    WHERE a.id IN (
+        SELECT (e->>'account_id')::UUID
+        FROM jsonb_array_elements(p_transactions) t,
+             jsonb_array_elements(t->'entries') e
+        WHERE NOT EXISTS (SELECT 1 FROM transactions x WHERE x.reference_key = t->>'reference_key')
+    )
+    ORDER BY a.id
+    FOR UPDATE;
+
+    FOR tx, tx_index IN
+        SELECT value, (ordinality - 1)::INT FROM jsonb_array_elements(p_transactions) WITH ORDINALITY
+    LOOP
+        tx_id := (tx->>'transaction_id')::UUID;
+        tx_reference := tx->>'reference_key';
+        tx_occurred := (tx->>'occurred_at')::TIMESTAMPTZ;
+
+        SELECT x.id, x.reference_key, x.created_at INTO existing
+        FROM transactions x WHERE x.reference_key = tx_reference;
+        IF FOUND THEN
+            RETURN QUERY SELECT tx_index, existing.id, existing.reference_key, existing.created_at;
+            CONTINUE;
+        END IF;
+
+        IF EXISTS (
+            SELECT 1 FROM jsonb_array_elements(tx->'entries') e
+            LEFT JOIN accounts a ON a.id = (e->>'account_id')::UUID
+            WHERE a.id IS NULL
+        ) THEN
+            RAISE EXCEPTION USING ERRCODE = 'LG001', MESSAGE = 'One or more accounts do not exist';
+        END IF;
+
+        SELECT a.id, a.status INTO blocked
+        FROM accounts a
+        WHERE a.id IN (SELECT (e->>'account_id')::UUID FROM jsonb_array_elements(tx->'entries') e)
+          AND a.status <> 'ACTIVE'
+        ORDER BY a.id
+        LIMIT 1;
+        IF FOUND THEN
+            IF blocked.status = 'FROZEN' THEN
+                RAISE EXCEPTION USING ERRCODE = 'LG002', MESSAGE = 'Account is FROZEN: ' || blocked.id;
+            END IF;
+            RAISE EXCEPTION USING ERRCODE = 'LG003', MESSAGE = 'Account is CLOSED: ' || blocked.id;
+        END IF;
+
+        SELECT min(a.currency), count(DISTINCT a.currency) INTO tx_currency, currency_count
+        FROM accounts a
+        WHERE a.id IN (SELECT (e->>'account_id')::UUID FROM jsonb_array_elements(tx->'entries') e);
+        IF currency_count > 1 THEN
+            RAISE EXCEPTION USING ERRCODE = 'LG004', MESSAGE = 'Transaction accounts must be single-currency';
+        END IF;
+
+        SELECT count(*),
+               COALESCE(SUM(CASE WHEN e->>'entry_type' = 'DEBIT' THEN (e->>'amount')::NUMERIC END), 0),
+               COALESCE(SUM(CASE WHEN e->>'entry_type' = 'CREDIT' THEN (e->>'amount')::NUMERIC END), 0)
+        INTO leg_count, debit_total, credit_total
+        FROM jsonb_array_elements(tx->'entries') e;
+        IF leg_count < 2 THEN
+            RAISE EXCEPTION USING ERRCODE = 'LG005', MESSAGE = 'LedgerTransaction must have at least 2 entries';
+        END IF;
+        IF EXISTS (SELECT 1 FROM jsonb_array_elements(tx->'entries') e WHERE (e->>'amount')::NUMERIC < 0) THEN
+            RAISE EXCEPTION USING ERRCODE = 'LG005', MESSAGE = 'Money.amount must be non-negative';
+        END IF;
+        IF EXISTS (SELECT 1 FROM jsonb_array_elements(tx->'entries') e WHERE (e->>'amount')::NUMERIC = 0) THEN
+            RAISE EXCEPTION USING ERRCODE = 'LG005', MESSAGE = 'LedgerEntry.amount must be positive';
+        END IF;
+        IF debit_total <> credit_total THEN
+            RAISE EXCEPTION USING ERRCODE = 'LG005', MESSAGE = 'LedgerTransaction is not balanced';
+        END IF;
+
+        INSERT INTO transactions (id, reference_key, status, created_at)
+        VALUES (tx_id, tx_reference, 'POSTED', tx_occurred)
+        ON CONFLICT (reference_key) DO NOTHING;
+        IF NOT FOUND THEN
+            SELECT x.id, x.reference_key, x.created_at INTO existing
+            FROM transactions x WHERE x.reference_key = tx_reference;
+            RETURN QUERY SELECT tx_index, existing.id, existing.reference_key, existing.created_at;
+            CONTINUE;
+        END IF;
+
+        INSERT INTO ledger_events (event_id, aggregate_type, aggregate_id, sequence_number, event_type,
+                                   reference_id, correlation_id, payload, occurred_at)
+        SELECT (tx->>'event_id')::UUID, 'LEDGER', tx_id, 1, 'LEDGER_TRANSACTION_RECORDED',
+               tx_reference, tx_reference,
+               jsonb_build_object(
+                   'transaction_id', tx_id::TEXT,
+                   'reference_key', tx_reference,
+                   'occurred_at', tx->>'occurred_at',
+                   'currency', tx_currency,
+                   'entries', jsonb_agg(jsonb_build_object(
+                       'account_id', e->>'account_id',
+                       'entry_type', e->>'entry_type',
+                       'amount', e->>'amount') ORDER BY ord)),
+               tx_occurred
+        FROM jsonb_array_elements(tx->'entries') WITH ORDINALITY AS legs(e, ord);
+
+        INSERT INTO transaction_entries (id, transaction_id, account_id, entry_type, amount, created_at)
+        SELECT (e->>'id')::UUID, tx_id, (e->>'account_id')::UUID, (e->>'entry_type')::entry_type,
+               (e->>'amount')::NUMERIC, tx_occurred
+        FROM jsonb_array_elements(tx->'entries') e;
+
+        FOR change IN
+            SELECT d.account_id, d.delta, d.delta < 0 AND a.type = 'ASSET' AS guarded
+            FROM (
+                SELECT (e->>'account_id')::UUID AS account_id,
+                       SUM(CASE WHEN e->>'entry_type' = 'DEBIT' THEN -(e->>'amount')::NUMERIC
+                                ELSE (e->>'amount')::NUMERIC END) AS delta
+                FROM jsonb_array_elements(tx->'entries') e
+                GROUP BY 1
+            ) d
+            JOIN accounts a ON a.id = d.account_id
+            ORDER BY d.account_id
+        LOOP
+            UPDATE account_balances b
+            SET balance = b.balance + change.delta
+            WHERE b.account_id = change.account_id
+              AND (NOT change.guarded OR b.balance >= -change.delta);
+            IF NOT FOUND THEN
+                IF change.guarded THEN
+                    RAISE EXCEPTION USING ERRCODE = 'LG006',
+                        MESSAGE = 'Insufficient funds for accountId: ' || change.account_id;
+                END IF;
+                RAISE EXCEPTION USING ERRCODE = 'LG007',
+                    MESSAGE = 'Account balance update failed for accountId: ' || change.account_id;
+            END IF;
+        END LOOP;
+
+        RETURN QUERY SELECT tx_index, tx_id, tx_reference, tx_occurred;
+    END LOOP;
+END;
+$$ LANGUAGE plpgsql;
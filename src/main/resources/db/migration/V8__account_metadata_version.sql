@@ -0,0 +1,23 @@
+ALTER TABLE accounts
+    ADD COLUMN IF NOT EXISTS metadata_version BIGINT NOT NULL DEFAULT 0;
+
+CREATE OR REPLACE FUNCTION bump_account_metadata_version()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF NEW.status IS DISTINCT FROM OLD.status
+        OR NEW.type IS DISTINCT FROM OLD.type
+        OR NEW.currency IS DISTINCT FROM OLD.currency THEN
+        NEW.metadata_version := OLD.metadata_version + 1;
+    ELSE
+        NEW.metadata_version := OLD.metadata_version;
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_accounts_metadata_version ON accounts;
+
+CREATE TRIGGER trg_accounts_metadata_version
+BEFORE UPDATE ON accounts
+FOR EACH ROW
+EXECUTE FUNCTION bump_account_metadata_version();
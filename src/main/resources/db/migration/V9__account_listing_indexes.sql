@@ -0,0 +1,8 @@
+CREATE INDEX IF NOT EXISTS idx_accounts_type_id
+    ON accounts (type, id);
+
+CREATE INDEX IF NOT EXISTS idx_accounts_status_id
+    ON accounts (status, id);
+
+CREATE INDEX IF NOT EXISTS idx_accounts_currency_id
+    ON accounts (currency, id);
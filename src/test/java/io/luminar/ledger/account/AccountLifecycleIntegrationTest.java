@@ -102,6 +102,44 @@ class AccountLifecycleIntegrationTest {
 		assertThrows(AccountClosedException.class, () -> transactionApplicationService.post(cmd));
 	}
 
+	@Test
+	void freezeAfterCachedPosting_mustRejectNextPosting() {
+		String runId = UUID.randomUUID().toString();
+		UUID sourceAccountId = createAccount("SRC-" + runId);
+		UUID targetAccountId = createAccount("TGT-" + runId);
+
+		seedBalance(sourceAccountId, INITIAL_SOURCE_BALANCE);
+		assertNotNull(transactionApplicationService.post(transfer("tx-cached-" + runId, sourceAccountId,
+				targetAccountId)).transactionId());
+
+		accountApplicationService.freeze(new FreezeAccountCommand(targetAccountId, "FRAUD_REVIEW"));
+
+		PostTransactionCommand cmd = transfer("tx-cached-frozen-" + runId, sourceAccountId, targetAccountId);
+		assertThrows(AccountFrozenException.class, () -> transactionApplicationService.post(cmd));
+	}
+
+	@Test
+	void statusChangedWithoutInvalidation_mustBeDetectedByMetadataVersion() {
+		String runId = UUID.randomUUID().toString();
+		UUID sourceAccountId = createAccount("SRC-" + runId);
+		UUID targetAccountId = createAccount("TGT-" + runId);
+
+		seedBalance(sourceAccountId, INITIAL_SOURCE_BALANCE);
+		assertNotNull(transactionApplicationService.post(transfer("tx-stale-" + runId, sourceAccountId,
+				targetAccountId)).transactionId());
+
+		TransactionTemplate txTemplate = new TransactionTemplate(
+				Objects.requireNonNull(transactionManager, "PlatformTransactionManager is required"));
+		txTemplate.executeWithoutResult(status -> entityManager.createNativeQuery(
+				"update accounts set status = 'CLOSED'::account_status, closed_at = now(), " +
+						"status_changed_at = now(), status_reason = 'REMOTE_CLOSURE' where id = :id")
+				.setParameter("id", targetAccountId)
+				.executeUpdate());
+
+		PostTransactionCommand cmd = transfer("tx-stale-closed-" + runId, sourceAccountId, targetAccountId);
+		assertThrows(AccountClosedException.class, () -> transactionApplicationService.post(cmd));
+	}
+
 	private UUID createAccount(String code) {
 		UUID accountId = Objects.requireNonNull(accountApplicationService.create(new CreateAccountCommand(
 				code,
@@ -0,0 +1,127 @@
+package io.luminar.ledger.account;
+
+import io.luminar.ledger.TestcontainersConfiguration;
+import io.luminar.ledger.application.account.AccountApplicationService;
+import io.luminar.ledger.application.account.command.CreateAccountCommand;
+import io.luminar.ledger.application.account.command.FreezeAccountCommand;
+import io.luminar.ledger.domain.account.AccountType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "spring.task.scheduling.enabled=false")
+class AccountListingIntegrationTest {
+	private static final String CURRENCY = "SEK";
+	private static final int ACCOUNT_COUNT = 7;
+
+	@Autowired
+	private AccountApplicationService accountApplicationService;
+
+	@Autowired
+	private TestRestTemplate restTemplate;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Test
+	void keysetPages_mustCoverFilteredAccountsOnceInIdOrder_withBalances() throws Exception {
+		String runId = UUID.randomUUID().toString();
+		Set<UUID> expected = new HashSet<>();
+		for (int i = 0; i < ACCOUNT_COUNT; i++) {
+			expected.add(createAccount("LIST-" + i + "-" + runId, AccountType.EXPENSE));
+		}
+		UUID frozen = createAccount("LIST-FROZEN-" + runId, AccountType.EXPENSE);
+		accountApplicationService.freeze(new FreezeAccountCommand(frozen, "LISTING_FILTER"));
+		createAccount("LIST-OTHER-TYPE-" + runId, AccountType.REVENUE);
+
+		List<UUID> seen = new ArrayList<>();
+		String cursor = null;
+		int pages = 0;
+		do {
+			String url = "/api/v1/accounts?type=EXPENSE&status=ACTIVE&currency=sek&limit=3"
+					+ (cursor == null ? "" : "&after=" + cursor);
+			ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
+			assertEquals(200, response.getStatusCode().value());
+
+			JsonNode body = objectMapper.readTree(Objects.requireNonNull(response.getBody(), "response body is required"));
+			JsonNode accounts = body.get("accounts");
+			assertTrue(accounts.size() <= 3);
+			for (JsonNode account : accounts) {
+				assertEquals("EXPENSE", account.get("type").asText());
+				assertEquals("ACTIVE", account.get("status").asText());
+				assertEquals(CURRENCY, account.get("currency").asText());
+				assertTrue(account.get("balance").isNumber());
+				seen.add(UUID.fromString(account.get("accountId").asText()));
+			}
+			JsonNode next = body.get("nextCursor");
+			cursor = next == null || next.isNull() ? null : next.asText();
+			pages++;
+		} while (cursor != null && pages < 1000);
+
+		assertEquals(seen.size(), new HashSet<>(seen).size());
+		for (int i = 1; i < seen.size(); i++) {
+			assertTrue(seen.get(i - 1).toString().compareTo(seen.get(i).toString()) < 0);
+		}
+		assertTrue(seen.containsAll(expected));
+		assertFalse(seen.contains(frozen));
+	}
+
+	@Test
+	void streamedListing_mustEmitOneJsonLinePerAccount() throws Exception {
+		String runId = UUID.randomUUID().toString();
+		Set<UUID> expected = new HashSet<>();
+		for (int i = 0; i < ACCOUNT_COUNT; i++) {
+			expected.add(createAccount("STREAM-" + i + "-" + runId, AccountType.LIABILITY));
+		}
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setAccept(List.of(MediaType.APPLICATION_NDJSON));
+		ResponseEntity<String> response = restTemplate.exchange(
+				"/api/v1/accounts?type=LIABILITY&currency=SEK",
+				HttpMethod.GET,
+				new HttpEntity<>(headers),
+				String.class);
+		assertEquals(200, response.getStatusCode().value());
+		assertTrue(MediaType.APPLICATION_NDJSON.isCompatibleWith(response.getHeaders().getContentType()));
+
+		Set<UUID> seen = new HashSet<>();
+		for (String line : Objects.requireNonNull(response.getBody(), "response body is required").split("\n")) {
+			if (line.isBlank()) {
+				continue;
+			}
+			JsonNode account = objectMapper.readTree(line);
+			assertEquals("LIABILITY", account.get("type").asText());
+			assertTrue(seen.add(UUID.fromString(account.get("accountId").asText())));
+		}
+		assertTrue(seen.containsAll(expected));
+	}
+
+	private UUID createAccount(String code, AccountType type) {
+		return Objects.requireNonNull(accountApplicationService.create(new CreateAccountCommand(
+				code,
+				code,
+				type,
+				CURRENCY)), "AccountApplicationService.create returned null");
+	}
+}
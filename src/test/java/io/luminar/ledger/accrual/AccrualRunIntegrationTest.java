@@ -0,0 +1,207 @@
+package io.luminar.ledger.accrual;
+
+import io.luminar.ledger.TestcontainersConfiguration;
+import io.luminar.ledger.application.accrual.AccrualRunService;
+import io.luminar.ledger.application.accrual.command.RunAccrualCommand;
+import io.luminar.ledger.application.account.AccountApplicationService;
+import io.luminar.ledger.application.account.command.CreateAccountCommand;
+import io.luminar.ledger.application.hold.HoldApplicationService;
+import io.luminar.ledger.application.hold.command.ReserveHoldCommand;
+import io.luminar.ledger.domain.accrual.AccrualRule;
+import io.luminar.ledger.domain.account.AccountId;
+import io.luminar.ledger.domain.account.AccountType;
+import io.luminar.ledger.domain.account.Currency;
+import io.luminar.ledger.domain.ledger.EntryType;
+import io.luminar.ledger.infrastructure.persistence.accrual.AccrualRunRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = {
+		"spring.task.scheduling.enabled=false",
+		"ledger.accrual.parallelism=4",
+		"ledger.accrual.chunk-size=7"
+})
+class AccrualRunIntegrationTest {
+	private static final BigDecimal DAILY_RATE_365 = new BigDecimal("0.0365");
+
+	@Autowired
+	private AccountApplicationService accountApplicationService;
+
+	@Autowired
+	private AccrualRunService accrualRunService;
+
+	@Autowired
+	private AccrualRunRepository accrualRunRepository;
+
+	@Autowired
+	private HoldApplicationService holdApplicationService;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Test
+	void run_mustAccrueEveryMatchingAccountOnce_acrossParallelChunks() {
+		String currency = randomCurrency();
+		String runId = UUID.randomUUID().toString();
+		UUID expenseAccountId = createAccount("ACR-EXP-" + runId, AccountType.EXPENSE, currency);
+		List<UUID> depositAccounts = new ArrayList<>();
+		for (int i = 1; i <= 40; i++) {
+			UUID accountId = createAccount("ACR-DEP-" + i + "-" + runId, AccountType.LIABILITY, currency);
+			seedBalance(accountId, BigDecimal.valueOf(i * 1000L));
+			depositAccounts.add(accountId);
+		}
+		UUID emptyAccountId = createAccount("ACR-EMPTY-" + runId, AccountType.LIABILITY, currency);
+		UUID smallAccountId = createAccount("ACR-SMALL-" + runId, AccountType.LIABILITY, currency);
+		seedBalance(smallAccountId, new BigDecimal("50"));
+
+		RunAccrualCommand command = new RunAccrualCommand("interest-" + runId, 2, List.of(new AccrualRule(
+				AccountType.LIABILITY, new Currency(currency), DAILY_RATE_365, 365, EntryType.CREDIT,
+				new AccountId(expenseAccountId), new BigDecimal("100"))));
+		AccrualRunRepository.Summary summary = accrualRunService.run(command);
+
+		assertEquals(AccrualRunRepository.Status.COMPLETED, summary.status());
+		assertEquals(summary.chunkCount(), summary.completedChunks());
+		assertTrue(summary.chunkCount() > 1);
+		BigDecimal totalInterest = BigDecimal.ZERO;
+		for (int i = 1; i <= 40; i++) {
+			BigDecimal principal = BigDecimal.valueOf(i * 1000L);
+			BigDecimal interest = principal.multiply(new BigDecimal("0.0002"));
+			assertEquals(0, principal.add(interest).compareTo(balanceOf(depositAccounts.get(i - 1))));
+			totalInterest = totalInterest.add(interest);
+		}
+		assertEquals(0, BigDecimal.ZERO.compareTo(balanceOf(emptyAccountId)));
+		assertEquals(0, new BigDecimal("50").compareTo(balanceOf(smallAccountId)));
+		assertEquals(0, totalInterest.negate().compareTo(balanceOf(expenseAccountId)));
+		assertEquals(40L, accrualTransactions(command.runKey()));
+
+		AccrualRunRepository.Summary replay = accrualRunService.run(command);
+		assertEquals(AccrualRunRepository.Status.COMPLETED, replay.status());
+		assertEquals(summary.postedCount(), replay.postedCount());
+		assertEquals(40L, accrualTransactions(command.runKey()));
+		assertEquals(0, totalInterest.negate().compareTo(balanceOf(expenseAccountId)));
+	}
+
+	@Test
+	void interruptedRun_mustResumeOpenChunks_andRejectAccountsThatCannotBeCharged() {
+		String currency = randomCurrency();
+		String runId = UUID.randomUUID().toString();
+		UUID revenueAccountId = createAccount("ACR-REV-" + runId, AccountType.REVENUE, currency);
+		List<UUID> customerAccounts = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			UUID accountId = createAccount("ACR-CUS-" + i + "-" + runId, AccountType.ASSET, currency);
+			seedBalance(accountId, new BigDecimal("365"));
+			customerAccounts.add(accountId);
+		}
+
+		RunAccrualCommand command = new RunAccrualCommand("fees-" + runId, 1, List.of(new AccrualRule(
+				AccountType.ASSET, new Currency(currency), new BigDecimal("1"), 365, EntryType.DEBIT,
+				new AccountId(revenueAccountId), null)));
+		AccrualRunRepository.AccrualRun run = new AccrualRunRepository.AccrualRun(UUID.randomUUID(),
+				command.runKey(), command.days(), command.rules(), AccrualRunRepository.Status.RUNNING);
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			accrualRunRepository.insertRun(run);
+			accrualRunRepository.planChunks(run.id(), 7);
+		});
+		AccrualRunRepository.Chunk interrupted = accrualRunRepository.openChunks(run.id()).stream()
+				.filter(chunk -> contains(chunk, customerAccounts.getFirst()))
+				.findFirst()
+				.orElseThrow();
+		accrualRunRepository.completeChunk(interrupted, 0, 0);
+		UUID heldAccountId = customerAccounts.stream()
+				.filter(accountId -> !contains(interrupted, accountId))
+				.findFirst()
+				.orElseThrow();
+		holdApplicationService.reserve(new ReserveHoldCommand("acr-hold-" + runId, heldAccountId,
+				new BigDecimal("365"), null));
+
+		AccrualRunRepository.Summary summary = accrualRunService.run(command);
+
+		assertEquals(AccrualRunRepository.Status.COMPLETED, summary.status());
+		assertEquals(1L, summary.rejectedCount());
+		int charged = 0;
+		for (UUID accountId : customerAccounts) {
+			BigDecimal balance = balanceOf(accountId);
+			if (contains(interrupted, accountId) || accountId.equals(heldAccountId)) {
+				assertEquals(0, new BigDecimal("365").compareTo(balance), accountId.toString());
+			} else {
+				assertEquals(0, new BigDecimal("364").compareTo(balance), accountId.toString());
+				charged++;
+			}
+		}
+		assertTrue(charged > 0);
+		assertEquals(0, BigDecimal.valueOf(charged).compareTo(balanceOf(revenueAccountId)));
+		assertEquals(charged, accrualTransactions(command.runKey()));
+	}
+
+	private boolean contains(AccrualRunRepository.Chunk chunk, UUID accountId) {
+		return (Boolean) entityManager.createNativeQuery(
+				"select cast(:id as uuid) >= cast(:lower as uuid) " +
+						"and (cast(:upper as uuid) is null or cast(:id as uuid) < cast(:upper as uuid))")
+				.setParameter("id", accountId.toString())
+				.setParameter("lower", chunk.lowerBound().toString())
+				.setParameter("upper", chunk.upperBound() == null ? null : chunk.upperBound().toString())
+				.getSingleResult();
+	}
+
+	private long accrualTransactions(String runKey) {
+		return ((Number) entityManager.createNativeQuery(
+				"select count(*) from transactions where reference_key like :key")
+				.setParameter("key", "accrual:" + runKey + ":%")
+				.getSingleResult()).longValue();
+	}
+
+	private static String randomCurrency() {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		return "Q" + (char) ('A' + random.nextInt(26)) + (char) ('A' + random.nextInt(26));
+	}
+
+	private BigDecimal balanceOf(UUID accountId) {
+		return (BigDecimal) entityManager.createNativeQuery(
+				"select balance from account_balances where account_id = :accountId")
+				.setParameter("accountId", accountId)
+				.getSingleResult();
+	}
+
+	private UUID createAccount(String code, AccountType type, String currency) {
+		return Objects.requireNonNull(accountApplicationService.create(new CreateAccountCommand(
+				code,
+				code,
+				type,
+				currency)), "AccountApplicationService.create returned null");
+	}
+
+	private void seedBalance(UUID accountId, BigDecimal balance) {
+		TransactionTemplate txTemplate = new TransactionTemplate(
+				Objects.requireNonNull(transactionManager, "PlatformTransactionManager is required"));
+		txTemplate.executeWithoutResult(status -> {
+			int updated = entityManager.createQuery(
+					"update AccountBalanceEntity b set b.balance = :balance where b.accountId = :accountId")
+					.setParameter("balance", balance)
+					.setParameter("accountId", accountId)
+					.executeUpdate();
+			if (updated != 1) {
+				throw new IllegalStateException("Failed to seed account balance");
+			}
+			entityManager.flush();
+		});
+	}
+}
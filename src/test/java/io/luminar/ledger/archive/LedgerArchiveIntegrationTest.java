@@ -0,0 +1,179 @@
+package io.luminar.ledger.archive;
+
+import io.luminar.ledger.TestcontainersConfiguration;
+import io.luminar.ledger.application.account.AccountApplicationService;
+import io.luminar.ledger.application.account.command.CreateAccountCommand;
+import io.luminar.ledger.domain.account.AccountType;
+import io.luminar.ledger.infrastructure.archive.ArchiveManifest;
+import io.luminar.ledger.infrastructure.archive.ArchivedEntry;
+import io.luminar.ledger.infrastructure.archive.ArchivedLedgerEvent;
+import io.luminar.ledger.infrastructure.archive.LedgerArchiveReader;
+import io.luminar.ledger.infrastructure.archive.LedgerArchiver;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = {
+		"spring.task.scheduling.enabled=false",
+		"ledger.archive.directory=target/ledger-archive-test",
+		"ledger.archive.block-size=1"
+})
+class LedgerArchiveIntegrationTest {
+	private static final String CURRENCY = "USD";
+	private static final BigDecimal AMOUNT = new BigDecimal("12.345678");
+	private static final YearMonth PERIOD = YearMonth.of(2001, 3);
+	private static final Instant PERIOD_START = Instant.parse("2001-03-01T00:00:00Z");
+	private static final Instant PERIOD_END = Instant.parse("2001-04-01T00:00:00Z");
+	private static final Instant OCCURRED_AT = Instant.parse("2001-03-10T08:15:30.123456Z");
+
+	@Autowired
+	private AccountApplicationService accountApplicationService;
+
+	@Autowired
+	private LedgerArchiver ledgerArchiver;
+
+	@Autowired
+	private LedgerArchiveReader ledgerArchiveReader;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Test
+	void archiver_mustWriteChecksummedSegments_andReaderMustStreamThemBack() throws Exception {
+		String runId = UUID.randomUUID().toString();
+		UUID equityAccountId = createAccount("ARC-EQ-" + runId, AccountType.EQUITY);
+		UUID assetAccountId = createAccount("ARC-AS-" + runId, AccountType.ASSET);
+		UUID transactionId = seedClosedMonth(runId, equityAccountId, assetAccountId);
+
+		List<ArchivedLedgerEvent> hotEvents = readEvents();
+		List<ArchivedEntry> hotEntries = readEntries();
+		assertEquals(1, hotEvents.size());
+		assertEquals(2, hotEntries.size());
+
+		ArchiveManifest manifest = ledgerArchiver.archiveMonth(PERIOD);
+		assertEquals("2001-03", manifest.period());
+		assertEquals(2, manifest.segments().size());
+
+		Path root = Path.of("target/ledger-archive-test");
+		JsonNode manifestFile = objectMapper.readTree(root.resolve("ledger/2001-03/manifest.json").toFile());
+		assertEquals("2001-03", manifestFile.get("period").asText());
+		for (ArchiveManifest.Segment segment : manifest.segments()) {
+			byte[] bytes = Files.readAllBytes(root.resolve(segment.key()));
+			assertEquals(segment.sha256(), HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes)));
+			assertEquals(bytes.length, segment.byteSize());
+		}
+
+		List<ArchivedLedgerEvent> archivedEvents = readEvents();
+		List<ArchivedEntry> archivedEntries = readEntries();
+		assertEquals(hotEvents, archivedEvents);
+		assertEquals(hotEntries, archivedEntries);
+		assertEquals(OCCURRED_AT, archivedEvents.getFirst().occurredAt());
+		assertEquals(transactionId, archivedEntries.getFirst().transactionId());
+		assertEquals(0, AMOUNT.compareTo(archivedEntries.getFirst().amount()));
+
+		assertNull(ledgerArchiver.archiveOnce());
+
+		ArchiveManifest.Segment eventSegment = manifest.segments().getFirst();
+		Files.write(root.resolve(eventSegment.key()), new byte[]{0x1f, (byte) 0x8b, 0x00});
+		assertThrows(IllegalStateException.class, this::readEvents);
+
+		ledgerArchiver.archiveMonth(PERIOD);
+		assertEquals(hotEvents, readEvents());
+	}
+
+	private List<ArchivedLedgerEvent> readEvents() {
+		List<ArchivedLedgerEvent> events = new ArrayList<>();
+		ledgerArchiveReader.streamEvents(PERIOD_START, PERIOD_END, events::add);
+		return events;
+	}
+
+	private List<ArchivedEntry> readEntries() {
+		List<ArchivedEntry> entries = new ArrayList<>();
+		ledgerArchiveReader.streamEntries(PERIOD_START, PERIOD_END, entries::add);
+		return entries;
+	}
+
+	private UUID seedClosedMonth(String runId, UUID debitAccountId, UUID creditAccountId) {
+		UUID transactionId = UUID.randomUUID();
+		TransactionTemplate txTemplate = new TransactionTemplate(
+				Objects.requireNonNull(transactionManager, "transactionManager is required"));
+		txTemplate.executeWithoutResult(status -> {
+			entityManager.createNativeQuery(
+					"insert into transactions (id, reference_key, status, created_at) " +
+							"values (:id, :referenceKey, 'POSTED', :occurredAt)")
+					.setParameter("id", transactionId)
+					.setParameter("referenceKey", "tx-archive-" + runId)
+					.setParameter("occurredAt", OCCURRED_AT)
+					.executeUpdate();
+			entityManager.createNativeQuery(
+					"insert into transaction_entries (id, transaction_id, account_id, entry_type, amount, created_at) " +
+							"values (:debitId, :transactionId, :debitAccountId, 'DEBIT', :amount, :occurredAt), " +
+							"(:creditId, :transactionId, :creditAccountId, 'CREDIT', :amount, :occurredAt)")
+					.setParameter("debitId", UUID.randomUUID())
+					.setParameter("creditId", UUID.randomUUID())
+					.setParameter("transactionId", transactionId)
+					.setParameter("debitAccountId", debitAccountId)
+					.setParameter("creditAccountId", creditAccountId)
+					.setParameter("amount", AMOUNT)
+					.setParameter("occurredAt", OCCURRED_AT)
+					.executeUpdate();
+			entityManager.createNativeQuery(
+					"update account_balances set balance = case when account_id = :debitAccountId " +
+							"then balance - :amount else balance + :amount end " +
+							"where account_id in (:debitAccountId, :creditAccountId)")
+					.setParameter("debitAccountId", debitAccountId)
+					.setParameter("creditAccountId", creditAccountId)
+					.setParameter("amount", AMOUNT)
+					.executeUpdate();
+			entityManager.createNativeQuery(
+					"insert into ledger_events (event_id, aggregate_type, aggregate_id, sequence_number, event_type, " +
+							"reference_id, correlation_id, payload, occurred_at) " +
+							"values (:eventId, 'LEDGER', :transactionId, 1, 'ARCHIVE_PROBE', :referenceId, " +
+							":referenceId, cast(:payload as jsonb), :occurredAt)")
+					.setParameter("eventId", UUID.randomUUID())
+					.setParameter("transactionId", transactionId)
+					.setParameter("referenceId", "tx-archive-" + runId)
+					.setParameter("payload", "{\"note\": \"café ✓\"}")
+					.setParameter("occurredAt", OCCURRED_AT)
+					.executeUpdate();
+		});
+		return transactionId;
+	}
+
+	private UUID createAccount(String code, AccountType type) {
+		return Objects.requireNonNull(accountApplicationService.create(new CreateAccountCommand(
+				code,
+				code,
+				type,
+				CURRENCY)), "AccountApplicationService.create returned null");
+	}
+}
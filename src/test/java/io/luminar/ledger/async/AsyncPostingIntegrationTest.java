@@ -0,0 +1,319 @@
+package io.luminar.ledger.async;
+
+import io.luminar.ledger.TestcontainersConfiguration;
+import io.luminar.ledger.application.account.AccountApplicationService;
+import io.luminar.ledger.application.account.command.CreateAccountCommand;
+import io.luminar.ledger.application.transaction.AsyncPostingService;
+import io.luminar.ledger.application.transaction.AsyncPostingStatus;
+import io.luminar.ledger.application.transaction.TransactionApplicationService;
+import io.luminar.ledger.application.transaction.command.PostTransactionCommand;
+import io.luminar.ledger.domain.account.AccountType;
+import io.luminar.ledger.infrastructure.journal.CommandJournal;
+import io.luminar.ledger.infrastructure.journal.PostingCommandCodec;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+		"spring.task.scheduling.enabled=false",
+		"ledger.async-posting.enabled=true",
+		"ledger.async-posting.applier-enabled=false",
+		"ledger.async-posting.segment-bytes=4096",
+		"ledger.async-posting.batch-size=8"
+})
+class AsyncPostingIntegrationTest {
+	private static final String CURRENCY = "USD";
+	private static final BigDecimal AMOUNT = new BigDecimal("10.000000");
+
+	@DynamicPropertySource
+	static void registerJournalDirectory(DynamicPropertyRegistry registry) throws IOException {
+		Path directory = Files.createTempDirectory("ledger-journal-test");
+		registry.add("ledger.async-posting.directory", directory::toString);
+	}
+
+	@Autowired
+	private AccountApplicationService accountApplicationService;
+
+	@Autowired
+	private TransactionApplicationService transactionApplicationService;
+
+	@Autowired
+	private AsyncPostingService asyncPostingService;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private TestRestTemplate restTemplate;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Test
+	void asyncPost_mustAcceptDurably_thenApplyAndReportProgress() throws Exception {
+		String runId = UUID.randomUUID().toString();
+		UUID sourceAccountId = createAccount("ASY-SRC-" + runId);
+		UUID targetAccountId = createAccount("ASY-TGT-" + runId);
+		seedBalance(sourceAccountId, new BigDecimal("100.000000"));
+		String referenceKey = "async-ok-" + runId;
+
+		ResponseEntity<String> accepted = restTemplate.postForEntity("/api/v1/transactions/async",
+				request(referenceKey, sourceAccountId, targetAccountId, AMOUNT), String.class);
+		assertEquals(202, accepted.getStatusCode().value());
+		assertEquals("/api/v1/transactions/async/" + referenceKey,
+				Objects.requireNonNull(accepted.getHeaders().getLocation()).toString());
+		JsonNode body = readTree(accepted);
+		assertEquals("ACCEPTED", body.get("status").asText());
+		assertTrue(body.get("journalPosition").asLong() >= body.get("appliedPosition").asLong());
+
+		ResponseEntity<String> duplicate = restTemplate.postForEntity("/api/v1/transactions/async",
+				request(referenceKey, sourceAccountId, targetAccountId, AMOUNT), String.class);
+		assertEquals(409, duplicate.getStatusCode().value());
+		assertEquals("IDEMPOTENCY_IN_PROGRESS", readTree(duplicate).get("code").asText());
+
+		assertEquals("ACCEPTED", readTree(status(referenceKey)).get("status").asText());
+		assertEquals(0, BigDecimal.ZERO.compareTo(balanceOf(targetAccountId)));
+
+		drain();
+
+		JsonNode posted = readTree(status(referenceKey));
+		assertEquals("POSTED", posted.get("status").asText());
+		UUID transactionId = UUID.fromString(posted.get("transactionId").asText());
+		assertEquals(0, AMOUNT.compareTo(balanceOf(targetAccountId)));
+		assertEquals(transactionId, transactionApplicationService.post(
+				command(referenceKey, sourceAccountId, targetAccountId, AMOUNT)).transactionId());
+		assertEquals(0, AMOUNT.compareTo(balanceOf(targetAccountId)));
+
+		assertEquals(404, status("async-unknown-" + runId).getStatusCode().value());
+	}
+
+	@Test
+	void applier_mustRejectOnlyTheFailingCommandOfABatch() {
+		String runId = UUID.randomUUID().toString();
+		UUID sourceAccountId = createAccount("ASY-SRC-" + runId);
+		UUID targetAccountId = createAccount("ASY-TGT-" + runId);
+		seedBalance(sourceAccountId, new BigDecimal("25.000000"));
+
+		List<String> referenceKeys = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			String referenceKey = "async-batch-" + i + "-" + runId;
+			referenceKeys.add(referenceKey);
+			AsyncPostingStatus status = asyncPostingService.accept(
+					command(referenceKey, sourceAccountId, targetAccountId, AMOUNT));
+			assertEquals(AsyncPostingStatus.State.ACCEPTED, status.state());
+		}
+
+		drain();
+
+		assertEquals(AsyncPostingStatus.State.POSTED, stateOf(referenceKeys.get(0)));
+		assertEquals(AsyncPostingStatus.State.POSTED, stateOf(referenceKeys.get(1)));
+		AsyncPostingStatus rejected = asyncPostingService.status(referenceKeys.get(2)).orElseThrow();
+		assertEquals(AsyncPostingStatus.State.REJECTED, rejected.state());
+		assertEquals("Insufficient funds for accountId: " + sourceAccountId, rejected.errorMessage());
+		assertEquals(0, new BigDecimal("5").compareTo(balanceOf(sourceAccountId)));
+		assertEquals(0, new BigDecimal("20").compareTo(balanceOf(targetAccountId)));
+	}
+
+	@Test
+	void journal_mustRecoverTailRollSegmentsAndReleaseAppliedOnes() throws Exception {
+		Path directory = Files.createTempDirectory("ledger-journal-recovery");
+		UUID accountId = UUID.randomUUID();
+		List<Long> positions = new ArrayList<>();
+		try (CommandJournal journal = CommandJournal.open(directory, 4096, 0)) {
+			for (int i = 0; i < 100; i++) {
+				long position = journal.append(PostingCommandCodec.encode(
+						command("journal-" + i, accountId, accountId, AMOUNT)));
+				journal.awaitDurable(position);
+				positions.add(position);
+			}
+			assertTrue(journal.segmentCount() > 1);
+		}
+
+		long tail;
+		try (CommandJournal journal = CommandJournal.open(directory, 4096, 0)) {
+			List<CommandJournal.Entry> entries = journal.read(journal.appliedPosition(), 1000);
+			assertEquals(100, entries.size());
+			for (int i = 0; i < entries.size(); i++) {
+				assertEquals(positions.get(i), entries.get(i).position());
+				PostTransactionCommand decoded = PostingCommandCodec.decode(entries.get(i).payload());
+				assertEquals("journal-" + i, decoded.referenceKey());
+				assertEquals(0, AMOUNT.compareTo(decoded.entries().getFirst().amount()));
+			}
+			tail = entries.getLast().nextPosition();
+			int segmentsBefore = journal.segmentCount();
+			journal.markApplied(entries.get(60).position());
+			assertTrue(journal.segmentCount() < segmentsBefore);
+		}
+
+		Path lastSegment;
+		try (var files = Files.list(directory)) {
+			lastSegment = files.filter(f -> f.getFileName().toString().endsWith(".journal")).sorted()
+					.reduce((first, second) -> second).orElseThrow();
+		}
+		long lastSegmentStart = Long.parseLong(lastSegment.getFileName().toString().replace(".journal", ""));
+		try (RandomAccessFile torn = new RandomAccessFile(lastSegment.toFile(), "rw")) {
+			torn.seek(tail - lastSegmentStart);
+			torn.writeInt(64);
+			torn.writeInt(0xBADC0DE);
+			torn.write(new byte[] { 1, 2, 3 });
+		}
+
+		try (CommandJournal journal = CommandJournal.open(directory, 4096, 0)) {
+			assertEquals(positions.get(60), journal.appliedPosition());
+			List<CommandJournal.Entry> remaining = journal.read(journal.appliedPosition(), 1000);
+			assertEquals(40, remaining.size());
+			assertEquals(tail, remaining.getLast().nextPosition());
+			assertEquals(tail, journal.durablePosition());
+
+			long appended = journal.append(PostingCommandCodec.encode(command("journal-100", accountId, accountId,
+					AMOUNT)));
+			assertEquals(tail, appended);
+		}
+	}
+
+	@Test
+	void journal_mustTruncateAtTornTailOfNonLastSegmentAndDropLaterSegments() throws Exception {
+		Path directory = Files.createTempDirectory("ledger-journal-torn-rollover");
+		UUID accountId = UUID.randomUUID();
+		List<Long> positions = new ArrayList<>();
+		try (CommandJournal journal = CommandJournal.open(directory, 4096, 0)) {
+			for (int i = 0; i < 100; i++) {
+				long position = journal.append(PostingCommandCodec.encode(
+						command("journal-" + i, accountId, accountId, AMOUNT)));
+				journal.awaitDurable(position);
+				positions.add(position);
+			}
+			assertTrue(journal.segmentCount() > 1);
+		}
+
+		Path firstSegment;
+		try (var files = Files.list(directory)) {
+			firstSegment = files.filter(f -> f.getFileName().toString().endsWith(".journal")).sorted()
+					.findFirst().orElseThrow();
+		}
+		long firstSegmentStart = Long.parseLong(firstSegment.getFileName().toString().replace(".journal", ""));
+		long firstSegmentEnd = firstSegmentStart + Files.size(firstSegment);
+		int tornIndex = (int) positions.stream().filter(p -> p < firstSegmentEnd).count() - 1;
+		long tornPosition = positions.get(tornIndex);
+		try (RandomAccessFile torn = new RandomAccessFile(firstSegment.toFile(), "rw")) {
+			torn.seek(tornPosition - firstSegmentStart);
+			torn.write(new byte[(int) (firstSegmentEnd - tornPosition)]);
+		}
+
+		try (CommandJournal journal = CommandJournal.open(directory, 4096, 0)) {
+			assertEquals(1, journal.segmentCount());
+			assertEquals(tornPosition, journal.durablePosition());
+			List<CommandJournal.Entry> remaining = journal.read(journal.appliedPosition(), 1000);
+			assertEquals(tornIndex, remaining.size());
+			for (int i = 0; i < remaining.size(); i++) {
+				assertEquals("journal-" + i, PostingCommandCodec.decode(remaining.get(i).payload()).referenceKey());
+			}
+
+			long appended = journal.append(PostingCommandCodec.encode(command("journal-again", accountId, accountId,
+					AMOUNT)));
+			assertEquals(tornPosition, appended);
+		}
+		try (var files = Files.list(directory)) {
+			assertEquals(1, files.filter(f -> f.getFileName().toString().endsWith(".journal")).count());
+		}
+	}
+
+	private void drain() {
+		for (int i = 0; i < 1000; i++) {
+			if (asyncPostingService.applyOnce() == 0) {
+				return;
+			}
+		}
+		throw new IllegalStateException("Async posting journal did not drain within expected iterations");
+	}
+
+	private AsyncPostingStatus.State stateOf(String referenceKey) {
+		return asyncPostingService.status(referenceKey).orElseThrow().state();
+	}
+
+	private ResponseEntity<String> status(String referenceKey) {
+		return restTemplate.getForEntity("/api/v1/transactions/async/{referenceKey}", String.class, referenceKey);
+	}
+
+	private JsonNode readTree(ResponseEntity<String> response) throws Exception {
+		JsonNode body = objectMapper.readTree(Objects.requireNonNull(response.getBody(), "response body is required"));
+		assertNotNull(body);
+		return body;
+	}
+
+	private static Map<String, Object> request(String referenceKey, UUID debitAccountId, UUID creditAccountId,
+			BigDecimal amount) {
+		return Map.of(
+				"referenceKey", referenceKey,
+				"entries", List.of(
+						Map.of("accountId", debitAccountId, "type", "DEBIT", "amount", amount),
+						Map.of("accountId", creditAccountId, "type", "CREDIT", "amount", amount)));
+	}
+
+	private static PostTransactionCommand command(String referenceKey, UUID debitAccountId, UUID creditAccountId,
+			BigDecimal amount) {
+		return new PostTransactionCommand(referenceKey, List.of(
+				new PostTransactionCommand.Entry(debitAccountId, PostTransactionCommand.EntryType.DEBIT, amount),
+				new PostTransactionCommand.Entry(creditAccountId, PostTransactionCommand.EntryType.CREDIT, amount)));
+	}
+
+	private BigDecimal balanceOf(UUID accountId) {
+		return (BigDecimal) entityManager.createNativeQuery(
+				"select balance from account_balances where account_id = :accountId")
+				.setParameter("accountId", accountId)
+				.getSingleResult();
+	}
+
+	private UUID createAccount(String code) {
+		return Objects.requireNonNull(accountApplicationService.create(new CreateAccountCommand(
+				code,
+				code,
+				AccountType.ASSET,
+				CURRENCY)), "AccountApplicationService.create returned null");
+	}
+
+	private void seedBalance(UUID accountId, BigDecimal balance) {
+		TransactionTemplate txTemplate = new TransactionTemplate(
+				Objects.requireNonNull(transactionManager, "PlatformTransactionManager is required"));
+		txTemplate.executeWithoutResult(status -> {
+			int updated = entityManager.createQuery(
+					"update AccountBalanceEntity b set b.balance = :balance where b.accountId = :accountId")
+					.setParameter("balance", balance)
+					.setParameter("accountId", accountId)
+					.executeUpdate();
+			if (updated != 1) {
+				throw new IllegalStateException("Failed to seed account balance");
+			}
+			entityManager.flush();
+		});
+	}
+}
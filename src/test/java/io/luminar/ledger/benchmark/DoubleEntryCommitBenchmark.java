@@ -0,0 +1,109 @@
+package io.luminar.ledger.benchmark;
+
+import io.luminar.ledger.domain.account.AccountType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(1)
+public class DoubleEntryCommitBenchmark {
+	private static final BigDecimal LEG_AMOUNT = new BigDecimal("1.000000");
+
+	@Param({ "2", "16", "64", "256", "1024", "4096" })
+	private int legs;
+
+	private LedgerBenchmarkContext ledger;
+	private DataSource dataSource;
+	private UUID debitAccountId;
+	private UUID creditAccountId;
+	private String runId;
+	private int round;
+	private Connection connection;
+
+	@Setup(Level.Trial)
+	public void startLedger() {
+		ledger = LedgerBenchmarkContext.start();
+		dataSource = ledger.dataSource();
+		runId = UUID.randomUUID().toString();
+		debitAccountId = ledger.createAccount("DE-BENCH-DR-" + runId, AccountType.LIABILITY, "USD");
+		creditAccountId = ledger.createAccount("DE-BENCH-CR-" + runId, AccountType.LIABILITY, "USD");
+	}
+
+	@Setup(Level.Invocation)
+	public void stageTransaction() throws SQLException {
+		connection = dataSource.getConnection();
+		connection.setAutoCommit(false);
+		UUID transactionId = UUID.randomUUID();
+		try (PreparedStatement ps = connection.prepareStatement(
+				"insert into transactions (id, reference_key, status, created_at) " +
+						"values (?, ?, 'POSTED'::transaction_status, ?)")) {
+			ps.setObject(1, transactionId);
+			ps.setString(2, "de-bench-" + legs + "-" + round++ + "-" + runId);
+			ps.setTimestamp(3, Timestamp.from(Instant.now()));
+			ps.executeUpdate();
+		}
+		try (PreparedStatement ps = connection.prepareStatement(
+				"insert into transaction_entries (id, transaction_id, account_id, entry_type, amount, created_at) " +
+						"values (?, ?, ?, ?::entry_type, ?, now())")) {
+			for (int i = 0; i < legs; i++) {
+				boolean debit = i % 2 == 0;
+				ps.setObject(1, UUID.randomUUID());
+				ps.setObject(2, transactionId);
+				ps.setObject(3, debit ? debitAccountId : creditAccountId);
+				ps.setString(4, debit ? "DEBIT" : "CREDIT");
+				ps.setBigDecimal(5, LEG_AMOUNT);
+				ps.addBatch();
+			}
+			ps.executeBatch();
+		}
+	}
+
+	@Benchmark
+	public void commit() throws SQLException {
+		connection.commit();
+	}
+
+	@TearDown(Level.Invocation)
+	public void releaseConnection() throws SQLException {
+		connection.close();
+	}
+
+	@TearDown(Level.Trial)
+	public void stopLedger() {
+		ledger.close();
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(DoubleEntryCommitBenchmark.class.getSimpleName())
+				.build()).run();
+	}
+}
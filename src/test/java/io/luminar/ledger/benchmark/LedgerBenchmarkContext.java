@@ -0,0 +1,91 @@
+package io.luminar.ledger.benchmark;
+
+import io.luminar.ledger.LuminarLedgerApplication;
+import io.luminar.ledger.TestcontainersConfiguration;
+import io.luminar.ledger.application.account.AccountApplicationService;
+import io.luminar.ledger.application.account.command.CreateAccountCommand;
+import io.luminar.ledger.application.transaction.command.PostTransactionCommand;
+import io.luminar.ledger.domain.account.AccountType;
+import io.luminar.ledger.service.PostedTransaction;
+import io.luminar.ledger.service.PostingEngine;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+final class LedgerBenchmarkContext implements AutoCloseable {
+	private static final String[] DEFAULT_PROPERTIES = {
+			"spring.task.scheduling.enabled=false",
+			"spring.main.banner-mode=off",
+			"logging.level.root=WARN"
+	};
+
+	private final ConfigurableApplicationContext context;
+	private final TransactionTemplate serializable;
+
+	private LedgerBenchmarkContext(ConfigurableApplicationContext context) {
+		this.context = Objects.requireNonNull(context, "context is required");
+		this.serializable = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+		this.serializable.setIsolationLevel(TransactionDefinition.ISOLATION_SERIALIZABLE);
+	}
+
+	static LedgerBenchmarkContext start(String... properties) {
+		String[] args = Stream.concat(Stream.of(DEFAULT_PROPERTIES), Stream.of(properties))
+				.map(property -> "--" + property)
+				.toArray(String[]::new);
+		return new LedgerBenchmarkContext(SpringApplication.from(LuminarLedgerApplication::main)
+				.with(TestcontainersConfiguration.class)
+				.run(args)
+				.getApplicationContext());
+	}
+
+	<T> T bean(Class<T> type) {
+		return context.getBean(type);
+	}
+
+	DataSource dataSource() {
+		return context.getBean(DataSource.class);
+	}
+
+	PostingEngine engine(String name) {
+		return context.getBeansOfType(PostingEngine.class).values().stream()
+				.filter(engine -> engine.name().equals(name))
+				.findFirst()
+				.orElseThrow(() -> new IllegalArgumentException("Unknown posting engine: " + name));
+	}
+
+	UUID createAccount(String code, AccountType type, String currency) {
+		return Objects.requireNonNull(bean(AccountApplicationService.class).create(new CreateAccountCommand(
+				code,
+				code,
+				type,
+				currency)), "AccountApplicationService.create returned null");
+	}
+
+	void seedBalance(UUID accountId, BigDecimal balance) {
+		int updated = new JdbcTemplate(dataSource()).update(
+				"update account_balances set balance = ? where account_id = ?", balance, accountId);
+		if (updated != 1) {
+			throw new IllegalStateException("Failed to seed account balance");
+		}
+	}
+
+	PostedTransaction post(PostingEngine engine, PostTransactionCommand command) {
+		return Objects.requireNonNull(serializable.execute(status -> engine.postAll(List.of(command)).getFirst()),
+				"PostingEngine.postAll returned null");
+	}
+
+	@Override
+	public void close() {
+		context.close();
+	}
+}
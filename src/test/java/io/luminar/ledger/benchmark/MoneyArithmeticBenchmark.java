@@ -0,0 +1,121 @@
+package io.luminar.ledger.benchmark;
+
+import io.luminar.ledger.domain.common.DomainException;
+import io.luminar.ledger.domain.ledger.MoneyMicros;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyArithmeticBenchmark {
+	@Param({ "2", "16", "128" })
+	private int legs;
+
+	private BigDecimal[] amounts;
+	private boolean[] debit;
+	private UUID[] accountIds;
+	private int[] accountSlots;
+	private long[] microsDeltas;
+	private StringBuilder payload;
+
+	@Setup
+	public void setUp() {
+		amounts = new BigDecimal[legs];
+		debit = new boolean[legs];
+		accountIds = new UUID[legs];
+		accountSlots = new int[legs];
+		microsDeltas = new long[legs];
+		payload = new StringBuilder(legs * 16);
+		UUID debitAccount = UUID.randomUUID();
+		UUID creditAccount = UUID.randomUUID();
+		for (int i = 0; i < legs; i++) {
+			amounts[i] = new BigDecimal("125.500000").add(BigDecimal.valueOf(i / 2, 6));
+			debit[i] = i % 2 == 0;
+			accountIds[i] = debit[i] ? debitAccount : creditAccount;
+			accountSlots[i] = debit[i] ? 0 : 1;
+		}
+	}
+
+	@Benchmark
+	public void bigDecimal(Blackhole bh) {
+		BigDecimal debitTotal = BigDecimal.ZERO;
+		BigDecimal creditTotal = BigDecimal.ZERO;
+		Map<UUID, BigDecimal> changes = new HashMap<>();
+		for (int i = 0; i < legs; i++) {
+			BigDecimal amount = amounts[i].stripTrailingZeros();
+			if (amount.scale() < 0) {
+				amount = amount.setScale(0, RoundingMode.UNNECESSARY);
+			}
+			if (debit[i]) {
+				debitTotal = debitTotal.add(amount);
+				changes.merge(accountIds[i], amount.negate(), BigDecimal::add);
+			} else {
+				creditTotal = creditTotal.add(amount);
+				changes.merge(accountIds[i], amount, BigDecimal::add);
+			}
+			bh.consume(amount.toPlainString());
+		}
+		if (debitTotal.compareTo(creditTotal) != 0) {
+			throw new DomainException("LedgerTransaction is not balanced");
+		}
+		bh.consume(changes);
+	}
+
+	@Benchmark
+	public void micros(Blackhole bh) {
+		long debitTotal = 0L;
+		long creditTotal = 0L;
+		microsDeltas[0] = 0L;
+		microsDeltas[1] = 0L;
+		payload.setLength(0);
+		for (int i = 0; i < legs; i++) {
+			long amount = MoneyMicros.fromBigDecimal(amounts[i]);
+			int slot = accountSlots[i];
+			if (debit[i]) {
+				debitTotal = MoneyMicros.add(debitTotal, amount);
+				microsDeltas[slot] = MoneyMicros.add(microsDeltas[slot], MoneyMicros.negate(amount));
+			} else {
+				creditTotal = MoneyMicros.add(creditTotal, amount);
+				microsDeltas[slot] = MoneyMicros.add(microsDeltas[slot], amount);
+			}
+			MoneyMicros.appendPlain(payload, amount).append(',');
+		}
+		if (debitTotal != creditTotal) {
+			throw new DomainException("LedgerTransaction is not balanced");
+		}
+		bh.consume(microsDeltas);
+		bh.consume(payload);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(MoneyArithmeticBenchmark.class.getSimpleName())
+				.addProfiler(GCProfiler.class)
+				.build()).run();
+	}
+}
@@ -0,0 +1,93 @@
+package io.luminar.ledger.benchmark;
+
+import io.luminar.ledger.application.transaction.command.PostTransactionCommand;
+import io.luminar.ledger.domain.account.AccountType;
+import io.luminar.ledger.service.PostingEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MultiCurrencyPostingBenchmark {
+	private static final BigDecimal INITIAL_BALANCE = new BigDecimal("1000000000.000000");
+	private static final BigDecimal USD_AMOUNT = BigDecimal.ONE;
+	private static final BigDecimal EUR_AMOUNT = new BigDecimal("0.925000");
+	private static final List<PostTransactionCommand.FxConversion> CONVERSIONS = List.of(
+			new PostTransactionCommand.FxConversion("USD", USD_AMOUNT, "EUR", EUR_AMOUNT));
+
+	@Param({ "jpa", "jdbc", "procedure" })
+	private String engineName;
+
+	private LedgerBenchmarkContext ledger;
+	private PostingEngine engine;
+	private UUID customerUsd;
+	private UUID deskUsd;
+	private UUID deskEur;
+	private UUID customerEur;
+	private String runId;
+	private long sequence;
+
+	@Setup(Level.Trial)
+	public void startLedger() {
+		ledger = LedgerBenchmarkContext.start();
+		engine = ledger.engine(engineName);
+		runId = engineName + "-" + UUID.randomUUID();
+		customerUsd = ledger.createAccount("FXB-CUS-USD-" + runId, AccountType.ASSET, "USD");
+		deskUsd = ledger.createAccount("FXB-FX-USD-" + runId, AccountType.EQUITY, "USD");
+		deskEur = ledger.createAccount("FXB-FX-EUR-" + runId, AccountType.EQUITY, "EUR");
+		customerEur = ledger.createAccount("FXB-CUS-EUR-" + runId, AccountType.ASSET, "EUR");
+		ledger.seedBalance(customerUsd, INITIAL_BALANCE);
+	}
+
+	@Benchmark
+	public void singleCurrency(Blackhole bh) {
+		bh.consume(ledger.post(engine, new PostTransactionCommand("fxb-single-" + sequence++ + "-" + runId, List.of(
+				new PostTransactionCommand.Entry(customerUsd, PostTransactionCommand.EntryType.DEBIT, USD_AMOUNT),
+				new PostTransactionCommand.Entry(deskUsd, PostTransactionCommand.EntryType.CREDIT, USD_AMOUNT)))));
+	}
+
+	@Benchmark
+	public void fourLegFx(Blackhole bh) {
+		bh.consume(ledger.post(engine, new PostTransactionCommand("fxb-fx-" + sequence++ + "-" + runId, List.of(
+				new PostTransactionCommand.Entry(customerUsd, PostTransactionCommand.EntryType.DEBIT, USD_AMOUNT),
+				new PostTransactionCommand.Entry(deskUsd, PostTransactionCommand.EntryType.CREDIT, USD_AMOUNT),
+				new PostTransactionCommand.Entry(deskEur, PostTransactionCommand.EntryType.DEBIT, EUR_AMOUNT),
+				new PostTransactionCommand.Entry(customerEur, PostTransactionCommand.EntryType.CREDIT, EUR_AMOUNT)),
+				CONVERSIONS)));
+	}
+
+	@TearDown(Level.Trial)
+	public void stopLedger() {
+		ledger.close();
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(MultiCurrencyPostingBenchmark.class.getSimpleName())
+				.build()).run();
+	}
+}
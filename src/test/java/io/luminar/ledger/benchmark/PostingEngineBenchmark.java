@@ -0,0 +1,77 @@
+package io.luminar.ledger.benchmark;
+
+import io.luminar.ledger.application.transaction.command.PostTransactionCommand;
+import io.luminar.ledger.domain.account.AccountType;
+import io.luminar.ledger.service.PostingEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PostingEngineBenchmark {
+	private static final BigDecimal INITIAL_SOURCE_BALANCE = new BigDecimal("1000000000.000000");
+	private static final BigDecimal AMOUNT = new BigDecimal("10.000000");
+
+	@Param({ "jpa", "jdbc", "procedure" })
+	private String engineName;
+
+	private LedgerBenchmarkContext ledger;
+	private PostingEngine engine;
+	private UUID sourceAccountId;
+	private UUID targetAccountId;
+	private String runId;
+	private long sequence;
+
+	@Setup(Level.Trial)
+	public void startLedger() {
+		ledger = LedgerBenchmarkContext.start();
+		engine = ledger.engine(engineName);
+		runId = engineName + "-" + UUID.randomUUID();
+		sourceAccountId = ledger.createAccount("ENG-BENCH-SRC-" + runId, AccountType.ASSET, "USD");
+		targetAccountId = ledger.createAccount("ENG-BENCH-TGT-" + runId, AccountType.ASSET, "USD");
+		ledger.seedBalance(sourceAccountId, INITIAL_SOURCE_BALANCE);
+	}
+
+	@Benchmark
+	public void twoLegTransfer(Blackhole bh) {
+		bh.consume(ledger.post(engine, new PostTransactionCommand("eng-bench-" + sequence++ + "-" + runId, List.of(
+				new PostTransactionCommand.Entry(sourceAccountId, PostTransactionCommand.EntryType.DEBIT, AMOUNT),
+				new PostTransactionCommand.Entry(targetAccountId, PostTransactionCommand.EntryType.CREDIT,
+						AMOUNT)))));
+	}
+
+	@TearDown(Level.Trial)
+	public void stopLedger() {
+		ledger.close();
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(PostingEngineBenchmark.class.getSimpleName())
+				.build()).run();
+	}
+}
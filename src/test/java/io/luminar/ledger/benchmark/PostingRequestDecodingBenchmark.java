@@ -0,0 +1,118 @@
+package io.luminar.ledger.benchmark;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.luminar.ledger.api.codec.PostingRequestDecoder;
+import io.luminar.ledger.api.dto.request.PostTransactionRequest;
+import io.luminar.ledger.application.transaction.command.CompactPostingCommand;
+import io.luminar.ledger.application.transaction.command.PostTransactionCommand;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.profile.JavaFlightRecorderProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PostingRequestDecodingBenchmark {
+	@Param({ "2", "16" })
+	private int legs;
+
+	private ObjectMapper objectMapper;
+	private ValidatorFactory validatorFactory;
+	private Validator validator;
+	private byte[] body;
+
+	@Setup
+	public void setUp() {
+		objectMapper = new ObjectMapper();
+		validatorFactory = Validation.buildDefaultValidatorFactory();
+		validator = validatorFactory.getValidator();
+		UUID debitAccount = UUID.randomUUID();
+		UUID creditAccount = UUID.randomUUID();
+		StringBuilder json = new StringBuilder(64 + legs * 96)
+				.append("{\"referenceKey\":\"bench-").append(UUID.randomUUID()).append("\",\"entries\":[");
+		for (int i = 0; i < legs; i++) {
+			boolean debit = i % 2 == 0;
+			json.append(i == 0 ? "" : ",")
+					.append("{\"accountId\":\"").append(debit ? debitAccount : creditAccount)
+					.append("\",\"type\":\"").append(debit ? "DEBIT" : "CREDIT")
+					.append("\",\"amount\":").append(125 + i / 2).append(".500000}");
+		}
+		body = json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		validatorFactory.close();
+	}
+
+	@Benchmark
+	public void databindAndValidate(Blackhole bh) throws IOException {
+		PostTransactionRequest request = objectMapper.readValue(body, PostTransactionRequest.class);
+		Set<ConstraintViolation<PostTransactionRequest>> violations = validator.validate(request);
+		if (!violations.isEmpty()) {
+			throw new IllegalStateException(violations.toString());
+		}
+		List<PostTransactionCommand.Entry> entries = request.entries().stream()
+				.map(e -> new PostTransactionCommand.Entry(
+						e.accountId(),
+						PostTransactionCommand.EntryType.valueOf(e.type().name()),
+						e.amount()))
+				.toList();
+		bh.consume(new PostTransactionCommand(request.referenceKey(), entries, List.of()));
+	}
+
+	@Benchmark
+	public void streamingDecodeAndConvert(Blackhole bh) throws IOException {
+		try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+			bh.consume(PostingRequestDecoder.decode(parser).toCommand());
+		}
+	}
+
+	@Benchmark
+	public void streamingDecode(Blackhole bh) throws IOException {
+		try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+			CompactPostingCommand command = PostingRequestDecoder.decode(parser);
+			bh.consume(command.amountMicros(command.legCount() - 1));
+			bh.consume(command);
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(PostingRequestDecodingBenchmark.class.getSimpleName())
+				.addProfiler(GCProfiler.class)
+				.addProfiler(JavaFlightRecorderProfiler.class)
+				.build()).run();
+	}
+}
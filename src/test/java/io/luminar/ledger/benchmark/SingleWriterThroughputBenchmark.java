@@ -0,0 +1,97 @@
+package io.luminar.ledger.benchmark;
+
+import io.luminar.ledger.application.transaction.command.PostTransactionCommand;
+import io.luminar.ledger.domain.account.AccountType;
+import io.luminar.ledger.service.SingleWriterPostingEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class SingleWriterThroughputBenchmark {
+	private static final BigDecimal INITIAL_SOURCE_BALANCE = new BigDecimal("1000000000.000000");
+	private static final BigDecimal AMOUNT = new BigDecimal("10.000000");
+
+	@State(Scope.Benchmark)
+	public static class Ledger {
+		private LedgerBenchmarkContext ledger;
+		private SingleWriterPostingEngine engine;
+		private UUID sourceAccountId;
+		private String runId;
+		private final AtomicInteger producers = new AtomicInteger();
+
+		@Setup(Level.Trial)
+		public void startLedger() throws IOException {
+			ledger = LedgerBenchmarkContext.start(
+					"ledger.posting.engine=single-writer",
+					"ledger.single-writer.directory=" + Files.createTempDirectory("ledger-single-writer-bench"));
+			engine = ledger.bean(SingleWriterPostingEngine.class);
+			runId = UUID.randomUUID().toString();
+			sourceAccountId = ledger.createAccount("SW-BENCH-SRC-" + runId, AccountType.ASSET, "USD");
+			ledger.seedBalance(sourceAccountId, INITIAL_SOURCE_BALANCE);
+		}
+
+		@TearDown(Level.Trial)
+		public void stopLedger() {
+			ledger.close();
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class Producer {
+		private UUID targetAccountId;
+		private String prefix;
+		private long sequence;
+
+		@Setup(Level.Trial)
+		public void createTarget(Ledger ledger) {
+			int producer = ledger.producers.getAndIncrement();
+			prefix = "sw-bench-" + producer + "-" + ledger.runId + "-";
+			targetAccountId = ledger.ledger.createAccount("SW-BENCH-TGT-" + producer + "-" + ledger.runId,
+					AccountType.ASSET, "USD");
+		}
+	}
+
+	@Benchmark
+	public void hotSourceTransfer(Ledger ledger, Producer producer, Blackhole bh) {
+		bh.consume(ledger.engine.postAll(List.of(new PostTransactionCommand(producer.prefix + producer.sequence++,
+				List.of(
+						new PostTransactionCommand.Entry(ledger.sourceAccountId,
+								PostTransactionCommand.EntryType.DEBIT, AMOUNT),
+						new PostTransactionCommand.Entry(producer.targetAccountId,
+								PostTransactionCommand.EntryType.CREDIT, AMOUNT))))));
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(SingleWriterThroughputBenchmark.class.getSimpleName())
+				.build()).run();
+	}
+}
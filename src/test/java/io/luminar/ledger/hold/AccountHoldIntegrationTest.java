@@ -0,0 +1,250 @@
+package io.luminar.ledger.hold;
+
+import io.luminar.ledger.TestcontainersConfiguration;
+import io.luminar.ledger.application.account.AccountApplicationService;
+import io.luminar.ledger.application.account.command.CreateAccountCommand;
+import io.luminar.ledger.application.hold.HoldApplicationService;
+import io.luminar.ledger.application.hold.command.CaptureHoldCommand;
+import io.luminar.ledger.application.hold.command.ReserveHoldCommand;
+import io.luminar.ledger.application.transaction.command.PostTransactionCommand;
+import io.luminar.ledger.domain.account.AccountType;
+import io.luminar.ledger.domain.common.DomainException;
+import io.luminar.ledger.domain.hold.Hold;
+import io.luminar.ledger.domain.hold.HoldStatus;
+import io.luminar.ledger.infrastructure.hold.HoldExpiryJob;
+import io.luminar.ledger.service.PostedTransaction;
+import io.luminar.ledger.service.PostingEngine;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "spring.task.scheduling.enabled=false")
+class AccountHoldIntegrationTest {
+	private static final String CURRENCY = "USD";
+	private static final BigDecimal BALANCE = new BigDecimal("100.000000");
+	private static final BigDecimal HELD = new BigDecimal("60.000000");
+
+	@Autowired
+	private AccountApplicationService accountApplicationService;
+
+	@Autowired
+	private HoldApplicationService holdApplicationService;
+
+	@Autowired
+	private HoldExpiryJob holdExpiryJob;
+
+	@Autowired
+	private List<PostingEngine> postingEngines;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private TestRestTemplate restTemplate;
+
+	@Test
+	void activeHold_mustReduceAvailableBalanceForEveryEngine() {
+		for (PostingEngine engine : postingEngines) {
+			String runId = engine.name() + "-" + UUID.randomUUID();
+			UUID sourceAccountId = createAccount("HLD-SRC-" + runId, AccountType.ASSET);
+			UUID targetAccountId = createAccount("HLD-TGT-" + runId, AccountType.ASSET);
+			seedBalance(sourceAccountId, BALANCE);
+
+			Hold hold = holdApplicationService.reserve(new ReserveHoldCommand("hold-" + runId, sourceAccountId,
+					HELD, null));
+			assertEquals(HoldStatus.ACTIVE, hold.status(), engine.name());
+			assertEquals(hold.id(), holdApplicationService.reserve(new ReserveHoldCommand("hold-" + runId,
+					sourceAccountId, HELD, null)).id(), engine.name());
+
+			DomainException overdraw = assertThrows(DomainException.class, () -> post(engine,
+					transfer("hold-overdraw-" + runId, sourceAccountId, targetAccountId, new BigDecimal("50"))),
+					engine.name());
+			assertEquals("Insufficient funds for accountId: " + sourceAccountId, overdraw.getMessage(), engine.name());
+
+			post(engine, transfer("hold-ok-" + runId, sourceAccountId, targetAccountId, new BigDecimal("40")));
+			assertEquals(0, HELD.compareTo(balanceOf(sourceAccountId)), engine.name());
+
+			DomainException overReserve = assertThrows(DomainException.class, () -> holdApplicationService.reserve(
+					new ReserveHoldCommand("hold-extra-" + runId, sourceAccountId, BigDecimal.ONE, null)),
+					engine.name());
+			assertEquals("Insufficient funds for accountId: " + sourceAccountId, overReserve.getMessage(),
+					engine.name());
+		}
+	}
+
+	@Test
+	void capture_mustPostTheCapturedAmountAndReleaseTheRemainder() {
+		String runId = UUID.randomUUID().toString();
+		UUID sourceAccountId = createAccount("HLD-CAP-SRC-" + runId, AccountType.ASSET);
+		UUID merchantAccountId = createAccount("HLD-CAP-MER-" + runId, AccountType.LIABILITY);
+		seedBalance(sourceAccountId, BALANCE);
+
+		Hold hold = holdApplicationService.reserve(new ReserveHoldCommand("cap-" + runId, sourceAccountId, HELD,
+				null));
+		CaptureHoldCommand capture = new CaptureHoldCommand(hold.id(), "cap-post-" + runId, merchantAccountId,
+				new BigDecimal("45"));
+		Hold captured = holdApplicationService.capture(capture);
+		Hold replay = holdApplicationService.capture(capture);
+
+		assertEquals(HoldStatus.CAPTURED, captured.status());
+		assertEquals(0, new BigDecimal("45").compareTo(captured.capturedAmount()));
+		assertNotNull(captured.transactionId());
+		assertEquals(captured.transactionId(), replay.transactionId());
+		assertEquals(0, new BigDecimal("55").compareTo(balanceOf(sourceAccountId)));
+		assertEquals(0, new BigDecimal("45").compareTo(balanceOf(merchantAccountId)));
+		assertEquals(1L, count("select count(*) from transactions where reference_key = :key", "cap-post-" + runId));
+
+		DomainException again = assertThrows(DomainException.class, () -> holdApplicationService.capture(
+				new CaptureHoldCommand(hold.id(), "cap-post-other-" + runId, merchantAccountId, null)));
+		assertEquals("Hold is not active: " + hold.id() + " (CAPTURED)", again.getMessage());
+
+		Hold oversized = holdApplicationService.reserve(new ReserveHoldCommand("cap-big-" + runId, sourceAccountId,
+				BigDecimal.TEN, null));
+		DomainException exceeds = assertThrows(DomainException.class, () -> holdApplicationService.capture(
+				new CaptureHoldCommand(oversized.id(), "cap-big-post-" + runId, merchantAccountId,
+						new BigDecimal("11"))));
+		assertEquals("Capture amount exceeds held amount for hold: " + oversized.id(), exceeds.getMessage());
+	}
+
+	@Test
+	void voidAndExpiry_mustReleaseHeldFunds() {
+		String runId = UUID.randomUUID().toString();
+		UUID sourceAccountId = createAccount("HLD-VOID-SRC-" + runId, AccountType.ASSET);
+		UUID targetAccountId = createAccount("HLD-VOID-TGT-" + runId, AccountType.ASSET);
+		seedBalance(sourceAccountId, BALANCE);
+
+		Hold voidable = holdApplicationService.reserve(new ReserveHoldCommand("void-" + runId, sourceAccountId,
+				BALANCE, null));
+		assertEquals(HoldStatus.VOIDED, holdApplicationService.voidHold(voidable.id()).status());
+		assertEquals(HoldStatus.VOIDED, holdApplicationService.voidHold(voidable.id()).status());
+
+		Hold expiring = holdApplicationService.reserve(new ReserveHoldCommand("expire-" + runId, sourceAccountId,
+				BALANCE, Duration.ofMillis(200)));
+		DomainException blocked = assertThrows(DomainException.class, () -> holdApplicationService.reserve(
+				new ReserveHoldCommand("expire-blocked-" + runId, sourceAccountId, BigDecimal.ONE, null)));
+		assertEquals("Insufficient funds for accountId: " + sourceAccountId, blocked.getMessage());
+
+		sleep(Duration.ofMillis(400));
+		postingEngines.forEach(engine -> post(engine, transfer("expire-post-" + engine.name() + "-" + runId,
+				sourceAccountId, targetAccountId, BigDecimal.ONE)));
+		assertEquals(HoldStatus.ACTIVE, holdApplicationService.find(expiring.id()).orElseThrow().status());
+
+		assertTrue(holdExpiryJob.expireOnce() >= 1);
+		assertEquals(HoldStatus.EXPIRED, holdApplicationService.find(expiring.id()).orElseThrow().status());
+		assertThrows(DomainException.class, () -> holdApplicationService.voidHold(expiring.id()));
+	}
+
+	@Test
+	void holdEndpoints_mustReserveCaptureAndReportErrors() {
+		String runId = UUID.randomUUID().toString();
+		UUID sourceAccountId = createAccount("HLD-API-SRC-" + runId, AccountType.ASSET);
+		UUID merchantAccountId = createAccount("HLD-API-MER-" + runId, AccountType.LIABILITY);
+		seedBalance(sourceAccountId, BALANCE);
+
+		ResponseEntity<Map> reserved = restTemplate.postForEntity("/api/v1/holds", Map.of(
+				"referenceKey", "api-hold-" + runId,
+				"accountId", sourceAccountId,
+				"amount", "25.5",
+				"expiresInSeconds", 600), Map.class);
+		assertEquals(HttpStatus.OK, reserved.getStatusCode());
+		String holdId = String.valueOf(Objects.requireNonNull(reserved.getBody()).get("holdId"));
+		assertEquals("ACTIVE", reserved.getBody().get("status"));
+
+		ResponseEntity<Map> captured = restTemplate.postForEntity("/api/v1/holds/" + holdId + "/capture", Map.of(
+				"referenceKey", "api-capture-" + runId,
+				"counterpartyAccountId", merchantAccountId), Map.class);
+		assertEquals(HttpStatus.OK, captured.getStatusCode());
+		assertEquals("CAPTURED", Objects.requireNonNull(captured.getBody()).get("status"));
+		assertEquals(0, new BigDecimal("74.5").compareTo(balanceOf(sourceAccountId)));
+
+		ResponseEntity<Map> voided = restTemplate.postForEntity("/api/v1/holds/" + holdId + "/void", null,
+				Map.class);
+		assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, voided.getStatusCode());
+
+		ResponseEntity<Map> missing = restTemplate.getForEntity("/api/v1/holds/" + UUID.randomUUID(), Map.class);
+		assertEquals(HttpStatus.NOT_FOUND, missing.getStatusCode());
+	}
+
+	private PostedTransaction post(PostingEngine engine, PostTransactionCommand command) {
+		TransactionTemplate txTemplate = new TransactionTemplate(transactionManager);
+		txTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_SERIALIZABLE);
+		return Objects.requireNonNull(txTemplate.execute(status -> engine.postAll(List.of(command)).getFirst()));
+	}
+
+	private static PostTransactionCommand transfer(String referenceKey, UUID sourceAccountId, UUID targetAccountId,
+			BigDecimal amount) {
+		return new PostTransactionCommand(referenceKey, List.of(
+				new PostTransactionCommand.Entry(sourceAccountId, PostTransactionCommand.EntryType.DEBIT, amount),
+				new PostTransactionCommand.Entry(targetAccountId, PostTransactionCommand.EntryType.CREDIT, amount)));
+	}
+
+	private static void sleep(Duration duration) {
+		try {
+			Thread.sleep(duration);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private long count(String sql, String key) {
+		return ((Number) entityManager.createNativeQuery(sql)
+				.setParameter("key", key)
+				.getSingleResult()).longValue();
+	}
+
+	private BigDecimal balanceOf(UUID accountId) {
+		return (BigDecimal) entityManager.createNativeQuery(
+				"select balance from account_balances where account_id = :accountId")
+				.setParameter("accountId", accountId)
+				.getSingleResult();
+	}
+
+	private UUID createAccount(String code, AccountType type) {
+		return Objects.requireNonNull(accountApplicationService.create(new CreateAccountCommand(
+				code,
+				code,
+				type,
+				CURRENCY)), "AccountApplicationService.create returned null");
+	}
+
+	private void seedBalance(UUID accountId, BigDecimal balance) {
+		TransactionTemplate txTemplate = new TransactionTemplate(
+				Objects.requireNonNull(transactionManager, "PlatformTransactionManager is required"));
+		txTemplate.executeWithoutResult(status -> {
+			int updated = entityManager.createQuery(
+					"update AccountBalanceEntity b set b.balance = :balance where b.accountId = :accountId")
+					.setParameter("balance", balance)
+					.setParameter("accountId", accountId)
+					.executeUpdate();
+			if (updated != 1) {
+				throw new IllegalStateException("Failed to seed account balance");
+			}
+			entityManager.flush();
+		});
+	}
+}
@@ -0,0 +1,145 @@
+package io.luminar.ledger.jfr;
+
+import io.luminar.ledger.TestcontainersConfiguration;
+import io.luminar.ledger.application.account.AccountApplicationService;
+import io.luminar.ledger.application.account.AccountTransactionHistoryReadService;
+import io.luminar.ledger.application.account.command.CreateAccountCommand;
+import io.luminar.ledger.application.transaction.TransactionApplicationService;
+import io.luminar.ledger.application.transaction.command.PostTransactionCommand;
+import io.luminar.ledger.domain.account.AccountType;
+import io.luminar.ledger.infrastructure.jfr.CacheLookupEvent;
+import io.luminar.ledger.infrastructure.jfr.PostingAttemptEvent;
+import io.luminar.ledger.infrastructure.jfr.ProjectionBatchEvent;
+import io.luminar.ledger.infrastructure.projection.LedgerEventProjector;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = "spring.task.scheduling.enabled=false")
+class LedgerFlightRecorderEventsIntegrationTest {
+	private static final String CURRENCY = "USD";
+	private static final BigDecimal AMOUNT = new BigDecimal("10.000000");
+
+	@Autowired
+	private AccountApplicationService accountApplicationService;
+
+	@Autowired
+	private TransactionApplicationService transactionApplicationService;
+
+	@Autowired
+	private LedgerEventProjector ledgerEventProjector;
+
+	@Autowired
+	private AccountTransactionHistoryReadService accountTransactionHistoryReadService;
+
+	@Test
+	void postingProjectionAndCacheReads_mustEmitLedgerEvents() throws Exception {
+		String runId = UUID.randomUUID().toString();
+		UUID debitAccountId = createAccount("JFR-DR-" + runId, AccountType.LIABILITY);
+		UUID creditAccountId = createAccount("JFR-CR-" + runId, AccountType.ASSET);
+		String referenceKey = "jfr-" + runId;
+
+		List<RecordedEvent> events;
+		Path dump = Files.createTempFile("ledger-events", ".jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable(PostingAttemptEvent.class).withThreshold(Duration.ZERO);
+			recording.enable(ProjectionBatchEvent.class).withThreshold(Duration.ZERO);
+			recording.enable(CacheLookupEvent.class).withThreshold(Duration.ZERO);
+			recording.start();
+
+			transactionApplicationService.post(new PostTransactionCommand(referenceKey, List.of(
+					new PostTransactionCommand.Entry(debitAccountId, PostTransactionCommand.EntryType.DEBIT, AMOUNT),
+					new PostTransactionCommand.Entry(creditAccountId, PostTransactionCommand.EntryType.CREDIT,
+							AMOUNT))));
+			projectUntilCaughtUp();
+			accountTransactionHistoryReadService.findByAccountId(creditAccountId, null, null, 0, 10);
+
+			recording.stop();
+			recording.dump(dump);
+			events = RecordingFile.readAllEvents(dump);
+		} finally {
+			Files.deleteIfExists(dump);
+		}
+
+		RecordedEvent attempt = events.stream()
+				.filter(e -> e.getEventType().getName().equals("io.luminar.ledger.PostingAttempt"))
+				.filter(e -> e.getInt("referenceKeyHash") == referenceKey.hashCode())
+				.findFirst()
+				.orElseThrow(() -> new AssertionError("PostingAttempt event was not recorded"));
+		assertEquals(2, attempt.getInt("legCount"));
+		assertEquals(1, attempt.getInt("attempt"));
+		assertEquals(PostingAttemptEvent.POSTED, attempt.getString("outcome"));
+		assertTrue(attempt.getLong("lockWait") > 0L);
+		assertTrue(attempt.getLong("lockWait") <= attempt.getDuration().toNanos());
+
+		List<RecordedEvent> batches = events.stream()
+				.filter(e -> e.getEventType().getName().equals("io.luminar.ledger.ProjectionBatch"))
+				.toList();
+		assertFalse(batches.isEmpty());
+		for (RecordedEvent batch : batches) {
+			assertEquals(LedgerEventProjector.TRANSACTION_HISTORY_PROJECTION_TYPE, batch.getString("projection"));
+			assertTrue(batch.getInt("size") > 0);
+			assertTrue(batch.getLong("toSequence") >= batch.getLong("fromSequence"));
+			assertTrue(batch.getDuration("lag").toMillis() >= 0L);
+		}
+
+		RecordedEvent metadataLookup = events.stream()
+				.filter(e -> e.getEventType().getName().equals("io.luminar.ledger.CacheLookup"))
+				.filter(e -> "account-metadata".equals(e.getString("cache")))
+				.findFirst()
+				.orElseThrow(() -> new AssertionError("account-metadata CacheLookup event was not recorded"));
+		assertEquals(2, metadataLookup.getInt("keys"));
+		assertTrue(metadataLookup.getInt("hits") <= 2);
+		assertTrue(events.stream()
+				.filter(e -> e.getEventType().getName().equals("io.luminar.ledger.CacheLookup"))
+				.anyMatch(e -> "transaction-history".equals(e.getString("cache")) && e.getInt("keys") == 1));
+	}
+
+	@Test
+	void postingAttempt_mustClearThreadState_whenRecordingStopsMidAttempt() {
+		PostingAttemptEvent event;
+		try (Recording recording = new Recording()) {
+			recording.enable(PostingAttemptEvent.class).withThreshold(Duration.ZERO);
+			recording.start();
+			event = PostingAttemptEvent.start("jfr-stopped-" + UUID.randomUUID(), 2, 1);
+			assertTrue(PostingAttemptEvent.inProgress());
+			recording.stop();
+		}
+
+		event.finish(PostingAttemptEvent.POSTED);
+		assertFalse(PostingAttemptEvent.inProgress());
+	}
+
+	private void projectUntilCaughtUp() {
+		for (int i = 0; i < 50; i++) {
+			if (ledgerEventProjector.projectOnce() == 0) {
+				return;
+			}
+		}
+	}
+
+	private UUID createAccount(String code, AccountType type) {
+		return Objects.requireNonNull(accountApplicationService.create(new CreateAccountCommand(
+				code,
+				code,
+				type,
+				CURRENCY)), "AccountApplicationService.create returned null");
+	}
+}
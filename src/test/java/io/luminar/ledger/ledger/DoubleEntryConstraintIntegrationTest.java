@@ -0,0 +1,147 @@
+package io.luminar.ledger.ledger;
+
+import io.luminar.ledger.TestcontainersConfiguration;
+import io.luminar.ledger.application.account.AccountApplicationService;
+import io.luminar.ledger.application.account.command.CreateAccountCommand;
+import io.luminar.ledger.domain.account.AccountType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = "spring.task.scheduling.enabled=false")
+class DoubleEntryConstraintIntegrationTest {
+	private static final String CURRENCY = "USD";
+	private static final BigDecimal LEG_AMOUNT = new BigDecimal("1.000000");
+
+	@Autowired
+	private AccountApplicationService accountApplicationService;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Test
+	void balancedMultiLegTransaction_mustCommit_andUnbalancedMustBeRejectedAtCommit() throws Exception {
+		String runId = UUID.randomUUID().toString();
+		UUID debitAccountId = createAccount("DE-DR-" + runId);
+		UUID creditAccountId = createAccount("DE-CR-" + runId);
+
+		UUID balancedId = UUID.randomUUID();
+		try (Connection connection = dataSource.getConnection()) {
+			connection.setAutoCommit(false);
+			insertTransaction(connection, balancedId, "de-balanced-" + runId);
+			insertLegs(connection, balancedId, debitAccountId, creditAccountId, 64, 0);
+			connection.commit();
+		}
+		assertEquals(64L, countEntries(balancedId));
+
+		UUID unbalancedId = UUID.randomUUID();
+		try (Connection connection = dataSource.getConnection()) {
+			connection.setAutoCommit(false);
+			insertTransaction(connection, unbalancedId, "de-unbalanced-" + runId);
+			insertLegs(connection, unbalancedId, debitAccountId, creditAccountId, 64, 1);
+			SQLException ex = assertThrows(SQLException.class, connection::commit);
+			assertTrue(ex.getMessage().contains("Double-entry violation"), ex.getMessage());
+			connection.rollback();
+		}
+		assertEquals(0L, countEntries(unbalancedId));
+	}
+
+	@Test
+	void entriesInsertedAfterAnImmediateCheck_mustBeRecheckedAtCommit() throws Exception {
+		String runId = UUID.randomUUID().toString();
+		UUID debitAccountId = createAccount("DE-DR-" + runId);
+		UUID creditAccountId = createAccount("DE-CR-" + runId);
+
+		UUID transactionId = UUID.randomUUID();
+		try (Connection connection = dataSource.getConnection()) {
+			connection.setAutoCommit(false);
+			insertTransaction(connection, transactionId, "de-recheck-" + runId);
+			insertLegs(connection, transactionId, debitAccountId, creditAccountId, 4, 0);
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("set constraints all immediate");
+				statement.execute("set constraints all deferred");
+			}
+
+			insertEntry(connection, transactionId, debitAccountId, "DEBIT", LEG_AMOUNT);
+			SQLException ex = assertThrows(SQLException.class, connection::commit);
+			assertTrue(ex.getMessage().contains("Double-entry violation"), ex.getMessage());
+			connection.rollback();
+		}
+		assertEquals(0L, countEntries(transactionId));
+	}
+
+	private UUID createAccount(String code) {
+		return Objects.requireNonNull(accountApplicationService.create(new CreateAccountCommand(
+				code,
+				code,
+				AccountType.LIABILITY,
+				CURRENCY)), "AccountApplicationService.create returned null");
+	}
+
+	private static void insertTransaction(Connection connection, UUID transactionId, String referenceKey)
+			throws SQLException {
+		try (PreparedStatement ps = connection.prepareStatement(
+				"insert into transactions (id, reference_key, status, created_at) " +
+						"values (?, ?, 'POSTED'::transaction_status, ?)")) {
+			ps.setObject(1, transactionId);
+			ps.setString(2, referenceKey);
+			ps.setTimestamp(3, Timestamp.from(Instant.now()));
+			ps.executeUpdate();
+		}
+	}
+
+	private static void insertLegs(Connection connection, UUID transactionId, UUID debitAccountId,
+			UUID creditAccountId, int legs, int extraDebits) throws SQLException {
+		for (int i = 0; i < legs; i++) {
+			boolean debit = i % 2 == 0;
+			insertEntry(connection, transactionId, debit ? debitAccountId : creditAccountId,
+					debit ? "DEBIT" : "CREDIT", LEG_AMOUNT);
+		}
+		for (int i = 0; i < extraDebits; i++) {
+			insertEntry(connection, transactionId, debitAccountId, "DEBIT", LEG_AMOUNT);
+		}
+	}
+
+	private static void insertEntry(Connection connection, UUID transactionId, UUID accountId, String entryType,
+			BigDecimal amount) throws SQLException {
+		try (PreparedStatement ps = connection.prepareStatement(
+				"insert into transaction_entries (id, transaction_id, account_id, entry_type, amount, created_at) " +
+						"values (?, ?, ?, ?::entry_type, ?, now())")) {
+			ps.setObject(1, UUID.randomUUID());
+			ps.setObject(2, transactionId);
+			ps.setObject(3, accountId);
+			ps.setString(4, entryType);
+			ps.setBigDecimal(5, amount);
+			ps.executeUpdate();
+		}
+	}
+
+	private long countEntries(UUID transactionId) throws SQLException {
+		try (Connection connection = dataSource.getConnection();
+				PreparedStatement ps = connection.prepareStatement(
+						"select count(*) from transaction_entries where transaction_id = ?")) {
+			ps.setObject(1, transactionId);
+			try (var rs = ps.executeQuery()) {
+				rs.next();
+				return rs.getLong(1);
+			}
+		}
+	}
+}
@@ -0,0 +1,193 @@
+package io.luminar.ledger.ledger;
+
+import io.luminar.ledger.TestcontainersConfiguration;
+import io.luminar.ledger.application.account.AccountApplicationService;
+import io.luminar.ledger.application.account.command.CreateAccountCommand;
+import io.luminar.ledger.application.transaction.command.PostTransactionCommand;
+import io.luminar.ledger.domain.account.AccountType;
+import io.luminar.ledger.domain.common.DomainException;
+import io.luminar.ledger.service.LedgerPostingService;
+import io.luminar.ledger.service.PostedTransaction;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = "spring.task.scheduling.enabled=false")
+class LedgerBulkPostingIntegrationTest {
+	private static final String CURRENCY = "USD";
+	private static final BigDecimal INITIAL_SOURCE_BALANCE = new BigDecimal("1000.000000");
+	private static final BigDecimal AMOUNT = new BigDecimal("1.250000");
+	private static final int BATCH_SIZE = 80;
+	private static final int WIDE_LEGS = 100;
+
+	@Autowired
+	private AccountApplicationService accountApplicationService;
+
+	@Autowired
+	private LedgerPostingService ledgerPostingService;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Test
+	void postBatch_mustWriteEntriesAndEventsInBulk_andReplayExistingReferenceKeys() throws Exception {
+		String runId = UUID.randomUUID().toString();
+		UUID sourceAccountId = createAccount("BULK-SRC-" + runId, AccountType.ASSET);
+		UUID targetAccountId = createAccount("BULK-TGT-" + runId, AccountType.ASSET);
+		seedBalance(sourceAccountId, INITIAL_SOURCE_BALANCE);
+
+		String quotedReferenceKey = "bulk-\"quoted\",key-" + runId;
+		PostedTransaction first = ledgerPostingService.post(transfer(quotedReferenceKey, sourceAccountId,
+				targetAccountId));
+
+		List<PostTransactionCommand> batch = new ArrayList<>();
+		batch.add(transfer(quotedReferenceKey, sourceAccountId, targetAccountId));
+		for (int i = 0; i < BATCH_SIZE; i++) {
+			batch.add(transfer("bulk-" + i + "-" + runId, sourceAccountId, targetAccountId));
+		}
+		batch.add(transfer("bulk-0-" + runId, sourceAccountId, targetAccountId));
+
+		List<PostedTransaction> results = ledgerPostingService.postBatch(batch);
+		assertEquals(batch.size(), results.size());
+		assertEquals(first.transactionId(), results.getFirst().transactionId());
+		assertEquals(results.get(1).transactionId(), results.getLast().transactionId());
+
+		assertEquals((long) (BATCH_SIZE + 1), count(
+				"select count(*) from ledger_events where reference_id like :pattern", "%" + runId));
+		assertEquals((long) (BATCH_SIZE + 1) * 2, count(
+				"select count(*) from transaction_entries where account_id = :accountId", sourceAccountId,
+				targetAccountId));
+
+		String payloadJson = (String) entityManager.createNativeQuery(
+				"select payload::text from ledger_events where reference_id = :referenceId")
+				.setParameter("referenceId", quotedReferenceKey)
+				.getSingleResult();
+		@SuppressWarnings("unchecked")
+		Map<String, Object> payload = objectMapper.readValue(payloadJson, Map.class);
+		assertEquals(quotedReferenceKey, payload.get("reference_key"));
+
+		BigDecimal moved = AMOUNT.multiply(BigDecimal.valueOf(BATCH_SIZE + 1));
+		assertEquals(0, INITIAL_SOURCE_BALANCE.subtract(moved).compareTo(balanceOf(sourceAccountId)));
+		assertEquals(0, moved.compareTo(balanceOf(targetAccountId)));
+	}
+
+	@Test
+	void wideTransaction_mustBeCopiedAndBalanced() {
+		String runId = UUID.randomUUID().toString();
+		UUID debitAccountId = createAccount("BULK-DR-" + runId, AccountType.LIABILITY);
+		UUID creditAccountId = createAccount("BULK-CR-" + runId, AccountType.LIABILITY);
+
+		List<PostTransactionCommand.Entry> legs = new ArrayList<>(WIDE_LEGS);
+		for (int i = 0; i < WIDE_LEGS; i++) {
+			boolean debit = i % 2 == 0;
+			legs.add(new PostTransactionCommand.Entry(
+					debit ? debitAccountId : creditAccountId,
+					debit ? PostTransactionCommand.EntryType.DEBIT : PostTransactionCommand.EntryType.CREDIT,
+					AMOUNT));
+		}
+
+		UUID txId = ledgerPostingService.post(new PostTransactionCommand("bulk-wide-" + runId, legs)).transactionId();
+
+		Number entryCount = (Number) entityManager.createNativeQuery(
+				"select count(*) from transaction_entries where transaction_id = :txId")
+				.setParameter("txId", txId)
+				.getSingleResult();
+		assertEquals(WIDE_LEGS, entryCount.intValue());
+		BigDecimal moved = AMOUNT.multiply(BigDecimal.valueOf(WIDE_LEGS / 2));
+		assertEquals(0, moved.negate().compareTo(balanceOf(debitAccountId)));
+		assertEquals(0, moved.compareTo(balanceOf(creditAccountId)));
+	}
+
+	@Test
+	void postBatch_mustRollBackEveryTransaction_whenOneFails() {
+		String runId = UUID.randomUUID().toString();
+		UUID sourceAccountId = createAccount("BULK-SRC-" + runId, AccountType.ASSET);
+		UUID targetAccountId = createAccount("BULK-TGT-" + runId, AccountType.ASSET);
+		seedBalance(sourceAccountId, AMOUNT);
+
+		List<PostTransactionCommand> batch = List.of(
+				transfer("bulk-ok-" + runId, sourceAccountId, targetAccountId),
+				transfer("bulk-overdraw-" + runId, sourceAccountId, targetAccountId));
+
+		assertThrows(DomainException.class, () -> ledgerPostingService.postBatch(batch));
+
+		assertEquals(0L, count("select count(*) from ledger_events where reference_id like :pattern", "%" + runId));
+		assertEquals(0, AMOUNT.compareTo(balanceOf(sourceAccountId)));
+		assertEquals(0, BigDecimal.ZERO.compareTo(balanceOf(targetAccountId)));
+	}
+
+	private static PostTransactionCommand transfer(String referenceKey, UUID sourceAccountId, UUID targetAccountId) {
+		return new PostTransactionCommand(referenceKey, List.of(
+				new PostTransactionCommand.Entry(sourceAccountId, PostTransactionCommand.EntryType.DEBIT, AMOUNT),
+				new PostTransactionCommand.Entry(targetAccountId, PostTransactionCommand.EntryType.CREDIT, AMOUNT)));
+	}
+
+	private long count(String sql, String pattern) {
+		return ((Number) entityManager.createNativeQuery(sql)
+				.setParameter("pattern", pattern)
+				.getSingleResult()).longValue();
+	}
+
+	private long count(String sql, UUID... accountIds) {
+		long total = 0;
+		for (UUID accountId : accountIds) {
+			total += ((Number) entityManager.createNativeQuery(sql)
+					.setParameter("accountId", accountId)
+					.getSingleResult()).longValue();
+		}
+		return total;
+	}
+
+	private BigDecimal balanceOf(UUID accountId) {
+		return (BigDecimal) entityManager.createNativeQuery(
+				"select balance from account_balances where account_id = :accountId")
+				.setParameter("accountId", accountId)
+				.getSingleResult();
+	}
+
+	private UUID createAccount(String code, AccountType type) {
+		return Objects.requireNonNull(accountApplicationService.create(new CreateAccountCommand(
+				code,
+				code,
+				type,
+				CURRENCY)), "AccountApplicationService.create returned null");
+	}
+
+	private void seedBalance(UUID accountId, BigDecimal balance) {
+		TransactionTemplate txTemplate = new TransactionTemplate(
+				Objects.requireNonNull(transactionManager, "PlatformTransactionManager is required"));
+		txTemplate.executeWithoutResult(status -> {
+			int updated = entityManager.createQuery(
+					"update AccountBalanceEntity b set b.balance = :balance where b.accountId = :accountId")
+					.setParameter("balance", balance)
+					.setParameter("accountId", accountId)
+					.executeUpdate();
+			if (updated != 1) {
+				throw new IllegalStateException("Failed to seed account balance");
+			}
+			entityManager.flush();
+		});
+	}
+}
@@ -0,0 +1,323 @@
+package io.luminar.ledger.ledger;
+
+import io.luminar.ledger.TestcontainersConfiguration;
+import io.luminar.ledger.application.account.AccountApplicationService;
+import io.luminar.ledger.application.account.command.CreateAccountCommand;
+import io.luminar.ledger.application.transaction.command.PostTransactionCommand;
+import io.luminar.ledger.domain.account.AccountType;
+import io.luminar.ledger.domain.common.DomainException;
+import io.luminar.ledger.infrastructure.projection.LedgerEventProjector;
+import io.luminar.ledger.service.PostedTransaction;
+import io.luminar.ledger.service.PostingEngine;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = "spring.task.scheduling.enabled=false")
+class MultiCurrencyPostingIntegrationTest {
+	private static final BigDecimal INITIAL_BALANCE = new BigDecimal("1000000.000000");
+	private static final BigDecimal USD_AMOUNT = new BigDecimal("100.000000");
+	private static final BigDecimal EUR_AMOUNT = new BigDecimal("92.500000");
+
+	@Autowired
+	private AccountApplicationService accountApplicationService;
+
+	@Autowired
+	private List<PostingEngine> postingEngines;
+
+	@Autowired
+	private LedgerEventProjector ledgerEventProjector;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Test
+	void everyEngine_mustPostFxLegsAtomically_andBalancePerCurrency() {
+		for (PostingEngine engine : postingEngines) {
+			String runId = engine.name() + "-" + UUID.randomUUID();
+			Accounts accounts = createAccounts("FX-" + runId);
+
+			String referenceKey = "fx-ok-" + runId;
+			PostTransactionCommand command = exchange(referenceKey, accounts, USD_AMOUNT, EUR_AMOUNT,
+					List.of(conversion(USD_AMOUNT, EUR_AMOUNT)));
+			PostedTransaction posted = post(engine, command);
+			assertEquals(posted.transactionId(), post(engine, command).transactionId(), engine.name());
+
+			assertEquals(0, INITIAL_BALANCE.subtract(USD_AMOUNT).compareTo(balanceOf(accounts.customerUsd())),
+					engine.name());
+			assertEquals(0, USD_AMOUNT.compareTo(balanceOf(accounts.deskUsd())), engine.name());
+			assertEquals(0, EUR_AMOUNT.negate().compareTo(balanceOf(accounts.deskEur())), engine.name());
+			assertEquals(0, EUR_AMOUNT.compareTo(balanceOf(accounts.customerEur())), engine.name());
+
+			Object[] payload = (Object[]) entityManager.createNativeQuery(
+					"select payload->>'currency', payload->'entries'->0->>'currency', " +
+							"payload->'entries'->3->>'currency', payload->'fx_conversions'->0->>'sold_currency', " +
+							"payload->'fx_conversions'->0->>'bought_amount' " +
+							"from ledger_events where reference_id = :key")
+					.setParameter("key", referenceKey)
+					.getSingleResult();
+			assertNull(payload[0], engine.name());
+			assertEquals("USD", payload[1], engine.name());
+			assertEquals("EUR", payload[2], engine.name());
+			assertEquals("USD", payload[3], engine.name());
+			assertEquals("92.5", payload[4], engine.name());
+
+			DomainException missingFx = assertThrows(DomainException.class, () -> post(engine,
+					exchange("fx-missing-" + runId, accounts, USD_AMOUNT, EUR_AMOUNT, List.of())), engine.name());
+			assertEquals("Multi-currency transaction requires FX conversion legs", missingFx.getMessage(),
+					engine.name());
+
+			DomainException crossCurrency = assertThrows(DomainException.class, () -> post(engine,
+					new PostTransactionCommand("fx-cross-" + runId, List.of(
+							new PostTransactionCommand.Entry(accounts.customerUsd(),
+									PostTransactionCommand.EntryType.DEBIT, USD_AMOUNT),
+							new PostTransactionCommand.Entry(accounts.customerEur(),
+									PostTransactionCommand.EntryType.CREDIT, USD_AMOUNT)),
+							List.of(conversion(USD_AMOUNT, USD_AMOUNT)))),
+					engine.name());
+			assertEquals("LedgerTransaction is not balanced in currency: USD", crossCurrency.getMessage(),
+					engine.name());
+
+			DomainException foreignFx = assertThrows(DomainException.class, () -> post(engine,
+					exchange("fx-foreign-" + runId, accounts, USD_AMOUNT, EUR_AMOUNT, List.of(
+							new PostTransactionCommand.FxConversion("GBP", USD_AMOUNT, "EUR", EUR_AMOUNT)))),
+					engine.name());
+			assertEquals("FX conversion currency is not posted by the transaction: GBP", foreignFx.getMessage(),
+					engine.name());
+
+			DomainException mismatchedSold = assertThrows(DomainException.class, () -> post(engine,
+					exchange("fx-sold-" + runId, accounts, USD_AMOUNT, EUR_AMOUNT, List.of(
+							conversion(USD_AMOUNT.add(BigDecimal.ONE), EUR_AMOUNT)))),
+					engine.name());
+			assertEquals("FX conversion amounts exceed posted amount in currency: USD",
+					mismatchedSold.getMessage(), engine.name());
+
+			DomainException mismatchedBought = assertThrows(DomainException.class, () -> post(engine,
+					exchange("fx-bought-" + runId, accounts, USD_AMOUNT, EUR_AMOUNT, List.of(
+							conversion(USD_AMOUNT, EUR_AMOUNT.add(BigDecimal.ONE))))),
+					engine.name());
+			assertEquals("FX conversion amounts exceed posted amount in currency: EUR",
+					mismatchedBought.getMessage(), engine.name());
+
+			DomainException singleCurrencyFx = assertThrows(DomainException.class, () -> post(engine,
+					new PostTransactionCommand("fx-single-" + runId, List.of(
+							new PostTransactionCommand.Entry(accounts.customerUsd(),
+									PostTransactionCommand.EntryType.DEBIT, USD_AMOUNT),
+							new PostTransactionCommand.Entry(accounts.deskUsd(),
+									PostTransactionCommand.EntryType.CREDIT, USD_AMOUNT)),
+							List.of(conversion(USD_AMOUNT, EUR_AMOUNT)))),
+					engine.name());
+			assertEquals("FX conversions require a multi-currency transaction", singleCurrencyFx.getMessage(),
+					engine.name());
+
+			assertEquals(1L, ((Number) entityManager.createNativeQuery(
+					"select count(*) from transactions where reference_key like :key")
+					.setParameter("key", "fx-%-" + runId)
+					.getSingleResult()).longValue(), engine.name());
+			assertEquals(0, USD_AMOUNT.compareTo(balanceOf(accounts.deskUsd())), engine.name());
+		}
+	}
+
+	@Test
+	void everyEngine_mustAcceptFxConversionAlongsideSameCurrencyFeeLeg() {
+		BigDecimal fee = BigDecimal.ONE;
+		for (PostingEngine engine : postingEngines) {
+			String runId = engine.name() + "-" + UUID.randomUUID();
+			Accounts accounts = createAccounts("FX-FEE-" + runId);
+			UUID feeIncome = createAccount("FX-FEE-" + runId + "-INC-USD", AccountType.REVENUE, "USD");
+
+			post(engine, new PostTransactionCommand("fx-fee-" + runId, List.of(
+					new PostTransactionCommand.Entry(accounts.customerUsd(), PostTransactionCommand.EntryType.DEBIT,
+							USD_AMOUNT.add(fee)),
+					new PostTransactionCommand.Entry(accounts.deskUsd(), PostTransactionCommand.EntryType.CREDIT,
+							USD_AMOUNT),
+					new PostTransactionCommand.Entry(feeIncome, PostTransactionCommand.EntryType.CREDIT, fee),
+					new PostTransactionCommand.Entry(accounts.deskEur(), PostTransactionCommand.EntryType.DEBIT,
+							EUR_AMOUNT),
+					new PostTransactionCommand.Entry(accounts.customerEur(), PostTransactionCommand.EntryType.CREDIT,
+							EUR_AMOUNT)),
+					List.of(conversion(USD_AMOUNT, EUR_AMOUNT))));
+
+			assertEquals(0, INITIAL_BALANCE.subtract(USD_AMOUNT).subtract(fee)
+					.compareTo(balanceOf(accounts.customerUsd())), engine.name());
+			assertEquals(0, USD_AMOUNT.compareTo(balanceOf(accounts.deskUsd())), engine.name());
+			assertEquals(0, fee.compareTo(balanceOf(feeIncome)), engine.name());
+			assertEquals(0, EUR_AMOUNT.compareTo(balanceOf(accounts.customerEur())), engine.name());
+		}
+	}
+
+	@Test
+	void projection_mustRecordEachLegInItsOwnCurrency() {
+		PostingEngine engine = postingEngines.getFirst();
+		String runId = UUID.randomUUID().toString();
+		Accounts accounts = createAccounts("FXP-" + runId);
+		String referenceKey = "fx-proj-" + runId;
+		post(engine, exchange(referenceKey, accounts, USD_AMOUNT, EUR_AMOUNT,
+				List.of(conversion(USD_AMOUNT, EUR_AMOUNT))));
+
+		projectUntilCaughtUp();
+
+		@SuppressWarnings("unchecked")
+		List<Object[]> rows = entityManager.createNativeQuery(
+				"select p.currency, coalesce(sum(p.amount) filter (where p.direction = 'DEBIT'), 0), " +
+						"coalesce(sum(p.amount) filter (where p.direction = 'CREDIT'), 0) " +
+						"from transaction_history_projection p where p.reference_key = :key " +
+						"group by p.currency order by p.currency")
+				.setParameter("key", referenceKey)
+				.getResultList();
+		assertEquals(2, rows.size());
+		assertEquals("EUR", rows.get(0)[0]);
+		assertEquals(0, EUR_AMOUNT.compareTo((BigDecimal) rows.get(0)[1]));
+		assertEquals(0, EUR_AMOUNT.compareTo((BigDecimal) rows.get(0)[2]));
+		assertEquals("USD", rows.get(1)[0]);
+		assertEquals(0, USD_AMOUNT.compareTo((BigDecimal) rows.get(1)[1]));
+		assertEquals(0, USD_AMOUNT.compareTo((BigDecimal) rows.get(1)[2]));
+	}
+
+	@Test
+	void doubleEntryCheck_mustRejectEntriesThatBalanceOnlyAcrossCurrencies() throws Exception {
+		String runId = UUID.randomUUID().toString();
+		Accounts accounts = createAccounts("FXD-" + runId);
+
+		UUID transactionId = UUID.randomUUID();
+		try (Connection connection = dataSource.getConnection()) {
+			connection.setAutoCommit(false);
+			try (PreparedStatement ps = connection.prepareStatement(
+					"insert into transactions (id, reference_key, status, created_at) " +
+							"values (?, ?, 'POSTED'::transaction_status, ?)")) {
+				ps.setObject(1, transactionId);
+				ps.setString(2, "fx-raw-" + runId);
+				ps.setTimestamp(3, Timestamp.from(Instant.now()));
+				ps.executeUpdate();
+			}
+			insertEntry(connection, transactionId, accounts.deskUsd(), "DEBIT");
+			insertEntry(connection, transactionId, accounts.customerEur(), "CREDIT");
+			SQLException ex = assertThrows(SQLException.class, connection::commit);
+			assertTrue(ex.getMessage().contains("Double-entry violation"), ex.getMessage());
+			connection.rollback();
+		}
+		assertEquals(0L, ((Number) entityManager.createNativeQuery(
+				"select count(*) from transaction_entries where transaction_id = :id")
+				.setParameter("id", transactionId)
+				.getSingleResult()).longValue());
+	}
+
+	private void projectUntilCaughtUp() {
+		for (int i = 0; i < 1000; i++) {
+			if (ledgerEventProjector.projectOnce() == 0) {
+				return;
+			}
+		}
+		throw new IllegalStateException("Projector did not catch up within expected iterations");
+	}
+
+	private PostedTransaction post(PostingEngine engine, PostTransactionCommand command) {
+		TransactionTemplate txTemplate = new TransactionTemplate(transactionManager);
+		txTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_SERIALIZABLE);
+		return Objects.requireNonNull(txTemplate.execute(status -> engine.postAll(List.of(command)).getFirst()));
+	}
+
+	private static PostTransactionCommand exchange(String referenceKey, Accounts accounts, BigDecimal usdAmount,
+			BigDecimal eurAmount, List<PostTransactionCommand.FxConversion> conversions) {
+		return new PostTransactionCommand(referenceKey, List.of(
+				new PostTransactionCommand.Entry(accounts.customerUsd(), PostTransactionCommand.EntryType.DEBIT,
+						usdAmount),
+				new PostTransactionCommand.Entry(accounts.deskUsd(), PostTransactionCommand.EntryType.CREDIT, usdAmount),
+				new PostTransactionCommand.Entry(accounts.deskEur(), PostTransactionCommand.EntryType.DEBIT,
+						eurAmount),
+				new PostTransactionCommand.Entry(accounts.customerEur(), PostTransactionCommand.EntryType.CREDIT,
+						eurAmount)),
+				conversions);
+	}
+
+	private static PostTransactionCommand.FxConversion conversion(BigDecimal usdAmount, BigDecimal eurAmount) {
+		return new PostTransactionCommand.FxConversion("USD", usdAmount, "EUR", eurAmount);
+	}
+
+	private static void insertEntry(Connection connection, UUID transactionId, UUID accountId, String entryType)
+			throws SQLException {
+		try (PreparedStatement ps = connection.prepareStatement(
+				"insert into transaction_entries (id, transaction_id, account_id, entry_type, amount, created_at) " +
+						"values (?, ?, ?, ?::entry_type, ?, ?)")) {
+			ps.setObject(1, UUID.randomUUID());
+			ps.setObject(2, transactionId);
+			ps.setObject(3, accountId);
+			ps.setString(4, entryType);
+			ps.setBigDecimal(5, USD_AMOUNT);
+			ps.setTimestamp(6, Timestamp.from(Instant.now()));
+			ps.executeUpdate();
+		}
+	}
+
+	private Accounts createAccounts(String prefix) {
+		Accounts accounts = new Accounts(
+				createAccount(prefix + "-CUS-USD", AccountType.ASSET, "USD"),
+				createAccount(prefix + "-FX-USD", AccountType.EQUITY, "USD"),
+				createAccount(prefix + "-FX-EUR", AccountType.EQUITY, "EUR"),
+				createAccount(prefix + "-CUS-EUR", AccountType.ASSET, "EUR"));
+		seedBalance(accounts.customerUsd(), INITIAL_BALANCE);
+		return accounts;
+	}
+
+	private BigDecimal balanceOf(UUID accountId) {
+		return (BigDecimal) entityManager.createNativeQuery(
+				"select balance from account_balances where account_id = :accountId")
+				.setParameter("accountId", accountId)
+				.getSingleResult();
+	}
+
+	private UUID createAccount(String code, AccountType type, String currency) {
+		return Objects.requireNonNull(accountApplicationService.create(new CreateAccountCommand(
+				code,
+				code,
+				type,
+				currency)), "AccountApplicationService.create returned null");
+	}
+
+	private void seedBalance(UUID accountId, BigDecimal balance) {
+		TransactionTemplate txTemplate = new TransactionTemplate(
+				Objects.requireNonNull(transactionManager, "PlatformTransactionManager is required"));
+		txTemplate.executeWithoutResult(status -> {
+			int updated = entityManager.createQuery(
+					"update AccountBalanceEntity b set b.balance = :balance where b.accountId = :accountId")
+					.setParameter("balance", balance)
+					.setParameter("accountId", accountId)
+					.executeUpdate();
+			if (updated != 1) {
+				throw new IllegalStateException("Failed to seed account balance");
+			}
+			entityManager.flush();
+		});
+	}
+
+	private record Accounts(UUID customerUsd, UUID deskUsd, UUID deskEur, UUID customerEur) {
+	}
+}
@@ -0,0 +1,227 @@
+package io.luminar.ledger.ledger;
+
+import io.luminar.ledger.TestcontainersConfiguration;
+import io.luminar.ledger.application.account.AccountApplicationService;
+import io.luminar.ledger.application.account.command.CreateAccountCommand;
+import io.luminar.ledger.application.account.command.FreezeAccountCommand;
+import io.luminar.ledger.application.transaction.TransactionApplicationService;
+import io.luminar.ledger.application.transaction.command.CompactPostingCommand;
+import io.luminar.ledger.application.transaction.command.PostTransactionCommand;
+import io.luminar.ledger.domain.account.AccountFrozenException;
+import io.luminar.ledger.domain.account.AccountType;
+import io.luminar.ledger.domain.common.DomainException;
+import io.luminar.ledger.domain.ledger.MoneyMicros;
+import io.luminar.ledger.service.JdbcPostingEngine;
+import io.luminar.ledger.service.LedgerPostingService;
+import io.luminar.ledger.service.PostedTransaction;
+import io.luminar.ledger.service.PostingEngine;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = {
+		"spring.task.scheduling.enabled=false",
+		"ledger.posting.engine=jdbc"
+})
+class PostingEngineIntegrationTest {
+	private static final String CURRENCY = "USD";
+	private static final BigDecimal INITIAL_SOURCE_BALANCE = new BigDecimal("1000000.000000");
+	private static final BigDecimal AMOUNT = new BigDecimal("10.000000");
+
+	@Autowired
+	private AccountApplicationService accountApplicationService;
+
+	@Autowired
+	private TransactionApplicationService transactionApplicationService;
+
+	@Autowired
+	private LedgerPostingService ledgerPostingService;
+
+	@Autowired
+	private List<PostingEngine> postingEngines;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Test
+	void configuredEngine_mustServeTheApplicationPostingPath() {
+		assertEquals(JdbcPostingEngine.NAME, ledgerPostingService.engineName());
+
+		String runId = UUID.randomUUID().toString();
+		UUID sourceAccountId = createAccount("ENG-SRC-" + runId, AccountType.ASSET);
+		UUID targetAccountId = createAccount("ENG-TGT-" + runId, AccountType.ASSET);
+		seedBalance(sourceAccountId, INITIAL_SOURCE_BALANCE);
+
+		PostTransactionCommand command = transfer("eng-app-" + runId, sourceAccountId, targetAccountId, AMOUNT);
+		PostedTransaction first = transactionApplicationService.post(command);
+		PostedTransaction replay = transactionApplicationService.post(command);
+
+		assertEquals(first.transactionId(), replay.transactionId());
+		assertEquals(0, INITIAL_SOURCE_BALANCE.subtract(AMOUNT).compareTo(balanceOf(sourceAccountId)));
+		assertEquals(0, AMOUNT.compareTo(balanceOf(targetAccountId)));
+	}
+
+	@Test
+	void everyEngine_mustPostReplayAndKeepInvariants() {
+		for (PostingEngine engine : postingEngines) {
+			String runId = engine.name() + "-" + UUID.randomUUID();
+			UUID sourceAccountId = createAccount("ENG-SRC-" + runId, AccountType.ASSET);
+			UUID targetAccountId = createAccount("ENG-TGT-" + runId, AccountType.ASSET);
+			UUID frozenAccountId = createAccount("ENG-FRZ-" + runId, AccountType.ASSET);
+			accountApplicationService.freeze(new FreezeAccountCommand(frozenAccountId, "engine test"));
+			seedBalance(sourceAccountId, AMOUNT);
+
+			PostTransactionCommand command = transfer("eng-ok-" + runId, sourceAccountId, targetAccountId, AMOUNT);
+			PostedTransaction posted = post(engine, command);
+			assertEquals(posted.transactionId(), post(engine, command).transactionId(), engine.name());
+			assertEquals(1L, count("select count(*) from ledger_events where reference_id = :key", "eng-ok-" + runId),
+					engine.name());
+			assertEquals(0, BigDecimal.ZERO.compareTo(balanceOf(sourceAccountId)), engine.name());
+			assertEquals(0, AMOUNT.compareTo(balanceOf(targetAccountId)), engine.name());
+			Object[] payload = (Object[]) entityManager.createNativeQuery(
+					"select payload->>'currency', payload->>'transaction_id', " +
+							"payload->'entries'->0->>'amount', jsonb_array_length(payload->'entries') " +
+							"from ledger_events where reference_id = :key")
+					.setParameter("key", "eng-ok-" + runId)
+					.getSingleResult();
+			assertEquals(CURRENCY, payload[0], engine.name());
+			assertEquals(posted.transactionId().toString(), payload[1], engine.name());
+			assertEquals("10", payload[2], engine.name());
+			assertEquals(2, ((Number) payload[3]).intValue(), engine.name());
+
+			DomainException unbalanced = assertThrows(DomainException.class, () -> post(engine,
+					new PostTransactionCommand("eng-unbalanced-" + runId, List.of(
+							new PostTransactionCommand.Entry(targetAccountId, PostTransactionCommand.EntryType.DEBIT,
+									AMOUNT),
+							new PostTransactionCommand.Entry(sourceAccountId, PostTransactionCommand.EntryType.CREDIT,
+									BigDecimal.ONE)))),
+					engine.name());
+			assertEquals("LedgerTransaction is not balanced", unbalanced.getMessage(), engine.name());
+
+			DomainException overdraw = assertThrows(DomainException.class, () -> post(engine,
+					transfer("eng-overdraw-" + runId, sourceAccountId, targetAccountId, AMOUNT)), engine.name());
+			assertEquals("Insufficient funds for accountId: " + sourceAccountId, overdraw.getMessage(), engine.name());
+
+			assertThrows(AccountFrozenException.class, () -> post(engine,
+					transfer("eng-frozen-" + runId, targetAccountId, frozenAccountId, AMOUNT)), engine.name());
+
+			DomainException missing = assertThrows(DomainException.class, () -> post(engine,
+					transfer("eng-missing-" + runId, targetAccountId, UUID.randomUUID(), AMOUNT)), engine.name());
+			assertEquals("One or more accounts do not exist", missing.getMessage(), engine.name());
+
+			assertEquals(1L, count("select count(*) from transactions where reference_key like :key",
+					"eng-%-" + runId), engine.name());
+			assertEquals(0, AMOUNT.compareTo(balanceOf(targetAccountId)), engine.name());
+		}
+	}
+
+	@Test
+	void everyEngine_mustPostCompactCommandsWithoutLosingInvariants() {
+		for (PostingEngine engine : postingEngines) {
+			String runId = engine.name() + "-" + UUID.randomUUID();
+			UUID sourceAccountId = createAccount("ENG-CMP-SRC-" + runId, AccountType.ASSET);
+			UUID targetAccountId = createAccount("ENG-CMP-TGT-" + runId, AccountType.ASSET);
+			UUID frozenAccountId = createAccount("ENG-CMP-FRZ-" + runId, AccountType.ASSET);
+			accountApplicationService.freeze(new FreezeAccountCommand(frozenAccountId, "engine test"));
+			seedBalance(sourceAccountId, AMOUNT);
+
+			CompactPostingCommand command = compactTransfer("eng-cmp-" + runId, sourceAccountId, targetAccountId);
+			PostedTransaction posted = postCompact(engine, command);
+			assertEquals("eng-cmp-" + runId, posted.referenceKey(), engine.name());
+			assertEquals(posted.transactionId(), postCompact(engine, command).transactionId(), engine.name());
+			assertEquals(1L, count("select count(*) from ledger_events where reference_id = :key",
+					"eng-cmp-" + runId), engine.name());
+			assertEquals(0, BigDecimal.ZERO.compareTo(balanceOf(sourceAccountId)), engine.name());
+			assertEquals(0, AMOUNT.compareTo(balanceOf(targetAccountId)), engine.name());
+
+			DomainException overdraw = assertThrows(DomainException.class, () -> postCompact(engine,
+					compactTransfer("eng-cmp-overdraw-" + runId, sourceAccountId, targetAccountId)), engine.name());
+			assertEquals("Insufficient funds for accountId: " + sourceAccountId, overdraw.getMessage(), engine.name());
+			assertThrows(AccountFrozenException.class, () -> postCompact(engine,
+					compactTransfer("eng-cmp-frozen-" + runId, targetAccountId, frozenAccountId)), engine.name());
+		}
+	}
+
+	private PostedTransaction postCompact(PostingEngine engine, CompactPostingCommand command) {
+		TransactionTemplate txTemplate = new TransactionTemplate(transactionManager);
+		txTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_SERIALIZABLE);
+		return Objects.requireNonNull(txTemplate.execute(status -> engine.postCompact(command)));
+	}
+
+	private static CompactPostingCommand compactTransfer(String referenceKey, UUID sourceAccountId,
+			UUID targetAccountId) {
+		long micros = MoneyMicros.fromBigDecimal(AMOUNT);
+		return CompactPostingCommand.builder(2)
+				.referenceKey(referenceKey)
+				.leg(sourceAccountId.getMostSignificantBits(), sourceAccountId.getLeastSignificantBits(), true, micros)
+				.leg(targetAccountId.getMostSignificantBits(), targetAccountId.getLeastSignificantBits(), false, micros)
+				.build();
+	}
+
+	private PostedTransaction post(PostingEngine engine, PostTransactionCommand command) {
+		TransactionTemplate txTemplate = new TransactionTemplate(transactionManager);
+		txTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_SERIALIZABLE);
+		return Objects.requireNonNull(txTemplate.execute(status -> engine.postAll(List.of(command)).getFirst()));
+	}
+
+	private static PostTransactionCommand transfer(String referenceKey, UUID sourceAccountId, UUID targetAccountId,
+			BigDecimal amount) {
+		return new PostTransactionCommand(referenceKey, List.of(
+				new PostTransactionCommand.Entry(sourceAccountId, PostTransactionCommand.EntryType.DEBIT, amount),
+				new PostTransactionCommand.Entry(targetAccountId, PostTransactionCommand.EntryType.CREDIT, amount)));
+	}
+
+	private long count(String sql, String key) {
+		return ((Number) entityManager.createNativeQuery(sql)
+				.setParameter("key", key)
+				.getSingleResult()).longValue();
+	}
+
+	private BigDecimal balanceOf(UUID accountId) {
+		return (BigDecimal) entityManager.createNativeQuery(
+				"select balance from account_balances where account_id = :accountId")
+				.setParameter("accountId", accountId)
+				.getSingleResult();
+	}
+
+	private UUID createAccount(String code, AccountType type) {
+		return Objects.requireNonNull(accountApplicationService.create(new CreateAccountCommand(
+				code,
+				code,
+				type,
+				CURRENCY)), "AccountApplicationService.create returned null");
+	}
+
+	private void seedBalance(UUID accountId, BigDecimal balance) {
+		TransactionTemplate txTemplate = new TransactionTemplate(
+				Objects.requireNonNull(transactionManager, "PlatformTransactionManager is required"));
+		txTemplate.executeWithoutResult(status -> {
+			int updated = entityManager.createQuery(
+					"update AccountBalanceEntity b set b.balance = :balance where b.accountId = :accountId")
+					.setParameter("balance", balance)
+					.setParameter("accountId", accountId)
+					.executeUpdate();
+			if (updated != 1) {
+				throw new IllegalStateException("Failed to seed account balance");
+			}
+			entityManager.flush();
+		});
+	}
+}
@@ -0,0 +1,167 @@
+package io.luminar.ledger.ledger;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.luminar.ledger.TestcontainersConfiguration;
+import io.luminar.ledger.api.codec.PostingRequestDecoder;
+import io.luminar.ledger.application.account.AccountApplicationService;
+import io.luminar.ledger.application.account.command.CreateAccountCommand;
+import io.luminar.ledger.application.transaction.command.CompactPostingCommand;
+import io.luminar.ledger.application.transaction.command.PostTransactionCommand;
+import io.luminar.ledger.domain.account.AccountType;
+import io.luminar.ledger.infrastructure.journal.PostingCommandCodec;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "spring.task.scheduling.enabled=false")
+class PostingRequestDecodingIntegrationTest {
+	private static final String CURRENCY = "USD";
+
+	@Autowired
+	private AccountApplicationService accountApplicationService;
+
+	@Autowired
+	private TestRestTemplate restTemplate;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Test
+	void streamedRequest_mustPostNumericAndStringAmounts_andReplayIdempotently() throws Exception {
+		String runId = UUID.randomUUID().toString();
+		UUID sourceAccountId = createAccount("DEC-SRC-" + runId, AccountType.LIABILITY);
+		UUID targetAccountId = createAccount("DEC-TGT-" + runId, AccountType.ASSET);
+		String body = "{\"unknown\":{\"nested\":[1,2]},\"referenceKey\":\"  dec-" + runId + "  \",\"entries\":[" +
+				"{\"accountId\":\"" + sourceAccountId + "\",\"type\":\"DEBIT\",\"amount\":12.5,\"memo\":null}," +
+				"{\"accountId\":\"" + targetAccountId.toString().toUpperCase() + "\",\"type\":\"CREDIT\"," +
+				"\"amount\":\"7.2500000\"}," +
+				"{\"type\":\"CREDIT\",\"amount\":5.25E0,\"accountId\":\"" + targetAccountId + "\"}]," +
+				"\"fxConversions\":null}";
+
+		ResponseEntity<String> posted = post(body);
+		assertEquals(200, posted.getStatusCode().value());
+		JsonNode response = objectMapper.readTree(Objects.requireNonNull(posted.getBody()));
+		assertEquals("dec-" + runId, response.get("referenceKey").asText());
+		assertEquals(0, new BigDecimal("-12.5").compareTo(balanceOf(sourceAccountId)));
+		assertEquals(0, new BigDecimal("12.5").compareTo(balanceOf(targetAccountId)));
+
+		ResponseEntity<String> replay = post(body);
+		assertEquals(200, replay.getStatusCode().value());
+		assertEquals(response.get("transactionId").asText(),
+				objectMapper.readTree(Objects.requireNonNull(replay.getBody())).get("transactionId").asText());
+		assertEquals(0, new BigDecimal("12.5").compareTo(balanceOf(targetAccountId)));
+	}
+
+	@Test
+	void malformedRequests_mustBeRejectedBeforePosting() {
+		String debit = "{\"accountId\":\"" + UUID.randomUUID() + "\",\"type\":\"DEBIT\",\"amount\":1}";
+		String credit = "{\"accountId\":\"" + UUID.randomUUID() + "\",\"type\":\"CREDIT\",\"amount\":1}";
+		List<String> badRequests = List.of(
+				"[]",
+				"{\"entries\":[" + debit + "," + credit + "]}",
+				"{\"referenceKey\":\" \",\"entries\":[" + debit + "," + credit + "]}",
+				"{\"referenceKey\":\"dec-bad\"}",
+				"{\"referenceKey\":\"dec-bad\",\"entries\":[" + debit + "]}",
+				"{\"referenceKey\":\"dec-bad\",\"entries\":[" + debit + "," + credit.replace("CREDIT", "credit") + "]}",
+				"{\"referenceKey\":\"dec-bad\",\"entries\":[" + debit + "," + credit.replace("1}", "-1}") + "]}",
+				"{\"referenceKey\":\"dec-bad\",\"entries\":[" + debit + "," + credit.replace("1}", "0.000}") + "]}",
+				"{\"referenceKey\":\"dec-bad\",\"entries\":[" + debit + "," + credit.replace("1}", "\"1x\"}") + "]}",
+				"{\"referenceKey\":\"dec-bad\",\"entries\":[" + debit + ",{\"accountId\":\"not-a-uuid\"," +
+						"\"type\":\"CREDIT\",\"amount\":1}]}",
+				"{\"referenceKey\":\"dec-bad\",\"entries\":[" + debit + ",{\"type\":\"CREDIT\",\"amount\":1}]}",
+				"{\"referenceKey\":\"dec-bad\",\"entries\":[" + debit + "," + credit + "],\"fxConversions\":" +
+						"[{\"soldCurrency\":\"US\",\"soldAmount\":1,\"boughtCurrency\":\"EUR\",\"boughtAmount\":1}]}",
+				"{\"referenceKey\":\"dec-bad\",\"entries\":[" + debit + "," + credit + "]",
+				"{\"referenceKey\":\"dec-bad\",\"entries\":[" + debit + "," + credit + "]} {}");
+		for (String body : badRequests) {
+			assertEquals(400, post(body).getStatusCode().value(), body);
+		}
+
+		ResponseEntity<String> tooPrecise = post("{\"referenceKey\":\"dec-precision\",\"entries\":[" + debit + "," +
+				credit.replace("1}", "1.0000001}") + "]}");
+		assertEquals(422, tooPrecise.getStatusCode().value());
+		assertTrue(Objects.requireNonNull(tooPrecise.getBody()).contains("at most 6 decimal places"));
+	}
+
+	@Test
+	void decoder_mustKeepLegsInPrimitiveArrays_andCarryFxConversions() throws IOException {
+		UUID debitAccount = UUID.randomUUID();
+		UUID creditAccount = UUID.randomUUID();
+		StringBuilder entries = new StringBuilder();
+		for (int i = 0; i < 9; i++) {
+			entries.append(i == 0 ? "" : ",")
+					.append("{\"accountId\":\"").append(i % 2 == 0 ? debitAccount : creditAccount)
+					.append("\",\"type\":\"").append(i % 2 == 0 ? "DEBIT" : "CREDIT")
+					.append("\",\"amount\":").append(i + 1).append(".000001}");
+		}
+		String body = "{\"referenceKey\":\"dec-compact\",\"entries\":[" + entries + "],\"fxConversions\":[" +
+				"{\"soldCurrency\":\"usd\",\"soldAmount\":\"10.5\",\"boughtCurrency\":\"EUR\",\"boughtAmount\":9}]}";
+
+		CompactPostingCommand command;
+		try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+			command = PostingRequestDecoder.decode(parser);
+		}
+
+		assertEquals(9, command.legCount());
+		for (int i = 0; i < 9; i++) {
+			assertEquals(i % 2 == 0 ? debitAccount : creditAccount, command.accountId(i));
+			assertEquals(i % 2 == 0, command.isDebit(i));
+			assertEquals((i + 1) * 1_000_000L + 1L, command.amountMicros(i));
+		}
+		assertThrows(IndexOutOfBoundsException.class, () -> command.amountMicros(9));
+		PostTransactionCommand converted = command.toCommand();
+		assertEquals("dec-compact", converted.referenceKey());
+		assertEquals(new PostTransactionCommand.Entry(creditAccount, PostTransactionCommand.EntryType.CREDIT,
+				new BigDecimal("2.000001")), converted.entries().get(1));
+		assertEquals(List.of(new PostTransactionCommand.FxConversion("usd", new BigDecimal("10.5"), "EUR",
+				new BigDecimal("9"))), converted.fxConversions());
+		assertFalse(converted.entries().isEmpty());
+		assertArrayEquals(PostingCommandCodec.encode(converted), PostingCommandCodec.encode(command));
+	}
+
+	private ResponseEntity<String> post(String body) {
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(MediaType.APPLICATION_JSON);
+		return restTemplate.postForEntity("/api/v1/transactions", new HttpEntity<>(body, headers), String.class);
+	}
+
+	private BigDecimal balanceOf(UUID accountId) {
+		return (BigDecimal) entityManager.createNativeQuery(
+				"select balance from account_balances where account_id = :accountId")
+				.setParameter("accountId", accountId)
+				.getSingleResult();
+	}
+
+	private UUID createAccount(String code, AccountType type) {
+		return Objects.requireNonNull(accountApplicationService.create(new CreateAccountCommand(
+				code,
+				code,
+				type,
+				CURRENCY)), "AccountApplicationService.create returned null");
+	}
+}
@@ -0,0 +1,353 @@
+package io.luminar.ledger.ledger;
+
+import io.luminar.ledger.TestcontainersConfiguration;
+import io.luminar.ledger.application.account.AccountApplicationService;
+import io.luminar.ledger.application.account.AccountMetadataCache;
+import io.luminar.ledger.application.account.command.CreateAccountCommand;
+import io.luminar.ledger.application.account.command.FreezeAccountCommand;
+import io.luminar.ledger.application.transaction.TransactionApplicationService;
+import io.luminar.ledger.application.transaction.command.PostTransactionCommand;
+import io.luminar.ledger.domain.account.AccountFrozenException;
+import io.luminar.ledger.domain.account.AccountType;
+import io.luminar.ledger.domain.common.DomainException;
+import io.luminar.ledger.infrastructure.projection.BalanceSnapshotRepository;
+import io.luminar.ledger.infrastructure.projection.BalanceSnapshotWriter;
+import io.luminar.ledger.infrastructure.projection.LedgerEventProjector;
+import io.luminar.ledger.infrastructure.projection.ProjectionCheckpointRepository;
+import io.luminar.ledger.service.LedgerPostingService;
+import io.luminar.ledger.service.PostedTransaction;
+import io.luminar.ledger.service.SingleWriterLedgerStore;
+import io.luminar.ledger.service.SingleWriterPostingEngine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = {
+		"spring.task.scheduling.enabled=false",
+		"ledger.posting.engine=single-writer",
+		"ledger.single-writer.persister-enabled=false",
+		"ledger.single-writer.segment-bytes=1048576"
+})
+class SingleWriterPostingEngineIntegrationTest {
+	private static final String CURRENCY = "USD";
+	private static final BigDecimal AMOUNT = new BigDecimal("10.000000");
+	private static final int THREADS = 8;
+	private static final int POSTS_PER_THREAD = 250;
+
+	@DynamicPropertySource
+	static void registerJournalDirectory(DynamicPropertyRegistry registry) throws IOException {
+		Path directory = Files.createTempDirectory("ledger-single-writer-test");
+		registry.add("ledger.single-writer.directory", directory::toString);
+	}
+
+	@Autowired
+	private AccountApplicationService accountApplicationService;
+
+	@Autowired
+	private TransactionApplicationService transactionApplicationService;
+
+	@Autowired
+	private LedgerPostingService ledgerPostingService;
+
+	@Autowired
+	private SingleWriterPostingEngine engine;
+
+	@Autowired
+	private SingleWriterLedgerStore store;
+
+	@Autowired
+	private AccountMetadataCache accountMetadataCache;
+
+	@Autowired
+	private LedgerEventProjector ledgerEventProjector;
+
+	@Autowired
+	private BalanceSnapshotRepository balanceSnapshotRepository;
+
+	@Autowired
+	private ProjectionCheckpointRepository projectionCheckpointRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Test
+	void singleWriter_mustPostInMemoryThenPersistAsynchronously() {
+		assertEquals(SingleWriterPostingEngine.NAME, ledgerPostingService.engineName());
+
+		String runId = UUID.randomUUID().toString();
+		UUID sourceAccountId = createAccount("SW-SRC-" + runId);
+		UUID targetAccountId = createAccount("SW-TGT-" + runId);
+		seedBalance(sourceAccountId, new BigDecimal("100.000000"));
+
+		PostTransactionCommand first = transfer("sw-1-" + runId, sourceAccountId, targetAccountId, AMOUNT);
+		PostedTransaction posted = transactionApplicationService.post(first);
+		assertEquals(posted.transactionId(), transactionApplicationService.post(first).transactionId());
+		assertEquals(0, BigDecimal.ZERO.compareTo(balanceOf(targetAccountId)));
+		assertEquals(0L, countTransactions(posted.transactionId()));
+
+		DomainException insufficient = assertThrows(DomainException.class, () -> transactionApplicationService.post(
+				transfer("sw-big-" + runId, sourceAccountId, targetAccountId, new BigDecimal("1000.000000"))));
+		assertEquals("Insufficient funds for accountId: " + sourceAccountId, insufficient.getMessage());
+
+		assertThrows(DomainException.class, () -> ledgerPostingService.postBatch(List.of(
+				transfer("sw-batch-ok-" + runId, sourceAccountId, targetAccountId, AMOUNT),
+				transfer("sw-batch-bad-" + runId, sourceAccountId, targetAccountId, new BigDecimal("95.000000")))));
+		PostedTransaction second = transactionApplicationService.post(
+				transfer("sw-batch-ok-" + runId, sourceAccountId, targetAccountId, new BigDecimal("90.000000")));
+		assertThrows(DomainException.class, () -> transactionApplicationService.post(
+				transfer("sw-over-" + runId, sourceAccountId, targetAccountId, new BigDecimal("0.000001"))));
+
+		accountApplicationService.freeze(new FreezeAccountCommand(targetAccountId, "single-writer test"));
+		assertThrows(AccountFrozenException.class, () -> transactionApplicationService.post(
+				transfer("sw-frozen-" + runId, targetAccountId, sourceAccountId, AMOUNT)));
+
+		drain();
+
+		assertEquals(0, BigDecimal.ZERO.compareTo(balanceOf(sourceAccountId)));
+		assertEquals(0, new BigDecimal("100").compareTo(balanceOf(targetAccountId)));
+		assertEquals(1L, countTransactions(posted.transactionId()));
+		assertEquals(1L, countTransactions(second.transactionId()));
+		assertEquals(4L, countEntries(List.of(posted.transactionId(), second.transactionId())));
+		assertEquals(2L, countEvents(List.of(posted.transactionId(), second.transactionId())));
+		assertEquals(engine.journaledPosition(), engine.persistedPosition());
+	}
+
+	@Test
+	void singleWriter_mustApplyConcurrentProducersSerially() throws Exception {
+		String runId = UUID.randomUUID().toString();
+		UUID sourceAccountId = createAccount("SW-HOT-" + runId);
+		List<UUID> targets = new ArrayList<>();
+		for (int i = 0; i < THREADS; i++) {
+			targets.add(createAccount("SW-HOT-TGT-" + i + "-" + runId));
+		}
+		BigDecimal funded = AMOUNT.multiply(BigDecimal.valueOf((long) THREADS * POSTS_PER_THREAD - 1));
+		seedBalance(sourceAccountId, funded);
+
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		List<Future<Integer>> futures = new ArrayList<>();
+		try {
+			for (int t = 0; t < THREADS; t++) {
+				int thread = t;
+				futures.add(executor.submit(() -> {
+					int rejected = 0;
+					for (int i = 0; i < POSTS_PER_THREAD; i++) {
+						try {
+							engine.postAll(List.of(transfer("sw-hot-" + thread + "-" + i + "-" + runId,
+									sourceAccountId, targets.get(thread), AMOUNT)));
+						} catch (DomainException e) {
+							rejected++;
+						}
+					}
+					return rejected;
+				}));
+			}
+			int rejected = 0;
+			for (Future<Integer> future : futures) {
+				rejected += future.get();
+			}
+			assertEquals(1, rejected);
+		} finally {
+			executor.shutdownNow();
+		}
+
+		drain();
+
+		assertEquals(0, BigDecimal.ZERO.compareTo(balanceOf(sourceAccountId)));
+		BigDecimal credited = BigDecimal.ZERO;
+		for (UUID target : targets) {
+			credited = credited.add(balanceOf(target));
+		}
+		assertEquals(0, funded.compareTo(credited));
+	}
+
+	@Test
+	void singleWriter_mustFoldEntriesPersistedAfterSnapshotAtTheirPostingTime() throws Exception {
+		BalanceSnapshotWriter snapshotWriter = new BalanceSnapshotWriter(balanceSnapshotRepository,
+				projectionCheckpointRepository, transactionManager, 1, 3600, 0, 10_000);
+		String runId = UUID.randomUUID().toString();
+		UUID sourceAccountId = createAccount("SW-SNAP-SRC-" + runId);
+		UUID targetAccountId = createAccount("SW-SNAP-TGT-" + runId);
+		seedBalance(sourceAccountId, new BigDecimal("100.000000"));
+
+		transactionApplicationService.post(transfer("sw-snap-1-" + runId, sourceAccountId, targetAccountId, AMOUNT));
+		drain();
+		PostedTransaction late = transactionApplicationService.post(
+				transfer("sw-snap-2-" + runId, sourceAccountId, targetAccountId, AMOUNT));
+		Thread.sleep(5);
+		projectUntilCaughtUp();
+		snapshotWriter.snapshotOnce();
+		assertEquals(0, AMOUNT.compareTo(latestSnapshotOf(targetAccountId)));
+
+		Thread.sleep(5);
+		drain();
+		assertEquals(2L, countEntriesCreatedAt(late.transactionId(), late.postedAt()));
+		projectUntilCaughtUp();
+		snapshotWriter.snapshotOnce();
+
+		assertEquals(0, new BigDecimal("20").compareTo(latestSnapshotOf(targetAccountId)));
+		assertEquals(0, new BigDecimal("20").compareTo(balanceOf(targetAccountId)));
+	}
+
+	@Test
+	void singleWriter_mustReplayUnpersistedJournalOnRestart() throws Exception {
+		String runId = UUID.randomUUID().toString();
+		UUID sourceAccountId = createAccount("SW-RPL-SRC-" + runId);
+		UUID targetAccountId = createAccount("SW-RPL-TGT-" + runId);
+		seedBalance(sourceAccountId, new BigDecimal("1000.000000"));
+		Path directory = Files.createTempDirectory("ledger-single-writer-replay");
+
+		List<PostedTransaction> posted = new ArrayList<>();
+		SingleWriterPostingEngine first = open(directory);
+		try {
+			for (int i = 0; i < 50; i++) {
+				posted.addAll(first.postAll(List.of(transfer("sw-rpl-" + i + "-" + runId, sourceAccountId,
+						targetAccountId, AMOUNT))));
+			}
+			assertTrue(first.journaledPosition() > first.persistedPosition());
+		} finally {
+			first.close();
+		}
+		assertEquals(0, BigDecimal.ZERO.compareTo(balanceOf(targetAccountId)));
+
+		SingleWriterPostingEngine second = open(directory);
+		try {
+			assertEquals(second.journaledPosition(), second.persistedPosition());
+			assertEquals(0, new BigDecimal("500").compareTo(balanceOf(sourceAccountId)));
+			assertEquals(0, new BigDecimal("500").compareTo(balanceOf(targetAccountId)));
+			for (PostedTransaction transaction : posted) {
+				assertEquals(1L, countTransactions(transaction.transactionId()));
+			}
+			PostedTransaction replayed = second.postAll(List.of(transfer("sw-rpl-7-" + runId, sourceAccountId,
+					targetAccountId, AMOUNT))).getFirst();
+			assertEquals(posted.get(7).transactionId(), replayed.transactionId());
+			assertEquals(posted.get(7).postedAt(), replayed.postedAt());
+		} finally {
+			second.close();
+		}
+	}
+
+	private SingleWriterPostingEngine open(Path directory) {
+		return new SingleWriterPostingEngine(store, accountMetadataCache, transactionManager,
+				new SimpleMeterRegistry(), directory.toString(), 1_048_576, 1024, 64, 64, false, 256, 20);
+	}
+
+	private void drain() {
+		for (int i = 0; i < 10_000; i++) {
+			if (engine.persistOnce() == 0) {
+				return;
+			}
+		}
+		throw new IllegalStateException("Single-writer journal did not drain within expected iterations");
+	}
+
+	private void projectUntilCaughtUp() {
+		for (int i = 0; i < 1000; i++) {
+			if (ledgerEventProjector.projectOnce() == 0) {
+				return;
+			}
+		}
+		throw new IllegalStateException("Projector did not catch up within expected iterations");
+	}
+
+	private BigDecimal latestSnapshotOf(UUID accountId) {
+		return (BigDecimal) entityManager.createNativeQuery(
+				"select balance from account_balance_snapshots where account_id = :accountId " +
+						"order by as_of desc limit 1")
+				.setParameter("accountId", accountId)
+				.getSingleResult();
+	}
+
+	private long countEntriesCreatedAt(UUID transactionId, Instant createdAt) {
+		return ((Number) entityManager.createNativeQuery(
+				"select count(*) from transaction_entries where transaction_id = :id and created_at = :createdAt")
+				.setParameter("id", transactionId)
+				.setParameter("createdAt", createdAt)
+				.getSingleResult()).longValue();
+	}
+
+	private long countTransactions(UUID transactionId) {
+		return ((Number) entityManager.createNativeQuery("select count(*) from transactions where id = :id")
+				.setParameter("id", transactionId)
+				.getSingleResult()).longValue();
+	}
+
+	private long countEntries(List<UUID> transactionIds) {
+		return ((Number) entityManager.createNativeQuery(
+				"select count(*) from transaction_entries where transaction_id in (:ids)")
+				.setParameter("ids", transactionIds)
+				.getSingleResult()).longValue();
+	}
+
+	private long countEvents(List<UUID> transactionIds) {
+		return ((Number) entityManager.createNativeQuery(
+				"select count(*) from ledger_events where aggregate_id in (:ids)")
+				.setParameter("ids", transactionIds)
+				.getSingleResult()).longValue();
+	}
+
+	private BigDecimal balanceOf(UUID accountId) {
+		return (BigDecimal) entityManager.createNativeQuery(
+				"select balance from account_balances where account_id = :accountId")
+				.setParameter("accountId", accountId)
+				.getSingleResult();
+	}
+
+	private static PostTransactionCommand transfer(String referenceKey, UUID debitAccountId, UUID creditAccountId,
+			BigDecimal amount) {
+		return new PostTransactionCommand(referenceKey, List.of(
+				new PostTransactionCommand.Entry(debitAccountId, PostTransactionCommand.EntryType.DEBIT, amount),
+				new PostTransactionCommand.Entry(creditAccountId, PostTransactionCommand.EntryType.CREDIT, amount)));
+	}
+
+	private UUID createAccount(String code) {
+		return Objects.requireNonNull(accountApplicationService.create(new CreateAccountCommand(
+				code,
+				code,
+				AccountType.ASSET,
+				CURRENCY)), "AccountApplicationService.create returned null");
+	}
+
+	private void seedBalance(UUID accountId, BigDecimal balance) {
+		TransactionTemplate txTemplate = new TransactionTemplate(
+				Objects.requireNonNull(transactionManager, "PlatformTransactionManager is required"));
+		txTemplate.executeWithoutResult(status -> {
+			int updated = entityManager.createQuery(
+					"update AccountBalanceEntity b set b.balance = :balance where b.accountId = :accountId")
+					.setParameter("balance", balance)
+					.setParameter("accountId", accountId)
+					.executeUpdate();
+			if (updated != 1) {
+				throw new IllegalStateException("Failed to seed account balance");
+			}
+			entityManager.flush();
+		});
+	}
+}
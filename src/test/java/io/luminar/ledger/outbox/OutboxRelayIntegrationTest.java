@@ -0,0 +1,153 @@
+package io.luminar.ledger.outbox;
+
+import io.luminar.ledger.TestcontainersConfiguration;
+import io.luminar.ledger.application.account.AccountApplicationService;
+import io.luminar.ledger.application.account.command.CreateAccountCommand;
+import io.luminar.ledger.application.transaction.TransactionApplicationService;
+import io.luminar.ledger.application.transaction.command.PostTransactionCommand;
+import io.luminar.ledger.domain.account.AccountType;
+import io.luminar.ledger.infrastructure.outbox.OutboxRelay;
+import io.luminar.ledger.infrastructure.outbox.OutboxSink;
+import io.luminar.ledger.infrastructure.projection.LedgerEventPollingRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Import({TestcontainersConfiguration.class, OutboxRelayIntegrationTest.CapturingSinkConfiguration.class})
+@SpringBootTest(properties = {
+		"spring.task.scheduling.enabled=false",
+		"ledger.outbox.enabled=false",
+		"ledger.outbox.batch-size=4"
+})
+class OutboxRelayIntegrationTest {
+	private static final String CURRENCY = "USD";
+	private static final String SINK_NAME = "CAPTURE";
+	private static final BigDecimal AMOUNT = new BigDecimal("5.000000");
+
+	@Autowired
+	private AccountApplicationService accountApplicationService;
+
+	@Autowired
+	private TransactionApplicationService transactionApplicationService;
+
+	@Autowired
+	private OutboxRelay outboxRelay;
+
+	@Autowired
+	private CapturingSink capturingSink;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Test
+	void relay_mustDeliverInSequenceOrder_andRedeliverAfterSinkFailure() {
+		drain();
+		capturingSink.clear();
+
+		String runId = UUID.randomUUID().toString();
+		UUID equityAccountId = createAccount("OUT-EQ-" + runId, AccountType.EQUITY);
+		UUID assetAccountId = createAccount("OUT-AS-" + runId, AccountType.ASSET);
+		List<String> referenceKeys = new ArrayList<>();
+		for (int i = 0; i < 6; i++) {
+			String referenceKey = "tx-outbox-" + i + "-" + runId;
+			transactionApplicationService.post(new PostTransactionCommand(referenceKey, List.of(
+					new PostTransactionCommand.Entry(equityAccountId, PostTransactionCommand.EntryType.DEBIT, AMOUNT),
+					new PostTransactionCommand.Entry(assetAccountId, PostTransactionCommand.EntryType.CREDIT, AMOUNT))));
+			referenceKeys.add(referenceKey);
+		}
+
+		long checkpointBefore = checkpoint();
+		capturingSink.failNext.set(true);
+		assertThrows(IllegalStateException.class, () -> outboxRelay.relayOnce(SINK_NAME));
+		assertEquals(checkpointBefore, checkpoint());
+
+		assertEquals(4, outboxRelay.relayOnce(SINK_NAME));
+		drain();
+
+		List<LedgerEventPollingRepository.LedgerEventRow> delivered = capturingSink.delivered();
+		for (int i = 1; i < delivered.size(); i++) {
+			assertTrue(delivered.get(i).globalSequence() > delivered.get(i - 1).globalSequence());
+		}
+		assertEquals(delivered.getLast().globalSequence(), checkpoint());
+
+		List<String> deliveredReferences = delivered.stream()
+				.map(LedgerEventPollingRepository.LedgerEventRow::referenceId)
+				.filter(referenceKeys::contains)
+				.toList();
+		assertEquals(referenceKeys, deliveredReferences);
+	}
+
+	private void drain() {
+		for (int i = 0; i < 100_000; i++) {
+			if (outboxRelay.relayOnce(SINK_NAME) < 4) {
+				return;
+			}
+		}
+		throw new IllegalStateException("Outbox relay did not catch up within expected iterations");
+	}
+
+	private long checkpoint() {
+		List<?> rows = entityManager.createNativeQuery(
+				"select last_sequence_number from projection_checkpoints where projection_type = :projectionType")
+				.setParameter("projectionType", OutboxRelay.CHECKPOINT_PREFIX + SINK_NAME)
+				.getResultList();
+		return rows.isEmpty() ? 0L : ((Number) rows.getFirst()).longValue();
+	}
+
+	private UUID createAccount(String code, AccountType type) {
+		return Objects.requireNonNull(accountApplicationService.create(new CreateAccountCommand(
+				code,
+				code,
+				type,
+				CURRENCY)), "AccountApplicationService.create returned null");
+	}
+
+	@TestConfiguration
+	static class CapturingSinkConfiguration {
+		@Bean
+		CapturingSink capturingSink() {
+			return new CapturingSink();
+		}
+	}
+
+	static class CapturingSink implements OutboxSink {
+		private final List<LedgerEventPollingRepository.LedgerEventRow> delivered = new ArrayList<>();
+		private final AtomicBoolean failNext = new AtomicBoolean(false);
+
+		@Override
+		public String name() {
+			return SINK_NAME;
+		}
+
+		@Override
+		public synchronized void publish(List<LedgerEventPollingRepository.LedgerEventRow> events) {
+			if (failNext.compareAndSet(true, false)) {
+				throw new IllegalStateException("Simulated sink outage");
+			}
+			delivered.addAll(events);
+		}
+
+		synchronized List<LedgerEventPollingRepository.LedgerEventRow> delivered() {
+			return List.copyOf(delivered);
+		}
+
+		synchronized void clear() {
+			delivered.clear();
+		}
+	}
+}
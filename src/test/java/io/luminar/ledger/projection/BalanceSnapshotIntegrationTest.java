@@ -0,0 +1,211 @@
+package io.luminar.ledger.projection;
+
+import io.luminar.ledger.TestcontainersConfiguration;
+import io.luminar.ledger.api.query.AccountBalanceAsOfQuery;
+import io.luminar.ledger.application.account.AccountApplicationService;
+import io.luminar.ledger.application.account.command.CreateAccountCommand;
+import io.luminar.ledger.application.transaction.TransactionApplicationService;
+import io.luminar.ledger.application.transaction.command.PostTransactionCommand;
+import io.luminar.ledger.domain.account.AccountType;
+import io.luminar.ledger.infrastructure.projection.BalanceSnapshotWriter;
+import io.luminar.ledger.infrastructure.projection.LedgerEventProjector;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+		"spring.task.scheduling.enabled=false",
+		"ledger.snapshot.balance.settle-seconds=0",
+		"ledger.snapshot.balance.min-entries=2"
+})
+class BalanceSnapshotIntegrationTest {
+	private static final String CURRENCY = "USD";
+	private static final BigDecimal AMOUNT = new BigDecimal("10.000000");
+
+	@Autowired
+	private AccountApplicationService accountApplicationService;
+
+	@Autowired
+	private TransactionApplicationService transactionApplicationService;
+
+	@Autowired
+	private LedgerEventProjector ledgerEventProjector;
+
+	@Autowired
+	private BalanceSnapshotWriter balanceSnapshotWriter;
+
+	@Autowired
+	private AccountBalanceAsOfQuery accountBalanceAsOfQuery;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private TestRestTemplate restTemplate;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Test
+	void balanceAsOf_mustCombineNearestSnapshotWithEntryDelta() throws Exception {
+		String runId = UUID.randomUUID().toString();
+		UUID equityAccountId = createAccount("EQ-" + runId, AccountType.EQUITY);
+		UUID assetAccountId = createAccount("AS-" + runId, AccountType.ASSET);
+
+		Instant beforeAny = pause();
+		post("tx-snap-1-" + runId, equityAccountId, assetAccountId);
+		post("tx-snap-2-" + runId, equityAccountId, assetAccountId);
+		Instant afterTwo = pause();
+		post("tx-snap-3-" + runId, equityAccountId, assetAccountId);
+		pause();
+
+		projectUntilCaughtUp();
+		assertTrue(balanceSnapshotWriter.snapshotOnce() >= 2);
+
+		Object[] snapshot = (Object[]) entityManager.createNativeQuery(
+				"select balance, entry_count from account_balance_snapshots where account_id = :accountId")
+				.setParameter("accountId", assetAccountId)
+				.getSingleResult();
+		assertEquals(0, new BigDecimal("30").compareTo((BigDecimal) snapshot[0]));
+		assertEquals(3L, ((Number) snapshot[1]).longValue());
+
+		Instant afterSnapshot = pause();
+		post("tx-snap-4-" + runId, equityAccountId, assetAccountId);
+		post("tx-snap-5-" + runId, equityAccountId, assetAccountId);
+		Instant afterAll = pause();
+
+		assertBalance("0", assetAccountId, beforeAny);
+		assertBalance("20", assetAccountId, afterTwo);
+		assertBalance("30", assetAccountId, afterSnapshot);
+		assertBalance("50", assetAccountId, afterAll);
+		assertBalance("-50", equityAccountId, afterAll);
+
+		ResponseEntity<String> response = restTemplate.getForEntity(
+				"/api/v1/accounts/{accountId}/balance?asOf={asOf}",
+				String.class,
+				assetAccountId,
+				afterTwo.toString());
+		assertEquals(200, response.getStatusCode().value());
+		JsonNode body = objectMapper.readTree(Objects.requireNonNull(response.getBody(), "response body is required"));
+		assertEquals(0, new BigDecimal("20").compareTo(body.get("balance").decimalValue()));
+		assertEquals(afterTwo, Instant.parse(body.get("asOf").asText()));
+	}
+
+	@Test
+	void snapshots_mustFoldEntriesThatCommitAfterTheirCutoff() throws Exception {
+		String runId = UUID.randomUUID().toString();
+		UUID equityAccountId = createAccount("EQ-LATE-" + runId, AccountType.EQUITY);
+		UUID assetAccountId = createAccount("AS-LATE-" + runId, AccountType.ASSET);
+
+		post("tx-late-1-" + runId, equityAccountId, assetAccountId);
+		pause();
+		projectUntilCaughtUp();
+		assertTrue(balanceSnapshotWriter.snapshotOnce() >= 1);
+		Instant firstCutoff = jdbcTemplate.queryForObject(
+				"select max(as_of) from account_balance_snapshots where account_id = ?", Timestamp.class,
+				assetAccountId).toInstant();
+
+		post("tx-late-2-" + runId, equityAccountId, assetAccountId);
+		restamp("tx-late-2-" + runId, firstCutoff.minusMillis(1));
+		projectUntilCaughtUp();
+		Instant afterLate = pause();
+
+		assertBalance("10", assetAccountId, firstCutoff.minusMillis(2));
+		assertBalance("20", assetAccountId, firstCutoff);
+		assertBalance("20", assetAccountId, afterLate);
+
+		post("tx-late-3-" + runId, equityAccountId, assetAccountId);
+		pause();
+		projectUntilCaughtUp();
+		assertTrue(balanceSnapshotWriter.snapshotOnce() >= 1);
+
+		List<BigDecimal> snapshots = jdbcTemplate.queryForList(
+				"select balance from account_balance_snapshots where account_id = ? order by as_of",
+				BigDecimal.class, assetAccountId);
+		assertEquals(2, snapshots.size());
+		assertEquals(0, new BigDecimal("20").compareTo(snapshots.get(0)));
+		assertEquals(0, new BigDecimal("30").compareTo(snapshots.get(1)));
+		assertBalance("20", assetAccountId, firstCutoff);
+		assertBalance("30", assetAccountId, pause());
+		assertEquals(0L, jdbcTemplate.queryForObject(
+				"select pending_entries from account_balance_snapshot_state where account_id = ?", Long.class,
+				assetAccountId));
+	}
+
+	private void restamp(String referenceKey, Instant createdAt) {
+		jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("set session_replication_role = replica");
+			}
+			try (PreparedStatement update = connection.prepareStatement("update transaction_entries " +
+					"set created_at = ? where transaction_id = (select id from transactions where reference_key = ?)")) {
+				update.setTimestamp(1, Timestamp.from(createdAt));
+				update.setString(2, referenceKey);
+				return update.executeUpdate();
+			} finally {
+				try (Statement statement = connection.createStatement()) {
+					statement.execute("set session_replication_role = origin");
+				}
+			}
+		});
+	}
+
+	private void assertBalance(String expected, UUID accountId, Instant asOf) {
+		BigDecimal actual = accountBalanceAsOfQuery.balanceAsOf(accountId, asOf);
+		assertEquals(0, new BigDecimal(expected).compareTo(actual), "balance as of " + asOf + " was " + actual);
+	}
+
+	private void post(String referenceKey, UUID debitAccountId, UUID creditAccountId) {
+		transactionApplicationService.post(new PostTransactionCommand(referenceKey, List.of(
+				new PostTransactionCommand.Entry(debitAccountId, PostTransactionCommand.EntryType.DEBIT, AMOUNT),
+				new PostTransactionCommand.Entry(creditAccountId, PostTransactionCommand.EntryType.CREDIT, AMOUNT))));
+	}
+
+	private void projectUntilCaughtUp() {
+		for (int i = 0; i < 1000; i++) {
+			if (ledgerEventProjector.projectOnce() == 0) {
+				return;
+			}
+		}
+		throw new IllegalStateException("Projector did not catch up within expected iterations");
+	}
+
+	private static Instant pause() throws InterruptedException {
+		Thread.sleep(5);
+		Instant now = Instant.now();
+		Thread.sleep(5);
+		return now;
+	}
+
+	private UUID createAccount(String code, AccountType type) {
+		return Objects.requireNonNull(accountApplicationService.create(new CreateAccountCommand(
+				code,
+				code,
+				type,
+				CURRENCY)), "AccountApplicationService.create returned null");
+	}
+}
@@ -0,0 +1,144 @@
+package io.luminar.ledger.projection;
+
+import io.luminar.ledger.TestcontainersConfiguration;
+import io.luminar.ledger.application.account.AccountApplicationService;
+import io.luminar.ledger.application.account.command.CreateAccountCommand;
+import io.luminar.ledger.application.transaction.TransactionApplicationService;
+import io.luminar.ledger.application.transaction.command.PostTransactionCommand;
+import io.luminar.ledger.domain.account.AccountType;
+import io.luminar.ledger.infrastructure.projection.LedgerEventProjector;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = "spring.task.scheduling.enabled=false")
+class GlobalSequenceGapIntegrationTest {
+	private static final String CURRENCY = "USD";
+	private static final BigDecimal AMOUNT = new BigDecimal("3.000000");
+
+	@Autowired
+	private AccountApplicationService accountApplicationService;
+
+	@Autowired
+	private TransactionApplicationService transactionApplicationService;
+
+	@Autowired
+	private LedgerEventProjector ledgerEventProjector;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Test
+	void projector_mustNotAdvancePastSequenceHeldByInFlightTransaction() throws Exception {
+		String runId = UUID.randomUUID().toString();
+		UUID equityAccountId = createAccount("GAP-EQ-" + runId, AccountType.EQUITY);
+		UUID assetAccountId = createAccount("GAP-AS-" + runId, AccountType.ASSET);
+		projectUntilCaughtUp();
+
+		UUID abortedNeighbour;
+		try (Connection inFlight = dataSource.getConnection()) {
+			inFlight.setAutoCommit(false);
+			long heldSequence = insertProbeEvent(inFlight, "gap-probe-aborted-" + runId);
+
+			abortedNeighbour = post("tx-gap-1-" + runId, equityAccountId, assetAccountId);
+			projectUntilCaughtUp();
+			assertTrue(checkpoint() < heldSequence);
+			assertEquals(0L, countProjectionRows(abortedNeighbour));
+
+			inFlight.rollback();
+		}
+		projectUntilCaughtUp();
+		assertEquals(2L, countProjectionRows(abortedNeighbour));
+
+		UUID committedNeighbour;
+		long heldSequence;
+		try (Connection inFlight = dataSource.getConnection()) {
+			inFlight.setAutoCommit(false);
+			heldSequence = insertProbeEvent(inFlight, "gap-probe-committed-" + runId);
+
+			committedNeighbour = post("tx-gap-2-" + runId, equityAccountId, assetAccountId);
+			projectUntilCaughtUp();
+			assertTrue(checkpoint() < heldSequence);
+			assertEquals(0L, countProjectionRows(committedNeighbour));
+
+			inFlight.commit();
+		}
+		projectUntilCaughtUp();
+		assertEquals(2L, countProjectionRows(committedNeighbour));
+		assertTrue(checkpoint() > heldSequence);
+	}
+
+	private static long insertProbeEvent(Connection connection, String referenceId) throws Exception {
+		try (PreparedStatement ps = connection.prepareStatement(
+				"insert into ledger_events (event_id, aggregate_type, aggregate_id, sequence_number, event_type, " +
+						"reference_id, correlation_id, payload, occurred_at) " +
+						"values (?, 'LEDGER', ?, 1, 'GAP_PROBE', ?, ?, '{}'::jsonb, now()) returning global_sequence")) {
+			ps.setObject(1, UUID.randomUUID());
+			ps.setObject(2, UUID.randomUUID());
+			ps.setString(3, referenceId);
+			ps.setString(4, referenceId);
+			try (ResultSet rs = ps.executeQuery()) {
+				rs.next();
+				return rs.getLong(1);
+			}
+		}
+	}
+
+	private UUID post(String referenceKey, UUID debitAccountId, UUID creditAccountId) {
+		return transactionApplicationService.post(new PostTransactionCommand(referenceKey, List.of(
+				new PostTransactionCommand.Entry(debitAccountId, PostTransactionCommand.EntryType.DEBIT, AMOUNT),
+				new PostTransactionCommand.Entry(creditAccountId, PostTransactionCommand.EntryType.CREDIT, AMOUNT))))
+				.transactionId();
+	}
+
+	private long checkpoint() {
+		Number last = (Number) entityManager.createNativeQuery(
+				"select last_sequence_number from projection_checkpoints where projection_type = :projectionType")
+				.setParameter("projectionType", LedgerEventProjector.TRANSACTION_HISTORY_PROJECTION_TYPE)
+				.getSingleResult();
+		return last.longValue();
+	}
+
+	private long countProjectionRows(UUID txId) {
+		Number count = (Number) entityManager.createNativeQuery(
+				"select count(*) from transaction_history_projection where transaction_id = :txId")
+				.setParameter("txId", txId)
+				.getSingleResult();
+		return count.longValue();
+	}
+
+	private void projectUntilCaughtUp() {
+		for (int i = 0; i < 1000; i++) {
+			if (ledgerEventProjector.projectOnce() == 0) {
+				return;
+			}
+		}
+		throw new IllegalStateException("Projector did not catch up within expected iterations");
+	}
+
+	private UUID createAccount(String code, AccountType type) {
+		return Objects.requireNonNull(accountApplicationService.create(new CreateAccountCommand(
+				code,
+				code,
+				type,
+				CURRENCY)), "AccountApplicationService.create returned null");
+	}
+}
@@ -0,0 +1,115 @@
+package io.luminar.ledger.projection;
+
+import io.luminar.ledger.TestcontainersConfiguration;
+import io.luminar.ledger.application.account.AccountApplicationService;
+import io.luminar.ledger.application.account.command.CreateAccountCommand;
+import io.luminar.ledger.application.transaction.TransactionApplicationService;
+import io.luminar.ledger.application.transaction.command.PostTransactionCommand;
+import io.luminar.ledger.domain.account.AccountType;
+import io.luminar.ledger.infrastructure.projection.LedgerEventProjector;
+import io.luminar.ledger.infrastructure.projection.ProjectionDedupRetentionJob;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = {
+		"spring.task.scheduling.enabled=false",
+		"ledger.projection.dedup-retention.enabled=false",
+		"ledger.projection.dedup-retention.sequence-window=1",
+		"ledger.projection.dedup-retention.min-age-seconds=0",
+		"ledger.projection.dedup-retention.batch-size=7"
+})
+class ProjectionDedupRetentionIntegrationTest {
+	private static final String CURRENCY = "USD";
+	private static final BigDecimal AMOUNT = new BigDecimal("1.000000");
+
+	@Autowired
+	private AccountApplicationService accountApplicationService;
+
+	@Autowired
+	private TransactionApplicationService transactionApplicationService;
+
+	@Autowired
+	private LedgerEventProjector ledgerEventProjector;
+
+	@Autowired
+	private ProjectionDedupRetentionJob retentionJob;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Test
+	void retention_mustDropDedupRowsBehindCheckpoint_andKeepSafetyWindow() {
+		String runId = UUID.randomUUID().toString();
+		UUID equityAccountId = createAccount("DDP-EQ-" + runId, AccountType.EQUITY);
+		UUID assetAccountId = createAccount("DDP-AS-" + runId, AccountType.ASSET);
+
+		String olderReference = "tx-dedup-1-" + runId;
+		String latestReference = "tx-dedup-2-" + runId;
+		post(olderReference, equityAccountId, assetAccountId);
+		post(latestReference, equityAccountId, assetAccountId);
+		projectUntilCaughtUp();
+
+		assertEquals(1L, countDedupRows(olderReference));
+		assertEquals(1L, countDedupRows(latestReference));
+
+		assertTrue(retentionJob.pruneOnce() >= 1);
+
+		assertEquals(0L, countDedupRows(olderReference));
+		assertEquals(1L, countDedupRows(latestReference));
+		assertEquals(0, retentionJob.pruneOnce());
+		assertEquals(2L, countProjectionRows(olderReference));
+	}
+
+	private long countDedupRows(String referenceKey) {
+		Number count = (Number) entityManager.createNativeQuery(
+				"select count(*) from projection_event_dedup d join ledger_events e on e.event_id = d.event_id " +
+						"where e.reference_id = :referenceKey and d.projection_type = :projectionType")
+				.setParameter("referenceKey", referenceKey)
+				.setParameter("projectionType", LedgerEventProjector.TRANSACTION_HISTORY_PROJECTION_TYPE)
+				.getSingleResult();
+		return count.longValue();
+	}
+
+	private long countProjectionRows(String referenceKey) {
+		Number count = (Number) entityManager.createNativeQuery(
+				"select count(*) from transaction_history_projection where reference_key = :referenceKey")
+				.setParameter("referenceKey", referenceKey)
+				.getSingleResult();
+		return count.longValue();
+	}
+
+	private void post(String referenceKey, UUID debitAccountId, UUID creditAccountId) {
+		transactionApplicationService.post(new PostTransactionCommand(referenceKey, List.of(
+				new PostTransactionCommand.Entry(debitAccountId, PostTransactionCommand.EntryType.DEBIT, AMOUNT),
+				new PostTransactionCommand.Entry(creditAccountId, PostTransactionCommand.EntryType.CREDIT, AMOUNT))));
+	}
+
+	private void projectUntilCaughtUp() {
+		for (int i = 0; i < 1000; i++) {
+			if (ledgerEventProjector.projectOnce() == 0) {
+				return;
+			}
+		}
+		throw new IllegalStateException("Projector did not catch up within expected iterations");
+	}
+
+	private UUID createAccount(String code, AccountType type) {
+		return Objects.requireNonNull(accountApplicationService.create(new CreateAccountCommand(
+				code,
+				code,
+				type,
+				CURRENCY)), "AccountApplicationService.create returned null");
+	}
+}
@@ -166,6 +166,7 @@ class TransactionHistoryProjectionIntegrationTest {
 		txTemplate.executeWithoutResult(status -> {
 			entityManager.createNativeQuery("truncate table transaction_history_projection").executeUpdate();
 			entityManager.createNativeQuery("truncate table projection_event_dedup").executeUpdate();
+			entityManager.createNativeQuery("truncate table trial_balance_daily").executeUpdate();
 			entityManager.createNativeQuery(
 					"delete from projection_checkpoints where projection_type = :projectionType")
 					.setParameter("projectionType", LedgerEventProjector.TRANSACTION_HISTORY_PROJECTION_TYPE)
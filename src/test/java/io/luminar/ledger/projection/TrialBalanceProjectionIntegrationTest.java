@@ -0,0 +1,140 @@
+package io.luminar.ledger.projection;
+
+import io.luminar.ledger.TestcontainersConfiguration;
+import io.luminar.ledger.application.account.AccountApplicationService;
+import io.luminar.ledger.application.account.command.CreateAccountCommand;
+import io.luminar.ledger.application.transaction.TransactionApplicationService;
+import io.luminar.ledger.application.transaction.command.PostTransactionCommand;
+import io.luminar.ledger.domain.account.AccountType;
+import io.luminar.ledger.infrastructure.projection.LedgerEventProjector;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.ResponseEntity;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "spring.task.scheduling.enabled=false")
+class TrialBalanceProjectionIntegrationTest {
+	private static final String CURRENCY = "CHF";
+	private static final List<BigDecimal> AMOUNTS = List.of(
+			new BigDecimal("10.000000"),
+			new BigDecimal("2.500000"),
+			new BigDecimal("7.250000"));
+
+	@Autowired
+	private AccountApplicationService accountApplicationService;
+
+	@Autowired
+	private TransactionApplicationService transactionApplicationService;
+
+	@Autowired
+	private LedgerEventProjector ledgerEventProjector;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private TestRestTemplate restTemplate;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Test
+	void trialBalance_mustTrackPostingsIncrementally_andStayBalanced() throws Exception {
+		String runId = UUID.randomUUID().toString();
+		UUID equityAccountId = createAccount("TB-EQ-" + runId, AccountType.EQUITY);
+		UUID assetAccountId = createAccount("TB-AS-" + runId, AccountType.ASSET);
+
+		projectUntilCaughtUp();
+		JsonNode before = trialBalance();
+
+		BigDecimal posted = BigDecimal.ZERO;
+		for (int i = 0; i < AMOUNTS.size(); i++) {
+			BigDecimal amount = AMOUNTS.get(i);
+			transactionApplicationService.post(new PostTransactionCommand("tx-tb-" + i + "-" + runId, List.of(
+					new PostTransactionCommand.Entry(equityAccountId, PostTransactionCommand.EntryType.DEBIT, amount),
+					new PostTransactionCommand.Entry(assetAccountId, PostTransactionCommand.EntryType.CREDIT, amount))));
+			posted = posted.add(amount);
+		}
+
+		projectUntilCaughtUp();
+		JsonNode after = trialBalance();
+
+		assertTrue(after.get("balanced").asBoolean());
+		assertTrue(after.get("projectedThroughSequence").asLong() > before.get("projectedThroughSequence").asLong());
+		assertEquals(0, posted.compareTo(
+				lineValue(after, "EQUITY", "debitTotal").subtract(lineValue(before, "EQUITY", "debitTotal"))));
+		assertEquals(0, posted.compareTo(
+				lineValue(after, "ASSET", "creditTotal").subtract(lineValue(before, "ASSET", "creditTotal"))));
+		assertEquals(AMOUNTS.size(),
+				lineCount(after, "ASSET") - lineCount(before, "ASSET"));
+
+		for (JsonNode line : after.get("lines")) {
+			Object[] recomputed = (Object[]) entityManager.createNativeQuery(
+					"select coalesce(sum(p.amount) filter (where p.direction = 'DEBIT'), 0), " +
+							"coalesce(sum(p.amount) filter (where p.direction = 'CREDIT'), 0) " +
+							"from transaction_history_projection p join accounts a on a.id = p.account_id " +
+							"where a.type = cast(:type as account_type) and p.currency = :currency")
+					.setParameter("type", line.get("accountType").asText())
+					.setParameter("currency", line.get("currency").asText())
+					.getSingleResult();
+			assertEquals(0, ((BigDecimal) recomputed[0]).compareTo(line.get("debitTotal").decimalValue()));
+			assertEquals(0, ((BigDecimal) recomputed[1]).compareTo(line.get("creditTotal").decimalValue()));
+		}
+	}
+
+	private JsonNode trialBalance() throws Exception {
+		ResponseEntity<String> response = restTemplate.getForEntity("/api/v1/reports/trial-balance", String.class);
+		assertEquals(200, response.getStatusCode().value());
+		return objectMapper.readTree(Objects.requireNonNull(response.getBody(), "response body is required"));
+	}
+
+	private static BigDecimal lineValue(JsonNode trialBalance, String accountType, String field) {
+		JsonNode line = findLine(trialBalance, accountType);
+		return line == null ? BigDecimal.ZERO : line.get(field).decimalValue();
+	}
+
+	private static long lineCount(JsonNode trialBalance, String accountType) {
+		JsonNode line = findLine(trialBalance, accountType);
+		return line == null ? 0L : line.get("entryCount").asLong();
+	}
+
+	private static JsonNode findLine(JsonNode trialBalance, String accountType) {
+		for (JsonNode line : trialBalance.get("lines")) {
+			if (accountType.equals(line.get("accountType").asText()) && CURRENCY.equals(line.get("currency").asText())) {
+				return line;
+			}
+		}
+		return null;
+	}
+
+	private void projectUntilCaughtUp() {
+		for (int i = 0; i < 1000; i++) {
+			if (ledgerEventProjector.projectOnce() == 0) {
+				return;
+			}
+		}
+		throw new IllegalStateException("Projector did not catch up within expected iterations");
+	}
+
+	private UUID createAccount(String code, AccountType type) {
+		return Objects.requireNonNull(accountApplicationService.create(new CreateAccountCommand(
+				code,
+				code,
+				type,
+				CURRENCY)), "AccountApplicationService.create returned null");
+	}
+}
@@ -0,0 +1,134 @@
+package io.luminar.ledger.reconciliation;
+
+import io.luminar.ledger.TestcontainersConfiguration;
+import io.luminar.ledger.application.account.AccountApplicationService;
+import io.luminar.ledger.application.account.command.CreateAccountCommand;
+import io.luminar.ledger.application.transaction.TransactionApplicationService;
+import io.luminar.ledger.application.transaction.command.PostTransactionCommand;
+import io.luminar.ledger.domain.account.AccountType;
+import io.luminar.ledger.infrastructure.reconciliation.BalanceMismatchDetectedEvent;
+import io.luminar.ledger.infrastructure.reconciliation.BalanceReconciler;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = {
+		"spring.task.scheduling.enabled=false",
+		"ledger.reconciliation.enabled=false",
+		"ledger.reconciliation.chunk-size=16"
+})
+@RecordApplicationEvents
+class BalanceReconciliationIntegrationTest {
+	private static final String CURRENCY = "USD";
+	private static final BigDecimal AMOUNT = new BigDecimal("40.000000");
+
+	@Autowired
+	private AccountApplicationService accountApplicationService;
+
+	@Autowired
+	private TransactionApplicationService transactionApplicationService;
+
+	@Autowired
+	private BalanceReconciler balanceReconciler;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private ApplicationEvents applicationEvents;
+
+	@Test
+	void reconciler_mustFlagOnlyAccountsWhoseBalanceDriftedFromEntries() {
+		String runId = UUID.randomUUID().toString();
+		UUID equityAccountId = createAccount("REC-EQ-" + runId, AccountType.EQUITY);
+		UUID healthyAccountId = createAccount("REC-OK-" + runId, AccountType.ASSET);
+		UUID driftedAccountId = createAccount("REC-BAD-" + runId, AccountType.ASSET);
+
+		post("tx-rec-1-" + runId, equityAccountId, healthyAccountId);
+		post("tx-rec-2-" + runId, equityAccountId, driftedAccountId);
+		corruptBalance(driftedAccountId, new BigDecimal("41.000000"));
+
+		double mismatchesBefore = meterRegistry.counter("ledger.reconciliation.mismatches").count();
+		double checkedBefore = meterRegistry.counter("ledger.reconciliation.accounts.checked").count();
+		reconcileFullPass();
+
+		List<BalanceMismatchDetectedEvent> events = applicationEvents.stream(BalanceMismatchDetectedEvent.class)
+				.filter(e -> e.accountId().equals(driftedAccountId))
+				.toList();
+		assertEquals(1, events.size());
+		assertEquals(0, new BigDecimal("41").compareTo(events.getFirst().storedBalance()));
+		assertEquals(0, AMOUNT.compareTo(events.getFirst().expectedBalance()));
+		assertEquals(0, BigDecimal.ONE.compareTo(events.getFirst().difference()));
+
+		assertTrue(applicationEvents.stream(BalanceMismatchDetectedEvent.class)
+				.noneMatch(e -> e.accountId().equals(healthyAccountId) || e.accountId().equals(equityAccountId)));
+		assertTrue(balanceReconciler.mismatchedAccounts().contains(driftedAccountId));
+		assertTrue(meterRegistry.counter("ledger.reconciliation.mismatches").count() >= mismatchesBefore + 1);
+		assertTrue(meterRegistry.counter("ledger.reconciliation.accounts.checked").count() >= checkedBefore + 3);
+
+		corruptBalance(driftedAccountId, AMOUNT);
+		reconcileFullPass();
+		assertFalse(balanceReconciler.mismatchedAccounts().contains(driftedAccountId));
+	}
+
+	private void reconcileFullPass() {
+		for (int i = 0; i < 100_000; i++) {
+			if (balanceReconciler.reconcileOnce() < 16) {
+				return;
+			}
+		}
+		throw new IllegalStateException("Reconciler did not complete a pass within expected iterations");
+	}
+
+	private void corruptBalance(UUID accountId, BigDecimal balance) {
+		TransactionTemplate txTemplate = new TransactionTemplate(
+				Objects.requireNonNull(transactionManager, "PlatformTransactionManager is required"));
+		txTemplate.executeWithoutResult(status -> {
+			int updated = entityManager.createQuery(
+					"update AccountBalanceEntity b set b.balance = :balance where b.accountId = :accountId")
+					.setParameter("balance", balance)
+					.setParameter("accountId", accountId)
+					.executeUpdate();
+			if (updated != 1) {
+				throw new IllegalStateException("Failed to overwrite account balance");
+			}
+		});
+	}
+
+	private void post(String referenceKey, UUID debitAccountId, UUID creditAccountId) {
+		transactionApplicationService.post(new PostTransactionCommand(referenceKey, List.of(
+				new PostTransactionCommand.Entry(debitAccountId, PostTransactionCommand.EntryType.DEBIT, AMOUNT),
+				new PostTransactionCommand.Entry(creditAccountId, PostTransactionCommand.EntryType.CREDIT, AMOUNT))));
+	}
+
+	private UUID createAccount(String code, AccountType type) {
+		return Objects.requireNonNull(accountApplicationService.create(new CreateAccountCommand(
+				code,
+				code,
+				type,
+				CURRENCY)), "AccountApplicationService.create returned null");
+	}
+}
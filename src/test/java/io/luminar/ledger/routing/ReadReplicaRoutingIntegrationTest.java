@@ -0,0 +1,151 @@
+package io.luminar.ledger.routing;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.luminar.ledger.TestcontainersConfiguration;
+import io.luminar.ledger.application.account.AccountApplicationService;
+import io.luminar.ledger.application.account.command.CreateAccountCommand;
+import io.luminar.ledger.domain.account.AccountType;
+import io.luminar.ledger.infrastructure.routing.ReadConsistency;
+import io.luminar.ledger.infrastructure.routing.ReplicaRoutingDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+		"spring.task.scheduling.enabled=false",
+		"ledger.read-replicas.enabled=true"
+})
+class ReadReplicaRoutingIntegrationTest {
+	private static final String REPLICA_NAME = "ledger-replica-0";
+	private static final String APPLICATION_NAME = "select current_setting('application_name')";
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private AccountApplicationService accountApplicationService;
+
+	@Autowired
+	private TestRestTemplate restTemplate;
+
+	@Test
+	void readOnlyTransactions_mustRouteToReplica_unlessTokenIsAheadOfReplay() throws SQLException {
+		HikariDataSource primary = dataSource.unwrap(HikariDataSource.class);
+		HikariDataSource replica = replicaPool(primary.getJdbcUrl(), primary);
+		try (ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary,
+				Map.of("replica-0", replica), Long.MAX_VALUE, 0)) {
+			DataSource routed = new LazyConnectionDataSourceProxy(routing);
+			DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routed);
+
+			assertEquals(REPLICA_NAME, applicationName(transactionManager, routed, true));
+			assertNotEquals(REPLICA_NAME, applicationName(transactionManager, routed, false));
+
+			String runId = UUID.randomUUID().toString();
+			accountApplicationService.create(new CreateAccountCommand("RR-" + runId, "RR-" + runId,
+					AccountType.ASSET, "USD"));
+			long written = routing.currentPrimaryLsn();
+			try {
+				ReadConsistency.requireAtLeast(written);
+				assertNotEquals(REPLICA_NAME, applicationName(transactionManager, routed, true));
+
+				routing.refreshLag();
+				assertEquals(REPLICA_NAME, applicationName(transactionManager, routed, true));
+			} finally {
+				ReadConsistency.clear();
+			}
+		}
+	}
+
+	@Test
+	void unreachableOrLaggingReplica_mustFallBackToPrimary() throws SQLException {
+		HikariDataSource primary = dataSource.unwrap(HikariDataSource.class);
+		HikariDataSource unreachable = replicaPool("jdbc:postgresql://127.0.0.1:1/ledger", primary);
+		try (ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary,
+				Map.of("replica-0", unreachable), Long.MAX_VALUE, 0)) {
+			DataSource routed = new LazyConnectionDataSourceProxy(routing);
+			assertNotEquals(REPLICA_NAME, applicationName(new DataSourceTransactionManager(routed), routed, true));
+			assertEquals(-1L, routing.replicaLagBytes().get("replica-0"));
+		}
+
+		HikariDataSource replica = replicaPool(primary.getJdbcUrl(), primary);
+		try (ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary,
+				Map.of("replica-0", replica), 0, 0)) {
+			String runId = UUID.randomUUID().toString();
+			accountApplicationService.create(new CreateAccountCommand("RR-LAG-" + runId, "RR-LAG-" + runId,
+					AccountType.ASSET, "USD"));
+			routing.currentPrimaryLsn();
+			assertTrue(routing.selectReplica(0).isEmpty());
+		}
+	}
+
+	@Test
+	void writes_mustReturnConsistencyToken_thatReadsAccept() {
+		String runId = UUID.randomUUID().toString();
+		ResponseEntity<Map> created = restTemplate.postForEntity("/api/v1/accounts", Map.of(
+				"code", "RR-API-" + runId,
+				"name", "RR-API-" + runId,
+				"type", "ASSET",
+				"currency", "USD"), Map.class);
+		assertEquals(HttpStatus.OK, created.getStatusCode());
+		String token = created.getHeaders().getFirst(ReadConsistency.TOKEN_HEADER);
+		assertNotNull(token);
+		assertTrue(ReadConsistency.parseToken(token) > 0);
+		String accountId = String.valueOf(Objects.requireNonNull(created.getBody()).get("accountId"));
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.set(ReadConsistency.TOKEN_HEADER, token);
+		ResponseEntity<Map> balance = restTemplate.exchange("/api/v1/accounts/" + accountId + "/balance",
+				HttpMethod.GET, new HttpEntity<>(headers), Map.class);
+		assertEquals(HttpStatus.OK, balance.getStatusCode());
+		assertEquals(accountId, Objects.requireNonNull(balance.getBody()).get("accountId"));
+
+		headers.set(ReadConsistency.TOKEN_HEADER, "not-a-token");
+		ResponseEntity<Map> rejected = restTemplate.exchange("/api/v1/accounts/" + accountId + "/balance",
+				HttpMethod.GET, new HttpEntity<>(headers), Map.class);
+		assertEquals(HttpStatus.BAD_REQUEST, rejected.getStatusCode());
+	}
+
+	private static String applicationName(DataSourceTransactionManager transactionManager, DataSource routed,
+			boolean readOnly) {
+		TransactionTemplate template = new TransactionTemplate(transactionManager);
+		template.setReadOnly(readOnly);
+		return template.execute(status -> new JdbcTemplate(routed).queryForObject(APPLICATION_NAME, String.class));
+	}
+
+	private static HikariDataSource replicaPool(String jdbcUrl, HikariDataSource primary) {
+		HikariConfig config = new HikariConfig();
+		config.setJdbcUrl(jdbcUrl);
+		config.setUsername(primary.getUsername());
+		config.setPassword(primary.getPassword());
+		config.setPoolName("test-replica-" + UUID.randomUUID());
+		config.setMaximumPoolSize(2);
+		config.setConnectionTimeout(250);
+		config.setInitializationFailTimeout(-1);
+		config.addDataSourceProperty("ApplicationName", REPLICA_NAME);
+		return new HikariDataSource(config);
+	}
+}
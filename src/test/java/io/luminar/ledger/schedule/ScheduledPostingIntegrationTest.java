@@ -0,0 +1,256 @@
+package io.luminar.ledger.schedule;
+
+import io.luminar.ledger.TestcontainersConfiguration;
+import io.luminar.ledger.application.account.AccountApplicationService;
+import io.luminar.ledger.application.account.command.CreateAccountCommand;
+import io.luminar.ledger.application.schedule.ScheduledPostingService;
+import io.luminar.ledger.application.transaction.command.PostTransactionCommand;
+import io.luminar.ledger.domain.account.AccountType;
+import io.luminar.ledger.infrastructure.persistence.schedule.ScheduledPostingRepository;
+import io.luminar.ledger.infrastructure.schedule.ScheduledPostingDispatcher;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = {
+		"spring.task.scheduling.enabled=false",
+		"ledger.scheduled-postings.claim-interval-ms=0",
+		"ledger.scheduled-postings.lookahead-ms=0",
+		"ledger.scheduled-postings.claim-batch-size=100",
+		"ledger.scheduled-postings.post-batch-size=64",
+		"ledger.scheduled-postings.max-in-flight=150"
+})
+class ScheduledPostingIntegrationTest {
+	private static final String CURRENCY = "USD";
+	private static final BigDecimal AMOUNT = new BigDecimal("10.000000");
+
+	@Autowired
+	private AccountApplicationService accountApplicationService;
+
+	@Autowired
+	private ScheduledPostingService scheduledPostingService;
+
+	@Autowired
+	private ScheduledPostingDispatcher dispatcher;
+
+	@Autowired
+	private ScheduledPostingRepository repository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Test
+	void duePostings_mustBeDispatchedOnceAndFutureOnesMustWait() {
+		String runId = UUID.randomUUID().toString();
+		UUID sourceAccountId = createAccount("SCH-SRC-" + runId, AccountType.ASSET);
+		UUID targetAccountId = createAccount("SCH-TGT-" + runId, AccountType.ASSET);
+		seedBalance(sourceAccountId, new BigDecimal("25"));
+
+		Instant now = Instant.now();
+		ScheduledPostingRepository.ScheduledPosting due = scheduledPostingService.schedule(
+				transfer("sch-due-" + runId, sourceAccountId, targetAccountId, AMOUNT), now.minusSeconds(60));
+		assertEquals(due.id(), scheduledPostingService.schedule(
+				transfer("sch-due-" + runId, sourceAccountId, targetAccountId, AMOUNT), now).id());
+		scheduledPostingService.schedule(
+				transfer("sch-overdraw-" + runId, sourceAccountId, targetAccountId, new BigDecimal("100")),
+				now.minusSeconds(30));
+		scheduledPostingService.schedule(
+				transfer("sch-future-" + runId, sourceAccountId, targetAccountId, AMOUNT),
+				now.plusMillis(1500));
+
+		dispatchUntilIdle();
+
+		ScheduledPostingRepository.ScheduledPosting posted = find("sch-due-" + runId);
+		assertEquals(ScheduledPostingRepository.Status.POSTED, posted.status());
+		assertNotNull(posted.transactionId());
+		assertEquals(1, posted.attempts());
+		ScheduledPostingRepository.ScheduledPosting rejected = find("sch-overdraw-" + runId);
+		assertEquals(ScheduledPostingRepository.Status.FAILED, rejected.status());
+		assertEquals("Insufficient funds for accountId: " + sourceAccountId, rejected.errorMessage());
+		assertEquals(ScheduledPostingRepository.Status.PENDING, find("sch-future-" + runId).status());
+		assertEquals(0, new BigDecimal("15").compareTo(balanceOf(sourceAccountId)));
+
+		sleep(Duration.ofMillis(1600));
+		dispatchUntilIdle();
+
+		assertEquals(ScheduledPostingRepository.Status.POSTED, find("sch-future-" + runId).status());
+		assertEquals(0, new BigDecimal("5").compareTo(balanceOf(sourceAccountId)));
+		assertEquals(0, new BigDecimal("20").compareTo(balanceOf(targetAccountId)));
+		assertEquals(2L, count("select count(*) from transactions where reference_key like :key", "sch-%-" + runId));
+	}
+
+	@Test
+	void backlogAfterDowntime_mustBeCaughtUpInBoundedBatches() {
+		String runId = UUID.randomUUID().toString();
+		UUID sourceAccountId = createAccount("SCH-BKL-SRC-" + runId, AccountType.LIABILITY);
+		UUID targetAccountId = createAccount("SCH-BKL-TGT-" + runId, AccountType.ASSET);
+		int postings = 400;
+		Instant missedFrom = Instant.now().minus(Duration.ofDays(2));
+		for (int i = 0; i < postings; i++) {
+			scheduledPostingService.schedule(
+					transfer("sch-bkl-" + i + "-" + runId, sourceAccountId, targetAccountId, AMOUNT),
+					missedFrom.plusSeconds(i * 60L));
+		}
+
+		int rounds = 0;
+		int dispatched = 0;
+		int dispatchedThisRound;
+		do {
+			assertTrue(dispatcher.inFlight() <= 150);
+			dispatchedThisRound = dispatcher.dispatchOnce();
+			dispatched += dispatchedThisRound;
+			rounds++;
+		} while (dispatchedThisRound > 0);
+
+		assertEquals(postings, dispatched);
+		assertTrue(rounds >= 3, "catch-up must be bounded by max-in-flight");
+		assertEquals(postings, count("select count(*) from scheduled_postings where reference_key like :key " +
+				"and status = 'POSTED'", "sch-bkl-%-" + runId));
+		assertEquals(0, AMOUNT.multiply(BigDecimal.valueOf(postings)).compareTo(balanceOf(targetAccountId)));
+	}
+
+	@Test
+	void concurrentClaims_mustNotOverlap_andExpiredLeasesMustBeReclaimed() throws Exception {
+		String runId = UUID.randomUUID().toString();
+		UUID sourceAccountId = createAccount("SCH-CLM-SRC-" + runId, AccountType.LIABILITY);
+		UUID targetAccountId = createAccount("SCH-CLM-TGT-" + runId, AccountType.ASSET);
+		int postings = 200;
+		Instant dueAt = Instant.now().minusSeconds(5);
+		for (int i = 0; i < postings; i++) {
+			scheduledPostingService.schedule(
+					transfer("sch-clm-" + i + "-" + runId, sourceAccountId, targetAccountId, AMOUNT), dueAt);
+		}
+
+		Instant expiredLease = Instant.now().minusSeconds(1);
+		CountDownLatch start = new CountDownLatch(1);
+		List<CompletableFuture<List<UUID>>> claimers = new ArrayList<>();
+		for (int worker = 0; worker < 4; worker++) {
+			String owner = "node-" + worker + "-" + runId;
+			claimers.add(CompletableFuture.supplyAsync(() -> {
+				await(start);
+				List<UUID> ids = new ArrayList<>();
+				List<ScheduledPostingRepository.Claimed> batch;
+				do {
+					batch = repository.claimDue(owner, Instant.now(), expiredLease, 25);
+					batch.forEach(claimed -> ids.add(claimed.id()));
+				} while (!batch.isEmpty());
+				return ids;
+			}));
+		}
+		start.countDown();
+
+		Set<UUID> unique = new HashSet<>();
+		int total = 0;
+		for (CompletableFuture<List<UUID>> claimer : claimers) {
+			List<UUID> ids = claimer.get();
+			total += ids.size();
+			unique.addAll(ids);
+		}
+		assertEquals(postings, total);
+		assertEquals(postings, unique.size());
+		assertEquals(postings, count("select count(*) from scheduled_postings where reference_key like :key " +
+				"and status = 'CLAIMED'", "sch-clm-%-" + runId));
+
+		dispatchUntilIdle();
+
+		assertEquals(postings, count("select count(*) from scheduled_postings where reference_key like :key " +
+				"and status = 'POSTED' and attempts = 2", "sch-clm-%-" + runId));
+		assertEquals(0, AMOUNT.multiply(BigDecimal.valueOf(postings)).compareTo(balanceOf(targetAccountId)));
+	}
+
+	private void dispatchUntilIdle() {
+		while (dispatcher.dispatchOnce() > 0 || dispatcher.inFlight() > 0) {
+			sleep(Duration.ofMillis(10));
+		}
+	}
+
+	private ScheduledPostingRepository.ScheduledPosting find(String referenceKey) {
+		return scheduledPostingService.find(referenceKey).orElseThrow();
+	}
+
+	private static PostTransactionCommand transfer(String referenceKey, UUID sourceAccountId, UUID targetAccountId,
+			BigDecimal amount) {
+		return new PostTransactionCommand(referenceKey, List.of(
+				new PostTransactionCommand.Entry(sourceAccountId, PostTransactionCommand.EntryType.DEBIT, amount),
+				new PostTransactionCommand.Entry(targetAccountId, PostTransactionCommand.EntryType.CREDIT, amount)));
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static void sleep(Duration duration) {
+		try {
+			Thread.sleep(duration);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private long count(String sql, String key) {
+		return ((Number) entityManager.createNativeQuery(sql)
+				.setParameter("key", key)
+				.getSingleResult()).longValue();
+	}
+
+	private BigDecimal balanceOf(UUID accountId) {
+		return (BigDecimal) entityManager.createNativeQuery(
+				"select balance from account_balances where account_id = :accountId")
+				.setParameter("accountId", accountId)
+				.getSingleResult();
+	}
+
+	private UUID createAccount(String code, AccountType type) {
+		return Objects.requireNonNull(accountApplicationService.create(new CreateAccountCommand(
+				code,
+				code,
+				type,
+				CURRENCY)), "AccountApplicationService.create returned null");
+	}
+
+	private void seedBalance(UUID accountId, BigDecimal balance) {
+		TransactionTemplate txTemplate = new TransactionTemplate(
+				Objects.requireNonNull(transactionManager, "PlatformTransactionManager is required"));
+		txTemplate.executeWithoutResult(status -> {
+			int updated = entityManager.createQuery(
+					"update AccountBalanceEntity b set b.balance = :balance where b.accountId = :accountId")
+					.setParameter("balance", balance)
+					.setParameter("accountId", accountId)
+					.executeUpdate();
+			if (updated != 1) {
+				throw new IllegalStateException("Failed to seed account balance");
+			}
+			entityManager.flush();
+		});
+	}
+}
@@ -0,0 +1,276 @@
+package io.luminar.ledger.sharding;
+
+import io.luminar.ledger.TestcontainersConfiguration;
+import io.luminar.ledger.application.account.AccountApplicationService;
+import io.luminar.ledger.application.account.command.CreateAccountCommand;
+import io.luminar.ledger.application.sharding.ShardedAccountService;
+import io.luminar.ledger.application.transaction.TransactionApplicationService;
+import io.luminar.ledger.application.transaction.command.PostTransactionCommand;
+import io.luminar.ledger.domain.account.AccountType;
+import io.luminar.ledger.domain.common.DomainException;
+import io.luminar.ledger.infrastructure.journal.PostingCommandCodec;
+import io.luminar.ledger.infrastructure.persistence.sharding.CrossShardPostingRepository;
+import io.luminar.ledger.infrastructure.persistence.sharding.ShardLedgerRepository;
+import io.luminar.ledger.infrastructure.sharding.CrossShardRecoveryJob;
+import io.luminar.ledger.infrastructure.sharding.ShardRouter;
+import io.luminar.ledger.service.PostedTransaction;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.DynamicPropertyRegistrar;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Import({ TestcontainersConfiguration.class, ShardedPostingIntegrationTest.ShardDatabases.class })
+@SpringBootTest(properties = {
+		"spring.task.scheduling.enabled=false",
+		"ledger.sharding.enabled=true",
+		"ledger.sharding.recovery.stale-after-ms=0"
+})
+class ShardedPostingIntegrationTest {
+	private static final String CURRENCY = "USD";
+	private static final List<String> SHARD_DATABASES = new ArrayList<>();
+	private static DataSource primary;
+	private static String shardUrls;
+
+	@Autowired
+	private AccountApplicationService accountApplicationService;
+
+	@Autowired
+	private TransactionApplicationService transactionApplicationService;
+
+	@Autowired
+	private ShardRouter shardRouter;
+
+	@Autowired
+	private ShardedAccountService accountService;
+
+	@Autowired
+	private CrossShardRecoveryJob recoveryJob;
+
+	@TestConfiguration(proxyBeanMethods = false)
+	static class ShardDatabases {
+		@Bean
+		DynamicPropertyRegistrar shardUrls(JdbcConnectionDetails connectionDetails) {
+			return registry -> registry.add("ledger.sharding.urls", () -> createShards(connectionDetails));
+		}
+	}
+
+	@AfterAll
+	static void dropShards() {
+		if (primary != null) {
+			JdbcTemplate template = new JdbcTemplate(primary);
+			SHARD_DATABASES.forEach(database -> template.execute("drop database if exists " + database
+					+ " with (force)"));
+		}
+	}
+
+	private static synchronized String createShards(JdbcConnectionDetails connectionDetails) {
+		if (shardUrls != null) {
+			return shardUrls;
+		}
+		primary = new DriverManagerDataSource(connectionDetails.getJdbcUrl(), connectionDetails.getUsername(),
+				connectionDetails.getPassword());
+		JdbcTemplate template = new JdbcTemplate(primary);
+		List<String> urls = new ArrayList<>();
+		for (int i = 1; i <= 2; i++) {
+			String database = "ledger_shard_" + i + "_" + UUID.randomUUID().toString().substring(0, 8);
+			template.execute("create database " + database);
+			SHARD_DATABASES.add(database);
+			urls.add(connectionDetails.getJdbcUrl().replaceFirst("(jdbc:postgresql://[^/]+/)[^?]*",
+					"$1" + database));
+		}
+		shardUrls = String.join(",", urls);
+		return shardUrls;
+	}
+
+	@Test
+	void accounts_mustBeHashedAcrossShards_andLocalPostingsMustStayOnTheirShard() {
+		Set<Integer> used = new HashSet<>();
+		for (int i = 0; i < 30; i++) {
+			UUID accountId = accountApplicationService.create(new CreateAccountCommand("SHD-" + UUID.randomUUID(),
+					"Sharded", AccountType.ASSET, CURRENCY));
+			int home = ShardRouter.shardOf(accountId, shardRouter.size());
+			used.add(home);
+			for (ShardRouter.Shard shard : shardRouter.shards()) {
+				assertEquals(shard.index() == home, shard.ledger().findBalance(accountId).isPresent());
+			}
+		}
+		assertEquals(3, used.size());
+
+		UUID source = accountOn(1, AccountType.ASSET);
+		UUID target = accountOn(1, AccountType.ASSET);
+		seedBalance(source, new BigDecimal("40"));
+		String referenceKey = "shd-local-" + UUID.randomUUID();
+		transactionApplicationService.post(transfer(referenceKey, source, List.of(target), new BigDecimal("15")));
+
+		assertEquals(0, new BigDecimal("25").compareTo(balanceOf(source)));
+		assertEquals(0, new BigDecimal("15").compareTo(balanceOf(target)));
+		assertTrue(shardRouter.coordinator().crossShardPostings().find(referenceKey).isEmpty());
+		assertTrue(shardRouter.shard(1).ledger().transactionExists(referenceKey));
+	}
+
+	@Test
+	void crossShardPosting_mustSettleThroughClearingAccounts_andReplayOnce() {
+		UUID source = accountOn(1, AccountType.ASSET);
+		UUID first = accountOn(2, AccountType.ASSET);
+		UUID second = accountOn(0, AccountType.ASSET);
+		seedBalance(source, new BigDecimal("100"));
+		String referenceKey = "shd-cross-" + UUID.randomUUID();
+		PostTransactionCommand command = new PostTransactionCommand(referenceKey, List.of(
+				new PostTransactionCommand.Entry(source, PostTransactionCommand.EntryType.DEBIT, new BigDecimal("30")),
+				new PostTransactionCommand.Entry(first, PostTransactionCommand.EntryType.CREDIT, new BigDecimal("10")),
+				new PostTransactionCommand.Entry(second, PostTransactionCommand.EntryType.CREDIT,
+						new BigDecimal("20"))));
+
+		PostedTransaction posted = transactionApplicationService.post(command);
+
+		assertEquals(0, new BigDecimal("70").compareTo(balanceOf(source)));
+		assertEquals(0, new BigDecimal("10").compareTo(balanceOf(first)));
+		assertEquals(0, new BigDecimal("20").compareTo(balanceOf(second)));
+		assertEquals(CrossShardPostingRepository.Status.COMMITTED, coordinatorStatus(referenceKey));
+		assertEquals(posted.transactionId(),
+				shardRouter.shard(0).ledger().findTransactionId(referenceKey + ":shard-0").orElseThrow());
+		assertTrue(recoveryJob.reconcileOnce().isEmpty());
+
+		PostedTransaction replay = transactionApplicationService.post(command);
+		assertEquals(posted.transactionId(), replay.transactionId());
+		assertEquals(0, new BigDecimal("70").compareTo(balanceOf(source)));
+		assertEquals(0, new BigDecimal("10").compareTo(balanceOf(first)));
+
+		assertThrows(DomainException.class, () -> transactionApplicationService.post(new PostTransactionCommand(
+				"shd-unbalanced-" + UUID.randomUUID(), List.of(
+				new PostTransactionCommand.Entry(source, PostTransactionCommand.EntryType.DEBIT, BigDecimal.ONE),
+				new PostTransactionCommand.Entry(first, PostTransactionCommand.EntryType.CREDIT, BigDecimal.TEN)))));
+		assertEquals(0, new BigDecimal("70").compareTo(balanceOf(source)));
+	}
+
+	@Test
+	void rejectedLeg_mustCompensatePostedLegs_andAbortThePosting() {
+		UUID first = accountOn(0, AccountType.ASSET);
+		UUID second = accountOn(1, AccountType.ASSET);
+		UUID source = accountOn(2, AccountType.ASSET);
+		seedBalance(source, new BigDecimal("5"));
+		String referenceKey = "shd-reject-" + UUID.randomUUID();
+
+		DomainException rejected = assertThrows(DomainException.class, () -> transactionApplicationService.post(
+				transfer(referenceKey, source, List.of(first, second), new BigDecimal("25"))));
+
+		assertEquals("Insufficient funds for accountId: " + source, rejected.getMessage());
+		assertEquals(CrossShardPostingRepository.Status.ABORTED, coordinatorStatus(referenceKey));
+		assertEquals(0, new BigDecimal("5").compareTo(balanceOf(source)));
+		assertEquals(0, BigDecimal.ZERO.compareTo(balanceOf(first)));
+		assertEquals(0, BigDecimal.ZERO.compareTo(balanceOf(second)));
+		assertTrue(shardRouter.shard(0).ledger().transactionExists(referenceKey + ":shard-0:void"));
+		assertTrue(shardRouter.shard(1).ledger().transactionExists(referenceKey + ":shard-1:void"));
+		assertTrue(recoveryJob.reconcileOnce().isEmpty());
+		assertThrows(DomainException.class, () -> transactionApplicationService.post(
+				transfer(referenceKey, source, List.of(first, second), new BigDecimal("25"))));
+	}
+
+	@Test
+	void stalePreparedPosting_mustBeRedrivenByRecovery() {
+		UUID source = accountOn(2, AccountType.ASSET);
+		UUID target = accountOn(0, AccountType.ASSET);
+		seedBalance(source, new BigDecimal("50"));
+		String referenceKey = "shd-stale-" + UUID.randomUUID();
+		PostTransactionCommand command = transfer(referenceKey, source, List.of(target), new BigDecimal("12"));
+		shardRouter.coordinator().crossShardPostings().insert(UUID.randomUUID(), referenceKey,
+				PostingCommandCodec.encode(command), 2, Instant.now().minusSeconds(60));
+
+		assertTrue(recoveryJob.recoverOnce() >= 1);
+
+		assertEquals(CrossShardPostingRepository.Status.COMMITTED, coordinatorStatus(referenceKey));
+		assertEquals(0, new BigDecimal("38").compareTo(balanceOf(source)));
+		assertEquals(0, new BigDecimal("12").compareTo(balanceOf(target)));
+		assertTrue(recoveryJob.reconcileOnce().isEmpty());
+	}
+
+	@Test
+	void compensation_mustReverseALegWhoseCreditWasAlreadySpent() {
+		UUID target = accountOn(0, AccountType.ASSET);
+		UUID spender = accountOn(0, AccountType.ASSET);
+		UUID source = accountOn(2, AccountType.ASSET);
+		seedBalance(source, new BigDecimal("50"));
+		transactionApplicationService.post(transfer("shd-spent-seed-" + UUID.randomUUID(), source, List.of(target),
+				new BigDecimal("10")));
+
+		String referenceKey = "shd-spent-" + UUID.randomUUID();
+		PostTransactionCommand command = transfer(referenceKey, source, List.of(target), new BigDecimal("40"));
+		shardRouter.coordinator().crossShardPostings().insert(UUID.randomUUID(), referenceKey,
+				PostingCommandCodec.encode(command), 2, Instant.now().minusSeconds(60));
+		ShardRouter.Shard shard = shardRouter.shard(0);
+		UUID clearing = shard.ledger().findAccountId(ShardLedgerRepository.clearingCode(CURRENCY)).orElseThrow();
+		shard.transactionTemplate().executeWithoutResult(status -> shard.postingEngine().postAll(List.of(
+				new PostTransactionCommand(referenceKey + ":shard-0", List.of(
+						new PostTransactionCommand.Entry(clearing, PostTransactionCommand.EntryType.DEBIT,
+								new BigDecimal("40")),
+						new PostTransactionCommand.Entry(target, PostTransactionCommand.EntryType.CREDIT,
+								new BigDecimal("40")))))));
+		transactionApplicationService.post(transfer("shd-spend-" + UUID.randomUUID(), target, List.of(spender),
+				new BigDecimal("45")));
+		seedBalance(source, new BigDecimal("5"));
+
+		assertTrue(recoveryJob.recoverOnce() >= 1);
+
+		assertEquals(CrossShardPostingRepository.Status.ABORTED, coordinatorStatus(referenceKey));
+		assertTrue(shard.ledger().transactionExists(referenceKey + ":shard-0:void"));
+		assertEquals(0, new BigDecimal("-35").compareTo(balanceOf(target)));
+		assertEquals(0, new BigDecimal("5").compareTo(balanceOf(source)));
+		assertTrue(recoveryJob.reconcileOnce().isEmpty());
+	}
+
+	private CrossShardPostingRepository.Status coordinatorStatus(String referenceKey) {
+		return shardRouter.coordinator().crossShardPostings().find(referenceKey).orElseThrow().status();
+	}
+
+	private UUID accountOn(int shard, AccountType type) {
+		while (true) {
+			String code = "SHD-" + type.name().toLowerCase(Locale.ROOT) + "-" + UUID.randomUUID();
+			UUID accountId = accountApplicationService.create(new CreateAccountCommand(code, code, type, CURRENCY));
+			if (ShardRouter.shardOf(accountId, shardRouter.size()) == shard) {
+				return accountId;
+			}
+		}
+	}
+
+	private BigDecimal balanceOf(UUID accountId) {
+		return accountService.balanceOf(accountId).orElseThrow();
+	}
+
+	private void seedBalance(UUID accountId, BigDecimal balance) {
+		int updated = new JdbcTemplate(shardRouter.shardFor(accountId).dataSource()).update(
+				"update account_balances set balance = ? where account_id = ?", balance, accountId);
+		assertEquals(1, updated);
+	}
+
+	private static PostTransactionCommand transfer(String referenceKey, UUID source, List<UUID> targets,
+			BigDecimal amount) {
+		List<PostTransactionCommand.Entry> entries = new ArrayList<>();
+		entries.add(new PostTransactionCommand.Entry(source, PostTransactionCommand.EntryType.DEBIT,
+				amount.multiply(BigDecimal.valueOf(targets.size()))));
+		for (UUID target : targets) {
+			entries.add(new PostTransactionCommand.Entry(target, PostTransactionCommand.EntryType.CREDIT, amount));
+		}
+		return new PostTransactionCommand(referenceKey, entries);
+	}
+}
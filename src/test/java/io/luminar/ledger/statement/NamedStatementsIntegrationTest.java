@@ -0,0 +1,198 @@
+package io.luminar.ledger.statement;
+
+import io.luminar.ledger.TestcontainersConfiguration;
+import io.luminar.ledger.api.dto.response.TransactionHistoryItem;
+import io.luminar.ledger.api.query.AccountTransactionHistoryQuery;
+import io.luminar.ledger.application.account.AccountApplicationService;
+import io.luminar.ledger.application.account.command.CreateAccountCommand;
+import io.luminar.ledger.application.transaction.command.PostTransactionCommand;
+import io.luminar.ledger.domain.account.AccountType;
+import io.luminar.ledger.infrastructure.persistence.account.AccountMetadataRepository;
+import io.luminar.ledger.infrastructure.persistence.statement.NamedStatement;
+import io.luminar.ledger.infrastructure.persistence.statement.NamedStatements;
+import io.luminar.ledger.infrastructure.projection.LedgerEventProjector;
+import io.luminar.ledger.service.LedgerPostingService;
+import io.luminar.ledger.service.PostedTransaction;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = "spring.task.scheduling.enabled=false")
+class NamedStatementsIntegrationTest {
+	private static final String CURRENCY = "USD";
+	private static final BigDecimal AMOUNT = new BigDecimal("10.000000");
+	private static final String FIND_METADATA_SQL =
+			"select id, type::text, status::text, currency, metadata_version from accounts where id = any($1)";
+
+	@Autowired
+	private NamedStatements namedStatements;
+
+	@Autowired
+	private AccountMetadataRepository accountMetadataRepository;
+
+	@Autowired
+	private AccountApplicationService accountApplicationService;
+
+	@Autowired
+	private LedgerPostingService ledgerPostingService;
+
+	@Autowired
+	private LedgerEventProjector ledgerEventProjector;
+
+	@Autowired
+	private AccountTransactionHistoryQuery accountTransactionHistoryQuery;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Test
+	void repeatedStatement_mustBeParsedOnceAndReusedServerSide_onTheSameConnection() {
+		Counter reused = meterRegistry.counter(NamedStatements.PREPARE_CALLS, "statement", "account.find-metadata",
+				"threshold", "reached");
+		double reusedBefore = reused.count();
+		List<UUID> missing = List.of(UUID.randomUUID());
+
+		long[] plans = new TransactionTemplate(transactionManager).execute(status -> {
+			for (int i = 0; i < 5; i++) {
+				assertTrue(accountMetadataRepository.findByIds(missing).isEmpty());
+			}
+			Connection connection = DataSourceUtils.getConnection(dataSource);
+			try {
+				return preparedPlans(connection, FIND_METADATA_SQL);
+			} finally {
+				DataSourceUtils.releaseConnection(connection, dataSource);
+			}
+		});
+
+		assertEquals(1L, Objects.requireNonNull(plans)[0]);
+		assertTrue(plans[1] >= 5, "every execution must run the single server-side prepared statement");
+		assertTrue(reused.count() - reusedBefore >= 4);
+		assertEquals(1, namedStatements.prepareThreshold());
+	}
+
+	@Test
+	void disabledServerPrepare_mustParseEveryExecutionAgain() throws SQLException {
+		String sql = "select ?::bigint + 1 as probe_" + UUID.randomUUID().toString().replace("-", "");
+		NamedStatement probe = new NamedStatement("test.probe", sql);
+		NamedStatements unprepared = new NamedStatements(new SimpleMeterRegistry(), 0);
+
+		try (Connection connection = dataSource.getConnection()) {
+			execute(unprepared, connection, probe, 5);
+			assertEquals(0L, preparedPlans(connection, sql.replace("?", "$1"))[0]);
+
+			execute(namedStatements, connection, probe, 5);
+			long[] plans = preparedPlans(connection, sql.replace("?", "$1"));
+			assertEquals(1L, plans[0]);
+			assertEquals(5L, plans[1]);
+		}
+	}
+
+	@Test
+	void historyQuery_mustApplyEachRangeVariant() {
+		String runId = UUID.randomUUID().toString();
+		UUID sourceAccountId = createAccount("NS-SRC-" + runId, AccountType.LIABILITY);
+		UUID targetAccountId = createAccount("NS-TGT-" + runId, AccountType.ASSET);
+		PostedTransaction first = transfer("ns-1-" + runId, sourceAccountId, targetAccountId);
+		PostedTransaction second = transfer("ns-2-" + runId, sourceAccountId, targetAccountId);
+		PostedTransaction third = transfer("ns-3-" + runId, sourceAccountId, targetAccountId);
+		projectUntilCaughtUp();
+
+		assertEquals(List.of(first.transactionId(), second.transactionId(), third.transactionId()),
+				history(targetAccountId, null, null));
+		assertEquals(List.of(second.transactionId(), third.transactionId()),
+				history(targetAccountId, second, null));
+		assertEquals(List.of(first.transactionId(), second.transactionId()),
+				history(targetAccountId, null, second));
+		assertEquals(List.of(second.transactionId()), history(targetAccountId, second, second));
+		assertEquals(List.of(third.transactionId()),
+				accountTransactionHistoryQuery.findByAccountId(targetAccountId, null, null, 1, 2).stream()
+						.map(TransactionHistoryItem::getTransactionId)
+						.toList());
+	}
+
+	private static void execute(NamedStatements statements, Connection connection, NamedStatement statement,
+			int times) throws SQLException {
+		for (int i = 0; i < times; i++) {
+			try (PreparedStatement ps = statements.prepare(connection, statement)) {
+				ps.setLong(1, i);
+				try (ResultSet rs = ps.executeQuery()) {
+					assertTrue(rs.next());
+					assertEquals(i + 1L, rs.getLong(1));
+				}
+			}
+		}
+	}
+
+	private static long[] preparedPlans(Connection connection, String sql) {
+		try (PreparedStatement ps = connection.prepareStatement(
+				"select count(*), coalesce(sum(generic_plans + custom_plans), 0) " +
+						"from pg_prepared_statements where statement = ?")) {
+			ps.setString(1, sql);
+			try (ResultSet rs = ps.executeQuery()) {
+				rs.next();
+				return new long[] {rs.getLong(1), rs.getLong(2)};
+			}
+		} catch (SQLException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private List<UUID> history(UUID accountId, PostedTransaction from, PostedTransaction to) {
+		return accountTransactionHistoryQuery.findByAccountId(accountId,
+						from == null ? null : from.postedAt(),
+						to == null ? null : to.postedAt(),
+						0, 50).stream()
+				.map(TransactionHistoryItem::getTransactionId)
+				.toList();
+	}
+
+	private PostedTransaction transfer(String referenceKey, UUID sourceAccountId, UUID targetAccountId) {
+		return ledgerPostingService.post(new PostTransactionCommand(referenceKey, List.of(
+				new PostTransactionCommand.Entry(sourceAccountId, PostTransactionCommand.EntryType.DEBIT, AMOUNT),
+				new PostTransactionCommand.Entry(targetAccountId, PostTransactionCommand.EntryType.CREDIT, AMOUNT))));
+	}
+
+	private void projectUntilCaughtUp() {
+		for (int i = 0; i < 10; i++) {
+			if (ledgerEventProjector.projectOnce() == 0) {
+				return;
+			}
+		}
+		throw new IllegalStateException("Projector did not catch up within expected iterations");
+	}
+
+	private UUID createAccount(String code, AccountType type) {
+		return Objects.requireNonNull(accountApplicationService.create(new CreateAccountCommand(
+				code,
+				code,
+				type,
+				CURRENCY)), "AccountApplicationService.create returned null");
+	}
+}